@@ -0,0 +1,215 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.joda.beans.Bean;
+import org.joda.beans.sample.ImmAddress;
+import org.joda.beans.sample.ImmGuava;
+import org.joda.beans.sample.ImmOptional;
+import org.joda.beans.sample.ImmPerson;
+import org.joda.beans.sample.ImmTreeNode;
+import org.joda.beans.sample.RiskLevel;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableBiMap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+
+/**
+ * The sample beans used in the benchmarks.
+ * <p>
+ * Each bean is created at a specified size, which controls the number of
+ * elements in the collections of the bean, or the length of the text for
+ * beans without collections.
+ */
+public enum BenchmarkBean {
+
+    /**
+     * A person, with a main address and a multiset of codes.
+     */
+    PERSON(ImmPerson.class) {
+        @Override
+        Bean create(int size) {
+            return person("Etienne", size);
+        }
+    },
+    /**
+     * An address, with an owner and maps of lists.
+     */
+    ADDRESS(ImmAddress.class) {
+        @Override
+        Bean create(int size) {
+            Map<String, List<String>> listInMap = new HashMap<>();
+            Map<String, List<Integer>> listNumericInMap = new HashMap<>();
+            Map<String, Object> objectInMap = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                listInMap.put("key" + i, Arrays.asList("A" + i, "B" + i));
+                listNumericInMap.put("key" + i, Arrays.asList(i, i + 1, i + 2));
+                objectInMap.put("key" + i, i % 2 == 0 ? "Value" + i : Integer.valueOf(i));
+            }
+            return ImmAddress.builder()
+                    .owner(person("Etienne", size))
+                    .number(185)
+                    .street("Park Street")
+                    .city("London")
+                    .risk(RiskLevel.LOW)
+                    .riskLevel(RiskLevel.HIGH)
+                    .objectInMap(objectInMap)
+                    .listInMap(listInMap)
+                    .listNumericInMap(listNumericInMap)
+                    .build();
+        }
+    },
+    /**
+     * A bean of Guava collections.
+     */
+    GUAVA(ImmGuava.class) {
+        @Override
+        Bean create(int size) {
+            List<String> values = new ArrayList<>();
+            Map<String, String> mapped = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                values.add("Value" + i);
+                mapped.put("Value" + i, "Mapped" + i);
+            }
+            ImmutableList<String> list = ImmutableList.copyOf(values);
+            ImmutableSet<String> set = ImmutableSet.copyOf(values);
+            ImmutableSortedSet<String> sortedSet = ImmutableSortedSet.copyOf(values);
+            ImmutableMap<String, String> map = ImmutableMap.copyOf(mapped);
+            ImmutableSortedMap<String, String> sortedMap = ImmutableSortedMap.copyOf(mapped);
+            ImmutableBiMap<String, String> biMap = ImmutableBiMap.copyOf(mapped);
+            ImmutableListMultimap<String, String> multimap = ImmutableListMultimap.copyOf(map.asMultimap());
+            return ImmGuava.<String>builder()
+                    .list(list)
+                    .listInterface(list)
+                    .set(set)
+                    .setInterface(set)
+                    .sortedSet(sortedSet)
+                    .sortedSetInterface(sortedSet)
+                    .map(map)
+                    .mapInterface(map)
+                    .sortedMap(sortedMap)
+                    .sortedMapInterface(sortedMap)
+                    .biMap(biMap)
+                    .biMapInterface(biMap)
+                    .multimap(multimap)
+                    .listMultimap(multimap)
+                    .multiset(ImmutableMultiset.copyOf(values))
+                    .build();
+        }
+    },
+    /**
+     * A bean of optional properties, where the size controls the length of the text.
+     */
+    OPTIONAL(ImmOptional.class) {
+        @Override
+        Bean create(int size) {
+            StringBuilder buf = new StringBuilder(size * 8);
+            for (int i = 0; i < size; i++) {
+                buf.append("Optional");
+            }
+            return ImmOptional.builder()
+                    .optString(Optional.of(buf.toString()))
+                    .optStringGetter(buf.toString())
+                    .optLongGetter(Long.valueOf(size))
+                    .optIntGetter(Integer.valueOf(size))
+                    .optDoubleGetter(Double.valueOf(size))
+                    .build();
+        }
+    },
+    /**
+     * A tree of nodes, where the size controls the number of nodes in the list of the root.
+     */
+    TREE(ImmTreeNode.class) {
+        @Override
+        Bean create(int size) {
+            List<ImmTreeNode> children = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                children.add(ImmTreeNode.builder()
+                        .name("Child " + i)
+                        .child1(ImmTreeNode.builder().name("Leaf 1").build())
+                        .child2(ImmTreeNode.builder().name("Leaf 2").build())
+                        .build());
+            }
+            return ImmTreeNode.builder()
+                    .name("Root")
+                    .child1(ImmTreeNode.builder().name("First").build())
+                    .childList(children)
+                    .build();
+        }
+    };
+
+    /**
+     * The type of the bean.
+     */
+    private final Class<? extends Bean> beanType;
+
+    // creates an instance
+    private BenchmarkBean(Class<? extends Bean> beanType) {
+        this.beanType = beanType;
+    }
+
+    /**
+     * Gets the type of the bean.
+     *
+     * @return the type, not null
+     */
+    public Class<? extends Bean> getBeanType() {
+        return beanType;
+    }
+
+    /**
+     * Creates the bean.
+     *
+     * @param size  the size, one or greater
+     * @return the bean, not null
+     */
+    abstract Bean create(int size);
+
+    //-----------------------------------------------------------------------
+    // creates a person
+    private static ImmPerson person(String forename, int size) {
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            codes.add("Code" + i);
+            codes.add("Code" + i);
+        }
+        ImmAddress mainAddress = ImmAddress.builder()
+                .owner(ImmPerson.builder().forename(forename).build())
+                .number(185)
+                .street("Park Street")
+                .city("London")
+                .build();
+        return ImmPerson.builder()
+                .forename(forename)
+                .surname("Colebourne")
+                .mainAddress(mainAddress)
+                .codeCounts(ImmutableMultiset.copyOf(codes))
+                .build();
+    }
+
+}
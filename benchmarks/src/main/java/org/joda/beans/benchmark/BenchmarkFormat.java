@@ -0,0 +1,161 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.benchmark;
+
+import java.util.Map;
+
+import org.joda.beans.Bean;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.bin.JodaBeanBinReader;
+import org.joda.beans.ser.bin.JodaBeanBinWriter;
+import org.joda.beans.ser.json.JodaBeanJsonReader;
+import org.joda.beans.ser.json.JodaBeanJsonWriter;
+import org.joda.beans.ser.json.JodaBeanSimpleJsonReader;
+import org.joda.beans.ser.json.JodaBeanSimpleJsonWriter;
+import org.joda.beans.ser.map.JodaBeanSimpleMapReader;
+import org.joda.beans.ser.map.JodaBeanSimpleMapWriter;
+import org.joda.beans.ser.xml.JodaBeanXmlReader;
+import org.joda.beans.ser.xml.JodaBeanXmlWriter;
+
+/**
+ * The serialization formats used in the benchmarks.
+ * <p>
+ * Each format holds a single reader and writer, which are shared by all the benchmark threads.
+ */
+public enum BenchmarkFormat {
+
+    /**
+     * The standard binary format.
+     */
+    BIN {
+        private final JodaBeanBinWriter writer = JodaBeanSer.COMPACT.binWriter();
+        private final JodaBeanBinReader reader = JodaBeanSer.COMPACT.binReader();
+
+        @Override
+        Object write(Bean bean) {
+            return writer.write(bean);
+        }
+
+        @Override
+        Object read(Object input, Class<? extends Bean> beanType) {
+            return reader.read((byte[]) input, beanType);
+        }
+    },
+    /**
+     * The referencing binary format.
+     */
+    BIN_REFERENCING {
+        private final JodaBeanBinWriter writer = JodaBeanSer.COMPACT.binWriterReferencing();
+        private final JodaBeanBinReader reader = JodaBeanSer.COMPACT.binReader();
+
+        @Override
+        Object write(Bean bean) {
+            return writer.write(bean);
+        }
+
+        @Override
+        Object read(Object input, Class<? extends Bean> beanType) {
+            return reader.read((byte[]) input, beanType);
+        }
+    },
+    /**
+     * The standard JSON format.
+     */
+    JSON {
+        private final JodaBeanJsonWriter writer = JodaBeanSer.COMPACT.jsonWriter();
+        private final JodaBeanJsonReader reader = JodaBeanSer.COMPACT.jsonReader();
+
+        @Override
+        Object write(Bean bean) {
+            return writer.write(bean);
+        }
+
+        @Override
+        Object read(Object input, Class<? extends Bean> beanType) {
+            return reader.read((String) input, beanType);
+        }
+    },
+    /**
+     * The simple JSON format.
+     */
+    SIMPLE_JSON {
+        private final JodaBeanSimpleJsonWriter writer = JodaBeanSer.COMPACT.simpleJsonWriter();
+        private final JodaBeanSimpleJsonReader reader = JodaBeanSer.COMPACT.simpleJsonReader();
+
+        @Override
+        Object write(Bean bean) {
+            return writer.write(bean);
+        }
+
+        @Override
+        Object read(Object input, Class<? extends Bean> beanType) {
+            return reader.read((String) input, beanType);
+        }
+    },
+    /**
+     * The XML format.
+     */
+    XML {
+        private final JodaBeanXmlWriter writer = JodaBeanSer.COMPACT.xmlWriter();
+        private final JodaBeanXmlReader reader = JodaBeanSer.COMPACT.xmlReader();
+
+        @Override
+        Object write(Bean bean) {
+            return writer.write(bean);
+        }
+
+        @Override
+        Object read(Object input, Class<? extends Bean> beanType) {
+            return reader.read((String) input, beanType);
+        }
+    },
+    /**
+     * The simple map format.
+     */
+    SIMPLE_MAP {
+        private final JodaBeanSimpleMapWriter writer = JodaBeanSer.COMPACT.simpleMapWriter();
+        private final JodaBeanSimpleMapReader reader = JodaBeanSer.COMPACT.simpleMapReader();
+
+        @Override
+        Object write(Bean bean) {
+            return writer.write(bean);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object read(Object input, Class<? extends Bean> beanType) {
+            return reader.read((Map<String, Object>) input, beanType);
+        }
+    };
+
+    /**
+     * Writes the bean.
+     *
+     * @param bean  the bean to write, not null
+     * @return the serialized form, not null
+     */
+    abstract Object write(Bean bean);
+
+    /**
+     * Reads the bean.
+     *
+     * @param input  the serialized form, not null
+     * @param beanType  the type of the bean, not null
+     * @return the bean, not null
+     */
+    abstract Object read(Object input, Class<? extends Bean> beanType);
+
+}
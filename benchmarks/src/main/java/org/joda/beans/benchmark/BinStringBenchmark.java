@@ -0,0 +1,125 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.beans.Bean;
+import org.joda.beans.sample.ImmPerson;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.bin.JodaBeanBinBuffer;
+import org.joda.beans.ser.bin.JodaBeanBinWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks the encoding of strings in the binary format.
+ * <p>
+ * ASCII text takes the fast path in the MessagePack encoder, whereas other text
+ * requires the UTF-8 length to be calculated. The output buffer is reused,
+ * so the measurement focuses on the encoding rather than the allocation of the result.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinStringBenchmark {
+
+    /**
+     * The writer.
+     */
+    private static final JodaBeanBinWriter WRITER = JodaBeanSer.COMPACT.binWriter();
+
+    /**
+     * The character to repeat, ASCII, two byte or three byte UTF-8.
+     */
+    @Param({"a", "\u00e9", "\u20ac"})
+    private String character;
+    /**
+     * The length of the text.
+     */
+    @Param({"8", "64", "1024"})
+    private int length;
+
+    /**
+     * The bean to write.
+     */
+    private Bean input;
+    /**
+     * The buffer.
+     */
+    private JodaBeanBinBuffer buffer;
+
+    /**
+     * Creates the bean.
+     */
+    @Setup
+    public void setUp() {
+        char[] chars = new char[length];
+        Arrays.fill(chars, character.charAt(0));
+        String text = new String(chars);
+        input = ImmPerson.builder()
+                .forename(text)
+                .surname(text)
+                .build();
+        buffer = new JodaBeanBinBuffer(length * 8);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the bean to the reused buffer.
+     *
+     * @return the number of bytes written
+     */
+    @Benchmark
+    public int write() {
+        buffer.reset();
+        return WRITER.write(input, buffer);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs the benchmark with the GC profiler.
+     *
+     * @param args  the arguments, unused
+     * @throws RunnerException if an error occurs
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(BinStringBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+}
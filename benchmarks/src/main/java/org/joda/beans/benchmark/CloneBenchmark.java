@@ -0,0 +1,136 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.sample.Address;
+import org.joda.beans.sample.ClonePerson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks deep cloning of a mutable bean against a hand-written copy.
+ * <p>
+ * The bean has a list of addresses and an array of amounts, each of the specified size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CloneBenchmark {
+
+    /**
+     * The number of addresses and amounts.
+     */
+    @Param({"10", "1000"})
+    private int size;
+
+    /**
+     * The bean to clone.
+     */
+    private ClonePerson person;
+
+    /**
+     * Creates the bean.
+     */
+    @Setup
+    public void setUp() {
+        List<Address> addresses = new ArrayList<>();
+        int[] amounts = new int[size];
+        for (int i = 0; i < size; i++) {
+            Address address = new Address();
+            address.setNumber(i);
+            address.setStreet("Park Street");
+            address.setCity("London");
+            addresses.add(address);
+            amounts[i] = i;
+        }
+        person = new ClonePerson();
+        person.setSurname("Colebourne");
+        person.setDateOfBirth(new Date(0));
+        person.setAddresses(addresses);
+        person.setAmounts(amounts);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Clones the bean using {@code JodaBeanUtils}.
+     *
+     * @return the clone
+     */
+    @Benchmark
+    public ClonePerson cloneAlways() {
+        return JodaBeanUtils.cloneAlways(person);
+    }
+
+    /**
+     * Clones the bean by hand.
+     *
+     * @return the clone
+     */
+    @Benchmark
+    public ClonePerson handWritten() {
+        List<Address> addresses = new ArrayList<>(person.getAddresses().size());
+        for (Address original : person.getAddresses()) {
+            Address address = new Address();
+            address.setNumber(original.getNumber());
+            address.setStreet(original.getStreet());
+            address.setCity(original.getCity());
+            addresses.add(address);
+        }
+        ClonePerson copy = new ClonePerson();
+        copy.setSurname(person.getSurname());
+        copy.setDateOfBirth((Date) person.getDateOfBirth().clone());
+        copy.setAddresses(addresses);
+        copy.setAmounts(person.getAmounts().clone());
+        return copy;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs the benchmark.
+     *
+     * @param args  the arguments, unused
+     * @throws RunnerException if an error occurs
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CloneBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks the creation time and memory footprint of {@code FlexiBean}.
+ * <p>
+ * Each benchmark creates a bean with the same keys, as happens when deserializing many beans.
+ * The {@code linkedHashMap} benchmark creates the map that {@code FlexiBean} previously used for storage.
+ * <p>
+ * The {@link #main(String[])} method first measures the heap retained by many beans,
+ * as the JMH allocation profiler reports allocation rather than footprint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlexiBeanBenchmark {
+
+    /**
+     * The number of keys.
+     */
+    @Param({"4", "16"})
+    private int size;
+
+    /**
+     * The keys.
+     */
+    private String[] keys;
+    /**
+     * The values.
+     */
+    private Object[] values;
+
+    /**
+     * Creates the keys and values.
+     */
+    @Setup
+    public void setUp() {
+        keys = new String[size];
+        values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = "key" + i;
+            values[i] = "Value" + i;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a flexi-bean.
+     *
+     * @return the bean
+     */
+    @Benchmark
+    public Object flexiBean() {
+        FlexiBean bean = new FlexiBean();
+        for (int i = 0; i < keys.length; i++) {
+            bean.set(keys[i], values[i]);
+        }
+        return bean;
+    }
+
+    /**
+     * Creates the map previously used by a flexi-bean.
+     *
+     * @return the map
+     */
+    @Benchmark
+    public Object linkedHashMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], values[i]);
+        }
+        return map;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Measures the footprint, then runs the benchmark with the GC profiler.
+     *
+     * @param args  the arguments, unused
+     * @throws RunnerException if an error occurs
+     */
+    public static void main(String[] args) throws RunnerException {
+        for (String size : new String[] {"4", "16"}) {
+            FlexiBeanBenchmark benchmark = new FlexiBeanBenchmark();
+            benchmark.size = Integer.parseInt(size);
+            benchmark.setUp();
+            System.out.println("Size " + size +
+                    ": FlexiBean " + footprint(benchmark::flexiBean) + " bytes" +
+                    ", LinkedHashMap " + footprint(benchmark::linkedHashMap) + " bytes");
+        }
+        Options options = new OptionsBuilder()
+                .include(FlexiBeanBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+    // measures the average heap retained by each object created by the supplier
+    private static long footprint(Supplier<Object> supplier) {
+        int count = 100_000;
+        List<Object> retained = new ArrayList<>(count);
+        long before = usedMemory();
+        for (int i = 0; i < count; i++) {
+            retained.add(supplier.get());
+        }
+        long after = usedMemory();
+        return (after - before) / retained.size();
+    }
+
+    // the used memory after garbage collection
+    private static long usedMemory() {
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.beans.Bean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.sample.Address;
+import org.joda.beans.sample.ImmAddress;
+import org.joda.beans.sample.ImmPerson;
+import org.joda.beans.sample.LightImmutable;
+import org.joda.beans.sample.LightMutable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks property access and building of light beans against generated direct beans.
+ * <p>
+ * The light and direct beans have matching {@code number}, {@code street} and {@code city} properties.
+ * The {@code number} and {@code city} properties of the light beans are accessed by methods,
+ * whereas {@code street} is accessed by field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LightBeanBenchmark {
+
+    /**
+     * The style of bean.
+     */
+    @Param
+    private Style style;
+
+    /**
+     * The mutable bean.
+     */
+    private Bean mutable;
+    /**
+     * The number property of the mutable bean.
+     */
+    private MetaProperty<Object> number;
+    /**
+     * The street property of the mutable bean.
+     */
+    private MetaProperty<Object> street;
+    /**
+     * The city property of the mutable bean.
+     */
+    private MetaProperty<Object> city;
+    /**
+     * The meta-bean of the immutable bean.
+     */
+    private MetaBean immutableMeta;
+    /**
+     * The owner to build with.
+     */
+    private ImmPerson owner;
+
+    /**
+     * Creates the beans.
+     */
+    @Setup
+    public void setUp() {
+        MetaBean mutableMeta = style.mutableMeta;
+        number = mutableMeta.metaProperty("number");
+        street = mutableMeta.metaProperty("street");
+        city = mutableMeta.metaProperty("city");
+        mutable = mutableMeta.builder()
+                .set(number, 185)
+                .set(street, "Park Street")
+                .set(city, "London")
+                .build();
+        immutableMeta = style.immutableMeta;
+        owner = ImmPerson.builder().forename("Etienne").surname("Colebourne").build();
+        build();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the properties.
+     *
+     * @param blackhole  the blackhole
+     */
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        blackhole.consume(number.get(mutable));
+        blackhole.consume(street.get(mutable));
+        blackhole.consume(city.get(mutable));
+    }
+
+    /**
+     * Sets the properties.
+     */
+    @Benchmark
+    public void set() {
+        number.set(mutable, 185);
+        street.set(mutable, "Park Street");
+        city.set(mutable, "London");
+    }
+
+    /**
+     * Builds the immutable bean.
+     *
+     * @return the bean
+     */
+    @Benchmark
+    public Bean build() {
+        return immutableMeta.builder()
+                .set("number", 185)
+                .set("street", "Park Street")
+                .set("city", "London")
+                .set("owner", owner)
+                .build();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs the benchmark.
+     *
+     * @param args  the arguments, unused
+     * @throws RunnerException if an error occurs
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(LightBeanBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The styles of bean that are compared.
+     */
+    public enum Style {
+
+        /**
+         * Light beans, using {@code LightMetaBean}.
+         */
+        LIGHT(LightMutable.meta(), LightImmutable.meta()),
+        /**
+         * Generated beans, using {@code DirectMetaBean}.
+         */
+        DIRECT(Address.meta(), ImmAddress.meta());
+
+        /**
+         * The meta-bean of the mutable bean.
+         */
+        private final MetaBean mutableMeta;
+        /**
+         * The meta-bean of the immutable bean.
+         */
+        private final MetaBean immutableMeta;
+
+        // creates an instance
+        private Style(MetaBean mutableMeta, MetaBean immutableMeta) {
+            this.mutableMeta = mutableMeta;
+            this.immutableMeta = immutableMeta;
+        }
+    }
+
+}
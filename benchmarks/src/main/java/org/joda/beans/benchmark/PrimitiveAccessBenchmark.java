@@ -0,0 +1,176 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.beans.Bean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.sample.Address;
+import org.joda.beans.sample.LightMutable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks reading and writing an {@code int} property via the meta-property.
+ * <p>
+ * The {@code boxed} benchmarks use {@code get} and {@code set}, allowing the allocation
+ * of the boxed and primitive approaches to be compared using the GC profiler.
+ * The values used are outside the range of the {@code Integer} cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveAccessBenchmark {
+
+    /**
+     * The style of bean.
+     */
+    @Param
+    private Style style;
+
+    /**
+     * The bean.
+     */
+    private Bean bean;
+    /**
+     * The meta-property of the {@code int} property.
+     */
+    private MetaProperty<?> metaProperty;
+    /**
+     * The value to set.
+     */
+    private int value = 1000;
+
+    /**
+     * Creates the bean.
+     */
+    @Setup
+    public void setUp() {
+        bean = style.create();
+        metaProperty = bean.metaBean().metaProperty("number");
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads the property boxed.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public int getBoxed() {
+        return (Integer) metaProperty.get(bean);
+    }
+
+    /**
+     * Reads the property without boxing.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public int getInt() {
+        return metaProperty.getInt(bean);
+    }
+
+    /**
+     * Writes the property boxed.
+     */
+    @Benchmark
+    public void setBoxed() {
+        metaProperty.set(bean, ++value);
+    }
+
+    /**
+     * Writes the property without boxing.
+     */
+    @Benchmark
+    public void setInt() {
+        metaProperty.setInt(bean, ++value);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs the benchmark with the GC profiler.
+     *
+     * @param args  the arguments, unused
+     * @throws RunnerException if an error occurs
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(PrimitiveAccessBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The style of bean, each having an {@code int} property named number.
+     */
+    public enum Style {
+        /**
+         * A generated direct bean.
+         */
+        DIRECT {
+            @Override
+            Bean create() {
+                Address bean = new Address();
+                bean.setNumber(185);
+                bean.setStreet("Park Street");
+                bean.setCity("London");
+                return bean;
+            }
+        },
+        /**
+         * A light bean.
+         */
+        LIGHT {
+            @Override
+            Bean create() {
+                return LightMutable.meta().builder()
+                        .set("number", 185)
+                        .set("street", "Park Street")
+                        .set("city", "London")
+                        .build();
+            }
+        };
+
+        /**
+         * Creates the bean.
+         *
+         * @return the bean, not null
+         */
+        abstract Bean create();
+    }
+
+}
@@ -0,0 +1,213 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.sample.Address;
+import org.joda.beans.sample.LightMutable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks the property-based equals, hash code and to string methods of {@code JodaBeanUtils}.
+ * <p>
+ * The {@code byName} benchmarks query each property by name, as the methods previously did,
+ * allowing the allocation of the two approaches to be compared using the GC profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertiesBenchmark {
+
+    /**
+     * The style of bean.
+     */
+    @Param
+    private Style style;
+
+    /**
+     * The first bean.
+     */
+    private Bean bean1;
+    /**
+     * The second bean, equal to the first.
+     */
+    private Bean bean2;
+
+    /**
+     * Creates the beans.
+     */
+    @Setup
+    public void setUp() {
+        bean1 = style.create();
+        bean2 = style.create();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares the beans.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public boolean propertiesEqual() {
+        return JodaBeanUtils.propertiesEqual(bean1, bean2);
+    }
+
+    /**
+     * Compares the beans by property name.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public boolean propertiesEqualByName() {
+        Set<String> names = bean1.propertyNames();
+        if (names.equals(bean2.propertyNames()) == false) {
+            return false;
+        }
+        for (String name : names) {
+            if (JodaBeanUtils.equal(bean1.property(name).get(), bean2.property(name).get()) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the bean.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public int propertiesHashCode() {
+        return JodaBeanUtils.propertiesHashCode(bean1);
+    }
+
+    /**
+     * Hashes the bean by property name.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public int propertiesHashCodeByName() {
+        int hash = 7;
+        for (String name : bean1.propertyNames()) {
+            hash += JodaBeanUtils.hashCode(bean1.property(name).get());
+        }
+        return hash;
+    }
+
+    /**
+     * Converts the bean to a string.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public String propertiesToString() {
+        return JodaBeanUtils.propertiesToString(bean1, "Bean");
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs the benchmark with the GC profiler.
+     *
+     * @param args  the arguments, unused
+     * @throws RunnerException if an error occurs
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(PropertiesBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The style of bean, each having the same properties.
+     */
+    public enum Style {
+        /**
+         * A generated direct bean.
+         */
+        DIRECT {
+            @Override
+            Bean create() {
+                Address bean = new Address();
+                bean.setNumber(185);
+                bean.setStreet("Park Street");
+                bean.setCity("London");
+                return bean;
+            }
+        },
+        /**
+         * A light bean.
+         */
+        LIGHT {
+            @Override
+            Bean create() {
+                return LightMutable.meta().builder()
+                        .set("number", 185)
+                        .set("street", "Park Street")
+                        .set("city", "London")
+                        .build();
+            }
+        },
+        /**
+         * A flexible bean.
+         */
+        FLEXI {
+            @Override
+            Bean create() {
+                FlexiBean bean = new FlexiBean();
+                bean.set("number", 185);
+                bean.set("street", "Park Street");
+                bean.set("city", "London");
+                return bean;
+            }
+        };
+
+        /**
+         * Creates a bean.
+         *
+         * @return the bean, not null
+         */
+        abstract Bean create();
+    }
+
+}
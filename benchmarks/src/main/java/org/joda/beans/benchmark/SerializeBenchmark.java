@@ -0,0 +1,125 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.beans.Bean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks the read and write throughput of each serialization format.
+ * <p>
+ * Each combination of format, bean and size is measured.
+ * Run with the GC profiler, as {@link #main(String[])} does, to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializeBenchmark {
+
+    /**
+     * The format.
+     */
+    @Param
+    private BenchmarkFormat format;
+    /**
+     * The bean.
+     */
+    @Param
+    private BenchmarkBean bean;
+    /**
+     * The size of the bean.
+     */
+    @Param({"1", "10", "100"})
+    private int size;
+
+    /**
+     * The bean to write.
+     */
+    private Bean input;
+    /**
+     * The serialized form to read.
+     */
+    private Object serialized;
+
+    /**
+     * Creates the bean and its serialized form.
+     */
+    @Setup
+    public void setUp() {
+        input = bean.create(size);
+        serialized = format.write(input);
+        if (!input.equals(format.read(serialized, bean.getBeanType()))) {
+            throw new IllegalStateException("Bean did not round trip: " + bean + " " + format);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the bean.
+     *
+     * @return the serialized form
+     */
+    @Benchmark
+    public Object write() {
+        return format.write(input);
+    }
+
+    /**
+     * Reads the bean.
+     *
+     * @return the bean
+     */
+    @Benchmark
+    public Object read() {
+        return format.read(serialized, bean.getBeanType());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs the benchmark with the GC profiler.
+     *
+     * @param args  the arguments, unused
+     * @throws RunnerException if an error occurs
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SerializeBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.joda.beans.sample.ImmDoubleFloat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks changing a single property of an immutable bean.
+ * <p>
+ * The {@code toBuilder} benchmark uses the builder round trip, while the {@code with}
+ * benchmark uses the generated with method, which does not allocate a builder.
+ * The allocation of the two approaches can be compared using the GC profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WithMethodBenchmark {
+
+    /**
+     * The bean.
+     */
+    private ImmDoubleFloat bean;
+    /**
+     * The value to set.
+     */
+    private double value;
+
+    /**
+     * Creates the bean.
+     */
+    @Setup
+    public void setUp() {
+        bean = ImmDoubleFloat.builder().a(1.5d).b(2.5d).build();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Changes the property using the builder.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public ImmDoubleFloat toBuilder() {
+        return bean.toBuilder().a(++value).build();
+    }
+
+    /**
+     * Changes the property using the with method.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public ImmDoubleFloat with() {
+        return bean.withA(++value);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs the benchmark with the GC profiler.
+     *
+     * @param args  the arguments, unused
+     * @throws RunnerException if an error occurs
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(WithMethodBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+}
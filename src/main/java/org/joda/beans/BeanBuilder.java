@@ -69,6 +69,81 @@ public interface BeanBuilder<T extends Bean> {
      */
     public abstract BeanBuilder<T> set(MetaProperty<?> metaProperty, Object value);
 
+    /**
+     * Sets the value of a single property into the builder by index.
+     * <p>
+     * The index is that of the property in the meta-bean of the bean being built,
+     * as returned by {@link MetaProperty#index()}.
+     * The default implementation throws {@code UnsupportedOperationException},
+     * as the builder has no access to the meta-bean.
+     * 
+     * @param index  the index of the property, from zero to {@code metaPropertyCount() - 1}
+     * @param value  the property value, may be null
+     * @return {@code this}, for chaining, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     * @throws UnsupportedOperationException if the builder does not support setting by index
+     * @throws RuntimeException optionally thrown if the property is invalid
+     */
+    public default BeanBuilder<T> set(int index, Object value) {
+        throw new UnsupportedOperationException("Builder does not support setting by index: " + getClass().getName());
+    }
+
+    /**
+     * Sets the value of an {@code int} property into the builder.
+     * <p>
+     * The default implementation boxes the value and calls {@link #set(MetaProperty, Object)}.
+     *
+     * @param metaProperty  the meta-property to set, not null
+     * @param value  the property value
+     * @return {@code this}, for chaining, not null
+     * @throws RuntimeException optionally thrown if the property is invalid
+     */
+    public default BeanBuilder<T> setInt(MetaProperty<?> metaProperty, int value) {
+        return set(metaProperty, value);
+    }
+
+    /**
+     * Sets the value of a {@code long} property into the builder.
+     * <p>
+     * The default implementation boxes the value and calls {@link #set(MetaProperty, Object)}.
+     *
+     * @param metaProperty  the meta-property to set, not null
+     * @param value  the property value
+     * @return {@code this}, for chaining, not null
+     * @throws RuntimeException optionally thrown if the property is invalid
+     */
+    public default BeanBuilder<T> setLong(MetaProperty<?> metaProperty, long value) {
+        return set(metaProperty, value);
+    }
+
+    /**
+     * Sets the value of a {@code double} property into the builder.
+     * <p>
+     * The default implementation boxes the value and calls {@link #set(MetaProperty, Object)}.
+     *
+     * @param metaProperty  the meta-property to set, not null
+     * @param value  the property value
+     * @return {@code this}, for chaining, not null
+     * @throws RuntimeException optionally thrown if the property is invalid
+     */
+    public default BeanBuilder<T> setDouble(MetaProperty<?> metaProperty, double value) {
+        return set(metaProperty, value);
+    }
+
+    /**
+     * Sets the value of a {@code boolean} property into the builder.
+     * <p>
+     * The default implementation boxes the value and calls {@link #set(MetaProperty, Object)}.
+     *
+     * @param metaProperty  the meta-property to set, not null
+     * @param value  the property value
+     * @return {@code this}, for chaining, not null
+     * @throws RuntimeException optionally thrown if the property is invalid
+     */
+    public default BeanBuilder<T> setBoolean(MetaProperty<?> metaProperty, boolean value) {
+        return set(metaProperty, value);
+    }
+
     /**
      * Builds the bean from the state of the builder.
      * <p>
@@ -0,0 +1,233 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A mapper that copies properties from one type of bean to another.
+ * <p>
+ * The mapper matches each property of the source by name against the properties of the destination,
+ * retaining those where the destination type is assignable from the source type.
+ * The matching is performed once when the mapper is created, allowing copies between
+ * a fixed pair of bean types to avoid looking up each property on every copy.
+ * <p>
+ * Mappers are obtained using {@link #of(MetaBean, MetaBean)} and are cached.
+ * The cached mapper is held against the bean type whose class loader can see the other type,
+ * thus the cache does not prevent either type from being unloaded.
+ * Mappers between types in unrelated class loaders are not cached.
+ * Mappers involving a {@link DynamicMetaBean} are not cached, as the properties vary by instance,
+ * thus they reflect the properties at the time the mapper was created.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class BeanMapper {
+
+    /**
+     * The cache of mappers, keyed by source bean type then destination bean type.
+     * Used when the class loader of the destination is that of the source or one of its ancestors.
+     */
+    private static final ClassValue<ConcurrentMap<Class<?>, BeanMapper>> BY_SOURCE = new MapperCache();
+    /**
+     * The cache of mappers, keyed by destination bean type then source bean type.
+     * Used when the class loader of the source is an ancestor of that of the destination.
+     */
+    private static final ClassValue<ConcurrentMap<Class<?>, BeanMapper>> BY_DEST = new MapperCache();
+
+    /**
+     * The source meta-bean.
+     */
+    private final MetaBean sourceMeta;
+    /**
+     * The destination meta-bean.
+     */
+    private final MetaBean destMeta;
+    /**
+     * The source meta-properties, matched by index to the destination.
+     */
+    private final MetaProperty<?>[] sourceProperties;
+    /**
+     * The destination meta-properties, matched by index to the source.
+     */
+    private final MetaProperty<?>[] destProperties;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a mapper between two types of bean.
+     * 
+     * @param sourceMeta  the meta-bean of the source, not null
+     * @param destMeta  the meta-bean of the destination, not null
+     * @return the mapper, not null
+     */
+    public static BeanMapper of(MetaBean sourceMeta, MetaBean destMeta) {
+        JodaBeanUtils.notNull(sourceMeta, "sourceMeta");
+        JodaBeanUtils.notNull(destMeta, "destMeta");
+        if (sourceMeta instanceof DynamicMetaBean || destMeta instanceof DynamicMetaBean) {
+            return new BeanMapper(sourceMeta, destMeta);
+        }
+        Class<?> sourceType = sourceMeta.beanType();
+        Class<?> destType = destMeta.beanType();
+        ConcurrentMap<Class<?>, BeanMapper> mappers;
+        Class<?> key;
+        if (isSameOrAncestor(destType.getClassLoader(), sourceType.getClassLoader())) {
+            mappers = BY_SOURCE.get(sourceType);
+            key = destType;
+        } else if (isSameOrAncestor(sourceType.getClassLoader(), destType.getClassLoader())) {
+            mappers = BY_DEST.get(destType);
+            key = sourceType;
+        } else {
+            // unrelated class loaders, where either cache would keep the other type alive
+            return new BeanMapper(sourceMeta, destMeta);
+        }
+        BeanMapper mapper = mappers.get(key);
+        if (mapper == null) {
+            mapper = new BeanMapper(sourceMeta, destMeta);
+            BeanMapper existing = mappers.putIfAbsent(key, mapper);
+            if (existing != null) {
+                mapper = existing;
+            }
+        }
+        if (mapper.sourceMeta != sourceMeta || mapper.destMeta != destMeta) {
+            // a second meta-bean for the same type, which is not cached
+            return new BeanMapper(sourceMeta, destMeta);
+        }
+        return mapper;
+    }
+
+    // checks if the first class loader is the same as the second, or one of its ancestors
+    private static boolean isSameOrAncestor(ClassLoader ancestor, ClassLoader loader) {
+        if (ancestor == null) {
+            // the bootstrap class loader
+            return true;
+        }
+        for (ClassLoader cl = loader; cl != null; cl = cl.getParent()) {
+            if (cl == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // creates an instance
+    private BeanMapper(MetaBean sourceMeta, MetaBean destMeta) {
+        this.sourceMeta = sourceMeta;
+        this.destMeta = destMeta;
+        List<MetaProperty<?>> sources = new ArrayList<>();
+        List<MetaProperty<?>> dests = new ArrayList<>();
+        for (MetaProperty<?> sourceProp : sourceMeta.metaPropertyIterable()) {
+            if (destMeta.metaPropertyExists(sourceProp.name())) {
+                MetaProperty<?> destProp = destMeta.metaProperty(sourceProp.name());
+                if (destProp.propertyType().isAssignableFrom(sourceProp.propertyType())) {
+                    sources.add(sourceProp);
+                    dests.add(destProp);
+                }
+            }
+        }
+        this.sourceProperties = sources.toArray(new MetaProperty<?>[sources.size()]);
+        this.destProperties = dests.toArray(new MetaProperty<?>[dests.size()]);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the meta-bean of the source.
+     * 
+     * @return the source meta-bean, not null
+     */
+    public MetaBean getSourceMetaBean() {
+        return sourceMeta;
+    }
+
+    /**
+     * Gets the meta-bean of the destination.
+     * 
+     * @return the destination meta-bean, not null
+     */
+    public MetaBean getDestinationMetaBean() {
+        return destMeta;
+    }
+
+    /**
+     * Gets the number of properties that are copied.
+     * 
+     * @return the number of matched properties
+     */
+    public int size() {
+        return sourceProperties.length;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Copies properties from a bean to a new builder of the destination type.
+     * <p>
+     * This copies each non-null matched property value from the source bean to the builder.
+     * 
+     * @param sourceBean  the bean to copy from, not null
+     * @return the builder, not null
+     * @throws IllegalArgumentException if the bean is not of the source type
+     * @throws RuntimeException if unable to copy a property
+     */
+    public BeanBuilder<? extends Bean> copy(Bean sourceBean) {
+        return copyInto(sourceBean, destMeta.builder());
+    }
+
+    /**
+     * Copies properties from a bean to a builder.
+     * <p>
+     * This copies each non-null matched property value from the source bean to the builder.
+     * The builder must be for the destination meta-bean.
+     * 
+     * @param <T>  the type of the bean to create
+     * @param sourceBean  the bean to copy from, not null
+     * @param destBuilder  the builder to populate, not null
+     * @return the updated builder
+     * @throws IllegalArgumentException if the bean is not of the source type
+     * @throws RuntimeException if unable to copy a property
+     */
+    public <T extends Bean> BeanBuilder<T> copyInto(Bean sourceBean, BeanBuilder<T> destBuilder) {
+        if (sourceMeta.beanType().isInstance(sourceBean) == false) {
+            throw new IllegalArgumentException(
+                    "Bean is not of the source type: " + sourceBean.getClass().getName() + " != " + sourceMeta.beanType().getName());
+        }
+        for (int i = 0; i < sourceProperties.length; i++) {
+            Object sourceValue = sourceProperties[i].get(sourceBean);
+            if (sourceValue != null) {
+                destBuilder.set(destProperties[i], sourceValue);
+            }
+        }
+        return destBuilder;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return "BeanMapper[" + sourceMeta.beanType().getName() + " -> " + destMeta.beanType().getName() + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Cache of mappers held against a bean type.
+     */
+    private static final class MapperCache extends ClassValue<ConcurrentMap<Class<?>, BeanMapper>> {
+        @Override
+        protected ConcurrentMap<Class<?>, BeanMapper> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    }
+
+}
@@ -17,6 +17,7 @@ package org.joda.beans;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
@@ -39,6 +40,8 @@ import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
 import org.joda.beans.impl.direct.DirectBean;
@@ -76,6 +79,26 @@ public final class JodaBeanUtils {
      * The cache of meta-beans.
      */
     private static final StringConvert converter = new StringConvert();
+    /**
+     * The cache of resolved generic types, keyed by target class then meta-property.
+     */
+    private static final ClassValue<ConcurrentMap<MetaProperty<?>, ResolvedTypes>> RESOLVED_TYPES =
+            new ClassValue<ConcurrentMap<MetaProperty<?>, ResolvedTypes>>() {
+                @Override
+                protected ConcurrentMap<MetaProperty<?>, ResolvedTypes> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+    /**
+     * The cache of clone plans, keyed by bean class then meta-bean.
+     */
+    private static final ClassValue<ConcurrentMap<MetaBean, ClonePlan>> CLONE_PLANS =
+            new ClassValue<ConcurrentMap<MetaBean, ClonePlan>>() {
+                @Override
+                protected ConcurrentMap<MetaBean, ClonePlan> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
 
     /**
      * Restricted constructor.
@@ -385,13 +408,29 @@ public final class JodaBeanUtils {
      * @return true if equal
      */
     public static boolean propertiesEqual(Bean bean1, Bean bean2) {
-        Set<String> names = bean1.propertyNames();
-        if (names.equals(bean2.propertyNames()) == false) {
+        MetaBean metaBean1 = bean1.metaBean();
+        MetaBean metaBean2 = bean2.metaBean();
+        if (metaBean1 == metaBean2 && bean1 instanceof DynamicBean == false) {
+            // same properties, so compare directly
+            for (MetaProperty<?> mp : metaBean1.metaPropertyIterable()) {
+                if (propertyEqual(mp, bean1, bean2) == false) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        // property names are unique, so same size and all contained means the same set
+        Set<String> names2 = bean2.propertyNames();
+        if (bean1.propertyNames().size() != names2.size()) {
             return false;
         }
-        for (String name : names) {
-            Object value1 = bean1.property(name).get();
-            Object value2 = bean2.property(name).get();
+        for (MetaProperty<?> mp : metaBean1.metaPropertyIterable()) {
+            String name = mp.name();
+            if (names2.contains(name) == false) {
+                return false;
+            }
+            Object value1 = mp.get(bean1);
+            Object value2 = metaBean2.metaProperty(name).get(bean2);
             if (equal(value1, value2) == false) {
                 return false;
             }
@@ -411,14 +450,47 @@ public final class JodaBeanUtils {
      */
     public static int propertiesHashCode(Bean bean) {
         int hash = 7;
-        Set<String> names = bean.propertyNames();
-        for (String name : names) {
-            Object value = bean.property(name).get();
-            hash += hashCode(value);
+        for (MetaProperty<?> mp : bean.metaBean().metaPropertyIterable()) {
+            hash += propertyHashCode(mp, bean);
         }
         return hash;
     }
 
+    // compares the value of a property on two beans, avoiding boxing for common primitive types
+    private static boolean propertyEqual(MetaProperty<?> mp, Bean bean1, Bean bean2) {
+        Class<?> type = mp.propertyType();
+        if (type.isPrimitive()) {
+            if (type == int.class) {
+                return mp.getInt(bean1) == mp.getInt(bean2);
+            } else if (type == long.class) {
+                return mp.getLong(bean1) == mp.getLong(bean2);
+            } else if (type == double.class) {
+                return equal(mp.getDouble(bean1), mp.getDouble(bean2));
+            } else if (type == boolean.class) {
+                return mp.getBoolean(bean1) == mp.getBoolean(bean2);
+            }
+        }
+        return equal(mp.get(bean1), mp.get(bean2));
+    }
+
+    // hashes the value of a property on a bean, avoiding boxing for common primitive types
+    // the result matches hashCode(Object) for the boxed value
+    private static int propertyHashCode(MetaProperty<?> mp, Bean bean) {
+        Class<?> type = mp.propertyType();
+        if (type.isPrimitive()) {
+            if (type == int.class) {
+                return hashCode(mp.getInt(bean));
+            } else if (type == long.class) {
+                return hashCode(mp.getLong(bean));
+            } else if (type == double.class) {
+                return hashCode(mp.getDouble(bean));
+            } else if (type == boolean.class) {
+                return hashCode(mp.getBoolean(bean));
+            }
+        }
+        return hashCode(mp.get(bean));
+    }
+
     /**
      * Returns a string describing the set of properties on a bean.
      * <p>
@@ -430,18 +502,17 @@ public final class JodaBeanUtils {
      * @return the string form of the bean, not null
      */
     public static String propertiesToString(Bean bean, String prefix) {
-        Set<String> names = bean.propertyNames();
+        int size = bean.propertyNames().size();
         StringBuilder buf;
         if (prefix != null) {
-            buf = new StringBuilder((names.size()) * 32 + prefix.length()).append(prefix);
+            buf = new StringBuilder(size * 32 + prefix.length()).append(prefix);
         } else {
-            buf = new StringBuilder((names.size()) * 32);
+            buf = new StringBuilder(size * 32);
         }
         buf.append('{');
-        if (names.size() > 0) {
-            for (String name : names) {
-                Object value = bean.property(name).get();
-                buf.append(name).append('=').append(value).append(',').append(' ');
+        if (size > 0) {
+            for (MetaProperty<?> mp : bean.metaBean().metaPropertyIterable()) {
+                buf.append(mp.name()).append('=').append(mp.get(bean)).append(',').append(' ');
             }
             buf.setLength(buf.length() - 2);
         }
@@ -491,6 +562,7 @@ public final class JodaBeanUtils {
      * <p>
      * This copies each non-null property value from the source bean to the destination builder
      * provided that the destination builder supports the property name and the type is compatible.
+     * The matching properties are determined once for each pair of types using {@link BeanMapper}.
      * 
      * @param <T>  the type of the bean to create
      * @param sourceBean  the bean to copy from, not null
@@ -500,19 +572,7 @@ public final class JodaBeanUtils {
      * @throws RuntimeException if unable to copy a property
      */
     public static <T extends Bean> BeanBuilder<T> copyInto(Bean sourceBean, MetaBean destMeta, BeanBuilder<T> destBuilder) {
-        MetaBean sourceMeta = sourceBean.metaBean();
-        for (MetaProperty<?> sourceProp : sourceMeta.metaPropertyIterable()) {
-            if (destMeta.metaPropertyExists(sourceProp.name())) {
-                MetaProperty<?> destProp = destMeta.metaProperty(sourceProp.name());
-                if (destProp.propertyType().isAssignableFrom(sourceProp.propertyType())) {
-                    Object sourceValue = sourceProp.get(sourceBean);
-                    if (sourceValue != null) {
-                        destBuilder.set(destProp, sourceValue);
-                    }
-                }
-            }
-        }
-        return destBuilder;
+        return BeanMapper.of(sourceBean.metaBean(), destMeta).copyInto(sourceBean, destBuilder);
     }
 
     //-----------------------------------------------------------------------
@@ -539,21 +599,31 @@ public final class JodaBeanUtils {
      * This performs a deep clone. There is no protection against cycles in
      * the object graph beyond {@code StackOverflowError}.
      * This differs from {@link #clone()} in that immutable beans are also cloned.
+     * <p>
+     * The properties to copy are determined once for each type of bean and cached.
+     * Properties whose declared type is immutable, such as {@code String}, are shared
+     * with the original rather than being examined.
      * 
      * @param <T>  the type of the bean
      * @param original  the original bean to clone, not null
      * @return the cloned bean, not null
      */
     public static <T extends Bean> T cloneAlways(T original) {
-        @SuppressWarnings("unchecked")
-        BeanBuilder<T> builder = (BeanBuilder<T>) original.metaBean().builder();
-        for (MetaProperty<?> mp : original.metaBean().metaPropertyIterable()) {
-            if (mp.style().isBuildable()) {
-                Object value = mp.get(original);
-                builder.set(mp.name(), Cloner.INSTANCE.clone(value));
+        MetaBean metaBean = original.metaBean();
+        if (original instanceof DynamicBean) {
+            // properties vary by instance, so cannot be planned
+            @SuppressWarnings("unchecked")
+            BeanBuilder<T> builder = (BeanBuilder<T>) metaBean.builder();
+            for (MetaProperty<?> mp : metaBean.metaPropertyIterable()) {
+                if (mp.style().isBuildable()) {
+                    Object value = mp.get(original);
+                    builder.set(mp.name(), Cloner.INSTANCE.clone(value));
+                }
             }
+            return builder.build();
         }
-        return builder.build();
+        ClonePlan plan = CLONE_PLANS.get(original.getClass()).computeIfAbsent(metaBean, ClonePlan::new);
+        return plan.clone(original);
     }
 
     //-----------------------------------------------------------------------
@@ -674,7 +744,7 @@ public final class JodaBeanUtils {
      * @return the collection content type, null if unable to determine or type has no generic parameters
      */
     public static Class<?> collectionType(MetaProperty<?> prop, Class<?> targetClass) {
-        return extractTypeClass(prop, targetClass, 1, 0);
+        return resolvedTypes(prop, targetClass).collectionType;
     }
 
     /**
@@ -686,11 +756,10 @@ public final class JodaBeanUtils {
      * 
      * @param prop  the property to examine, not null
      * @param targetClass  the target type to evaluate against, not null
-     * @return the collection content type generic parameters, empty if unable to determine, no nulls
+     * @return the collection content type generic parameters, unmodifiable, empty if unable to determine, no nulls
      */
     public static List<Class<?>> collectionTypeTypes(MetaProperty<?> prop, Class<?> targetClass) {
-        Type type = extractType(targetClass, prop, 1, 0);
-        return extractTypeClasses(targetClass, type);
+        return resolvedTypes(prop, targetClass).collectionTypeTypes;
     }
 
     /**
@@ -713,7 +782,7 @@ public final class JodaBeanUtils {
      * @return the map key type, null if unable to determine or type has no generic parameters
      */
     public static Class<?> mapKeyType(MetaProperty<?> prop, Class<?> targetClass) {
-        return extractTypeClass(prop, targetClass, 2, 0);
+        return resolvedTypes(prop, targetClass).mapKeyType;
     }
 
     /**
@@ -736,7 +805,7 @@ public final class JodaBeanUtils {
      * @return the map value type, null if unable to determine or type has no generic parameters
      */
     public static Class<?> mapValueType(MetaProperty<?> prop, Class<?> targetClass) {
-        return extractTypeClass(prop, targetClass, 2, 1);
+        return resolvedTypes(prop, targetClass).mapValueType;
     }
 
     /**
@@ -748,11 +817,10 @@ public final class JodaBeanUtils {
      * 
      * @param prop  the property to examine, not null
      * @param targetClass  the target type to evaluate against, not null
-     * @return the map value type generic parameters, empty if unable to determine, no nulls
+     * @return the map value type generic parameters, unmodifiable, empty if unable to determine, no nulls
      */
     public static List<Class<?>> mapValueTypeTypes(MetaProperty<?> prop, Class<?> targetClass) {
-        Type type = extractType(targetClass, prop, 2, 1);
-        return extractTypeClasses(targetClass, type);
+        return resolvedTypes(prop, targetClass).mapValueTypeTypes;
     }
 
     /**
@@ -765,9 +833,31 @@ public final class JodaBeanUtils {
      * @return the type, null if unable to determine or type has no generic parameters
      */
     public static Class<?> extractTypeClass(MetaProperty<?> prop, Class<?> targetClass, int size, int index) {
+        if (size == 1 && index == 0) {
+            return collectionType(prop, targetClass);
+        } else if (size == 2 && index == 0) {
+            return mapKeyType(prop, targetClass);
+        } else if (size == 2 && index == 1) {
+            return mapValueType(prop, targetClass);
+        }
         return eraseToClass(extractType(targetClass, prop, size, index));
     }
 
+    // finds the resolved types, which do not change for a given meta-property and target class
+    // the cached result is only used if it was created for the same meta-property instance
+    private static ResolvedTypes resolvedTypes(MetaProperty<?> prop, Class<?> targetClass) {
+        if (DynamicBean.class.isAssignableFrom(targetClass)) {
+            return new ResolvedTypes(prop, targetClass);
+        }
+        ConcurrentMap<MetaProperty<?>, ResolvedTypes> map = RESOLVED_TYPES.get(targetClass);
+        ResolvedTypes resolved = map.get(prop);
+        if (resolved == null || resolved.metaProperty != prop) {
+            resolved = new ResolvedTypes(prop, targetClass);
+            map.put(prop, resolved);
+        }
+        return resolved;
+    }
+
     private static Type extractType(Class<?> targetClass, MetaProperty<?> prop, int size, int index) {
         Type genType = prop.propertyGenericType();
         if (genType instanceof ParameterizedType) {
@@ -861,6 +951,29 @@ public final class JodaBeanUtils {
         return null;
     }
 
+    /**
+     * The generic types of a meta-property resolved against a target class.
+     */
+    private static final class ResolvedTypes {
+        private final MetaProperty<?> metaProperty;
+        private final Class<?> collectionType;
+        private final List<Class<?>> collectionTypeTypes;
+        private final Class<?> mapKeyType;
+        private final Class<?> mapValueType;
+        private final List<Class<?>> mapValueTypeTypes;
+
+        private ResolvedTypes(MetaProperty<?> prop, Class<?> targetClass) {
+            Type collectionGeneric = extractType(targetClass, prop, 1, 0);
+            Type mapValueGeneric = extractType(targetClass, prop, 2, 1);
+            this.metaProperty = prop;
+            this.collectionType = eraseToClass(collectionGeneric);
+            this.collectionTypeTypes = Collections.unmodifiableList(extractTypeClasses(targetClass, collectionGeneric));
+            this.mapKeyType = eraseToClass(extractType(targetClass, prop, 2, 0));
+            this.mapValueType = eraseToClass(mapValueGeneric);
+            this.mapValueTypeTypes = Collections.unmodifiableList(extractTypeClasses(targetClass, mapValueGeneric));
+        }
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Checks if two beans are equal ignoring one or more properties.
@@ -891,7 +1004,7 @@ public final class JodaBeanUtils {
             case 1: {
                 MetaProperty<?> ignored = properties[0];
                 for (MetaProperty<?> mp : bean1.metaBean().metaPropertyIterable()) {
-                    if (ignored.equals(mp) == false && JodaBeanUtils.equal(mp.get(bean1), mp.get(bean2)) == false) {
+                    if (ignored.equals(mp) == false && propertyEqual(mp, bean1, bean2) == false) {
                         return false;
                     }
                 }
@@ -900,8 +1013,7 @@ public final class JodaBeanUtils {
             default:
                 Set<MetaProperty<?>> ignored = new HashSet<>(Arrays.asList(properties));
                 for (MetaProperty<?> mp : bean1.metaBean().metaPropertyIterable()) {
-                    if (ignored.contains(mp) == false
-                            && JodaBeanUtils.equal(mp.get(bean1), mp.get(bean2)) == false) {
+                    if (ignored.contains(mp) == false && propertyEqual(mp, bean1, bean2) == false) {
                         return false;
                     }
                 }
@@ -1036,6 +1148,42 @@ public final class JodaBeanUtils {
         }
     }
 
+    //-------------------------------------------------------------------------
+    /**
+     * The plan for cloning a type of bean.
+     * <p>
+     * The plan holds the buildable meta-properties and whether the value of each can be shared.
+     */
+    private static final class ClonePlan {
+        private final MetaProperty<?>[] metaProperties;
+        private final boolean[] shared;
+
+        private ClonePlan(MetaBean metaBean) {
+            List<MetaProperty<?>> list = new ArrayList<>();
+            for (MetaProperty<?> mp : metaBean.metaPropertyIterable()) {
+                if (mp.style().isBuildable()) {
+                    list.add(mp);
+                }
+            }
+            this.metaProperties = list.toArray(new MetaProperty<?>[list.size()]);
+            this.shared = new boolean[metaProperties.length];
+            for (int i = 0; i < metaProperties.length; i++) {
+                shared[i] = Cloner.INSTANCE.isImmutable(metaProperties[i].propertyType());
+            }
+        }
+
+        <T extends Bean> T clone(T original) {
+            @SuppressWarnings("unchecked")
+            BeanBuilder<T> builder = (BeanBuilder<T>) original.metaBean().builder();
+            for (int i = 0; i < metaProperties.length; i++) {
+                MetaProperty<?> mp = metaProperties[i];
+                Object value = mp.get(original);
+                builder.set(mp, shared[i] ? value : Cloner.INSTANCE.clone(value));
+            }
+            return builder.build();
+        }
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Clones an object.
@@ -1057,13 +1205,35 @@ public final class JodaBeanUtils {
             }
         }
 
+        /**
+         * The kind of each class of value, which is determined once for speed.
+         */
+        private final ClassValue<Kind> kinds = new ClassValue<Kind>() {
+            @Override
+            protected Kind computeValue(Class<?> type) {
+                return kind(type);
+            }
+        };
+
         Cloner() {
         }
 
-        Object clone(Object value) {
+        final Object clone(Object value) {
             if (value == null) {
                 return value;
-            } else if (value instanceof Bean) {
+            }
+            switch (kinds.get(value.getClass())) {
+                case SHARED:
+                    return value;
+                case BEAN:
+                    return cloneAlways((Bean) value);
+                default:
+                    return cloneObject(value);
+            }
+        }
+
+        Object cloneObject(Object value) {
+            if (value instanceof Bean) {
                 return cloneAlways((Bean) value);
             } else if (value instanceof SortedSet) {
                 SortedSet set = (SortedSet) value;
@@ -1104,11 +1274,52 @@ public final class JodaBeanUtils {
             int len = Array.getLength(original);
             Class<?> arrayType = original.getClass().getComponentType();
             Object copy = Array.newInstance(arrayType, len);
-            for (int i = 0; i < len; i++) {
-                Array.set(copy, i, clone(Array.get(original, i)));
+            if (isImmutable(arrayType)) {
+                // includes all primitive arrays
+                System.arraycopy(original, 0, copy, 0, len);
+            } else {
+                Object[] originalArray = (Object[]) original;
+                Object[] copyArray = (Object[]) copy;
+                for (int i = 0; i < len; i++) {
+                    copyArray[i] = clone(originalArray[i]);
+                }
             }
             return copy;
         }
+
+        // determines how cloneObject() handles values of exactly the specified class
+        Kind kind(Class<?> type) {
+            if (Bean.class.isAssignableFrom(type)) {
+                return Kind.BEAN;
+            }
+            if (type.isArray() ||
+                    Iterable.class.isAssignableFrom(type) ||
+                    Map.class.isAssignableFrom(type) ||
+                    java.util.Date.class.isAssignableFrom(type)) {
+                return Kind.COPIED;
+            }
+            return Kind.SHARED;
+        }
+
+        // checks if every value of the declared type is returned unchanged by clone()
+        boolean isImmutable(Class<?> type) {
+            if (type.isPrimitive()) {
+                return true;
+            }
+            return (Modifier.isFinal(type.getModifiers()) || type.isEnum()) && kind(type) == Kind.SHARED;
+        }
+
+        /**
+         * The kind of value.
+         */
+        enum Kind {
+            /** Returned unchanged. */
+            SHARED,
+            /** A bean that is cloned. */
+            BEAN,
+            /** Copied by cloneObject(). */
+            COPIED
+        }
     }
 
     //-------------------------------------------------------------------------
@@ -1121,10 +1332,8 @@ public final class JodaBeanUtils {
         }
 
         @Override
-        Object clone(Object value) {
-            if (value == null) {
-                return value;
-            } else if (value instanceof ImmutableMap ||
+        Object cloneObject(Object value) {
+            if (value instanceof ImmutableMap ||
                     value instanceof ImmutableCollection ||
                     value instanceof ImmutableMultimap ||
                     value instanceof ImmutableTable) {
@@ -1143,7 +1352,34 @@ public final class JodaBeanUtils {
             } else if (value instanceof Table) {
                 return cloneTable((Table) value, HashBasedTable.create());
             }
-            return super.clone(value);
+            return super.cloneObject(value);
+        }
+
+        @Override
+        Kind kind(Class<?> type) {
+            if (isImmutableGuava(type)) {
+                return Kind.SHARED;
+            }
+            if (Multiset.class.isAssignableFrom(type) ||
+                    Multimap.class.isAssignableFrom(type) ||
+                    BiMap.class.isAssignableFrom(type) ||
+                    Table.class.isAssignableFrom(type)) {
+                return Kind.COPIED;
+            }
+            return super.kind(type);
+        }
+
+        @Override
+        boolean isImmutable(Class<?> type) {
+            return isImmutableGuava(type) || super.isImmutable(type);
+        }
+
+        // checks if the type is one of the Guava immutable types
+        private static boolean isImmutableGuava(Class<?> type) {
+            return ImmutableMap.class.isAssignableFrom(type) ||
+                    ImmutableCollection.class.isAssignableFrom(type) ||
+                    ImmutableMultimap.class.isAssignableFrom(type) ||
+                    ImmutableTable.class.isAssignableFrom(type);
         }
 
         Object cloneMultimap(Multimap original, Multimap cloned) {
@@ -1175,10 +1411,8 @@ public final class JodaBeanUtils {
         }
 
         @Override
-        Object clone(Object value) {
-            if (value == null) {
-                return value;
-            } else if (value instanceof ImmutableGrid) {
+        Object cloneObject(Object value) {
+            if (value instanceof ImmutableGrid) {
                 return value;
             } else if (value instanceof DenseGrid) {
                 Grid grid = (Grid) value;
@@ -1187,7 +1421,23 @@ public final class JodaBeanUtils {
                 Grid grid = (Grid) value;
                 return cloneGrid(grid, SparseGrid.create(grid.rowCount(), grid.columnCount()));
             }
-            return super.clone(value);
+            return super.cloneObject(value);
+        }
+
+        @Override
+        Kind kind(Class<?> type) {
+            if (ImmutableGrid.class.isAssignableFrom(type)) {
+                return Kind.SHARED;
+            }
+            if (Grid.class.isAssignableFrom(type)) {
+                return Kind.COPIED;
+            }
+            return super.kind(type);
+        }
+
+        @Override
+        boolean isImmutable(Class<?> type) {
+            return ImmutableGrid.class.isAssignableFrom(type) || super.isImmutable(type);
         }
 
         Object cloneGrid(Grid original, Grid cloned) {
@@ -59,6 +59,28 @@ public interface MetaBean {
         MetaBeans.register(metaBean);
     }
 
+    /**
+     * Preloads the meta-beans listed in the bean index.
+     * <p>
+     * The bean index is an optional resource, {@code META-INF/org/joda/beans/JodaBeans.index},
+     * which lists the fully qualified names of bean classes, one per line.
+     * It is typically generated by the {@code -index} option of the code generator.
+     * All index resources visible to the class loader are read.
+     * <p>
+     * Each listed bean class is initialized, registering its meta-bean.
+     * This allows an application to perform the work at a predictable point during startup,
+     * rather than when each bean is first used.
+     * 
+     * @param classLoader  the class loader to use, not null
+     * @return the meta-beans that were loaded, in index order, not null
+     * @throws IllegalArgumentException if a listed class cannot be loaded or is not a bean
+     * @throws java.io.UncheckedIOException if unable to read an index
+     */
+    public static List<MetaBean> preload(ClassLoader classLoader) {
+        JodaBeanUtils.notNull(classLoader, "classLoader");
+        return MetaBeans.preload(classLoader);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks whether this bean is buildable or not.
@@ -179,6 +201,46 @@ public interface MetaBean {
      */
     public abstract Map<String, MetaProperty<?>> metaPropertyMap();
 
+    /**
+     * Gets a meta-property by index.
+     * <p>
+     * The index is the position of the meta-property in {@link #metaPropertyIterable()},
+     * as returned by {@link MetaProperty#index()}.
+     * The default implementation iterates over the meta-properties.
+     * 
+     * @param index  the index of the property, from zero to {@code metaPropertyCount() - 1}
+     * @return the meta-property, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public default MetaProperty<?> metaProperty(int index) {
+        if (index >= 0) {
+            int count = 0;
+            for (MetaProperty<?> mp : metaPropertyIterable()) {
+                if (count == index) {
+                    return mp;
+                }
+                count++;
+            }
+        }
+        throw new IndexOutOfBoundsException("Invalid property index: " + index);
+    }
+
+    /**
+     * Gets the value of a property by index.
+     * <p>
+     * This is equivalent to {@code metaProperty(index).get(bean)}.
+     * 
+     * @param bean  the bean to query, not null
+     * @param index  the index of the property, from zero to {@code metaPropertyCount() - 1}
+     * @return the value of the property, may be null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws UnsupportedOperationException if the property is write-only
+     */
+    public default Object get(Bean bean, int index) {
+        return metaProperty(index).get(bean);
+    }
+
     /**
      * Gets the annotations associated with this bean.
      * <p>
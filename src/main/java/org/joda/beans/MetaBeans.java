@@ -15,7 +15,19 @@
  */
 package org.joda.beans;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.joda.beans.impl.flexi.FlexiBean;
@@ -27,9 +39,30 @@ import org.joda.beans.impl.map.MapBean;
 final class MetaBeans {
 
     /**
-     * The cache of meta-beans.
+     * The location of the bean index resource.
+     */
+    static final String INDEX_RESOURCE = "META-INF/org/joda/beans/JodaBeans.index";
+    /**
+     * The registered meta-beans.
      */
     private static final ConcurrentHashMap<Class<?>, MetaBean> META_BEANS = new ConcurrentHashMap<>();
+    /**
+     * The cache of meta-beans, null for dynamic beans that are not registered.
+     * Only successful lookups are cached, thus a bean must be registered before it is queried.
+     */
+    private static final ClassValue<MetaBean> CACHE = new ClassValue<MetaBean>() {
+        @Override
+        protected MetaBean computeValue(Class<?> cls) {
+            MetaBean meta = META_BEANS.get(cls);
+            if (meta != null) {
+                return meta;
+            }
+            if (DynamicBean.class.isAssignableFrom(cls)) {
+                return null;
+            }
+            return initializeAndLookup(cls);
+        }
+    };
 
     /**
      * Restricted constructor.
@@ -52,27 +85,33 @@ final class MetaBeans {
      * @throws IllegalArgumentException if unable to obtain the meta-bean
      */
     static MetaBean lookup(Class<?> cls) {
-        MetaBean meta = META_BEANS.get(cls);
+        MetaBean meta = CACHE.get(cls);
         if (meta == null) {
-            return metaBeanLookup(cls);
+            return dynamicLookup(cls);
         }
         return meta;
     }
 
-    // lookup the MetaBean outside the fast path, aiding hotspot inlining
-    private static MetaBean metaBeanLookup(Class<?> cls) {
-        // handle dynamic beans
+    // lookup the MetaBean of a dynamic bean outside the fast path, aiding hotspot inlining
+    private static MetaBean dynamicLookup(Class<?> cls) {
+        MetaBean meta = META_BEANS.get(cls);
+        if (meta != null) {
+            return meta;
+        }
         if (cls == FlexiBean.class) {
             return new FlexiBean().metaBean();
         } else if (cls == MapBean.class) {
             return new MapBean().metaBean();
-        } else if (DynamicBean.class.isAssignableFrom(cls)) {
-            try {
-                return cls.asSubclass(DynamicBean.class).getDeclaredConstructor().newInstance().metaBean();
-            } catch (NoSuchMethodException | InvocationTargetException | InstantiationException | IllegalAccessException ex) {
-                throw new IllegalArgumentException("Unable to find meta-bean for a DynamicBean: " + cls.getName(), ex);
-            }
         }
+        try {
+            return cls.asSubclass(DynamicBean.class).getDeclaredConstructor().newInstance().metaBean();
+        } catch (NoSuchMethodException | InvocationTargetException | InstantiationException | IllegalAccessException ex) {
+            throw new IllegalArgumentException("Unable to find meta-bean for a DynamicBean: " + cls.getName(), ex);
+        }
+    }
+
+    // initializes the class and looks up the registered MetaBean
+    private static MetaBean initializeAndLookup(Class<?> cls) {
         // a Class can be loaded without being initialized
         // in this state, the static initializers have not run, and thus the metabean not registered
         // here initialization is forced to handle that scenario
@@ -105,4 +144,50 @@ final class MetaBeans {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Preloads the meta-beans listed in the bean index.
+     * <p>
+     * Each index resource found by the class loader is read and each listed bean is initialized.
+     * 
+     * @param loader  the class loader to use, not null
+     * @return the meta-beans, in index order, not null
+     * @throws IllegalArgumentException if a listed class is not a bean
+     * @throws UncheckedIOException if unable to read an index
+     */
+    static List<MetaBean> preload(ClassLoader loader) {
+        Set<String> beanNames = indexedBeanNames(loader);
+        List<MetaBean> result = new ArrayList<>(beanNames.size());
+        for (String beanName : beanNames) {
+            Class<?> cls;
+            try {
+                cls = Class.forName(beanName, true, loader);
+            } catch (ClassNotFoundException | LinkageError ex) {
+                throw new IllegalArgumentException("Unable to load bean listed in " + INDEX_RESOURCE + ": " + beanName, ex);
+            }
+            result.add(lookup(cls));
+        }
+        return result;
+    }
+
+    // reads the bean names from all the index resources
+    private static Set<String> indexedBeanNames(ClassLoader loader) {
+        Set<String> result = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> en = loader.getResources(INDEX_RESOURCE);
+            while (en.hasMoreElements()) {
+                URL url = en.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), UTF_8))) {
+                    reader.lines()
+                            .map(String::trim)
+                            .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                            .forEach(result::add);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return result;
+    }
+
 }
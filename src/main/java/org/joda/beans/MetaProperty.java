@@ -64,6 +64,31 @@ public interface MetaProperty<P> {
      */
     public abstract String name();
 
+    /**
+     * Gets the index of the property within the meta-bean.
+     * <p>
+     * The index is the position of the property in {@link MetaBean#metaPropertyIterable()}
+     * of {@link #metaBean()}, from zero to {@code metaPropertyCount() - 1}.
+     * It can be used with {@link MetaBean#metaProperty(int)}, {@link MetaBean#get(Bean, int)}
+     * and {@link BeanBuilder#set(int, Object)} to avoid looking up the property by name.
+     * <p>
+     * The index is stable for the lifetime of the meta-bean, except for dynamic beans,
+     * where it changes if properties are added or removed.
+     * The default implementation searches the meta-properties of the meta-bean.
+     * 
+     * @return the index of the property, -1 if the property is not found in the meta-bean
+     */
+    public default int index() {
+        int index = 0;
+        for (MetaProperty<?> mp : metaBean().metaPropertyIterable()) {
+            if (mp.equals(this)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
     /**
      * Get the type that declares the property, represented as a {@code Class}.
      * <p>
@@ -188,6 +213,145 @@ public interface MetaProperty<P> {
         return old;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the value of an {@code int} property for the specified bean without boxing.
+     * <p>
+     * This is equivalent to {@link #get(Bean)} for a property of type {@code int}.
+     * The default implementation unboxes the result of {@code get}.
+     * Implementations are encouraged to override this to avoid boxing.
+     *
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code int}
+     * @throws UnsupportedOperationException if the property is write-only
+     */
+    public default int getInt(Bean bean) {
+        return (Integer) get(bean);
+    }
+
+    /**
+     * Gets the value of a {@code long} property for the specified bean without boxing.
+     * <p>
+     * This is equivalent to {@link #get(Bean)} for a property of type {@code long}.
+     * The default implementation unboxes the result of {@code get}.
+     * Implementations are encouraged to override this to avoid boxing.
+     *
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code long}
+     * @throws UnsupportedOperationException if the property is write-only
+     */
+    public default long getLong(Bean bean) {
+        return (Long) get(bean);
+    }
+
+    /**
+     * Gets the value of a {@code double} property for the specified bean without boxing.
+     * <p>
+     * This is equivalent to {@link #get(Bean)} for a property of type {@code double}.
+     * The default implementation unboxes the result of {@code get}.
+     * Implementations are encouraged to override this to avoid boxing.
+     *
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code double}
+     * @throws UnsupportedOperationException if the property is write-only
+     */
+    public default double getDouble(Bean bean) {
+        return (Double) get(bean);
+    }
+
+    /**
+     * Gets the value of a {@code boolean} property for the specified bean without boxing.
+     * <p>
+     * This is equivalent to {@link #get(Bean)} for a property of type {@code boolean}.
+     * The default implementation unboxes the result of {@code get}.
+     *
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code boolean}
+     * @throws UnsupportedOperationException if the property is write-only
+     */
+    public default boolean getBoolean(Bean bean) {
+        return (Boolean) get(bean);
+    }
+
+    /**
+     * Sets the value of an {@code int} property on the specified bean without boxing.
+     * <p>
+     * This is equivalent to {@link #set(Bean, Object)} for a property of type {@code int}.
+     * The default implementation boxes the value and calls {@code set}.
+     * Implementations are encouraged to override this to avoid boxing.
+     *
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code int}
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     */
+    public default void setInt(Bean bean, int value) {
+        set(bean, value);
+    }
+
+    /**
+     * Sets the value of a {@code long} property on the specified bean without boxing.
+     * <p>
+     * This is equivalent to {@link #set(Bean, Object)} for a property of type {@code long}.
+     * The default implementation boxes the value and calls {@code set}.
+     * Implementations are encouraged to override this to avoid boxing.
+     *
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code long}
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     */
+    public default void setLong(Bean bean, long value) {
+        set(bean, value);
+    }
+
+    /**
+     * Sets the value of a {@code double} property on the specified bean without boxing.
+     * <p>
+     * This is equivalent to {@link #set(Bean, Object)} for a property of type {@code double}.
+     * The default implementation boxes the value and calls {@code set}.
+     * Implementations are encouraged to override this to avoid boxing.
+     *
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code double}
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     */
+    public default void setDouble(Bean bean, double value) {
+        set(bean, value);
+    }
+
+    /**
+     * Sets the value of a {@code boolean} property on the specified bean without boxing.
+     * <p>
+     * This is equivalent to {@link #set(Bean, Object)} for a property of type {@code boolean}.
+     * The default implementation boxes the value and calls {@code set}.
+     *
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code boolean}
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     */
+    public default void setBoolean(Bean bean, boolean value) {
+        set(bean, value);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the value of the property for the specified bean converted to a string.
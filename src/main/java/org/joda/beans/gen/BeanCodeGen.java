@@ -16,16 +16,24 @@
 package org.joda.beans.gen;
 
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.joda.beans.JodaBeanUtils;
 
@@ -62,6 +70,9 @@ public class BeanCodeGen {
             System.out.println("    -style=[s]        default bean style: 'light'/'minimal'/'full', default smart");
             System.out.println("    -verbose=[v]      output logging with verbosity from 0 to 3, default 1");
             System.out.println("    -nowrite          output messages rather than writing, default is to write");
+            System.out.println("    -index=[f]        write an index of the beans found to file f, no default");
+            System.out.println("    -threads=[n]      process files using n threads, default is the number of processors");
+            System.out.println("    -cache=[f]        cache file used to skip unchanged files, no default");
             System.exit(0);
             throw new InternalError("Unreachable");
         }
@@ -96,6 +107,9 @@ public class BeanCodeGen {
         boolean generatedAnno = false;
         int verbosity = 1;
         boolean write = true;
+        File indexFile = null;
+        int threads = 0;
+        File cacheFile = null;
         File file = null;
         BeanGenConfig config = null;
         if (args.length == 0) {
@@ -136,6 +150,18 @@ public class BeanCodeGen {
                 verbosity = Integer.parseInt(arg.substring(3));
             } else if (arg.equals("-nowrite")) {
                 write = false;
+            } else if (arg.startsWith("-index=")) {
+                if (indexFile != null) {
+                    throw new IllegalArgumentException("Argument 'index' must not be specified twice: " + Arrays.toString(args));
+                }
+                indexFile = new File(arg.substring(7));
+            } else if (arg.startsWith("-threads=")) {
+                threads = Integer.parseInt(arg.substring(9));
+            } else if (arg.startsWith("-cache=")) {
+                if (cacheFile != null) {
+                    throw new IllegalArgumentException("Argument 'cache' must not be specified twice: " + Arrays.toString(args));
+                }
+                cacheFile = new File(arg.substring(7));
             } else {
                 throw new IllegalArgumentException("Unknown argument: " + arg);
             }
@@ -152,7 +178,10 @@ public class BeanCodeGen {
             config.setDefaultStyle(defaultStyle);
         }
         config.setGeneratedAnno(generatedAnno);
-        return new BeanCodeGen(files, config, verbosity, write);
+        if (threads == 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        return new BeanCodeGen(files, config, verbosity, write, indexFile, threads, cacheFile);
     }
 
     /**
@@ -196,6 +225,12 @@ public class BeanCodeGen {
     private final int verbosity;
     /** Whether to write or not. */
     private final boolean write;
+    /** The index file to write, null if no index. */
+    private final File indexFile;
+    /** The maximum number of threads to use. */
+    private final int threads;
+    /** The cache file, null if no cache. */
+    private final File cacheFile;
 
     /**
      * Creates the generator for a single bean.
@@ -208,15 +243,72 @@ public class BeanCodeGen {
      * @param write  whether to write or not
      */
     public BeanCodeGen(List<File> files, BeanGenConfig config, int verbosity, boolean write) {
+        this(files, config, verbosity, write, null);
+    }
+
+    /**
+     * Creates the generator for a single bean, writing an index of the beans.
+     * <p>
+     * The index lists the fully qualified name of each bean found, one per line, sorted.
+     * When placed at {@code META-INF/org/joda/beans/JodaBeans.index} in the output,
+     * it allows the meta-beans to be preloaded using {@link org.joda.beans.MetaBean#preload(ClassLoader)}.
+     * <p>
+     * To generate, use {@link #process()}.
+     * 
+     * @param files  the files to process, not null
+     * @param config  the configuration to use, not null
+     * @param verbosity  the verbosity, from 0 to 3
+     * @param write  whether to write or not
+     * @param indexFile  the index file to write, null if no index
+     */
+    public BeanCodeGen(List<File> files, BeanGenConfig config, int verbosity, boolean write, File indexFile) {
+        this(files, config, verbosity, write, indexFile, Runtime.getRuntime().availableProcessors(), null);
+    }
+
+    /**
+     * Creates the generator for a set of beans, processing files concurrently and skipping unchanged files.
+     * <p>
+     * The files are processed using a pool of up to the specified number of threads.
+     * The output and results are the same as processing the files one at a time.
+     * <p>
+     * The cache file, if specified, holds a hash of the content of each file known to be up to date,
+     * together with a fingerprint of the configuration.
+     * Files whose content matches the cache are not parsed or generated.
+     * The whole cache is ignored if the configuration changes.
+     * <p>
+     * To generate, use {@link #process()}.
+     * 
+     * @param files  the files to process, not null
+     * @param config  the configuration to use, not null
+     * @param verbosity  the verbosity, from 0 to 3
+     * @param write  whether to write or not
+     * @param indexFile  the index file to write, null if no index
+     * @param threads  the maximum number of threads to use, one or greater
+     * @param cacheFile  the cache file to use, null if no cache
+     */
+    public BeanCodeGen(
+            List<File> files,
+            BeanGenConfig config,
+            int verbosity,
+            boolean write,
+            File indexFile,
+            int threads,
+            File cacheFile) {
         JodaBeanUtils.notNull(files, "files");
         JodaBeanUtils.notNull(config, "config");
         if (verbosity < 0 || verbosity > 3) {
             throw new IllegalArgumentException("Invalid verbosity: " + verbosity);
         }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Invalid threads: " + threads);
+        }
         this.files = files;
         this.config = config;
         this.verbosity = verbosity;
         this.write = write;
+        this.indexFile = indexFile;
+        this.threads = threads;
+        this.cacheFile = cacheFile;
     }
 
     //-----------------------------------------------------------------------
@@ -229,11 +321,7 @@ public class BeanCodeGen {
      * @throws Exception if an error occurs
      */
     public int process() throws Exception {
-        int changed = 0;
-        for (File child : files) {
-            changed += (processFile(child) != null ? 1 : 0);
-        }
-        return changed;
+        return processFiles().size();
     }
 
     /**
@@ -245,26 +333,114 @@ public class BeanCodeGen {
      * @throws Exception if an error occurs
      */
     public List<File> processFiles() throws Exception {
+        long start = System.nanoTime();
+        PhaseTimes times = new PhaseTimes();
+        BeanCodeGenCache cache = (cacheFile != null ?
+                BeanCodeGenCache.load(cacheFile, config.fingerprint()) :
+                BeanCodeGenCache.empty(""));
+        List<FileResult> results = processAll(cache, times);
         List<File> changed = new ArrayList<>();
-        for (File child : files) {
-            File file = processFile(child);
-            if (file != null) {
-                changed.add(file);
+        Set<String> beanNames = new TreeSet<>();
+        Map<File, BeanCodeGenCache.Entry> updated = new LinkedHashMap<>();
+        int skipped = 0;
+        for (FileResult result : results) {
+            System.out.print(result.log);
+            if (result.beanName != null) {
+                beanNames.add(result.beanName);
+            }
+            if (result.changed) {
+                changed.add(result.file);
+            }
+            if (result.hash != null) {
+                updated.put(result.file, new BeanCodeGenCache.Entry(result.hash, result.beanName));
+            }
+            if (result.skipped) {
+                skipped++;
             }
         }
+        if (indexFile != null) {
+            writeIndex(beanNames);
+        }
+        if (cacheFile != null && write) {
+            cache.save(cacheFile, updated);
+        }
+        if (verbosity >= 2) {
+            System.out.println("Processed " + results.size() + " files, " + skipped + " unchanged and skipped, in " +
+                    millis(System.nanoTime() - start) + "ms (read " + millis(times.read.get()) +
+                    "ms, parse " + millis(times.parse.get()) +
+                    "ms, generate " + millis(times.generate.get()) +
+                    "ms, write " + millis(times.write.get()) + "ms)");
+        }
         return changed;
     }
 
+    // processes all the files, returning the results in the order of the files
+    private List<FileResult> processAll(BeanCodeGenCache cache, PhaseTimes times) throws Exception {
+        List<FileResult> results = new ArrayList<>(files.size());
+        int poolSize = Math.min(threads, files.size());
+        if (poolSize <= 1) {
+            for (File file : files) {
+                results.add(processFile(file, cache, times));
+            }
+            return results;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "BeanCodeGen");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<FileResult>> futures = new ArrayList<>(files.size());
+            for (File file : files) {
+                futures.add(executor.submit(() -> processFile(file, cache, times)));
+            }
+            for (Future<FileResult> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException ex) {
+                    if (ex.getCause() instanceof Exception) {
+                        throw (Exception) ex.getCause();
+                    }
+                    throw ex;
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Processes the bean, generating the code.
+     * <p>
+     * This is called concurrently, thus the messages are captured in the result.
      * 
      * @param file  the file to process, not null
-     * @return not-null if changed
+     * @param cache  the cache, not null
+     * @param times  the times taken by each phase, added to, not null
+     * @return the result, not null
      * @throws Exception if an error occurs
      */
-    private File processFile(File file) throws Exception {
-        List<String> original = readFile(file);
+    private FileResult processFile(File file, BeanCodeGenCache cache, PhaseTimes times) throws Exception {
+        FileResult result = new FileResult(file);
+        long start = System.nanoTime();
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        String hash = (cacheFile != null ? BeanCodeGenCache.hash(bytes) : null);
+        BeanCodeGenCache.Entry entry = (hash != null ? cache.find(file, hash) : null);
+        if (entry != null) {
+            times.read.addAndGet(System.nanoTime() - start);
+            if (verbosity == 3) {
+                result.log.append(file).append("  [unchanged]").append(System.lineSeparator());
+            }
+            result.beanName = entry.beanName;
+            result.hash = hash;
+            result.skipped = true;
+            return result;
+        }
+        List<String> original = readLines(bytes);
         List<String> content = new ArrayList<>(original);
+        long parseStart = System.nanoTime();
+        times.read.addAndGet(parseStart - start);
         BeanGen gen;
         try {
             BeanParser parser = new BeanParser(file, content, config);
@@ -274,63 +450,92 @@ public class BeanCodeGen {
         } catch (Exception ex) {
             throw new BeanCodeGenException(ex.getMessage(), ex, file);
         }
-        if (gen.isBean()) {
+        long generateStart = System.nanoTime();
+        times.parse.addAndGet(generateStart - parseStart);
+        boolean bean = gen.isBean();
+        if (bean) {
+            result.beanName = beanName(file, original);
             if (verbosity >= 2) {
-                System.out.print(file + "  [processing]");
+                result.log.append(file).append("  [processing]");
             }
             gen.process();
-            if (content.equals(original) == false) {
-                if (write) {
-                    if (verbosity >= 2) {
-                        System.out.println(" [writing]");
-                    } else if (verbosity == 1) {
-                        System.out.println(file + "  [writing]");
-                    }
-                    writeFile(file, content);
-                } else {
-                    if (verbosity >= 2) {
-                        System.out.println(" [changed not written]");
-                    } else if (verbosity == 1) {
-                        System.out.println(file + "  [changed not written]");
-                    }
-                }
-                return file;
-            } else {
-                if (verbosity >= 2) {
-                    System.out.println(" [no change]");
-                }
-            }
         } else {
             gen.processNonBean();
-            if (!content.equals(original)) {
-                if (write) {
-                    if (verbosity >= 2) {
-                        System.out.println(" [writing]");
-                    } else if (verbosity == 1) {
-                        System.out.println(file + "  [writing]");
-                    }
-                    writeFile(file, content);
-                } else {
-                    if (verbosity >= 2) {
-                        System.out.println(" [changed not written]");
-                    } else if (verbosity == 1) {
-                        System.out.println(file + "  [changed not written]");
-                    }
+        }
+        long writeStart = System.nanoTime();
+        times.generate.addAndGet(writeStart - generateStart);
+        if (content.equals(original) == false) {
+            if (write) {
+                if (bean && verbosity >= 2) {
+                    result.log.append(" [writing]").append(System.lineSeparator());
+                } else if (verbosity >= 1) {
+                    result.log.append(file).append("  [writing]").append(System.lineSeparator());
                 }
-                return file;
+                byte[] output = toBytes(content);
+                Files.write(file.toPath(), output);
+                result.hash = (hash != null ? BeanCodeGenCache.hash(output) : null);
             } else {
-                if (verbosity == 3) {
-                    System.out.println(file + "  [ignored]");
+                if (bean && verbosity >= 2) {
+                    result.log.append(" [changed not written]").append(System.lineSeparator());
+                } else if (verbosity >= 1) {
+                    result.log.append(file).append("  [changed not written]").append(System.lineSeparator());
                 }
             }
+            result.changed = true;
+            times.write.addAndGet(System.nanoTime() - writeStart);
+        } else {
+            if (bean && verbosity >= 2) {
+                result.log.append(" [no change]").append(System.lineSeparator());
+            } else if (bean == false && verbosity == 3) {
+                result.log.append(file).append("  [ignored]").append(System.lineSeparator());
+            }
+            result.hash = hash;
+        }
+        return result;
+    }
+
+    // determines the fully qualified name of the bean from the file
+    private static String beanName(File file, List<String> content) {
+        String simpleName = file.getName().substring(0, file.getName().length() - 5);
+        for (String line : content) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith("package ") && trimmed.endsWith(";")) {
+                return trimmed.substring(8, trimmed.length() - 1).trim() + "." + simpleName;
+            }
+        }
+        return simpleName;
+    }
+
+    // writes the index, only if changed
+    private void writeIndex(Set<String> beanNames) throws Exception {
+        List<String> content = new ArrayList<>();
+        content.add("# Joda-Beans index, generated by BeanCodeGen");
+        content.addAll(beanNames);
+        if (indexFile.isFile() && readFile(indexFile).equals(content)) {
+            return;
+        }
+        if (write) {
+            if (verbosity >= 1) {
+                System.out.println(indexFile + "  [writing index]");
+            }
+            File parent = indexFile.getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+                throw new IllegalStateException("Unable to create directory: " + parent);
+            }
+            writeFile(indexFile, content);
+        } else if (verbosity >= 1) {
+            System.out.println(indexFile + "  [changed index not written]");
         }
-        return null;
     }
 
     //-----------------------------------------------------------------------
     private List<String> readFile(File file) throws Exception {
+        return readLines(Files.readAllBytes(file.toPath()));
+    }
+
+    private static List<String> readLines(byte[] bytes) throws Exception {
         List<String> content = new ArrayList<>(100);
-        try (BufferedReader is = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"))) {
+        try (BufferedReader is = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes), "UTF-8"))) {
             String line;
             while ((line = is.readLine()) != null) {
                 content.add(line);
@@ -340,11 +545,60 @@ public class BeanCodeGen {
     }
 
     private void writeFile(File file, List<String> content) throws Exception {
-        try (PrintWriter os = new PrintWriter(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8")))) {
-            for (String line : content) {
-                os.println(line);
-            }
+        Files.write(file.toPath(), toBytes(content));
+    }
+
+    // converts the lines to bytes, as per PrintWriter.println()
+    private static byte[] toBytes(List<String> content) {
+        String separator = System.lineSeparator();
+        StringBuilder buf = new StringBuilder(content.size() * 64);
+        for (String line : content) {
+            buf.append(line).append(separator);
+        }
+        return buf.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // converts nanoseconds to milliseconds
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The result of processing a single file.
+     */
+    private static final class FileResult {
+        /** The file. */
+        private final File file;
+        /** The messages to output. */
+        private final StringBuilder log = new StringBuilder();
+        /** The bean name, null if not a bean. */
+        private String beanName;
+        /** Whether the file changed. */
+        private boolean changed;
+        /** Whether the file was skipped as unchanged. */
+        private boolean skipped;
+        /** The hash of the up to date content, null if not known. */
+        private String hash;
+
+        // creates an instance
+        private FileResult(File file) {
+            this.file = file;
         }
     }
 
+    /**
+     * The total time taken by each phase across all threads.
+     */
+    private static final class PhaseTimes {
+        /** The time to read. */
+        private final AtomicLong read = new AtomicLong();
+        /** The time to parse. */
+        private final AtomicLong parse = new AtomicLong();
+        /** The time to generate. */
+        private final AtomicLong generate = new AtomicLong();
+        /** The time to write. */
+        private final AtomicLong write = new AtomicLong();
+    }
+
 }
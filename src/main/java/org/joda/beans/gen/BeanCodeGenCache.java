@@ -0,0 +1,242 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.gen;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The on-disk cache of the code generator, allowing unchanged files to be skipped.
+ * <p>
+ * The cache holds the hash of the content of each file that is known to be up to date,
+ * together with the bean name found in the file.
+ * The cache is only valid for the generator build and configuration fingerprint that it was created with,
+ * thus upgrading Joda-Beans discards the cache.
+ */
+final class BeanCodeGenCache {
+
+    /**
+     * The header line of the file.
+     */
+    private static final String HEADER = "# Joda-Beans code generation cache";
+    /**
+     * The hex digits.
+     */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    /**
+     * The identifier of the generator build, lazily computed.
+     */
+    private static volatile String generatorId;
+
+    /**
+     * The configuration fingerprint.
+     */
+    private final String fingerprint;
+    /**
+     * The entries, keyed by absolute file path.
+     */
+    private final Map<String, Entry> entries;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Loads the cache from a file.
+     * <p>
+     * If the file does not exist, is invalid, was created by a different generator build,
+     * or has a different fingerprint, an empty cache is returned.
+     * 
+     * @param file  the cache file, not null
+     * @param fingerprint  the configuration fingerprint, not null
+     * @return the cache, not null
+     * @throws IOException if an error occurs
+     */
+    static BeanCodeGenCache load(File file, String fingerprint) throws IOException {
+        Map<String, Entry> entries = new HashMap<>();
+        if (file.isFile()) {
+            List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+            if (lines.size() >= 3 &&
+                    lines.get(0).equals(HEADER) &&
+                    lines.get(1).equals("generator " + generatorId()) &&
+                    lines.get(2).equals("config " + fingerprint)) {
+                for (String line : lines.subList(3, lines.size())) {
+                    String[] split = line.split(" ", 3);
+                    if (split.length == 3) {
+                        String beanName = split[1].equals("-") ? null : split[1];
+                        entries.put(split[2], new Entry(split[0], beanName));
+                    }
+                }
+            }
+        }
+        return new BeanCodeGenCache(fingerprint, entries);
+    }
+
+    /**
+     * Creates an empty cache.
+     * 
+     * @param fingerprint  the configuration fingerprint, not null
+     * @return the cache, not null
+     */
+    static BeanCodeGenCache empty(String fingerprint) {
+        return new BeanCodeGenCache(fingerprint, new HashMap<>());
+    }
+
+    // creates an instance
+    private BeanCodeGenCache(String fingerprint, Map<String, Entry> entries) {
+        this.fingerprint = fingerprint;
+        this.entries = entries;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Hashes the specified content.
+     * 
+     * @param content  the content to hash, not null
+     * @return the hash in hex, not null
+     */
+    static String hash(byte[] content) {
+        try {
+            return toHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    // converts a digest to hex
+    private static String toHex(byte[] digest) {
+        char[] buf = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            buf[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+            buf[i * 2 + 1] = HEX[digest[i] & 0xF];
+        }
+        return new String(buf);
+    }
+
+    /**
+     * Gets an identifier of the generator build.
+     * <p>
+     * This is a hash of the jar file, or of the generator class files when running from a directory.
+     * The implementation version is used if the code source cannot be read.
+     * 
+     * @return the identifier, not null
+     */
+    static String generatorId() {
+        String id = generatorId;
+        if (id == null) {
+            id = computeGeneratorId();
+            generatorId = id;
+        }
+        return id;
+    }
+
+    // hashes the code source containing the generator
+    private static String computeGeneratorId() {
+        try {
+            CodeSource source = BeanCodeGenCache.class.getProtectionDomain().getCodeSource();
+            URL location = source != null ? source.getLocation() : null;
+            if (location != null && location.getProtocol().equals("file")) {
+                Path path = Paths.get(location.toURI());
+                if (Files.isRegularFile(path)) {
+                    return hash(Files.readAllBytes(path));
+                }
+                Path dir = path.resolve(BeanCodeGenCache.class.getPackage().getName().replace('.', '/'));
+                if (Files.isDirectory(dir)) {
+                    List<Path> files;
+                    try (Stream<Path> stream = Files.list(dir)) {
+                        files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                    }
+                    MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                    for (Path file : files) {
+                        digest.update(file.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+                        digest.update(Files.readAllBytes(file));
+                    }
+                    return toHex(digest.digest());
+                }
+            }
+        } catch (IOException | URISyntaxException | NoSuchAlgorithmException | RuntimeException ex) {
+            // fall back to the version
+        }
+        String version = BeanCodeGenCache.class.getPackage().getImplementationVersion();
+        return version != null ? version : "unknown";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the entry for a file if the content is unchanged.
+     * 
+     * @param file  the file, not null
+     * @param hash  the hash of the current content, not null
+     * @return the entry, null if not found or changed
+     */
+    Entry find(File file, String hash) {
+        Entry entry = entries.get(file.getAbsolutePath());
+        return entry != null && entry.hash.equals(hash) ? entry : null;
+    }
+
+    /**
+     * Saves the cache to a file, containing the specified entries.
+     * 
+     * @param file  the cache file, not null
+     * @param updated  the entries to save, keyed by file, not null
+     * @throws IOException if an error occurs
+     */
+    void save(File file, Map<File, Entry> updated) throws IOException {
+        List<String> lines = new ArrayList<>(updated.size() + 3);
+        lines.add(HEADER);
+        lines.add("generator " + generatorId());
+        lines.add("config " + fingerprint);
+        for (Map.Entry<File, Entry> entry : updated.entrySet()) {
+            String beanName = entry.getValue().beanName;
+            lines.add(entry.getValue().hash + " " + (beanName != null ? beanName : "-") + " " + entry.getKey().getAbsolutePath());
+        }
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IllegalStateException("Unable to create directory: " + parent);
+        }
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * An entry in the cache.
+     */
+    static final class Entry {
+        /** The hash of the content. */
+        final String hash;
+        /** The bean name, null if not a bean. */
+        final String beanName;
+
+        // creates an instance
+        Entry(String hash, String beanName) {
+            this.hash = hash;
+            this.beanName = beanName;
+        }
+    }
+
+}
@@ -16,6 +16,7 @@
 package org.joda.beans.gen;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -43,6 +44,12 @@ class BeanData {
     private String factoryName;
     /** Whether to cache the hash code. */
     private boolean cacheHashCode;
+    /** Whether to generate a serialization codec. */
+    private boolean codec;
+    /** Whether to generate 'with' methods. */
+    private boolean withMethods;
+    /** The names of the packed boolean properties. */
+    private List<String> packedFlags = Collections.emptyList();
     /** Whether the class is immutable. */
     private boolean immutable;
     /** Whether the class can be constructed. */
@@ -422,6 +429,73 @@ class BeanData {
         this.cacheHashCode = cacheHashCode;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets whether to generate a serialization codec.
+     * @return the flag
+     */
+    public boolean isCodec() {
+        return codec;
+    }
+
+    /**
+     * Sets whether to generate a serialization codec.
+     * @param codec  the flag
+     */
+    public void setCodec(boolean codec) {
+        this.codec = codec;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets whether to generate 'with' methods.
+     * @return the flag
+     */
+    public boolean isWithMethods() {
+        return withMethods;
+    }
+
+    /**
+     * Sets whether to generate 'with' methods.
+     * @param withMethods  the flag
+     */
+    public void setWithMethods(boolean withMethods) {
+        this.withMethods = withMethods;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the names of the packed boolean properties.
+     * @return the names, not null
+     */
+    public List<String> getPackedFlags() {
+        return packedFlags;
+    }
+
+    /**
+     * Sets the names of the packed boolean properties.
+     * @param packedFlags  the names, not null
+     */
+    public void setPackedFlags(List<String> packedFlags) {
+        this.packedFlags = packedFlags;
+    }
+
+    /**
+     * Checks if there are packed boolean properties.
+     * @return true if there are packed boolean properties
+     */
+    public boolean isPackedFlags() {
+        return packedFlags.isEmpty() == false;
+    }
+
+    /**
+     * Gets the type of the field storing the packed boolean properties.
+     * @return the type, 'int' or 'long'
+     */
+    public String getPackedFlagsType() {
+        return packedFlags.size() > 32 ? "long" : "int";
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets whether property change support is needed.
@@ -140,4 +140,44 @@ public @interface BeanDefinition {
      */
     boolean cacheHashCode() default false;
 
+    /**
+     * Whether to generate a serialization codec.
+     * <p>
+     * Setting this to true will cause a codec to be generated that reads and writes the properties
+     * of the bean directly when using the standard binary and JSON formats.
+     * The codec is registered with {@code SerBeanCodec} and used automatically.
+     * The setting only applies to immutable beans that are not subclasses, generic or light.
+     * 
+     * @return true if a serialization codec is to be generated
+     */
+    boolean codec() default false;
+
+    /**
+     * Whether to generate 'with' methods.
+     * <p>
+     * Setting this to true will cause a {@code withXxx(value)} method to be generated for each property.
+     * The method returns a copy of the bean with the property changed, created by calling the constructor
+     * directly rather than via the builder.
+     * The setting only applies to final immutable beans that are constructed using arguments
+     * and that do not have an {@link ImmutablePreBuild} method.
+     * 
+     * @return true if 'with' methods are to be generated
+     */
+    boolean withMethods() default false;
+
+    /**
+     * The names of boolean properties to be stored as bits in a single field.
+     * <p>
+     * Each name in this comma separated list defines a {@code boolean} property that is not
+     * declared as a field. Instead, the values are packed into a generated {@code int} field,
+     * or a {@code long} field if there are more than 32 names, reducing the memory used by the bean.
+     * The getters, meta-properties, builder, equals, hashCode and serialized form of the properties
+     * are the same as for a {@code boolean} field. The properties follow those declared as fields.
+     * <p>
+     * This may only be used on final immutable beans that are constructed using arguments.
+     * 
+     * @return the comma separated names of the packed boolean properties, empty if none
+     */
+    String packedFlags() default "";
+
 }
@@ -18,6 +18,7 @@ package org.joda.beans.gen;
 import static java.util.stream.Collectors.toList;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -25,6 +26,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -48,6 +50,7 @@ import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 import org.joda.beans.impl.direct.MinimalMetaBean;
 import org.joda.beans.impl.light.LightMetaBean;
+import org.joda.beans.ser.SerBeanCodec;
 
 /**
  * Code generator for a bean.
@@ -60,6 +63,8 @@ class BeanGen {
     static final int CONSTRUCTOR_BY_BUILDER = 1;
     /** Constructor style for argument-based. */
     static final int CONSTRUCTOR_BY_ARGS = 2;
+    /** The name of the field storing packed boolean properties, excluding any prefix. */
+    static final String PACKED_FLAGS_FIELD = "packedFlags";
     /** Class constant, avoiding module dependency in Java 9. */
     private static final Class<?> CLASS_CONSTRUCTOR_PROPERTIES;
     /** Class constant, avoiding module dependency in Java 9. */
@@ -91,6 +96,8 @@ class BeanGen {
         PRIMITIVE_EQUALS.add("long");
         // not float or double, as Double.equals is not the same as double ==
     }
+    /** The primitive types that have accessors avoiding boxing. */
+    private static final List<String> PRIMITIVE_ACCESSOR_TYPES = Arrays.asList("int", "long", "double", "boolean");
 
     /** The content to process. */
     private final File file;
@@ -160,6 +167,7 @@ class BeanGen {
             generateSerializationVersionId();
             generatePropertyChangeSupportField();
             generateHashCodeField();
+            generatePackedFlagsField();
             generateFactory();
             generateImmutableBuilderMethod();
             generateArgBasedConstructor();
@@ -174,6 +182,7 @@ class BeanGen {
             generateToString();
             generateMetaClass();
             generateBuilderClass();
+            generateCodecClass();
             resolveImports();
             resolveIndents();
         }
@@ -440,6 +449,9 @@ class BeanGen {
                         addLines(prop.generateConstructorAssign(""));
                     }
                 }
+                if (data.isPackedFlags()) {
+                    generatePackedFlagsAssign(nonDerived);
+                }
             }
             if (data.getImmutableValidator() != null) {
                 addLine(2, data.getImmutableValidator() + "();");
@@ -449,6 +461,20 @@ class BeanGen {
         }
     }
 
+    private void generatePackedFlagsAssign(List<PropertyGen> nonDerived) {
+        List<PropertyGen> packed = new ArrayList<>();
+        for (PropertyGen prop : nonDerived) {
+            if (prop.getData().isPacked()) {
+                packed.add(prop);
+            }
+        }
+        addLine(2, "this." + config.getPrefix() + PACKED_FLAGS_FIELD + " =");
+        for (int i = 0; i < packed.size(); i++) {
+            PropertyData prop = packed.get(i).getData();
+            addLine(4, "(" + prop.getPropertyName() + " ? " + prop.getPackedMask() + " : 0)" + join(i, packed, " |", ";"));
+        }
+    }
+
     //-----------------------------------------------------------------------
     private void generateMeta() {
         if (data.isBeanStyleLightOrMinimal()) {
@@ -607,6 +633,10 @@ class BeanGen {
             addLine(1, "static {");
             data.ensureImport(MetaBean.class);
             addLine(2, "MetaBean.register(" + data.getTypeRaw() + ".Meta.INSTANCE);");
+            if (data.isCodec()) {
+                data.ensureImport(SerBeanCodec.class);
+                addLine(2, "SerBeanCodec.register(new Codec());");
+            }
             addLine(1, "}");
             addBlankLine();
         }
@@ -698,6 +728,16 @@ class BeanGen {
         }
     }
 
+    private void generatePackedFlagsField() {
+        if (data.isPackedFlags()) {
+            addLine(1, "/**");
+            addLine(1, " * The packed boolean properties, one bit per property.");
+            addLine(1, " */");
+            addLine(1, "private final " + data.getPackedFlagsType() + " " + config.getPrefix() + PACKED_FLAGS_FIELD + ";");
+            addBlankLine();
+        }
+    }
+
     private void generateMetaBean() {
         if (data.isMetaScopePrivate() || data.isBeanStyleMinimal()) {
             addLine(1, "@Override");
@@ -739,6 +779,9 @@ class BeanGen {
             if (data.isMutable()) {
                 addLines(prop.generateSetter());
             }
+            if (data.isWithMethods() && prop.getData().isDerived() == false) {
+                addLines(prop.generateWithMethod(nonDerivedProperties()));
+            }
             if (data.isBeanStyleGenerateProperties()) {
                 addLines(prop.generateProperty());
             }
@@ -816,17 +859,28 @@ class BeanGen {
             }
         } else {
             addLine(3, data.getTypeWildcard() + " other = (" + data.getTypeWildcard() + ") obj;");
-            for (int i = 0; i < nonDerived.size(); i++) {
-                PropertyGen prop = nonDerived.get(i);
+            List<String> comparisons = new ArrayList<>();
+            for (PropertyGen prop : nonDerived) {
+                if (prop.getData().isPacked()) {
+                    // all packed properties are compared at once
+                    if (prop.getData().getPackedIndex() == 0) {
+                        String field = config.getPrefix() + PACKED_FLAGS_FIELD;
+                        comparisons.add("(" + field + " == other." + field + ")");
+                    }
+                    continue;
+                }
                 String getter = equalsHashCodeFieldAccessor(prop);
                 data.ensureImport(JodaBeanUtils.class);
                 String equals = "JodaBeanUtils.equal(" + getter + ", other." + getter + ")";
                 if (PRIMITIVE_EQUALS.contains(prop.getData().getType())) {
                     equals = "(" + getter + " == other." + getter + ")";
                 }
+                comparisons.add(equals);
+            }
+            for (int i = 0; i < comparisons.size(); i++) {
                 addLine(
-                        0, (i == 0 ? "\t\t\treturn " : "\t\t\t\t\t") + equals +
-                        (data.isSubClass() || i < nonDerived.size() - 1 ? " &&" : ";"));
+                        0, (i == 0 ? "\t\t\treturn " : "\t\t\t\t\t") + comparisons.get(i) +
+                        (data.isSubClass() || i < comparisons.size() - 1 ? " &&" : ";"));
             }
             if (data.isSubClass()) {
                 addLine(5, "super.equals(obj);");
@@ -1022,7 +1076,9 @@ class BeanGen {
         generateMetaPropertyMethods();
         generateIndentedSeparator();
         generateMetaGetPropertyValue();
+        generateMetaGetPropertyValueByIndex();
         generateMetaSetPropertyValue();
+        generateMetaPrimitivePropertyValues();
         generateMetaValidate();
         addLine(1, "}");
         addBlankLine();
@@ -1156,6 +1212,30 @@ class BeanGen {
         addBlankLine();
     }
 
+    private void generateMetaGetPropertyValueByIndex() {
+        if (properties.size() == 0) {
+            return;
+        }
+        addLine(2, "@Override");
+        addLine(2, "protected Object propertyGet(Bean bean, int index, boolean quiet) {");
+        addLine(3, "switch (" + indexSwitchExpression(config.getPrefix() + "metaPropertyMap$.size()") + ") {");
+        for (int i = 0; i < properties.size(); i++) {
+            addLines(properties.get(i).generatePropertyGetIndexCase(i));
+        }
+        addLine(3, "}");
+        addLine(3, "return super.propertyGet(bean, index, quiet);");
+        addLine(2, "}");
+        addBlankLine();
+    }
+
+    // the index of the properties of this class, which follow those of the superclass
+    private String indexSwitchExpression(String metaPropertyCount) {
+        if (data.isSubClass()) {
+            return "index - (" + metaPropertyCount + " - " + properties.size() + ")";
+        }
+        return "index";
+    }
+
     private void generateMetaSetPropertyValue() {
         if (properties.size() == 0) {
             return;
@@ -1194,6 +1274,63 @@ class BeanGen {
         addBlankLine();
     }
 
+    private void generateMetaPrimitivePropertyValues() {
+        for (String type : PRIMITIVE_ACCESSOR_TYPES) {
+            generateMetaGetPrimitivePropertyValue(type);
+        }
+        if (data.isImmutable() == false) {
+            for (String type : PRIMITIVE_ACCESSOR_TYPES) {
+                generateMetaSetPrimitivePropertyValue(type);
+            }
+        }
+    }
+
+    private void generateMetaGetPrimitivePropertyValue(String type) {
+        List<PropertyGen> primitives = properties.stream()
+                .filter(prop -> prop.isPrimitive(type) && prop.getData().getStyle().isReadable())
+                .collect(toList());
+        if (primitives.isEmpty()) {
+            return;
+        }
+        String suffix = Character.toUpperCase(type.charAt(0)) + type.substring(1);
+        data.ensureImport(Bean.class);
+        addLine(2, "@Override");
+        addLine(2, "protected " + type + " propertyGet" + suffix + "(Bean bean, String propertyName) {");
+        addLine(3, "switch (propertyName.hashCode()) {");
+        for (PropertyGen prop : primitives) {
+            addLines(prop.generatePropertyGetPrimitiveCase());
+        }
+        addLine(3, "}");
+        addLine(3, "return super.propertyGet" + suffix + "(bean, propertyName);");
+        addLine(2, "}");
+        addBlankLine();
+    }
+
+    private void generateMetaSetPrimitivePropertyValue(String type) {
+        List<PropertyGen> primitives = properties.stream()
+                .filter(prop -> prop.isPrimitive(type) && prop.getData().getStyle().isWritable() &&
+                        prop.getData().getSetterGen().generateSetInvoke(prop.getData(), "newValue") != null)
+                .collect(toList());
+        if (primitives.isEmpty()) {
+            return;
+        }
+        String suffix = Character.toUpperCase(type.charAt(0)) + type.substring(1);
+        data.ensureImport(Bean.class);
+        if (data.isTypeGeneric()) {
+            addLine(2, "@SuppressWarnings(\"unchecked\")");
+        }
+        addLine(2, "@Override");
+        addLine(2, "protected void propertySet" + suffix + "(Bean bean, String propertyName, " + type + " newValue) {");
+        addLine(3, "switch (propertyName.hashCode()) {");
+        for (PropertyGen prop : primitives) {
+            addLines(prop.generatePropertySetPrimitiveCase());
+        }
+        addLine(3, "}");
+        addLine(3, "super.propertySet" + suffix + "(bean, propertyName, newValue);");
+        addLine(2, "}");
+        addBlankLine();
+    }
+
     private void generateMetaValidate() {
         if (data.isValidated() == false || data.isImmutable()) {
             return;
@@ -1261,7 +1398,9 @@ class BeanGen {
         generateIndentedSeparator();
         generateBuilderGet();
         generateBuilderSet();
+        generateBuilderSetByIndex();
         generateBuilderOtherSets();
+        generateBuilderPrimitiveSets();
         if (data.isConstructable()) {
             generateBuilderBuild();
         }
@@ -1273,6 +1412,89 @@ class BeanGen {
         addBlankLine();
     }
 
+    //-----------------------------------------------------------------------
+    private void generateCodecClass() {
+        if (data.isCodec() == false) {
+            return;
+        }
+        List<PropertyGen> nonDerived = nonDerivedProperties();
+        data.ensureImport(SerBeanCodec.class);
+        generateSeparator();
+        addLine(1, "/**");
+        addLine(1, " * The serialization codec for {@code " + data.getTypeRaw() + "}.");
+        addLine(1, " */");
+        generateGenerated(1);
+        addLine(1, "private static final class Codec extends SerBeanCodec<" + data.getTypeRaw() + "> {");
+        addBlankLine();
+        addLine(2, "/**");
+        addLine(2, " * Restricted constructor.");
+        addLine(2, " */");
+        addLine(2, "private Codec() {");
+        if (nonDerived.isEmpty()) {
+            addLine(3, "super(" + data.getTypeRaw() + ".Meta.INSTANCE);");
+        } else {
+            addLine(3, "super(" + data.getTypeRaw() + ".Meta.INSTANCE,");
+            for (int i = 0; i < nonDerived.size(); i++) {
+                addLine(5, "\"" + nonDerived.get(i).getData().getPropertyName() + "\"" + joinComma(i, nonDerived, ");"));
+            }
+        }
+        addLine(2, "}");
+        addBlankLine();
+        generateIndentedSeparator();
+        addLine(2, "@Override");
+        addLine(2, "public int index(String propertyName) {");
+        if (nonDerived.isEmpty()) {
+            addLine(3, "return -1;");
+        } else {
+            addLine(3, "switch (propertyName) {");
+            for (int i = 0; i < nonDerived.size(); i++) {
+                addLines(nonDerived.get(i).generateCodecIndexCase(i));
+            }
+            addLine(4, "default:");
+            addLine(5, "return -1;");
+            addLine(3, "}");
+        }
+        addLine(2, "}");
+        addBlankLine();
+        data.ensureImport(IOException.class);
+        addLine(2, "@Override");
+        addLine(2, "public void write(" + data.getTypeRaw() + " bean, Output output) throws IOException {");
+        for (int i = 0; i < nonDerived.size(); i++) {
+            addLine(3, nonDerived.get(i).generateCodecWrite(i));
+        }
+        addLine(2, "}");
+        addBlankLine();
+        for (String suffix : Arrays.asList("String", "Int", "Long", "Double", "Boolean")) {
+            generateCodecSet(nonDerived, suffix);
+        }
+        addLine(1, "}");
+        addBlankLine();
+    }
+
+    private void generateCodecSet(List<PropertyGen> nonDerived, String suffix) {
+        String type = suffix.equals("String") ? "String" : suffix.toLowerCase(Locale.ENGLISH);
+        boolean found = false;
+        for (int i = 0; i < nonDerived.size(); i++) {
+            if (nonDerived.get(i).getCodecSuffix().equals(suffix)) {
+                if (found == false) {
+                    data.ensureImport(BeanBuilder.class);
+                    addLine(2, "@Override");
+                    addLine(2, "public void set" + suffix + "(BeanBuilder<?> builder, int index, " + type + " value) {");
+                    addLine(3, "switch (index) {");
+                    found = true;
+                }
+                addLines(nonDerived.get(i).generateCodecSetCase(i));
+            }
+        }
+        if (found) {
+            addLine(4, "default:");
+            addLine(5, "super.set" + suffix + "(builder, index, value);");
+            addLine(3, "}");
+            addLine(2, "}");
+            addBlankLine();
+        }
+    }
+
     private void generateBuilderConstructorNoArgs() {
         addLine(2, "/**");
         addLine(2, " * Restricted constructor.");
@@ -1380,6 +1602,34 @@ class BeanGen {
         addBlankLine();
     }
 
+    private void generateBuilderSetByIndex() {
+        if (data.isBeanStyleLightOrMinimal() || nonDerivedProperties().isEmpty()) {
+            return;
+        }
+        boolean generics = data.getProperties().stream()
+                .filter(p -> p.isGeneric() && p.isGenericWildcardParamType() == false)
+                .findAny()
+                .isPresent();
+        if (generics) {
+            addLine(2, "@SuppressWarnings(\"unchecked\")");
+        }
+        addLine(2, "@Override");
+        addLine(2, "public Builder" + data.getTypeGenericName(true) + " set(int index, Object newValue) {");
+        addLine(3, "switch (" + indexSwitchExpression("Meta.INSTANCE.metaPropertyCount()") + ") {");
+        for (int i = 0; i < properties.size(); i++) {
+            if (properties.get(i).getData().isDerived() == false) {
+                addLines(properties.get(i).generateBuilderFieldSetIndexCase(i));
+            }
+        }
+        addLine(4, "default:");
+        addLine(5, "super.set(index, newValue);");
+        addLine(5, "break;");
+        addLine(3, "}");
+        addLine(3, "return this;");
+        addLine(2, "}");
+        addBlankLine();
+    }
+
     private void generateBuilderOtherSets() {
         if (data.isEffectiveBuilderScopeVisible()) {
             addLine(2, "@Override");
@@ -1391,6 +1641,34 @@ class BeanGen {
         }
     }
 
+    private void generateBuilderPrimitiveSets() {
+        for (String type : PRIMITIVE_ACCESSOR_TYPES) {
+            generateBuilderPrimitiveSet(type);
+        }
+    }
+
+    private void generateBuilderPrimitiveSet(String type) {
+        List<PropertyGen> primitives = nonDerivedProperties().stream()
+                .filter(prop -> prop.isPrimitive(type) && prop.isBuilderPrimitive())
+                .collect(toList());
+        if (primitives.isEmpty()) {
+            return;
+        }
+        String suffix = Character.toUpperCase(type.charAt(0)) + type.substring(1);
+        data.ensureImport(MetaProperty.class);
+        addLine(2, "@Override");
+        addLine(2, "public Builder" + data.getTypeGenericName(true) + " set" + suffix + "(MetaProperty<?> property, " + type + " value) {");
+        addLine(3, "switch (property.name().hashCode()) {");
+        for (PropertyGen prop : primitives) {
+            addLines(prop.generateBuilderFieldSetPrimitiveCase());
+        }
+        addLine(3, "}");
+        addLine(3, "super.set" + suffix + "(property, value);");
+        addLine(3, "return this;");
+        addLine(2, "}");
+        addBlankLine();
+    }
+
     private void generateBuilderBuild() {
         List<PropertyGen> nonDerived = nonDerivedProperties();
         addLine(2, "@Override");
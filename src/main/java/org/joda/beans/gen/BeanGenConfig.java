@@ -62,6 +62,10 @@ public final class BeanGenConfig {
      * The immutable get clones.
      */
     private final Map<String, String> immutableGetClones;
+    /**
+     * The lines of the configuration file.
+     */
+    private final List<String> lines;
     /**
      * The indent to use.
      */
@@ -130,6 +134,7 @@ public final class BeanGenConfig {
     }
 
     private static BeanGenConfig parse(List<String> lines) {
+        List<String> sourceLines = new ArrayList<>(lines);
         Map<String, String> immutableCopiers = new HashMap<>();
         Map<String, String> mutableCopiers = new HashMap<>();
         Map<String, String> immutableGetClones = new HashMap<>();
@@ -265,7 +270,8 @@ public final class BeanGenConfig {
             }
             copyGenerators.put(fieldType, new CopyGen.PatternCopyGen(immutableCopier, mutableCopier));
         }
-        return new BeanGenConfig(copyGenerators, builderGenerators, builderTypes, invalidImmutableTypes, immutableVarArgs, immutableGetClones);
+        return new BeanGenConfig(
+                copyGenerators, builderGenerators, builderTypes, invalidImmutableTypes, immutableVarArgs, immutableGetClones, sourceLines);
     }
 
     //-----------------------------------------------------------------------
@@ -278,6 +284,7 @@ public final class BeanGenConfig {
      * @param invalidImmutableTypes  the invalid immutable types, not null
      * @param immutableVarArgs  the varargs code
      * @param immutableGetClones  the get clone code
+     * @param lines  the lines of the configuration file
      */
     private BeanGenConfig(
             Map<String, CopyGen> copyGenerators,
@@ -285,13 +292,15 @@ public final class BeanGenConfig {
             Map<String, String> builderTypes,
             Set<String> invalidImmutableTypes,
             Map<String, String> immutableVarArgs,
-            Map<String, String> immutableGetClones) {
+            Map<String, String> immutableGetClones,
+            List<String> lines) {
         this.copyGenerators = copyGenerators;
         this.builderGenerators = builderGenerators;
         this.builderTypes = builderTypes;
         this.invalidImmutableTypes = invalidImmutableTypes;
         this.immutableVarArgs = immutableVarArgs;
         this.immutableGetClones = immutableGetClones;
+        this.lines = lines;
     }
 
     //-----------------------------------------------------------------------
@@ -422,4 +431,24 @@ public final class BeanGenConfig {
         this.generatedAnno = generatedAnno;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets a fingerprint of the configuration.
+     * <p>
+     * The fingerprint changes whenever the configuration would alter the generated code.
+     * 
+     * @return the fingerprint, not null
+     */
+    String fingerprint() {
+        StringBuilder buf = new StringBuilder(1024);
+        for (String line : lines) {
+            buf.append(line).append('\n');
+        }
+        buf.append("indent=").append(indent).append('\n');
+        buf.append("prefix=").append(prefix).append('\n');
+        buf.append("defaultStyle=").append(defaultStyle).append('\n');
+        buf.append("generatedAnno=").append(generatedAnno).append('\n');
+        return BeanCodeGenCache.hash(buf.toString().getBytes(UTF8));
+    }
+
 }
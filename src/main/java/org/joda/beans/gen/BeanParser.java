@@ -88,6 +88,14 @@ class BeanParser {
     private static final Pattern HIERARCHY_PATTERN = Pattern.compile(".*[ ,(]hierarchy[ ]*[=][ ]*[\"]([a-zA-Z]*)[\"].*");
     /** The cacheHashCode pattern. */
     private static final Pattern CACHE_HASH_CODE_PATTERN = Pattern.compile(".*[ ,(]cacheHashCode[ ]*[=][ ]*(true|false).*");
+    /** The codec pattern. */
+    private static final Pattern CODEC_PATTERN = Pattern.compile(".*[ ,(]codec[ ]*[=][ ]*(true|false).*");
+    /** The withMethods pattern. */
+    private static final Pattern WITH_METHODS_PATTERN = Pattern.compile(".*[ ,(]withMethods[ ]*[=][ ]*(true|false).*");
+    /** The packedFlags pattern. */
+    private static final Pattern PACKED_FLAGS_PATTERN = Pattern.compile(".*[ ,(]packedFlags[ ]*[=][ ]*[\"]([a-zA-Z0-9_, ]*)[\"].*");
+    /** The packed flag name pattern. */
+    private static final Pattern PACKED_FLAG_NAME_PATTERN = Pattern.compile("[a-z][a-zA-Z0-9_]*");
     /** The cloneStyle pattern. */
     private static final Pattern CLONE_STYLE_PATTERN = Pattern.compile(".*[ ,(]cloneStyle[ ]*[=][ ]*[\"]([a-zA-Z]*)[\"].*");
 
@@ -168,6 +176,9 @@ class BeanParser {
         data.setBeanBuilderName(parseBeanBuilderName(beanDefIndex));
         data.setFactoryName(parseFactoryName(beanDefIndex));
         data.setCacheHashCode(parseCacheHashCode(beanDefIndex));
+        data.setCodec(parseCodec(beanDefIndex));
+        data.setWithMethods(parseWithMethods(beanDefIndex));
+        data.setPackedFlags(parsePackedFlags(beanDefIndex));
         data.setCloneStyle(parseCloneStyle(beanDefIndex));
         if (data.isCloneStyleValid() == false) {
             throw new BeanCodeGenException("Invalid clone style: " + data.getCloneStyle(), file, beanDefIndex);
@@ -232,6 +243,14 @@ class BeanParser {
                         "Invalid bean style: Factory method only allowed when bean is immutable", file, beanDefIndex);
             }
         }
+        if (data.isPackedFlags()) {
+            if (!data.isImmutable() || !data.isTypeFinal() || !data.isRootClass() || data.isBeanStyleLightOrMinimal() ||
+                    data.getConstructorStyle() != CONSTRUCTOR_BY_ARGS || data.getImmutableConstructor() != CONSTRUCTOR_NONE) {
+                throw new BeanCodeGenException(
+                        "Invalid bean style: Packed flags only allowed on final immutable beans constructed using arguments",
+                        file, beanDefIndex);
+            }
+        }
         properties = parseProperties(data);
         autoStartIndex = parseStartAutogen();
         autoEndIndex = parseEndAutogen();
@@ -260,6 +279,15 @@ class BeanParser {
         if (data.isCacheHashCode()) {
             data.setCacheHashCode(data.isImmutable() && data.isManualEqualsHashCode() == false);
         }
+        if (data.isCodec()) {
+            data.setCodec(data.isImmutable() && data.isRootClass() && data.isTypeGeneric() == false &&
+                    data.isBeanStyleLightOrMinimal() == false && data.isSkipBuilderGeneration() == false &&
+                    data.isConstructable());
+        }
+        if (data.isWithMethods()) {
+            data.setWithMethods(data.isImmutable() && data.isTypeFinal() &&
+                    data.getConstructorStyle() == CONSTRUCTOR_BY_ARGS && data.getImmutablePreBuild() == null);
+        }
         return new BeanGen(file, content, config, data, properties, autoStartIndex, autoEndIndex);
     }
 
@@ -392,6 +420,47 @@ class BeanParser {
         return false;
     }
 
+    private boolean parseCodec(int defLine) {
+        String line = content.get(defLine).trim();
+        Matcher matcher = CODEC_PATTERN.matcher(line);
+        if (matcher.matches()) {
+            return Boolean.valueOf(matcher.group(1));
+        }
+        return false;
+    }
+
+    private boolean parseWithMethods(int defLine) {
+        String line = content.get(defLine).trim();
+        Matcher matcher = WITH_METHODS_PATTERN.matcher(line);
+        if (matcher.matches()) {
+            return Boolean.valueOf(matcher.group(1));
+        }
+        return false;
+    }
+
+    private List<String> parsePackedFlags(int defLine) {
+        String line = content.get(defLine).trim();
+        Matcher matcher = PACKED_FLAGS_PATTERN.matcher(line);
+        if (matcher.matches() == false || matcher.group(1).trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> names = new ArrayList<>();
+        for (String name : matcher.group(1).split(",")) {
+            name = name.trim();
+            if (PACKED_FLAG_NAME_PATTERN.matcher(name).matches() == false) {
+                throw new BeanCodeGenException("Invalid packed flag name: '" + name + "'", file, defLine);
+            }
+            if (names.contains(name)) {
+                throw new BeanCodeGenException("Duplicate packed flag name: '" + name + "'", file, defLine);
+            }
+            names.add(name);
+        }
+        if (names.size() > 64) {
+            throw new BeanCodeGenException("Too many packed flags, maximum is 64", file, defLine);
+        }
+        return names;
+    }
+
     private String parseCloneStyle(int defLine) {
         String line = content.get(defLine).trim();
         Matcher matcher = CLONE_STYLE_PATTERN.matcher(line);
@@ -562,6 +631,18 @@ class BeanParser {
                 data.getProperties().add(prop.getData());
             }
         }
+        List<String> packedFlags = data.getPackedFlags();
+        for (int i = 0; i < packedFlags.size(); i++) {
+            String name = packedFlags.get(i);
+            for (PropertyGen other : props) {
+                if (other.getData().getPropertyName().equals(name)) {
+                    throw new BeanCodeGenException("Packed flag has the same name as a property: '" + name + "'", file, beanDefIndex);
+                }
+            }
+            PropertyGen prop = new PropertyParser(this).parsePacked(data, name, i, beanDefIndex);
+            props.add(prop);
+            data.getProperties().add(prop.getData());
+        }
         return props;
     }
 
@@ -118,6 +118,18 @@ abstract class CopyGen {
         }
     }
 
+    static class PackedCopyGen extends CopyGen {
+        static final CopyGen INSTANCE = new PackedCopyGen();
+        @Override
+        List<String> generateCopyToImmutable(String indent, String fromBean, PropertyData prop) {
+            return Collections.emptyList();  // all packed properties are assigned together
+        }
+        @Override
+        List<String> generateCopyToMutable(String indent, PropertyData prop, String beanToCopyFrom) {
+            return ASSIGN.generateCopyToMutable(indent, prop, beanToCopyFrom);
+        }
+    }
+
     static class NoCopyGen extends CopyGen {
         static final CopyGen INSTANCE = new NoCopyGen();
         @Override
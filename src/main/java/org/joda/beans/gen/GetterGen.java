@@ -86,6 +86,19 @@ abstract class GetterGen {
         }
     }
 
+    static final class PackedGetterGen extends GetterGen {
+        static final PackedGetterGen INSTANCE = new PackedGetterGen();
+        @Override
+        List<String> generateGetter(PropertyData prop) {
+            return doGenerateGetter(prop, "public ", "is",
+                    "(" + prop.getConfig().getPrefix() + BeanGen.PACKED_FLAGS_FIELD + " & " + prop.getPackedMask() + ") != 0");
+        }
+        @Override
+        String generateGetInvoke(PropertyData prop) {
+            return "is" + prop.getUpperName() + "()";
+        }
+    }
+
     static final class CloneNNGetterGen extends GetterGen {
         static final GetterGen PUBLIC = new CloneNNGetterGen("public ");
         static final GetterGen PROTECTED = new CloneNNGetterGen("protected ");
@@ -121,6 +121,8 @@ class PropertyData {
     private BuilderGen builderGen;
     /** The config. */
     private BeanGenConfig config;
+    /** The bit index of a packed boolean property, -1 if not packed. */
+    private int packedIndex = -1;
 
     /**
      * Constructor.
@@ -770,6 +772,42 @@ class PropertyData {
         return fieldName == null;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the bit index of a packed boolean property.
+     * @return the bit index, -1 if not packed
+     */
+    public int getPackedIndex() {
+        return packedIndex;
+    }
+
+    /**
+     * Sets the bit index of a packed boolean property.
+     * @param packedIndex  the bit index, -1 if not packed
+     */
+    public void setPackedIndex(int packedIndex) {
+        this.packedIndex = packedIndex;
+    }
+
+    /**
+     * Checks if the property is a packed boolean, stored as a bit rather than a field.
+     * @return true if packed
+     */
+    public boolean isPacked() {
+        return packedIndex >= 0;
+    }
+
+    /**
+     * Gets the bit mask of a packed boolean property, as source code.
+     * @return the mask, such as '0x4'
+     */
+    public String getPackedMask() {
+        if (bean.getPackedFlagsType().equals("long")) {
+            return "0x" + Long.toHexString(1L << packedIndex) + "L";
+        }
+        return "0x" + Integer.toHexString(1 << packedIndex);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Resolves the getter generator.
@@ -777,6 +815,10 @@ class PropertyData {
      * @param lineIndex  the line index
      */
     public void resolveGetterGen(File file, int lineIndex) {
+        if (isPacked()) {
+            getterGen = GetterGen.PackedGetterGen.INSTANCE;
+            return;
+        }
         if (getGetStyle() == null) {
             setGetStyle("");
         }
@@ -955,6 +997,8 @@ class PropertyData {
         }
         if (isDerived()) {
             copyGen = CopyGen.NoCopyGen.INSTANCE;
+        } else if (isPacked()) {
+            copyGen = CopyGen.PackedCopyGen.INSTANCE;
         } else {
             CopyGen copier = config.getCopyGenerators().get(getFieldTypeRaw());
             if (copier != null) {
@@ -141,6 +141,18 @@ class PropertyGen {
         if (data.getAlias() != null) {
             list.add("\t\t\t\tcase " + data.getAlias().hashCode() + ":  // " + data.getAlias() + " (alias)");
         }
+        generatePropertyGetCaseBody(list);
+        return list;
+    }
+
+    List<String> generatePropertyGetIndexCase(int index) {
+        List<String> list = new ArrayList<>();
+        list.add("\t\t\t\tcase " + index + ":  // " + data.getPropertyName());
+        generatePropertyGetCaseBody(list);
+        return list;
+    }
+
+    private void generatePropertyGetCaseBody(List<String> list) {
         if (data.getStyle().isReadable()) {
             list.add("\t\t\t\t\treturn ((" + data.getBean().getTypeWildcard() + ") bean)." + data.getGetterGen().generateGetInvoke(data) + ";");
         } else {
@@ -149,7 +161,6 @@ class PropertyGen {
             list.add("\t\t\t\t\t}");
             list.add("\t\t\t\t\tthrow new UnsupportedOperationException(\"Property cannot be read: " + data.getPropertyName() + "\");");
         }
-        return list;
     }
 
     List<String> generatePropertySetCase() {
@@ -171,6 +182,122 @@ class PropertyGen {
         return list;
     }
 
+    boolean isPrimitive(String primitiveType) {
+        return data.getType().equals(primitiveType);
+    }
+
+    List<String> generatePropertyGetPrimitiveCase() {
+        List<String> list = new ArrayList<>();
+        list.add("\t\t\t\tcase " + data.getPropertyName().hashCode() + ":  // " + data.getPropertyName());
+        if (data.getAlias() != null) {
+            list.add("\t\t\t\tcase " + data.getAlias().hashCode() + ":  // " + data.getAlias() + " (alias)");
+        }
+        list.add("\t\t\t\t\treturn ((" + data.getBean().getTypeWildcard() + ") bean)." + data.getGetterGen().generateGetInvoke(data) + ";");
+        return list;
+    }
+
+    List<String> generatePropertySetPrimitiveCase() {
+        List<String> list = new ArrayList<>();
+        list.add("\t\t\t\tcase " + data.getPropertyName().hashCode() + ":  // " + data.getPropertyName());
+        if (data.getAlias() != null) {
+            list.add("\t\t\t\tcase " + data.getAlias().hashCode() + ":  // " + data.getAlias() + " (alias)");
+        }
+        list.add("\t\t\t\t\t((" + data.getBean().getTypeNoExtends() + ") bean)." + data.getSetterGen().generateSetInvoke(data, "newValue") + ";");
+        list.add("\t\t\t\t\treturn;");
+        return list;
+    }
+
+    List<String> generateWithMethod(List<PropertyGen> nonDerived) {
+        BeanData bean = data.getBean();
+        String name = data.getPropertyName();
+        String field = "this." + generateFieldValue();
+        List<String> list = new ArrayList<>();
+        list.add("\t/**");
+        list.add("\t * Returns a copy of this bean with a different value for " + data.getFirstComment());
+        list.add("\t * <p>");
+        list.add("\t * The copy is created using the constructor, without a builder.");
+        list.add("\t * This bean is returned if the value is the same.");
+        list.add("\t * @param " + name + "  the new value" + data.getNotNullJavadoc());
+        list.add("\t * @return a bean based on this one with the new value, not null");
+        if (data.getDeprecatedComment() != null) {
+            list.add("\t * " + data.getDeprecatedComment());
+        }
+        list.add("\t */");
+        if (data.isDeprecated()) {
+            list.add("\t@Deprecated");
+        }
+        list.add("\tpublic " + bean.getTypeRaw() + bean.getTypeGenericName(true) + " with" + data.getUpperName() +
+                "(" + getBuilderType() + " " + name + ") {");
+        if (data.getType().equals("double")) {
+            list.add("\t\tif (Double.doubleToLongBits(" + field + ") == Double.doubleToLongBits(" + name + ")) {");
+        } else if (data.getType().equals("float")) {
+            list.add("\t\tif (Float.floatToIntBits(" + field + ") == Float.floatToIntBits(" + name + ")) {");
+        } else {
+            list.add("\t\tif (" + field + " == " + name + ") {");
+        }
+        list.add("\t\t\treturn this;");
+        list.add("\t\t}");
+        list.add("\t\treturn new " + bean.getTypeWithDiamond() + "(");
+        for (int i = 0; i < nonDerived.size(); i++) {
+            PropertyGen prop = nonDerived.get(i);
+            String arg = prop == this ? name : "this." + prop.generateFieldValue();
+            list.add("\t\t\t\t" + arg + (i < nonDerived.size() - 1 ? "," : ");"));
+        }
+        list.add("\t}");
+        list.add("");
+        return list;
+    }
+
+    String generateFieldValue() {
+        if (data.isPacked()) {
+            return data.getGetterGen().generateGetInvoke(data);
+        }
+        return data.getFieldName();
+    }
+
+    String getCodecSuffix() {
+        String type = data.getType();
+        if (type.equals(getBuilderType())) {
+            switch (type) {
+                case "String":
+                    return "String";
+                case "int":
+                    return "Int";
+                case "long":
+                    return "Long";
+                case "double":
+                    return "Double";
+                case "boolean":
+                    return "Boolean";
+                default:
+                    break;
+            }
+        }
+        return "Object";
+    }
+
+    List<String> generateCodecIndexCase(int index) {
+        List<String> list = new ArrayList<>();
+        list.add("\t\t\t\tcase \"" + data.getPropertyName() + "\":");
+        if (data.getAlias() != null) {
+            list.add("\t\t\t\tcase \"" + data.getAlias() + "\":  // alias");
+        }
+        list.add("\t\t\t\t\treturn " + index + ";");
+        return list;
+    }
+
+    String generateCodecWrite(int index) {
+        return "output.write" + getCodecSuffix() + "(" + index + ", bean." + data.getGetterGen().generateGetInvoke(data) + ");";
+    }
+
+    List<String> generateCodecSetCase(int index) {
+        List<String> list = new ArrayList<>();
+        list.add("\t\t\t\tcase " + index + ":  // " + data.getPropertyName());
+        list.add("\t\t\t\t\t((Builder) builder)." + generateBuilderFieldName() + " = value;");
+        list.add("\t\t\t\t\tbreak;");
+        return list;
+    }
+
     String generateLambdaGetter() {
         return "b -> b." + data.getGetterGen().generateGetInvoke(data);
     }
@@ -219,6 +346,29 @@ class PropertyGen {
         return list;
     }
 
+    boolean isBuilderPrimitive() {
+        return data.getType().equals(getBuilderType());
+    }
+
+    List<String> generateBuilderFieldSetPrimitiveCase() {
+        List<String> list = new ArrayList<>();
+        list.add("\t\t\t\tcase " + data.getPropertyName().hashCode() + ":  // " + data.getPropertyName());
+        if (data.getAlias() != null) {
+            list.add("\t\t\t\tcase " + data.getAlias().hashCode() + ":  // " + data.getAlias() + " (alias)");
+        }
+        list.add("\t\t\t\t\tthis." + generateBuilderFieldName() + " = value;");
+        list.add("\t\t\t\t\treturn this;");
+        return list;
+    }
+
+    List<String> generateBuilderFieldSetIndexCase(int index) {
+        List<String> list = new ArrayList<>();
+        list.add("\t\t\t\tcase " + index + ":  // " + data.getPropertyName());
+        list.add("\t\t\t\t\tthis." + generateBuilderFieldName() + " = (" + propertyType(getBuilderType()) + ") newValue;");
+        list.add("\t\t\t\t\tbreak;");
+        return list;
+    }
+
     String generateBuilderFieldName() {
         return data.getFieldName();
     }
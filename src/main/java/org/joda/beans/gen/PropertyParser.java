@@ -131,6 +131,37 @@ class PropertyParser {
         return new PropertyGen(data);
     }
 
+    PropertyGen parsePacked(BeanData beanData, String propertyName, int packedIndex, int lineIndex) {
+        PropertyData data = new PropertyData(beanData, beanParser.getConfig(), lineIndex);
+        data.setPackedIndex(packedIndex);
+        data.setAlias("");
+        data.setGetStyle("smart");
+        data.setSetStyle("smart");
+        data.setTypeStyle("smart");
+        data.setBuilderTypeStyle("smart");
+        data.setEqualsHashCodeStyle("getter");
+        data.setToStringStyle("getter");
+        data.setValidation("");
+        data.setFieldName(propertyName);
+        data.setPropertyName(propertyName);
+        data.setUpperName(makeUpperName(propertyName));
+        data.setFinal(true);
+        data.setFieldType("boolean");
+        data.setInitializer("");
+        data.resolveType();
+        data.resolveBuilderType();
+        data.resolveValidation();
+        data.resolveGetterGen(beanParser.getFile(), lineIndex);
+        data.resolveSetterGen(beanParser.getFile(), lineIndex);
+        data.resolveCopyGen(beanParser.getFile(), lineIndex);
+        data.resolveBuilderGen();
+        data.resolveEqualsHashCodeStyle(beanParser.getFile(), lineIndex);
+        data.resolveToStringStyle(beanParser.getFile(), lineIndex);
+        data.setMetaFieldName(beanParser.getFieldPrefix() + data.getPropertyName());
+        data.setFirstComment("the " + propertyName + " flag.");
+        return new PropertyGen(data);
+    }
+
     private void parseComments(List<String> content, PropertyData data) {
         List<String> comments = parseComment(content, data.getPropertyName());
         data.setFirstComment(comments.get(0));
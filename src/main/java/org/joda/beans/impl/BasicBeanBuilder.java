@@ -80,6 +80,35 @@ public class BasicBeanBuilder<T extends Bean>
         return this;
     }
 
+    @Override
+    public BeanBuilder<T> set(int index, Object value) {
+        return set(bean.metaBean().metaProperty(index), value);
+    }
+
+    @Override
+    public BeanBuilder<T> setInt(MetaProperty<?> metaProperty, int value) {
+        metaProperty.setInt(bean, value);
+        return this;
+    }
+
+    @Override
+    public BeanBuilder<T> setLong(MetaProperty<?> metaProperty, long value) {
+        metaProperty.setLong(bean, value);
+        return this;
+    }
+
+    @Override
+    public BeanBuilder<T> setDouble(MetaProperty<?> metaProperty, double value) {
+        metaProperty.setDouble(bean, value);
+        return this;
+    }
+
+    @Override
+    public BeanBuilder<T> setBoolean(MetaProperty<?> metaProperty, boolean value) {
+        metaProperty.setBoolean(bean, value);
+        return this;
+    }
+
     @Override
     public T build() {
         validate(bean);
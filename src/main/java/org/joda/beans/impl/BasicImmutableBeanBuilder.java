@@ -66,6 +66,11 @@ public abstract class BasicImmutableBeanBuilder<T extends Bean>
         return this;
     }
 
+    @Override
+    public BeanBuilder<T> set(int index, Object value) {
+        return set(meta.metaProperty(index), value);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a string that summarises the builder.
@@ -26,6 +26,8 @@ public abstract class BasicMetaProperty<P> implements MetaProperty<P> {
 
     /** The name of the property. */
     private final String name;
+    /** The index of the property plus one, zero if not yet known. */
+    private int indexPlusOne;
 
     /**
      * Constructor.
@@ -45,6 +47,25 @@ public abstract class BasicMetaProperty<P> implements MetaProperty<P> {
         return name;
     }
 
+    /**
+     * Gets the index of the property within the meta-bean.
+     * <p>
+     * The index is determined on first use and cached.
+     * Subclasses representing dynamic properties must override this method.
+     * 
+     * @return the index of the property, -1 if the property is not found in the meta-bean
+     */
+    @Override
+    public int index() {
+        // racy single-check, an int cannot be seen partially written
+        int idx = indexPlusOne;
+        if (idx == 0) {
+            idx = MetaProperty.super.index() + 1;
+            indexPlusOne = idx;
+        }
+        return idx - 1;
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public boolean equals(Object obj) {
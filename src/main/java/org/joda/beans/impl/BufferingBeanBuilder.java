@@ -21,14 +21,21 @@ import java.util.concurrent.ConcurrentMap;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
+import org.joda.beans.DynamicMetaBean;
 import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 
 /**
- * Implementation of {@code BeanBuilder} that buffers data in a local map.
+ * Implementation of {@code BeanBuilder} that buffers data locally.
  * <p>
  * This is useful for cases where the builder data might be manipulated before
  * the final build. The buffer can be directly mutated.
+ * <p>
+ * The data is held in an array indexed by the position of the property in the meta-bean.
+ * A map is only used for a {@link DynamicMetaBean}, for properties of a different meta-bean,
+ * or once {@link #getBuffer()} has been called.
+ * <p>
+ * This class is mutable and intended for use by a single thread.
  * 
  * @param <T>  the bean type
  */
@@ -40,9 +47,14 @@ public class BufferingBeanBuilder<T extends Bean>
      */
     private final MetaBean metaBean;
     /**
-     * The buffered data.
+     * The buffered data, indexed by property, null if only the map is used.
+     * A null element indicates that the property has not been set.
      */
-    private final ConcurrentMap<MetaProperty<?>, Object> buffer = new ConcurrentHashMap<>();
+    private Object[] values;
+    /**
+     * The buffered data that is not held in the array, null until needed.
+     */
+    private ConcurrentMap<MetaProperty<?>, Object> buffer;
 
     //-----------------------------------------------------------------------
     /**
@@ -66,6 +78,9 @@ public class BufferingBeanBuilder<T extends Bean>
             throw new NullPointerException("MetaBean must not be null");
         }
         this.metaBean = metaBean;
+        if (!(metaBean instanceof DynamicMetaBean)) {
+            this.values = new Object[metaBean.metaPropertyCount()];
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -82,13 +97,42 @@ public class BufferingBeanBuilder<T extends Bean>
      * Gets the buffer holding the state of the builder.
      * <p>
      * The buffer may be mutated.
+     * Once this method is called the builder holds all its state in the returned map.
      * 
      * @return the mutable buffer, not null
      */
     public ConcurrentMap<MetaProperty<?>, Object> getBuffer() {
+        ConcurrentMap<MetaProperty<?>, Object> map = map();
+        if (values != null) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    map.put(metaBean.metaProperty(i), values[i]);
+                }
+            }
+            values = null;
+        }
+        return map;
+    }
+
+    // gets the map, creating it if necessary
+    private ConcurrentMap<MetaProperty<?>, Object> map() {
+        if (buffer == null) {
+            buffer = new ConcurrentHashMap<>();
+        }
         return buffer;
     }
 
+    // finds the array index of the property, -1 if the property must be held in the map
+    private int arrayIndex(MetaProperty<?> metaProperty) {
+        if (values != null && (metaProperty.metaBean() == metaBean || metaProperty.metaBean().equals(metaBean))) {
+            int index = metaProperty.index();
+            if (index >= 0 && index < values.length) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the buffered value associated with the specified property name.
@@ -110,7 +154,11 @@ public class BufferingBeanBuilder<T extends Bean>
     @Override
     @SuppressWarnings("unchecked")
     public <P> P get(MetaProperty<P> metaProperty) {
-        return (P) getBuffer().get(metaProperty);
+        int index = arrayIndex(metaProperty);
+        if (index >= 0) {
+            return (P) values[index];
+        }
+        return buffer != null ? (P) buffer.get(metaProperty) : null;
     }
 
     //-----------------------------------------------------------------------
@@ -122,18 +170,46 @@ public class BufferingBeanBuilder<T extends Bean>
     @Override
     public BeanBuilder<T> set(MetaProperty<?> metaProperty, Object value) {
         if (value != null) {
-            // ConcurrentHashMap does not allow null values and setting to null is equivalent to not setting
-            getBuffer().put(metaProperty, value);
+            // setting to null is equivalent to not setting
+            int index = arrayIndex(metaProperty);
+            if (index >= 0) {
+                values[index] = value;
+            } else {
+                map().put(metaProperty, value);
+            }
         }
         return this;
     }
 
+    @Override
+    public BeanBuilder<T> set(int index, Object value) {
+        if (values != null) {
+            if (index < 0 || index >= values.length) {
+                throw new IndexOutOfBoundsException("Invalid property index: " + index);
+            }
+            if (value != null) {
+                values[index] = value;
+            }
+            return this;
+        }
+        return set(getMetaBean().metaProperty(index), value);
+    }
+
     @Override
     public T build() {
         @SuppressWarnings("unchecked")
         BeanBuilder<T> builder = (BeanBuilder<T>) getMetaBean().builder();
-        for (Entry<MetaProperty<?>, Object> entry : getBuffer().entrySet()) {
-            builder.set(entry.getKey(), entry.getValue());
+        if (values != null) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    builder.set(metaBean.metaProperty(i), values[i]);
+                }
+            }
+        }
+        if (buffer != null) {
+            for (Entry<MetaProperty<?>, Object> entry : buffer.entrySet()) {
+                builder.set(entry.getKey(), entry.getValue());
+            }
         }
         return builder.build();
     }
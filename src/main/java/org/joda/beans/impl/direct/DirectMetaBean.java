@@ -15,6 +15,7 @@
  */
 package org.joda.beans.impl.direct;
 
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
@@ -33,6 +34,34 @@ public abstract class DirectMetaBean implements MetaBean {
      * This constant can be used to pass into {@code setString()} to increase test coverage.
      */
     public static final String TEST_COVERAGE_STRING = "!ConstantUsedForTestCoveragePurposes!";
+    /**
+     * The meta-beans of the beans enclosing generated builders, null if not nested in a bean.
+     */
+    private static final ClassValue<MetaBean> ENCLOSING_META_BEANS = new ClassValue<MetaBean>() {
+        @Override
+        protected MetaBean computeValue(Class<?> builderClass) {
+            Class<?> enclosing = builderClass;
+            while (enclosing != null && !Bean.class.isAssignableFrom(enclosing)) {
+                enclosing = enclosing.getEnclosingClass();
+            }
+            return enclosing != null ? MetaBean.of(enclosing) : null;
+        }
+    };
+
+    /**
+     * Gets the meta-bean of the bean enclosing a generated builder.
+     * 
+     * @param builderClass  the builder class, not null
+     * @return the meta-bean, not null
+     * @throws UnsupportedOperationException if the builder is not nested within a bean
+     */
+    static MetaBean enclosingMetaBean(Class<?> builderClass) {
+        MetaBean metaBean = ENCLOSING_META_BEANS.get(builderClass);
+        if (metaBean == null) {
+            throw new UnsupportedOperationException("Builder is not nested within a bean: " + builderClass.getName());
+        }
+        return metaBean;
+    }
 
     @Override
     public boolean isBuildable() {
@@ -42,13 +71,25 @@ public abstract class DirectMetaBean implements MetaBean {
     @SuppressWarnings("unchecked")
     @Override
     public <R> MetaProperty<R> metaProperty(String propertyName) {
-        MetaProperty<?> mp = metaPropertyGet(propertyName);
+        Map<String, MetaProperty<?>> map = metaPropertyMap();
+        MetaProperty<?> mp = map instanceof DirectMetaPropertyMap ?
+                ((DirectMetaPropertyMap) map).lookup(propertyName) :
+                metaPropertyGet(propertyName);
         if (mp == null) {
             return metaPropertyNotFound(propertyName);
         }
         return (MetaProperty<R>) mp;
     }
 
+    @Override
+    public MetaProperty<?> metaProperty(int index) {
+        Map<String, MetaProperty<?>> map = metaPropertyMap();
+        if (map instanceof DirectMetaPropertyMap) {
+            return ((DirectMetaPropertyMap) map).getByIndex(index);
+        }
+        return MetaBean.super.metaProperty(index);
+    }
+
     @SuppressWarnings("unchecked")
     private <R> MetaProperty<R> metaPropertyNotFound(String propertyName) {
         if (propertyName == JodaBeanTests.TEST_COVERAGE_PROPERTY) {
@@ -88,6 +129,27 @@ public abstract class DirectMetaBean implements MetaBean {
         throw new NoSuchElementException("Unknown property: " + propertyName);
     }
 
+    @Override
+    public Object get(Bean bean, int index) {
+        return propertyGet(bean, index, false);
+    }
+
+    /**
+     * Gets the value of the property by index.
+     * <p>
+     * This implementation looks up the meta-property and calls {@link #propertyGet(Bean, String, boolean)}.
+     * Generated meta-beans override it to read their properties directly.
+     * 
+     * @param bean  the bean to query, not null
+     * @param index  the index of the property, from zero to {@code metaPropertyCount() - 1}
+     * @param quiet  true to return null if unable to read
+     * @return the value of the property, may be null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    protected Object propertyGet(Bean bean, int index, boolean quiet) {
+        return propertyGet(bean, metaProperty(index).name(), quiet);
+    }
+
     /**
      * Sets the value of the property.
      * 
@@ -105,6 +167,130 @@ public abstract class DirectMetaBean implements MetaBean {
         throw new NoSuchElementException("Unknown property: " + propertyName);
     }
 
+    /**
+     * Gets the value of an {@code int} property without boxing.
+     * <p>
+     * This implementation unboxes the result of {@link #propertyGet(Bean, String, boolean)}.
+     * Generated meta-beans override it for their {@code int} properties.
+     *
+     * @param bean  the bean to query, not null
+     * @param propertyName  the property name, not null
+     * @return the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     * @throws ClassCastException if the property is not of type {@code int}
+     */
+    protected int propertyGetInt(Bean bean, String propertyName) {
+        return (Integer) propertyGet(bean, propertyName, false);
+    }
+
+    /**
+     * Gets the value of a {@code long} property without boxing.
+     * <p>
+     * This implementation unboxes the result of {@link #propertyGet(Bean, String, boolean)}.
+     * Generated meta-beans override it for their {@code long} properties.
+     *
+     * @param bean  the bean to query, not null
+     * @param propertyName  the property name, not null
+     * @return the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     * @throws ClassCastException if the property is not of type {@code long}
+     */
+    protected long propertyGetLong(Bean bean, String propertyName) {
+        return (Long) propertyGet(bean, propertyName, false);
+    }
+
+    /**
+     * Gets the value of a {@code double} property without boxing.
+     * <p>
+     * This implementation unboxes the result of {@link #propertyGet(Bean, String, boolean)}.
+     * Generated meta-beans override it for their {@code double} properties.
+     *
+     * @param bean  the bean to query, not null
+     * @param propertyName  the property name, not null
+     * @return the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     * @throws ClassCastException if the property is not of type {@code double}
+     */
+    protected double propertyGetDouble(Bean bean, String propertyName) {
+        return (Double) propertyGet(bean, propertyName, false);
+    }
+
+    /**
+     * Gets the value of a {@code boolean} property without boxing.
+     * <p>
+     * This implementation unboxes the result of {@link #propertyGet(Bean, String, boolean)}.
+     * Generated meta-beans override it for their {@code boolean} properties.
+     *
+     * @param bean  the bean to query, not null
+     * @param propertyName  the property name, not null
+     * @return the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     * @throws ClassCastException if the property is not of type {@code boolean}
+     */
+    protected boolean propertyGetBoolean(Bean bean, String propertyName) {
+        return (Boolean) propertyGet(bean, propertyName, false);
+    }
+
+    /**
+     * Sets the value of an {@code int} property without boxing.
+     * <p>
+     * This implementation boxes the value and calls {@link #propertySet(Bean, String, Object, boolean)}.
+     * Generated meta-beans override it for their {@code int} properties.
+     *
+     * @param bean  the bean to update, not null
+     * @param propertyName  the property name, not null
+     * @param value  the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     */
+    protected void propertySetInt(Bean bean, String propertyName, int value) {
+        propertySet(bean, propertyName, value, false);
+    }
+
+    /**
+     * Sets the value of a {@code long} property without boxing.
+     * <p>
+     * This implementation boxes the value and calls {@link #propertySet(Bean, String, Object, boolean)}.
+     * Generated meta-beans override it for their {@code long} properties.
+     *
+     * @param bean  the bean to update, not null
+     * @param propertyName  the property name, not null
+     * @param value  the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     */
+    protected void propertySetLong(Bean bean, String propertyName, long value) {
+        propertySet(bean, propertyName, value, false);
+    }
+
+    /**
+     * Sets the value of a {@code double} property without boxing.
+     * <p>
+     * This implementation boxes the value and calls {@link #propertySet(Bean, String, Object, boolean)}.
+     * Generated meta-beans override it for their {@code double} properties.
+     *
+     * @param bean  the bean to update, not null
+     * @param propertyName  the property name, not null
+     * @param value  the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     */
+    protected void propertySetDouble(Bean bean, String propertyName, double value) {
+        propertySet(bean, propertyName, value, false);
+    }
+
+    /**
+     * Sets the value of a {@code boolean} property without boxing.
+     * <p>
+     * This implementation boxes the value and calls {@link #propertySet(Bean, String, Object, boolean)}.
+     * Generated meta-beans override it for their {@code boolean} properties.
+     *
+     * @param bean  the bean to update, not null
+     * @param propertyName  the property name, not null
+     * @param value  the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     */
+    protected void propertySetBoolean(Bean bean, String propertyName, boolean value) {
+        propertySet(bean, propertyName, value, false);
+    }
+
     /**
      * Validates the values of the properties.
      * 
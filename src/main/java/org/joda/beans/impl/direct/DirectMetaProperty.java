@@ -258,4 +258,52 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
         meta.propertySet(bean, name(), value, false);
     }
 
+    @Override
+    public int getInt(Bean bean) {
+        DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
+        return meta.propertyGetInt(bean, name());
+    }
+
+    @Override
+    public long getLong(Bean bean) {
+        DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
+        return meta.propertyGetLong(bean, name());
+    }
+
+    @Override
+    public double getDouble(Bean bean) {
+        DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
+        return meta.propertyGetDouble(bean, name());
+    }
+
+    @Override
+    public boolean getBoolean(Bean bean) {
+        DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
+        return meta.propertyGetBoolean(bean, name());
+    }
+
+    @Override
+    public void setInt(Bean bean, int value) {
+        DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
+        meta.propertySetInt(bean, name(), value);
+    }
+
+    @Override
+    public void setLong(Bean bean, long value) {
+        DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
+        meta.propertySetLong(bean, name(), value);
+    }
+
+    @Override
+    public void setDouble(Bean bean, double value) {
+        DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
+        meta.propertySetDouble(bean, name(), value);
+    }
+
+    @Override
+    public void setBoolean(Bean bean, boolean value) {
+        DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
+        meta.propertySetBoolean(bean, name(), value);
+    }
+
 }
@@ -15,6 +15,7 @@
  */
 package org.joda.beans.impl.direct;
 
+import java.nio.charset.StandardCharsets;
 import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.AbstractSet;
@@ -31,7 +32,12 @@ import org.joda.beans.MetaProperty;
  * <p>
  * This meta-property map implementation is designed primarily for code-generation.
  * It stores a reference to the meta-bean and the meta-properties.
- * The meta-properties are accessed using {@link DirectMetaBean#metaPropertyGet(String)}.
+ * The meta-properties are obtained using {@link DirectMetaBean#metaPropertyGet(String)}
+ * and stored in a flattened hash table, including those of any superclass.
+ * Names not in the table, such as aliases, are looked up using {@code metaPropertyGet}.
+ * <p>
+ * The table can also be queried using characters or UTF-8 bytes, allowing a parser
+ * to find a property without creating a {@code String}.
  * <p>
  * This class is immutable and thread-safe.
  */
@@ -46,6 +52,14 @@ public final class DirectMetaPropertyMap implements Map<String, MetaProperty<?>>
     private final Collection<MetaProperty<?>> values;
     /** The map entries. */
     private final Set<Entry<String, MetaProperty<?>>> entries;
+    /** The meta-properties, by index. */
+    private final MetaProperty<?>[] indexed;
+    /** The property names in the hash table, null where the slot is empty. */
+    private final String[] hashNames;
+    /** The meta-properties in the hash table. */
+    private final MetaProperty<?>[] hashValues;
+    /** The mask used to find the slot in the hash table. */
+    private final int hashMask;
 
     /**
      * Constructor.
@@ -74,6 +88,65 @@ public final class DirectMetaPropertyMap implements Map<String, MetaProperty<?>>
         keys = new Keys(metaProperties);
         values = new Values(metaProperties);
         entries = new Entries(metaProperties);
+        indexed = new MetaProperty<?>[metaProperties.length];
+        for (int i = 0; i < metaProperties.length; i++) {
+            indexed[i] = metaProperties[i].getValue();
+        }
+        // find a table size without collisions, limiting the size in case of equal hash codes
+        int tableSize = tableSize(metaProperties.length);
+        int maxTableSize = tableSize * 16;
+        while (tableSize < maxTableSize && !isCollisionFree(metaProperties, tableSize - 1)) {
+            tableSize *= 2;
+        }
+        hashNames = new String[tableSize];
+        hashValues = new MetaProperty<?>[tableSize];
+        hashMask = tableSize - 1;
+        for (Entry<String, MetaProperty<?>> entry : metaProperties) {
+            // query the meta-bean, as properties inherited from the superclass may be different instances
+            String name = entry.getKey();
+            int slot = hash(name.hashCode()) & hashMask;
+            while (hashNames[slot] != null) {
+                slot = (slot + 1) & hashMask;
+            }
+            hashNames[slot] = name;
+            hashValues[slot] = metaBean.metaPropertyGet(name);
+        }
+    }
+
+    // the smallest power of two at least twice the size
+    private static int tableSize(int size) {
+        return Integer.highestOneBit(Math.max(size, 1) * 2 - 1) * 2;
+    }
+
+    // checks if the names map to different slots
+    private static boolean isCollisionFree(Entry<String, MetaProperty<?>>[] metaProperties, int mask) {
+        boolean[] used = new boolean[mask + 1];
+        for (Entry<String, MetaProperty<?>> entry : metaProperties) {
+            int slot = hash(entry.getKey().hashCode()) & mask;
+            if (used[slot]) {
+                return false;
+            }
+            used[slot] = true;
+        }
+        return true;
+    }
+
+    // spreads the higher bits of the hash code
+    private static int hash(int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    // finds the property in the hash table, null if not found
+    MetaProperty<?> lookup(String propertyName) {
+        int slot = hash(propertyName.hashCode()) & hashMask;
+        String name;
+        while ((name = hashNames[slot]) != null) {
+            if (name.equals(propertyName)) {
+                return hashValues[slot];
+            }
+            slot = (slot + 1) & hashMask;
+        }
+        return metaBean.metaPropertyGet(propertyName);
     }
 
     //-----------------------------------------------------------------------
@@ -90,22 +163,129 @@ public final class DirectMetaPropertyMap implements Map<String, MetaProperty<?>>
     @SuppressWarnings("unchecked")
     @Override
     public MetaProperty<Object> get(Object propertyName) {
-        if (propertyName  instanceof String) {
-            return (MetaProperty<Object>) metaBean.metaPropertyGet((String) propertyName);
+        if (propertyName instanceof String) {
+            return (MetaProperty<Object>) lookup((String) propertyName);
         }
         return null;
     }
 
+    /**
+     * Gets a meta-property by name, where the name is specified as characters.
+     * <p>
+     * This allows a parser to find a property without creating a {@code String}.
+     * 
+     * @param chars  the array containing the property name, not null
+     * @param offset  the offset of the name in the array
+     * @param length  the length of the name
+     * @return the meta-property, null if not found
+     * @throws IndexOutOfBoundsException if the offset or length is invalid
+     */
+    public MetaProperty<?> get(char[] chars, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > chars.length) {
+            throw new IndexOutOfBoundsException("Invalid offset or length");
+        }
+        int hashCode = 0;
+        for (int i = 0; i < length; i++) {
+            hashCode = 31 * hashCode + chars[offset + i];
+        }
+        int slot = hash(hashCode) & hashMask;
+        String name;
+        while ((name = hashNames[slot]) != null) {
+            if (matches(name, chars, offset, length)) {
+                return hashValues[slot];
+            }
+            slot = (slot + 1) & hashMask;
+        }
+        return metaBean.metaPropertyGet(new String(chars, offset, length));
+    }
+
+    /**
+     * Gets a meta-property by name, where the name is specified as UTF-8 bytes.
+     * <p>
+     * This allows a parser to find a property without creating a {@code String}.
+     * 
+     * @param bytes  the array containing the property name encoded in UTF-8, not null
+     * @param offset  the offset of the name in the array
+     * @param length  the length of the name in bytes
+     * @return the meta-property, null if not found
+     * @throws IndexOutOfBoundsException if the offset or length is invalid
+     */
+    public MetaProperty<?> get(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException("Invalid offset or length");
+        }
+        int hashCode = 0;
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[offset + i];
+            if (b < 0) {
+                // not ASCII, so the bytes do not map directly to characters
+                return lookup(new String(bytes, offset, length, StandardCharsets.UTF_8));
+            }
+            hashCode = 31 * hashCode + b;
+        }
+        int slot = hash(hashCode) & hashMask;
+        String name;
+        while ((name = hashNames[slot]) != null) {
+            if (matches(name, bytes, offset, length)) {
+                return hashValues[slot];
+            }
+            slot = (slot + 1) & hashMask;
+        }
+        return metaBean.metaPropertyGet(new String(bytes, offset, length, StandardCharsets.UTF_8));
+    }
+
+    // checks if the name matches the characters
+    private static boolean matches(String name, char[] chars, int offset, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // checks if the name matches the ASCII bytes
+    private static boolean matches(String name, byte[] bytes, int offset, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != bytes[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets a meta-property by index.
+     * <p>
+     * The properties of the superclass have the same index as in the map of the superclass.
+     * 
+     * @param index  the index of the property, from zero to {@code size() - 1}
+     * @return the meta-property, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public MetaProperty<?> getByIndex(int index) {
+        if (index < 0 || index >= indexed.length) {
+            throw new IndexOutOfBoundsException("Invalid property index: " + index);
+        }
+        return indexed[index];
+    }
+
     @Override
     public boolean containsKey(Object propertyName) {
         return propertyName instanceof String &&
-                metaBean.metaPropertyGet(propertyName.toString()) != null;
+                lookup((String) propertyName) != null;
     }
 
     @Override
     public boolean containsValue(Object value) {
         return value instanceof MetaProperty &&
-                metaBean.metaPropertyGet(((MetaProperty<?>) value).name()) != null;
+                lookup(((MetaProperty<?>) value).name()) != null;
     }
 
     //-----------------------------------------------------------------------
@@ -62,6 +62,23 @@ public abstract class DirectPrivateBeanBuilder<T extends Bean>
         }
     }
 
+    /**
+     * Sets the value of a single property into the builder by index.
+     * <p>
+     * This implementation looks up the meta-property in the meta-bean of the class enclosing the builder.
+     * Generated builders override it to set their fields directly.
+     * 
+     * @param index  the index of the property
+     * @param value  the property value, may be null
+     * @return {@code this}, for chaining, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     * @throws UnsupportedOperationException if the builder is not nested within the bean
+     */
+    @Override
+    public BeanBuilder<T> set(int index, Object value) {
+        return set(DirectMetaBean.enclosingMetaBean(getClass()).metaProperty(index), value);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a string that summarises the builder.
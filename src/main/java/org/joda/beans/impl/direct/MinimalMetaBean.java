@@ -51,6 +51,8 @@ public final class MinimalMetaBean<T extends Bean> implements TypedMetaBean<T> {
     private final Supplier<BeanBuilder<T>> builderSupplier;
     /** The meta-property instances of the bean. */
     private final Map<String, MetaProperty<?>> metaPropertyMap;
+    /** The meta-property instances of the bean, by index. */
+    private final MetaProperty<?>[] metaPropertyArray;
     /** The aliases. */
     private final Map<String, String> aliasMap;
 
@@ -237,6 +239,7 @@ public final class MinimalMetaBean<T extends Bean> implements TypedMetaBean<T> {
             }
         }
         this.metaPropertyMap = Collections.unmodifiableMap(map);
+        this.metaPropertyArray = this.metaPropertyMap.values().toArray(new MetaProperty<?>[0]);
         this.aliasMap = new HashMap<>();
     }
 
@@ -263,6 +266,7 @@ public final class MinimalMetaBean<T extends Bean> implements TypedMetaBean<T> {
         this.beanType = beanType;
         this.builderSupplier = builderSupplier;
         this.metaPropertyMap = metaPropertyMap;
+        this.metaPropertyArray = this.metaPropertyMap.values().toArray(new MetaProperty<?>[0]);
         this.aliasMap = aliasMap;
     }
 
@@ -318,6 +322,14 @@ public final class MinimalMetaBean<T extends Bean> implements TypedMetaBean<T> {
         return metaPropertyMap;
     }
 
+    @Override
+    public MetaProperty<?> metaProperty(int index) {
+        if (index < 0 || index >= metaPropertyArray.length) {
+            throw new IndexOutOfBoundsException("Invalid property index: " + index);
+        }
+        return metaPropertyArray[index];
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public boolean equals(Object obj) {
@@ -39,6 +39,9 @@ import org.joda.beans.impl.BasicProperty;
  * Each flexi-bean has a different set of properties.
  * As such, there is one instance of meta-bean for each flexi-bean.
  * <p>
+ * The data is stored compactly, such that beans with the same property names,
+ * added in the same order, share the storage of the names.
+ * <p>
  * The keys of a flexi-bean must be simple identifiers as per '[a-zA-z_][a-zA-z0-9_]*'.
  */
 public final class FlexiBean implements DynamicBean, Serializable {
@@ -52,7 +55,7 @@ public final class FlexiBean implements DynamicBean, Serializable {
 
     /** The meta-bean. */
     private final transient FlexiMetaBean metaBean = new FlexiMetaBean(this);  // CSIGNORE
-    /** The underlying data. */
+    /** The underlying data, shared with other beans with the same keys where possible. */
     volatile Map<String, Object> data = Collections.emptyMap();// CSIGNORE
 
     //-----------------------------------------------------------------------
@@ -96,7 +99,7 @@ public final class FlexiBean implements DynamicBean, Serializable {
      */
     private Map<String, Object> dataWritable() {
         if (data == Collections.EMPTY_MAP) {
-            data = new LinkedHashMap<>();
+            data = new FlexiShapeMap();
         }
         return data;
     }
@@ -307,7 +310,7 @@ public final class FlexiBean implements DynamicBean, Serializable {
                 }
             }
             if (data == Collections.EMPTY_MAP) {
-                data = new LinkedHashMap<>(map);
+                data = new FlexiShapeMap(map);
             } else {
                 data.putAll(map);
             }
@@ -324,7 +327,7 @@ public final class FlexiBean implements DynamicBean, Serializable {
     public void putAll(FlexiBean other) {
         if (other.size() > 0) {
             if (data == Collections.EMPTY_MAP) {
-                data = new LinkedHashMap<>(other.data);
+                data = new FlexiShapeMap(other.data);
             } else {
                 data.putAll(other.data);
             }
@@ -65,6 +65,11 @@ class FlexiBeanBuilder implements BeanBuilder<FlexiBean> {
         return this;
     }
 
+    @Override
+    public FlexiBeanBuilder set(int index, Object value) {
+        return set(bean.metaBean().metaProperty(index).name(), value);
+    }
+
     @Override
     public FlexiBean build() {
         return bean;
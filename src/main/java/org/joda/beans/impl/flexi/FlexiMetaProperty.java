@@ -21,6 +21,7 @@ import java.util.List;
 
 import org.joda.beans.Bean;
 import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
 import org.joda.beans.PropertyStyle;
 import org.joda.beans.impl.BasicMetaProperty;
 
@@ -59,6 +60,19 @@ final class FlexiMetaProperty extends BasicMetaProperty<Object> {
         return metaBean;
     }
 
+    @Override
+    public int index() {
+        // the properties are dynamic, so the index is not cached
+        int index = 0;
+        for (MetaProperty<?> mp : metaBean.metaPropertyIterable()) {
+            if (mp.name().equals(name())) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
     @Override
     public Class<?> declaringType() {
         return FlexiBean.class;
@@ -0,0 +1,460 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.impl.flexi;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A compact map of property name to value, used to store the data of a {@code FlexiBean}.
+ * <p>
+ * Maps with the same keys in the same order share an immutable {@link Shape},
+ * which holds the keys and an index of the keys.
+ * Each map only holds the shape and an array of values.
+ * This greatly reduces the memory used when many beans have the same properties.
+ * <p>
+ * Shapes are linked by transitions, each adding one key, starting from an empty shape.
+ * Transitions are held weakly, so a shape that is no longer used by any map can be garbage collected.
+ * The number of live shared shapes is limited to 10,000 across the whole process, and a shape has at most 64 keys.
+ * This avoids unbounded growth where every bean has different keys.
+ * Once a limit is reached, the map holds its data in a {@code LinkedHashMap} instead.
+ * <p>
+ * The iteration order is the order in which the keys were added, as per {@code LinkedHashMap}.
+ * The map is serialized as a {@code LinkedHashMap}.
+ * <p>
+ * This class is mutable and not thread-safe.
+ */
+final class FlexiShapeMap extends AbstractMap<String, Object> implements Serializable {
+
+    /** Serialization version. */
+    private static final long serialVersionUID = 1L;
+    /** The maximum number of live shared shapes, across all maps in the process. */
+    private static final int MAX_SHARED_SHAPES = 10_000;
+    /** The maximum number of keys in a shared shape. */
+    private static final int MAX_SHARED_KEYS = 64;
+    /** The number of keys above which the shape lazily builds a hash index rather than scanning. */
+    private static final int MAX_SCANNED_KEYS = 8;
+    /** The number of live shared shapes. */
+    private static final AtomicInteger SHARED_SHAPES = new AtomicInteger();
+    /** The queue of transitions to shapes that have been garbage collected. */
+    private static final ReferenceQueue<Shape> RECLAIMED = new ReferenceQueue<>();
+    /** The empty values. */
+    private static final Object[] EMPTY_VALUES = new Object[0];
+    /** The empty shape. */
+    static final Shape EMPTY = new Shape(new String[0], null);
+
+    /** The shape, defining the keys. */
+    private Shape shape = EMPTY;
+    /** The values, in the order of the keys of the shape, may be longer than the number of keys. */
+    private Object[] values = EMPTY_VALUES;
+    /** The data, used instead of the shape once the shape cannot be shared, null if not used. */
+    private Map<String, Object> overflow;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates an empty map.
+     */
+    FlexiShapeMap() {
+    }
+
+    /**
+     * Creates a map copying the specified map.
+     * 
+     * @param copyFrom  the map to copy, not null
+     */
+    FlexiShapeMap(Map<String, ? extends Object> copyFrom) {
+        putAll(copyFrom);
+    }
+
+    // serialize as a standard map
+    private Object writeReplace() throws ObjectStreamException {
+        return new LinkedHashMap<>(this);
+    }
+
+    /**
+     * Gets the shape of the map.
+     * 
+     * @return the shape, null if the map is not using a shape
+     */
+    Shape shape() {
+        return overflow == null ? shape : null;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public int size() {
+        return overflow != null ? overflow.size() : shape.keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return overflow != null ? overflow.containsKey(key) : shape.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (overflow != null) {
+            return overflow.get(key);
+        }
+        int index = shape.indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (overflow != null) {
+            return overflow.put(key, value);
+        }
+        // an existing transition means the key is new, avoiding the search
+        Shape next = shape.transition(key);
+        if (next == null) {
+            int index = shape.indexOf(key);
+            if (index >= 0) {
+                Object old = values[index];
+                values[index] = value;
+                return old;
+            }
+            next = shape.withKey(key);
+        }
+        if (next == null) {
+            toOverflow().put(key, value);
+            return null;
+        }
+        int size = shape.keys.length;
+        if (values.length == size) {
+            values = Arrays.copyOf(values, size < MAX_SCANNED_KEYS ? size + 1 : size + (size >> 1));
+        }
+        values[size] = value;
+        shape = next;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends Object> map) {
+        if (map instanceof FlexiShapeMap && isEmpty()) {
+            FlexiShapeMap other = (FlexiShapeMap) map;
+            if (other.overflow == null) {
+                // share the shape and copy the values
+                shape = other.shape;
+                values = Arrays.copyOf(other.values, other.shape.keys.length);
+                overflow = null;
+                return;
+            }
+        }
+        super.putAll(map);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (overflow != null) {
+            return overflow.remove(key);
+        }
+        int index = shape.indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        Object old = values[index];
+        removeIndex(index);
+        return old;
+    }
+
+    // removes the key at the specified index
+    private void removeIndex(int index) {
+        Shape next = shape.withoutKey(index);
+        if (next == null) {
+            toOverflow().remove(shape.keys[index]);
+            return;
+        }
+        int size = shape.keys.length;
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        values[size - 1] = null;
+        shape = next;
+    }
+
+    @Override
+    public void clear() {
+        shape = EMPTY;
+        values = EMPTY_VALUES;
+        overflow = null;
+    }
+
+    // switches to the overflow map
+    private Map<String, Object> toOverflow() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < shape.keys.length; i++) {
+            map.put(shape.keys[i], values[i]);
+        }
+        shape = EMPTY;
+        values = EMPTY_VALUES;
+        overflow = map;
+        return map;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public int size() {
+                return FlexiShapeMap.this.size();
+            }
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                if (overflow != null) {
+                    return overflow.entrySet().iterator();
+                }
+                return new ShapeIterator();
+            }
+
+            @Override
+            public void clear() {
+                FlexiShapeMap.this.clear();
+            }
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Iterator over the entries when using a shape.
+     */
+    private final class ShapeIterator implements Iterator<Entry<String, Object>> {
+        /** The keys being iterated over, unaffected by removal. */
+        private final String[] keys = shape.keys;
+        /** The index of the next entry. */
+        private int index;
+        /** The key of the last entry returned, null if none or removed. */
+        private String lastKey;
+
+        @Override
+        public boolean hasNext() {
+            return index < keys.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (hasNext() == false) {
+                throw new NoSuchElementException();
+            }
+            lastKey = keys[index++];
+            return new ShapeEntry(lastKey);
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey == null) {
+                throw new IllegalStateException();
+            }
+            FlexiShapeMap.this.remove(lastKey);
+            lastKey = null;
+        }
+    }
+
+    /**
+     * Entry that reads and writes through to the map.
+     */
+    private final class ShapeEntry implements Entry<String, Object> {
+        /** The key. */
+        private final String key;
+
+        // creates an instance
+        private ShapeEntry(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return get(key);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return put(key, value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof Entry) {
+                Entry<?, ?> other = (Entry<?, ?>) obj;
+                return key.equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The keys of a map, shared between all maps with the same keys in the same order.
+     * <p>
+     * This class is immutable and thread-safe.
+     */
+    static final class Shape {
+        /** The keys, in order. */
+        private final String[] keys;
+        /** The shape with one less key, null if empty, referenced to keep the transitions to this shape. */
+        private final Shape parent;
+        /** The transitions to shapes with one more key. */
+        private final ConcurrentMap<String, Transition> transitions = new ConcurrentHashMap<>();
+        /** The index of each key, null until a lookup needs it. */
+        private volatile Map<String, Integer> index;
+
+        // creates an instance
+        private Shape(String[] keys, Shape parent) {
+            this.keys = keys;
+            this.parent = parent;
+        }
+
+        // finds the index of the key, -1 if not found
+        int indexOf(Object key) {
+            if (keys.length > MAX_SCANNED_KEYS) {
+                Integer found = index().get(key);
+                return found != null ? found : -1;
+            }
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        // gets the index, building it on first use so that intermediate shapes do not need one
+        private Map<String, Integer> index() {
+            Map<String, Integer> result = index;
+            if (result == null) {
+                result = new HashMap<>();
+                for (int i = 0; i < keys.length; i++) {
+                    result.put(keys[i], i);
+                }
+                index = result;
+            }
+            return result;
+        }
+
+        // finds the existing shape with the additional key, null if none
+        Shape transition(String key) {
+            Transition transition = transitions.get(key);
+            return transition != null ? transition.get() : null;
+        }
+
+        // finds the shape with the additional key, null if the shape cannot be shared
+        Shape withKey(String key) {
+            Shape next = transition(key);
+            if (next != null) {
+                return next;
+            }
+            reclaim();
+            if (keys.length >= MAX_SHARED_KEYS || SHARED_SHAPES.get() >= MAX_SHARED_SHAPES) {
+                return null;
+            }
+            String[] nextKeys = Arrays.copyOf(keys, keys.length + 1);
+            nextKeys[keys.length] = key;
+            Shape created = new Shape(nextKeys, this);
+            Transition createdTransition = new Transition(created, transitions, key);
+            while (true) {
+                Transition existing = transitions.putIfAbsent(key, createdTransition);
+                if (existing == null) {
+                    SHARED_SHAPES.incrementAndGet();
+                    return created;
+                }
+                Shape found = existing.get();
+                if (found != null) {
+                    return found;
+                }
+                transitions.remove(key, existing);
+            }
+        }
+
+        // removes the transitions to shapes that have been garbage collected
+        private static void reclaim() {
+            Transition transition = (Transition) RECLAIMED.poll();
+            while (transition != null) {
+                SHARED_SHAPES.decrementAndGet();
+                transition.transitions.remove(transition.key, transition);
+                transition = (Transition) RECLAIMED.poll();
+            }
+        }
+
+        // finds the shape without the key at the index, null if the shape cannot be shared
+        Shape withoutKey(int removeIndex) {
+            Shape result = EMPTY;
+            for (int i = 0; i < keys.length && result != null; i++) {
+                if (i != removeIndex) {
+                    result = result.withKey(keys[i]);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(keys);
+        }
+    }
+
+    /**
+     * A weakly held transition from one shape to the shape with one more key.
+     */
+    private static final class Transition extends WeakReference<Shape> {
+        /** The transitions holding this transition. */
+        private final ConcurrentMap<String, Transition> transitions;
+        /** The added key. */
+        private final String key;
+
+        // creates an instance
+        private Transition(Shape shape, ConcurrentMap<String, Transition> transitions, String key) {
+            super(shape, RECLAIMED);
+            this.transitions = transitions;
+            this.key = key;
+        }
+    }
+
+}
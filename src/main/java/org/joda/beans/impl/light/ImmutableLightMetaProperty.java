@@ -16,6 +16,9 @@
 package org.joda.beans.impl.light;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -96,21 +99,7 @@ final class ImmutableLightMetaProperty<P> extends AbstractLightMetaProperty<P> {
             final String propertyName,
             int constructorIndex) {
         
-        PropertyGetter getter = new PropertyGetter() {
-            @Override
-            public Object get(Bean bean) {
-                try {
-                    return method.invoke(bean);
-                } catch (IllegalArgumentException | IllegalAccessException ex) {
-                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
-                } catch (InvocationTargetException ex) {
-                    if (ex.getCause() instanceof RuntimeException) {
-                        throw (RuntimeException) ex.getCause();
-                    }
-                    throw new RuntimeException(ex);
-                }
-            }
-        };
+        PropertyGetter getter = methodGetter(method, propertyName);
         return new ImmutableLightMetaProperty<>(
                 metaBean,
                 propertyName,
@@ -138,21 +127,7 @@ final class ImmutableLightMetaProperty<P> extends AbstractLightMetaProperty<P> {
             final String propertyName,
             int constructorIndex) {
 
-        PropertyGetter getter = new PropertyGetter() {
-            @Override
-            public Object get(Bean bean) {
-                try {
-                    return method.invoke(bean);
-                } catch (IllegalArgumentException | IllegalAccessException ex) {
-                    throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
-                } catch (InvocationTargetException ex) {
-                    if (ex.getCause() instanceof RuntimeException) {
-                        throw (RuntimeException) ex.getCause();
-                    }
-                    throw new RuntimeException(ex);
-                }
-            }
-        };
+        PropertyGetter getter = methodGetter(method, propertyName);
         return new ImmutableLightMetaProperty<P>(
                 metaBean, 
                 propertyName, 
@@ -164,6 +139,43 @@ final class ImmutableLightMetaProperty<P> extends AbstractLightMetaProperty<P> {
                 PropertyStyle.DERIVED);
     }
 
+    // creates a getter for the method, avoiding reflection where the method can be unreflected
+    private static PropertyGetter methodGetter(final Method method, final String propertyName) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(method)
+                    .asType(MethodType.methodType(Object.class, Bean.class));
+        } catch (IllegalAccessException ex) {
+            return new PropertyGetter() {
+                @Override
+                public Object get(Bean bean) {
+                    try {
+                        return method.invoke(bean);
+                    } catch (IllegalArgumentException | IllegalAccessException ex) {
+                        throw new UnsupportedOperationException("Property cannot be read: " + propertyName, ex);
+                    } catch (InvocationTargetException ex) {
+                        if (ex.getCause() instanceof RuntimeException) {
+                            throw (RuntimeException) ex.getCause();
+                        }
+                        throw new RuntimeException(ex);
+                    }
+                }
+            };
+        }
+        return new PropertyGetter() {
+            @Override
+            public Object get(Bean bean) {
+                try {
+                    return (Object) handle.invokeExact(bean);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new RuntimeException(ex);
+                }
+            }
+        };
+    }
+
     /**
      * Creates an instance.
      * 
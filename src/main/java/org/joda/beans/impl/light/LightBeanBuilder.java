@@ -69,6 +69,11 @@ class LightBeanBuilder<B extends Bean>
         return this;
     }
 
+    @Override
+    public BeanBuilder<B> set(int index, Object value) {
+        return set(metaBean.metaProperty(index), value);
+    }
+
     @SuppressWarnings("deprecation")
     private int index(MetaProperty<?> metaProperty) {
         if (metaProperty instanceof LightMetaProperty) {
@@ -66,6 +66,8 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
     private final Class<T> beanType;
     /** The meta-property instances of the bean. */
     private final Map<String, MetaProperty<?>> metaPropertyMap;
+    /** The meta-property instances of the bean, by index. */
+    private final MetaProperty<?>[] metaPropertyArray;
     /** The aliases. */
     private final Map<String, String> aliasMap;
     /** The constructor to use. */
@@ -179,6 +181,7 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
         }
 
         this.metaPropertyMap = Collections.unmodifiableMap(map);
+        this.metaPropertyArray = this.metaPropertyMap.values().toArray(new MetaProperty<?>[0]);
         this.aliasMap = new HashMap<>();
         Constructor<T> construct = findConstructor(beanType, propertyTypes);
         construct.setAccessible(true);
@@ -394,6 +397,7 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
             }
         }
         this.metaPropertyMap = Collections.unmodifiableMap(map);
+        this.metaPropertyArray = this.metaPropertyMap.values().toArray(new MetaProperty<?>[0]);
         this.aliasMap = new HashMap<>();
         this.constructionData = defaultValues;
         MethodHandle handle = findConstructorHandle(beanType, lookup, constructor);
@@ -412,6 +416,7 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
         
         this.beanType = beanType;
         this.metaPropertyMap = metaPropertyMap;
+        this.metaPropertyArray = this.metaPropertyMap.values().toArray(new MetaProperty<?>[0]);
         this.aliasMap = aliasMap;
         this.constructorFn = constructorFn;
         this.constructionData = constructionData;
@@ -611,6 +616,14 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
         return metaPropertyMap;
     }
 
+    @Override
+    public MetaProperty<?> metaProperty(int index) {
+        if (index < 0 || index >= metaPropertyArray.length) {
+            throw new IndexOutOfBoundsException("Invalid property index: " + index);
+        }
+        return metaPropertyArray[index];
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public boolean equals(Object obj) {
@@ -16,7 +16,11 @@
 package org.joda.beans.impl.light;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleInfo;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
@@ -25,6 +29,15 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import org.joda.beans.Bean;
 import org.joda.beans.ImmutableBean;
@@ -34,6 +47,16 @@ import org.joda.beans.impl.BasicMetaProperty;
 
 /**
  * An immutable meta-property based on a getter interface.
+ * <p>
+ * Where the property is accessed by methods, the getter and setter are bound to
+ * generated implementations of {@code Function} and {@code BiConsumer} using
+ * {@link LambdaMetafactory} when the meta-bean is created.
+ * This allows the JIT to inline the call to the method as it would for hand-written code.
+ * Properties of type {@code int}, {@code long}, {@code double} and {@code boolean} are
+ * also bound to the matching primitive functional interfaces, such as {@code ToIntFunction},
+ * allowing {@link #getInt(Bean)} and similar methods to avoid boxing.
+ * Field-based properties, and lookups that lack the access needed by the factory,
+ * fall back to invoking the method handle.
  * 
  * @param <P>  the type of the property content
  */
@@ -47,10 +70,14 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
     private final Type propertyGenericType;
     /** The annotations. */
     private final List<Annotation> annotations;
-    /** The read method. */
-    private final MethodHandle getter;
-    /** The optional write method. */
-    private final MethodHandle setter;
+    /** The read accessor. */
+    private final Function<Bean, Object> getter;
+    /** The optional write accessor. */
+    private final BiConsumer<Bean, Object> setter;
+    /** The read accessor avoiding boxing, null if not a supported primitive type. */
+    private final Object primitiveGetter;
+    /** The write accessor avoiding boxing, null if read-only or not a supported primitive type. */
+    private final Object primitiveSetter;
     /** The index of the property in the constructor. */
     private final int constructorIndex;
     /** The property style. */
@@ -94,8 +121,10 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
                 (Class<P>) field.getType(), 
                 field.getGenericType(), 
                 Arrays.asList(field.getAnnotations()), 
-                getter,
-                setter,
+                getter(lookup, getter),
+                setter(lookup, setter),
+                primitiveGetter(lookup, getter),
+                primitiveSetter(lookup, setter),
                 constructorIndex,
                 calculateStyle(metaBean, setter));
     }
@@ -142,8 +171,10 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
                 (Class<P>) field.getType(), 
                 field.getGenericType(), 
                 Arrays.asList(field.getAnnotations()), 
-                getter,
-                setter,
+                getter(lookup, getter),
+                setter(lookup, setter),
+                primitiveGetter(lookup, getter),
+                primitiveSetter(lookup, setter),
                 constructorIndex,
                 calculateStyle(metaBean, setter));
     }
@@ -184,7 +215,9 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
                 (Class<P>) getMethod.getReturnType(), 
                 getMethod.getGenericReturnType(), 
                 Arrays.asList(getMethod.getAnnotations()), 
-                getter,
+                getter(lookup, getter),
+                null,
+                primitiveGetter(lookup, getter),
                 null,
                 constructorIndex,
                 PropertyStyle.DERIVED);
@@ -199,8 +232,11 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
      * @param propertyGenericType  the property generic type
      * @param annotations  the annotations
      * @param getter  the property getter
-     * @param setter  the property setter
+     * @param setter  the property setter, null if read-only
+     * @param primitiveGetter  the primitive property getter, null if not primitive
+     * @param primitiveSetter  the primitive property setter, null if read-only or not primitive
      * @param constructorIndex  the index of the property in the constructor
+     * @param style  the property style
      */
     LightMetaProperty(
             MetaBean metaBean, 
@@ -208,8 +244,10 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
             Class<P> propertyType,
             Type propertyGenericType,
             List<Annotation> annotations,
-            MethodHandle getter,
-            MethodHandle setter,
+            Function<Bean, Object> getter,
+            BiConsumer<Bean, Object> setter,
+            Object primitiveGetter,
+            Object primitiveSetter,
             int constructorIndex,
             PropertyStyle style) {
         
@@ -218,12 +256,219 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
         this.propertyType = propertyType;
         this.propertyGenericType = propertyGenericType;
         this.annotations = annotations;
-        this.getter = getter.asType(MethodType.methodType(Object.class, Bean.class));
-        this.setter = setter != null ? setter.asType(MethodType.methodType(void.class, Bean.class, Object.class)) : null;
+        this.getter = getter;
+        this.setter = setter;
+        this.primitiveGetter = primitiveGetter;
+        this.primitiveSetter = primitiveSetter;
         this.constructorIndex = constructorIndex;
         this.style = style;
     }
 
+    //-----------------------------------------------------------------------
+    // binds the getter handle to a function
+    @SuppressWarnings("unchecked")
+    private static Function<Bean, Object> getter(MethodHandles.Lookup lookup, MethodHandle handle) {
+        Object bound = bind(lookup, handle, Function.class, "apply",
+                MethodType.methodType(Object.class, Object.class),
+                handle.type().wrap());
+        if (bound != null) {
+            return (Function<Bean, Object>) bound;
+        }
+        MethodHandle adapted = handle.asType(MethodType.methodType(Object.class, Bean.class));
+        return bean -> {
+            try {
+                return (Object) adapted.invokeExact(bean);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        };
+    }
+
+    // binds the setter handle to a consumer
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Bean, Object> setter(MethodHandles.Lookup lookup, MethodHandle handle) {
+        if (handle == null) {
+            return null;
+        }
+        Object bound = bind(lookup, handle, BiConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, Object.class),
+                handle.type().wrap().changeReturnType(void.class));
+        if (bound != null) {
+            return (BiConsumer<Bean, Object>) bound;
+        }
+        MethodHandle adapted = handle.asType(MethodType.methodType(void.class, Bean.class, Object.class));
+        return (bean, value) -> {
+            try {
+                adapted.invokeExact(bean, value);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        };
+    }
+
+    // binds the getter handle to a primitive function, null if not a supported primitive type
+    private static Object primitiveGetter(MethodHandles.Lookup lookup, MethodHandle handle) {
+        Class<?> type = handle.type().returnType();
+        Class<?> interfaceType;
+        String interfaceMethod;
+        if (type == int.class) {
+            interfaceType = ToIntFunction.class;
+            interfaceMethod = "applyAsInt";
+        } else if (type == long.class) {
+            interfaceType = ToLongFunction.class;
+            interfaceMethod = "applyAsLong";
+        } else if (type == double.class) {
+            interfaceType = ToDoubleFunction.class;
+            interfaceMethod = "applyAsDouble";
+        } else if (type == boolean.class) {
+            interfaceType = Predicate.class;
+            interfaceMethod = "test";
+        } else {
+            return null;
+        }
+        Object bound = bind(lookup, handle, interfaceType, interfaceMethod,
+                MethodType.methodType(type, Object.class),
+                handle.type());
+        if (bound != null) {
+            return bound;
+        }
+        MethodHandle adapted = handle.asType(MethodType.methodType(type, Bean.class));
+        if (type == int.class) {
+            return (ToIntFunction<Bean>) bean -> {
+                try {
+                    return (int) adapted.invokeExact(bean);
+                } catch (Throwable ex) {
+                    throw rethrow(ex);
+                }
+            };
+        } else if (type == long.class) {
+            return (ToLongFunction<Bean>) bean -> {
+                try {
+                    return (long) adapted.invokeExact(bean);
+                } catch (Throwable ex) {
+                    throw rethrow(ex);
+                }
+            };
+        } else if (type == double.class) {
+            return (ToDoubleFunction<Bean>) bean -> {
+                try {
+                    return (double) adapted.invokeExact(bean);
+                } catch (Throwable ex) {
+                    throw rethrow(ex);
+                }
+            };
+        } else {
+            return (Predicate<Bean>) bean -> {
+                try {
+                    return (boolean) adapted.invokeExact(bean);
+                } catch (Throwable ex) {
+                    throw rethrow(ex);
+                }
+            };
+        }
+    }
+
+    // binds the setter handle to a primitive consumer, null if not a supported primitive type
+    // boolean is not bound, as the JDK has no matching interface and boxing a boolean does not allocate
+    private static Object primitiveSetter(MethodHandles.Lookup lookup, MethodHandle handle) {
+        if (handle == null) {
+            return null;
+        }
+        Class<?> type = handle.type().parameterType(1);
+        Class<?> interfaceType;
+        if (type == int.class) {
+            interfaceType = ObjIntConsumer.class;
+        } else if (type == long.class) {
+            interfaceType = ObjLongConsumer.class;
+        } else if (type == double.class) {
+            interfaceType = ObjDoubleConsumer.class;
+        } else {
+            return null;
+        }
+        Object bound = bind(lookup, handle, interfaceType, "accept",
+                MethodType.methodType(void.class, Object.class, type),
+                handle.type().changeReturnType(void.class));
+        if (bound != null) {
+            return bound;
+        }
+        MethodHandle adapted = handle.asType(MethodType.methodType(void.class, Bean.class, type));
+        if (type == int.class) {
+            return (ObjIntConsumer<Bean>) (bean, value) -> {
+                try {
+                    adapted.invokeExact(bean, value);
+                } catch (Throwable ex) {
+                    throw rethrow(ex);
+                }
+            };
+        } else if (type == long.class) {
+            return (ObjLongConsumer<Bean>) (bean, value) -> {
+                try {
+                    adapted.invokeExact(bean, value);
+                } catch (Throwable ex) {
+                    throw rethrow(ex);
+                }
+            };
+        } else {
+            return (ObjDoubleConsumer<Bean>) (bean, value) -> {
+                try {
+                    adapted.invokeExact(bean, value);
+                } catch (Throwable ex) {
+                    throw rethrow(ex);
+                }
+            };
+        }
+    }
+
+    // converts a throwable from a method handle to a runtime exception, rethrowing errors
+    private static RuntimeException rethrow(Throwable ex) {
+        if (ex instanceof Error) {
+            throw (Error) ex;
+        }
+        if (ex instanceof RuntimeException) {
+            return (RuntimeException) ex;
+        }
+        return new RuntimeException(ex);
+    }
+
+    // uses the lambda factory to bind a method handle, null if not possible
+    // only methods can be bound, not fields, and the lookup must have private access
+    private static Object bind(
+            MethodHandles.Lookup lookup,
+            MethodHandle handle,
+            Class<?> interfaceType,
+            String interfaceMethod,
+            MethodType erasedType,
+            MethodType instantiatedType) {
+
+        if ((lookup.lookupModes() & MethodHandles.Lookup.PRIVATE) == 0) {
+            return null;
+        }
+        try {
+            int kind = lookup.revealDirect(handle).getReferenceKind();
+            if (kind != MethodHandleInfo.REF_invokeVirtual && kind != MethodHandleInfo.REF_invokeInterface) {
+                return null;
+            }
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    interfaceMethod,
+                    MethodType.methodType(interfaceType),
+                    erasedType,
+                    handle,
+                    instantiatedType);
+            return site.getTarget().invoke();
+        } catch (LambdaConversionException | IllegalArgumentException | LinkageError ex) {
+            return null;
+        } catch (Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public MetaBean metaBean() {
@@ -257,14 +502,9 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
 
     //-----------------------------------------------------------------------
     @Override
+    @SuppressWarnings("unchecked")
     public P get(Bean bean) {
-        try {
-            return (P) getter.invokeExact(bean);
-        } catch (RuntimeException | Error ex) {
-            throw ex;
-        } catch (Throwable ex) {
-            throw new RuntimeException(ex);
-        }
+        return (P) getter.apply(bean);
     }
 
     @Override
@@ -272,12 +512,72 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
         if (setter == null) {
             throw new UnsupportedOperationException("Property cannot be written: " + name());
         }
-        try {
-            setter.invokeExact(bean, value);
-        } catch (RuntimeException | Error ex) {
-            throw ex;
-        } catch (Throwable ex) {
-            throw new RuntimeException(ex);
+        setter.accept(bean, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int getInt(Bean bean) {
+        if (primitiveGetter instanceof ToIntFunction) {
+            return ((ToIntFunction<Bean>) primitiveGetter).applyAsInt(bean);
+        }
+        return super.getInt(bean);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public long getLong(Bean bean) {
+        if (primitiveGetter instanceof ToLongFunction) {
+            return ((ToLongFunction<Bean>) primitiveGetter).applyAsLong(bean);
+        }
+        return super.getLong(bean);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public double getDouble(Bean bean) {
+        if (primitiveGetter instanceof ToDoubleFunction) {
+            return ((ToDoubleFunction<Bean>) primitiveGetter).applyAsDouble(bean);
+        }
+        return super.getDouble(bean);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean getBoolean(Bean bean) {
+        if (primitiveGetter instanceof Predicate) {
+            return ((Predicate<Bean>) primitiveGetter).test(bean);
+        }
+        return super.getBoolean(bean);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setInt(Bean bean, int value) {
+        if (primitiveSetter instanceof ObjIntConsumer) {
+            ((ObjIntConsumer<Bean>) primitiveSetter).accept(bean, value);
+        } else {
+            super.setInt(bean, value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setLong(Bean bean, long value) {
+        if (primitiveSetter instanceof ObjLongConsumer) {
+            ((ObjLongConsumer<Bean>) primitiveSetter).accept(bean, value);
+        } else {
+            super.setLong(bean, value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setDouble(Bean bean, double value) {
+        if (primitiveSetter instanceof ObjDoubleConsumer) {
+            ((ObjDoubleConsumer<Bean>) primitiveSetter).accept(bean, value);
+        } else {
+            super.setDouble(bean, value);
         }
     }
 
@@ -65,6 +65,11 @@ class MapBeanBuilder implements BeanBuilder<MapBean> {
         return this;
     }
 
+    @Override
+    public MapBeanBuilder set(int index, Object value) {
+        return set(bean.metaBean().metaProperty(index).name(), value);
+    }
+
     @Override
     public MapBean build() {
         return bean;
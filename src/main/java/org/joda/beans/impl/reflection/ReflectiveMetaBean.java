@@ -15,7 +15,11 @@
  */
 package org.joda.beans.impl.reflection;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -35,6 +39,9 @@ import org.joda.beans.impl.BasicBeanBuilder;
  * <p>
  * Typically, the meta-bean will be created as a public static final constant.
  * Only one method from {@link Bean} needs to be implemented, which simply returns the meta-bean.
+ * <p>
+ * The constructor and the property get and set methods are converted to method handles
+ * when the meta-bean is created, thus reflection is not used on each call.
  * 
  * @param <T>  the type of the bean
  */
@@ -44,6 +51,10 @@ public final class ReflectiveMetaBean<T extends Bean> implements TypedMetaBean<T
     private final Class<T> beanType;
     /** The meta-property instances of the bean. */
     private final Map<String, MetaProperty<?>> metaPropertyMap;
+    /** The meta-property instances of the bean, by index. */
+    private final MetaProperty<?>[] metaPropertyArray;
+    /** The no-arguments constructor, adapted to return a bean, null if not accessible. */
+    private final MethodHandle constructor;
 
     /**
      * Create a meta-bean and meta properties.
@@ -78,11 +89,29 @@ public final class ReflectiveMetaBean<T extends Bean> implements TypedMetaBean<T
             map.put(name, new ReflectiveMetaProperty<>(this, beanType, name));
         }
         this.metaPropertyMap = Collections.unmodifiableMap(map);
+        this.metaPropertyArray = this.metaPropertyMap.values().toArray(new MetaProperty<?>[0]);
+        this.constructor = findConstructor(beanType);
+    }
+
+    // finds the no-arguments constructor, returning null if not possible
+    private static MethodHandle findConstructor(Class<?> beanType) {
+        if (Modifier.isAbstract(beanType.getModifiers())) {
+            return null;
+        }
+        try {
+            return MethodHandles.lookup().unreflectConstructor(beanType.getDeclaredConstructor())
+                    .asType(MethodType.methodType(Bean.class));
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            return null;
+        }
     }
 
     //-----------------------------------------------------------------------
     @Override
     public boolean isBuildable() {
+        if (constructor != null) {
+            return true;
+        }
         try {
             beanType.getDeclaredConstructor().newInstance();
             return true;
@@ -92,7 +121,17 @@ public final class ReflectiveMetaBean<T extends Bean> implements TypedMetaBean<T
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public BeanBuilder<T> builder() {
+        if (constructor != null) {
+            try {
+                return new BasicBeanBuilder<>((T) (Bean) constructor.invokeExact());
+            } catch (Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new UnsupportedOperationException("Bean cannot be created: " + beanName(), ex);
+            }
+        }
         try {
             T bean = beanType.getDeclaredConstructor().newInstance();
             return new BasicBeanBuilder<>(bean);
@@ -111,6 +150,14 @@ public final class ReflectiveMetaBean<T extends Bean> implements TypedMetaBean<T
         return metaPropertyMap;
     }
 
+    @Override
+    public MetaProperty<?> metaProperty(int index) {
+        if (index < 0 || index >= metaPropertyArray.length) {
+            throw new IndexOutOfBoundsException("Invalid property index: " + index);
+        }
+        return metaPropertyArray[index];
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public boolean equals(Object obj) {
@@ -16,6 +16,9 @@
 package org.joda.beans.impl.reflection;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
@@ -38,6 +41,10 @@ import org.joda.beans.impl.BasicMetaProperty;
  * <p>
  * Instances of this class should be declared as a static constant on the bean,
  * one for each property, followed by a {@code ReflectiveMetaBean} declaration.
+ * <p>
+ * The get and set methods are unreflected to method handles when the meta-property is created,
+ * avoiding the cost of core reflection on each call.
+ * If the methods cannot be unreflected, reflection is used.
  * 
  * @param <P>  the type of the property content
  */
@@ -53,6 +60,14 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
     private final Method getMethod;
     /** The setter. */
     private final Method setMethod;
+    /** The getter handle, adapted to take a bean and return an object, null if not accessible. */
+    private final MethodHandle getter;
+    /** The setter handle, adapted to take a bean and an object, null if not accessible. */
+    private final MethodHandle setter;
+    /** The type accepted by the setter, with primitives boxed. */
+    private final Class<?> setterType;
+    /** Whether the setter accepts null. */
+    private final boolean setterNullable;
 
     /**
      * Constructor using {@code PropertyDescriptor} to find the get and set methods.
@@ -87,6 +102,23 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
         this.propertyType = (Class<P>) getMethod.getReturnType();
         this.getMethod = getMethod;
         this.setMethod = setMethod;
+        this.getter = unreflect(getMethod, MethodType.methodType(Object.class, Bean.class));
+        this.setter = unreflect(setMethod, MethodType.methodType(void.class, Bean.class, Object.class));
+        Class<?> setterType = setMethod != null ? setMethod.getParameterTypes()[0] : Object.class;
+        this.setterType = MethodType.methodType(setterType).wrap().returnType();
+        this.setterNullable = !setterType.isPrimitive();
+    }
+
+    // unreflects the method, returning null if not possible
+    private static MethodHandle unreflect(Method method, MethodType type) {
+        if (method == null) {
+            return null;
+        }
+        try {
+            return MethodHandles.lookup().unreflect(method).asType(type);
+        } catch (IllegalAccessException ex) {
+            return null;
+        }
     }
 
     // finds a method on class or public method on super-type
@@ -179,6 +211,15 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
         if (style().isReadable() == false) {
             throw new UnsupportedOperationException("Property cannot be read: " + name());
         }
+        if (getter != null && getMethod.getDeclaringClass().isInstance(bean)) {
+            try {
+                return (P) getter.invokeExact(bean);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        }
         try {
             return (P) getMethod.invoke(bean, (Object[]) null);
         } catch (IllegalArgumentException | IllegalAccessException ex) {
@@ -191,12 +232,28 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
         }
     }
 
+    // checks if the handle can be used, otherwise reflection is used to produce the correct exception
+    private boolean isSettable(Bean bean, Object value) {
+        return setMethod.getDeclaringClass().isInstance(bean) &&
+                (value == null ? setterNullable : setterType.isInstance(value));
+    }
+
     @SuppressWarnings("null")
     @Override
     public void set(Bean bean, Object value) {
         if (style().isWritable() == false) {
             throw new UnsupportedOperationException("Property cannot be written: " + name());
         }
+        if (setter != null && isSettable(bean, value)) {
+            try {
+                setter.invokeExact(bean, value);
+                return;
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        }
         try {
             setMethod.invoke(bean, value);
         } catch (IllegalArgumentException ex) {
@@ -15,6 +15,7 @@
  */
 package org.joda.beans.ser;
 
+import org.joda.beans.Bean;
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.bin.JodaBeanBinReader;
@@ -86,6 +87,7 @@ public final class JodaBeanSer {
      * @param iteratorFactory  the iterator factory, not null
      * @param shortTypes  whether to use short types
      * @param deserializers  the deserializers to use, not null
+     * @param includeDerived  whether to include derived properties
      */
     private JodaBeanSer(String indent, String newLine, StringConvert converter,
                 SerIteratorFactory iteratorFactory, boolean shortTypes, SerDeserializers deserializers, boolean includeDerived) {
@@ -264,13 +266,26 @@ public final class JodaBeanSer {
         return prop.style().isSerializable() || (prop.style().isDerived() && includeDerived);
     }
 
+    /**
+     * Gets the serialization plan for the specified bean.
+     * <p>
+     * The plan contains the information needed to serialize the bean that does not
+     * vary by instance. The plan is cached by bean class, except for dynamic beans.
+     * 
+     * @param bean  the bean to obtain a plan for, not null
+     * @return the plan, not null
+     */
+    public SerBeanPlan beanPlan(Bean bean) {
+        return SerBeanPlan.Cache.get(bean, this);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates a reader that determines the file format and parses it.
      * <p>
      * This parser can handle XML, JSON, simple JSON, binary and binary referencing formats.
      * <p>
-     * It is recommended, though not necessary, to create a new instance of the reader for each message.
+     * The reader is immutable and may be used from multiple threads for multiple messages.
      * 
      * @return the smart reader, not null
      */
@@ -282,7 +297,7 @@ public final class JodaBeanSer {
     /**
      * Creates a binary writer using the standard format.
      * <p>
-     * It is recommended, though not necessary, to create a new instance of the writer for each message.
+     * The writer is immutable and may be used from multiple threads for multiple messages.
      * 
      * @return the binary writer, not null
      */
@@ -293,7 +308,7 @@ public final class JodaBeanSer {
     /**
      * Creates a binary writer using the referencing format that typically results in a smaller output.
      * <p>
-     * It is recommended, though not necessary, to create a new instance of the writer for each message.
+     * The writer is immutable and may be used from multiple threads for multiple messages.
      * <p>
      * The writer only supports serializing ImmutableBean instances and will throw an exception
      * if any non-immutable beans are encountered.
@@ -313,7 +328,7 @@ public final class JodaBeanSer {
     /**
      * Creates a binary reader that handles both the standard and referencing binary formats.
      * <p>
-     * It is recommended, though not necessary, to create a new instance of the reader for each message.
+     * The reader is immutable and may be used from multiple threads for multiple messages.
      * 
      * @return the binary reader, not null
      */
@@ -325,7 +340,7 @@ public final class JodaBeanSer {
     /**
      * Creates an XML writer.
      * <p>
-     * A new instance of the writer must be created for each message.
+     * The writer is immutable and may be used from multiple threads for multiple messages.
      * 
      * @return the XML writer, not null
      */
@@ -336,7 +351,7 @@ public final class JodaBeanSer {
     /**
      * Creates an XML reader.
      * <p>
-     * A new instance of the reader must be created for each message.
+     * The reader is immutable and may be used from multiple threads for multiple messages.
      * 
      * @return the XML reader, not null
      */
@@ -348,7 +363,7 @@ public final class JodaBeanSer {
     /**
      * Creates a JSON writer.
      * <p>
-     * A new instance of the writer must be created for each message.
+     * The writer is immutable and may be used from multiple threads for multiple messages.
      * 
      * @return the JSON writer, not null
      */
@@ -359,7 +374,7 @@ public final class JodaBeanSer {
     /**
      * Creates a JSON reader.
      * <p>
-     * A new instance of the reader must be created for each message.
+     * The reader is immutable and may be used from multiple threads for multiple messages.
      * 
      * @return the JSON reader, not null
      */
@@ -371,7 +386,7 @@ public final class JodaBeanSer {
     /**
      * Creates a simple JSON writer.
      * <p>
-     * A new instance of the writer must be created for each message.
+     * The writer is immutable and may be used from multiple threads for multiple messages.
      * The simple writer omits all metadata.
      * It is suitable for simple beans as often found in data-transfer protocols.
      * <p>
@@ -391,7 +406,7 @@ public final class JodaBeanSer {
     /**
      * Creates a simple JSON reader.
      * <p>
-     * A new instance of the reader must be created for each message.
+     * The reader is immutable and may be used from multiple threads for multiple messages.
      * The simple reader is designed to operate with the simple writer.
      * It will not operate well with the output of {@link #jsonWriter()}.
      * 
@@ -405,7 +420,7 @@ public final class JodaBeanSer {
     /**
      * Creates a simple in-memory {@code Map} writer.
      * <p>
-     * A new instance of the writer must be created for each message.
+     * The writer is immutable and may be used from multiple threads for multiple messages.
      * 
      * @return the simple map writer, not null
      */
@@ -416,7 +431,7 @@ public final class JodaBeanSer {
     /**
      * Creates a simple in-memory {@code Map} reader.
      * <p>
-     * A new instance of the reader must be created for each message.
+     * The reader is immutable and may be used from multiple threads for multiple messages.
      * 
      * @return the simple map reader, not null
      */
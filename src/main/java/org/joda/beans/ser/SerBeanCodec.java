@@ -0,0 +1,354 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+
+/**
+ * A codec, typically generated, that reads and writes the properties of a single type of bean.
+ * <p>
+ * The code generator creates a codec for a bean when {@code codec = true} is set in the bean definition.
+ * The codec is registered when the bean class is initialized, and is then used automatically by the
+ * standard binary and JSON formats in place of the generic meta-property based approach.
+ * The codec reads the properties of the bean directly, in order, avoiding boxing for primitive
+ * properties and the lookup of the property type for {@code String} properties.
+ * Properties of other types are passed back to the format for generic processing.
+ * The output is identical to that produced without the codec.
+ * <p>
+ * The codec handles the non-derived properties of the bean in meta-property order.
+ * The index of a property is its position within that list.
+ * The codec is not used if the serialized properties differ, such as when derived properties are included.
+ * <p>
+ * Implementations must be immutable and thread-safe.
+ *
+ * @param <T>  the type of the bean
+ */
+public abstract class SerBeanCodec<T extends Bean> {
+
+    /**
+     * The registered codecs, held against the bean class so that the class can be unloaded.
+     */
+    private static final ClassValue<AtomicReference<SerBeanCodec<?>>> CODECS =
+            new ClassValue<AtomicReference<SerBeanCodec<?>>>() {
+                @Override
+                protected AtomicReference<SerBeanCodec<?>> computeValue(Class<?> beanType) {
+                    return new AtomicReference<>();
+                }
+            };
+
+    /**
+     * The meta-bean.
+     */
+    private final MetaBean metaBean;
+    /**
+     * The property names, in order.
+     */
+    private final String[] propertyNames;
+    /**
+     * The property types, null if the property is not read directly by the codec.
+     */
+    private final Class<?>[] propertyTypes;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Registers a codec.
+     * <p>
+     * This is called from the static initializer of the generated bean.
+     *
+     * @param codec  the codec, not null
+     */
+    public static void register(SerBeanCodec<?> codec) {
+        JodaBeanUtils.notNull(codec, "codec");
+        CODECS.get(codec.getBeanType()).set(codec);
+    }
+
+    /**
+     * Finds the codec for a bean type.
+     * <p>
+     * The bean class must be initialized for the codec to be found.
+     *
+     * @param beanType  the bean type, not null
+     * @return the codec, null if none registered
+     */
+    public static SerBeanCodec<?> find(Class<?> beanType) {
+        return CODECS.get(beanType).get();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates an instance.
+     *
+     * @param metaBean  the meta-bean, not null
+     * @param propertyNames  the names of the non-derived properties, in order, not null
+     * @throws java.util.NoSuchElementException if a property name is invalid
+     */
+    protected SerBeanCodec(MetaBean metaBean, String... propertyNames) {
+        JodaBeanUtils.notNull(metaBean, "metaBean");
+        JodaBeanUtils.notNull(propertyNames, "propertyNames");
+        this.metaBean = metaBean;
+        this.propertyNames = propertyNames.clone();
+        this.propertyTypes = new Class<?>[propertyNames.length];
+        for (int i = 0; i < propertyNames.length; i++) {
+            MetaProperty<?> metaProperty = metaBean.metaProperty(propertyNames[i]);
+            Class<?> type = metaProperty.propertyType();
+            if (type == String.class || type == int.class || type == long.class ||
+                    type == double.class || type == boolean.class) {
+                propertyTypes[i] = type;
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the meta-bean.
+     *
+     * @return the meta-bean, not null
+     */
+    public MetaBean getMetaBean() {
+        return metaBean;
+    }
+
+    /**
+     * Gets the bean type.
+     *
+     * @return the bean type, not null
+     */
+    public Class<?> getBeanType() {
+        return metaBean.beanType();
+    }
+
+    /**
+     * Gets the number of properties handled by the codec.
+     *
+     * @return the number of properties
+     */
+    public int propertyCount() {
+        return propertyNames.length;
+    }
+
+    /**
+     * Gets the name of a property by index.
+     *
+     * @param index  the index, from zero to {@link #propertyCount()}
+     * @return the property name, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public String getPropertyName(int index) {
+        return propertyNames[index];
+    }
+
+    /**
+     * Gets the type of a property by index, if it is read directly by the codec.
+     * <p>
+     * The codec reads properties of type {@code String}, {@code int}, {@code long},
+     * {@code double} and {@code boolean} directly, and the matching method, such as
+     * {@link #setInt(BeanBuilder, int, int)}, may be used to set the property.
+     * Other properties must be handled generically.
+     *
+     * @param index  the index, from zero to {@link #propertyCount()}
+     * @return the property type, null if the property must be handled generically
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Class<?> getPropertyType(int index) {
+        return propertyTypes[index];
+    }
+
+    /**
+     * Checks if the codec handles the specified serialized properties.
+     *
+     * @param plan  the plan to check, not null
+     * @return true if the codec handles the same properties in the same order
+     */
+    boolean matches(SerBeanPlan plan) {
+        if (plan.getBeanType() != getBeanType() || plan.size() != propertyNames.length) {
+            return false;
+        }
+        for (int i = 0; i < propertyNames.length; i++) {
+            if (plan.property(i).getName().equals(propertyNames[i]) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the index of a property by name or alias.
+     *
+     * @param propertyName  the property name, not null
+     * @return the index, -1 if not a property handled by the codec
+     */
+    public abstract int index(String propertyName);
+
+    /**
+     * Writes the properties of the bean to the output, in order.
+     * <p>
+     * Each property is passed to the output, including those that are null.
+     *
+     * @param bean  the bean to write, not null
+     * @param output  the output to write to, not null
+     * @throws IOException if an error occurs
+     */
+    public abstract void write(T bean, Output output) throws IOException;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sets the value of a {@code String} property into the builder.
+     * <p>
+     * This implementation calls {@link BeanBuilder#set(String, Object)}.
+     * Generated codecs override it to set the builder field directly.
+     *
+     * @param builder  the builder created by the meta-bean, not null
+     * @param index  the index of the property
+     * @param value  the value, may be null
+     */
+    public void setString(BeanBuilder<?> builder, int index, String value) {
+        builder.set(propertyNames[index], value);
+    }
+
+    /**
+     * Sets the value of an {@code int} property into the builder.
+     * <p>
+     * This implementation calls {@link BeanBuilder#set(String, Object)}.
+     * Generated codecs override it to set the builder field directly.
+     *
+     * @param builder  the builder created by the meta-bean, not null
+     * @param index  the index of the property
+     * @param value  the value
+     */
+    public void setInt(BeanBuilder<?> builder, int index, int value) {
+        builder.set(propertyNames[index], value);
+    }
+
+    /**
+     * Sets the value of a {@code long} property into the builder.
+     * <p>
+     * This implementation calls {@link BeanBuilder#set(String, Object)}.
+     * Generated codecs override it to set the builder field directly.
+     *
+     * @param builder  the builder created by the meta-bean, not null
+     * @param index  the index of the property
+     * @param value  the value
+     */
+    public void setLong(BeanBuilder<?> builder, int index, long value) {
+        builder.set(propertyNames[index], value);
+    }
+
+    /**
+     * Sets the value of a {@code double} property into the builder.
+     * <p>
+     * This implementation calls {@link BeanBuilder#set(String, Object)}.
+     * Generated codecs override it to set the builder field directly.
+     *
+     * @param builder  the builder created by the meta-bean, not null
+     * @param index  the index of the property
+     * @param value  the value
+     */
+    public void setDouble(BeanBuilder<?> builder, int index, double value) {
+        builder.set(propertyNames[index], value);
+    }
+
+    /**
+     * Sets the value of a {@code boolean} property into the builder.
+     * <p>
+     * This implementation calls {@link BeanBuilder#set(String, Object)}.
+     * Generated codecs override it to set the builder field directly.
+     *
+     * @param builder  the builder created by the meta-bean, not null
+     * @param index  the index of the property
+     * @param value  the value
+     */
+    public void setBoolean(BeanBuilder<?> builder, int index, boolean value) {
+        builder.set(propertyNames[index], value);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return "SerBeanCodec[" + getBeanType().getName() + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The output that a codec writes properties to.
+     * <p>
+     * This is implemented by each format, with the index identifying the property.
+     */
+    public interface Output {
+
+        /**
+         * Writes a {@code String} property.
+         *
+         * @param index  the index of the property
+         * @param value  the value, null if no value
+         * @throws IOException if an error occurs
+         */
+        public abstract void writeString(int index, String value) throws IOException;
+
+        /**
+         * Writes an {@code int} property.
+         *
+         * @param index  the index of the property
+         * @param value  the value
+         * @throws IOException if an error occurs
+         */
+        public abstract void writeInt(int index, int value) throws IOException;
+
+        /**
+         * Writes a {@code long} property.
+         *
+         * @param index  the index of the property
+         * @param value  the value
+         * @throws IOException if an error occurs
+         */
+        public abstract void writeLong(int index, long value) throws IOException;
+
+        /**
+         * Writes a {@code double} property.
+         *
+         * @param index  the index of the property
+         * @param value  the value
+         * @throws IOException if an error occurs
+         */
+        public abstract void writeDouble(int index, double value) throws IOException;
+
+        /**
+         * Writes a {@code boolean} property.
+         *
+         * @param index  the index of the property
+         * @param value  the value
+         * @throws IOException if an error occurs
+         */
+        public abstract void writeBoolean(int index, boolean value) throws IOException;
+
+        /**
+         * Writes a property of any other type, which is processed generically.
+         *
+         * @param index  the index of the property
+         * @param value  the value as returned by the meta-property, null if no value
+         * @throws IOException if an error occurs
+         */
+        public abstract void writeObject(int index, Object value) throws IOException;
+    }
+
+}
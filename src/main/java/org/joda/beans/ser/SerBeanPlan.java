@@ -0,0 +1,387 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.joda.beans.Bean;
+import org.joda.beans.DynamicBean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+
+/**
+ * A compiled plan for serializing a type of bean.
+ * <p>
+ * Writing a bean requires determining which properties are serialized, the type
+ * of each property once any optional wrapper is removed, and the name to write.
+ * This information does not change for a given bean class and {@link JodaBeanSer} settings,
+ * thus it is calculated once and cached.
+ * All the format writers execute the plan rather than rediscover the information each time.
+ * <p>
+ * Plans are obtained using {@link JodaBeanSer#beanPlan(Bean)}.
+ * Plans for {@link DynamicBean} instances are not cached, as the properties vary by instance.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class SerBeanPlan {
+
+    /**
+     * The bean type.
+     */
+    private final Class<?> beanType;
+    /**
+     * The meta-bean.
+     */
+    private final MetaBean metaBean;
+    /**
+     * The serialized properties, in order.
+     */
+    private final PropertyPlan[] properties;
+    /**
+     * The serialized meta-properties, in order.
+     */
+    private final MetaProperty<?>[] metaProperties;
+    /**
+     * The codec, null if none.
+     */
+    private final SerBeanCodec<Bean> codec;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a plan for the specified bean.
+     *
+     * @param bean  the bean, not null
+     * @param settings  the settings, not null
+     * @return the plan, not null
+     */
+    static SerBeanPlan of(Bean bean, JodaBeanSer settings) {
+        Class<?> beanType = bean.getClass();
+        MetaBean metaBean = bean.metaBean();
+        List<PropertyPlan> list = new ArrayList<>(metaBean.metaPropertyCount());
+        for (MetaProperty<?> prop : metaBean.metaPropertyIterable()) {
+            if (settings.isSerialized(prop)) {
+                list.add(new PropertyPlan(prop, beanType));
+            }
+        }
+        PropertyPlan[] properties = list.toArray(new PropertyPlan[list.size()]);
+        MetaProperty<?>[] metaProperties = new MetaProperty<?>[properties.length];
+        for (int i = 0; i < properties.length; i++) {
+            metaProperties[i] = properties[i].metaProperty;
+        }
+        SerBeanPlan plan = new SerBeanPlan(beanType, metaBean, properties, metaProperties, null);
+        SerBeanCodec<?> codec = SerBeanCodec.find(beanType);
+        if (codec != null && codec.matches(plan)) {
+            return new SerBeanPlan(beanType, metaBean, properties, metaProperties, codec);
+        }
+        return plan;
+    }
+
+    // creates an instance
+    @SuppressWarnings("unchecked")
+    private SerBeanPlan(
+            Class<?> beanType,
+            MetaBean metaBean,
+            PropertyPlan[] properties,
+            MetaProperty<?>[] metaProperties,
+            SerBeanCodec<?> codec) {
+
+        this.beanType = beanType;
+        this.metaBean = metaBean;
+        this.properties = properties;
+        this.metaProperties = metaProperties;
+        this.codec = (SerBeanCodec<Bean>) codec;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the bean type.
+     *
+     * @return the bean type, not null
+     */
+    public Class<?> getBeanType() {
+        return beanType;
+    }
+
+    /**
+     * Gets the meta-bean.
+     *
+     * @return the meta-bean, not null
+     */
+    public MetaBean getMetaBean() {
+        return metaBean;
+    }
+
+    /**
+     * Gets the number of serialized properties.
+     *
+     * @return the number of properties
+     */
+    public int size() {
+        return properties.length;
+    }
+
+    /**
+     * Checks if there are no serialized properties.
+     *
+     * @return true if there are no properties to serialize
+     */
+    public boolean isEmpty() {
+        return properties.length == 0;
+    }
+
+    /**
+     * Gets a serialized property by index.
+     *
+     * @param index  the index, from zero to {@link #size()}
+     * @return the property plan, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public PropertyPlan property(int index) {
+        return properties[index];
+    }
+
+    /**
+     * Gets the serialized properties, in order.
+     *
+     * @return the properties, not null
+     */
+    public List<PropertyPlan> properties() {
+        return Collections.unmodifiableList(Arrays.asList(properties));
+    }
+
+    /**
+     * Gets the serialized meta-properties, in order.
+     *
+     * @return a copy of the meta-properties, not null
+     */
+    public MetaProperty<?>[] metaProperties() {
+        return metaProperties.clone();
+    }
+
+    /**
+     * Gets the codec that writes the bean, if available.
+     * <p>
+     * A codec is available if one has been registered for the bean type and
+     * it handles exactly the serialized properties of this plan.
+     * The index of each property in the codec matches the index in this plan.
+     * The codec must only be used with beans of the type of this plan.
+     *
+     * @return the codec, null if none
+     */
+    public SerBeanCodec<Bean> getCodec() {
+        return codec;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return "SerBeanPlan[" + beanType.getName() + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The plan for a single serialized property.
+     * <p>
+     * This class is immutable and thread-safe.
+     */
+    public static final class PropertyPlan {
+
+        /**
+         * The meta-property.
+         */
+        private final MetaProperty<?> metaProperty;
+        /**
+         * The property name.
+         */
+        private final String name;
+        /**
+         * The property name encoded in UTF-8.
+         */
+        private final byte[] nameBytes;
+        /**
+         * The declared type, with any optional wrapper removed.
+         */
+        private final Class<?> propertyType;
+        /**
+         * The optional handler, null if not an optional.
+         */
+        private final SerOptional.Handler optional;
+        /**
+         * The primitive type, null if not a primitive type readable without boxing.
+         */
+        private final Class<?> primitiveType;
+
+        // creates an instance
+        PropertyPlan(MetaProperty<?> metaProperty, Class<?> beanType) {
+            this.metaProperty = metaProperty;
+            this.name = metaProperty.name();
+            this.nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            this.propertyType = SerOptional.extractType(metaProperty, beanType);
+            this.optional = SerOptional.handler(metaProperty);
+            Class<?> type = metaProperty.propertyType();
+            this.primitiveType = (type == int.class || type == long.class || type == double.class || type == boolean.class) ?
+                    type : null;
+        }
+
+        /**
+         * Gets the meta-property.
+         *
+         * @return the meta-property, not null
+         */
+        public MetaProperty<?> getMetaProperty() {
+            return metaProperty;
+        }
+
+        /**
+         * Gets the property name.
+         *
+         * @return the name, not null
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the property name encoded in UTF-8.
+         * <p>
+         * The array must not be altered.
+         *
+         * @return the shared name bytes, not null
+         */
+        public byte[] getNameBytes() {
+            return nameBytes;
+        }
+
+        /**
+         * Gets the declared type of the property, with any optional wrapper removed.
+         *
+         * @return the property type, not null
+         */
+        public Class<?> getPropertyType() {
+            return propertyType;
+        }
+
+        /**
+         * Checks if the property is an optional that is unwrapped on serialization.
+         *
+         * @return true if optional
+         */
+        public boolean isOptional() {
+            return optional != null;
+        }
+
+        /**
+         * Gets the primitive type of the property, if it can be read without boxing.
+         * <p>
+         * Properties of type {@code int}, {@code long}, {@code double} and {@code boolean}
+         * can be read using the matching method on {@link MetaProperty}, such as
+         * {@link MetaProperty#getInt(Bean)}, avoiding the allocation of a boxed value.
+         * Such properties are never null.
+         *
+         * @return the primitive type, null if not one of the supported primitive types
+         */
+        public Class<?> getPrimitiveType() {
+            return primitiveType;
+        }
+
+        /**
+         * Extracts the value of the property from a bean, unwrapping any optional.
+         *
+         * @param bean  the bean to query, not null
+         * @return the value, with any optional wrapper removed, null if no value
+         */
+        public Object extractValue(Bean bean) {
+            return unwrapValue(metaProperty.get(bean));
+        }
+
+        /**
+         * Unwraps the value of the property, removing any optional.
+         *
+         * @param value  the value as returned by the meta-property, may be null
+         * @return the value, with any optional wrapper removed, null if no value
+         */
+        public Object unwrapValue(Object value) {
+            if (value != null && optional != null) {
+                return optional.unwrap(value);
+            }
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return "PropertyPlan[" + name + "]";
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Cache of plans, held against the bean class so that the class can be unloaded.
+     * <p>
+     * The plan only varies by whether derived properties are included.
+     */
+    static final class Cache {
+
+        /**
+         * The plans keyed by bean class.
+         */
+        private static final ClassValue<Cache> PLANS = new ClassValue<Cache>() {
+            @Override
+            protected Cache computeValue(Class<?> type) {
+                return new Cache();
+            }
+        };
+
+        /**
+         * The plan excluding derived properties, null until needed.
+         */
+        private volatile SerBeanPlan standard;
+        /**
+         * The plan including derived properties, null until needed.
+         */
+        private volatile SerBeanPlan derived;
+
+        // restricted constructor
+        private Cache() {
+        }
+
+        // gets or creates the plan
+        static SerBeanPlan get(Bean bean, JodaBeanSer settings) {
+            if (bean instanceof DynamicBean) {
+                return SerBeanPlan.of(bean, settings);
+            }
+            Cache cache = PLANS.get(bean.getClass());
+            if (settings.isIncludeDerived()) {
+                SerBeanPlan plan = cache.derived;
+                if (plan == null) {
+                    plan = SerBeanPlan.of(bean, settings);
+                    cache.derived = plan;
+                }
+                return plan;
+            }
+            SerBeanPlan plan = cache.standard;
+            if (plan == null) {
+                plan = SerBeanPlan.of(bean, settings);
+                cache.standard = plan;
+            }
+            return plan;
+        }
+    }
+
+}
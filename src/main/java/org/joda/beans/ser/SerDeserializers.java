@@ -36,6 +36,9 @@ import java.util.NoSuchElementException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -91,6 +94,23 @@ public final class SerDeserializers {
      * The deserializer providers.
      */
     private final CopyOnWriteArrayList<SerDeserializerProvider> providers = new CopyOnWriteArrayList<>();
+    /**
+     * The cached results of querying the providers, including the default deserializer if none matched.
+     * The results are held against the type, so that the type can be unloaded.
+     */
+    private final ProviderCache providerCache = new ProviderCache();
+    /**
+     * The generation of the provider cache, incremented when it is invalidated.
+     */
+    private final AtomicInteger providerCacheGeneration = new AtomicInteger();
+    /**
+     * The number of provider lookups answered from the cache.
+     */
+    private final LongAdder providerCacheHits = new LongAdder();
+    /**
+     * The number of provider lookups that queried the providers.
+     */
+    private final LongAdder providerCacheMisses = new LongAdder();
 
     /**
      * Creates an instance.
@@ -133,11 +153,14 @@ public final class SerDeserializers {
      */
     public SerDeserializers register(Class<?> type, SerDeserializer deserializer) {
         deserializers.put(type, deserializer);
+        invalidateProviderCache();
         return this;
     }
 
     /**
      * Gets the map of deserializers which can be modified.
+     * <p>
+     * Deserializers in this map take precedence over those found by providers.
      * 
      * @return the map of deserializers, not null
      */
@@ -154,14 +177,45 @@ public final class SerDeserializers {
      */
     public SerDeserializers registerProvider(SerDeserializerProvider provider) {
         providers.add(provider);
+        invalidateProviderCache();
         return this;
     }
 
+    // invalidates the provider cache, leaving entries of earlier generations to be replaced when next queried
+    private void invalidateProviderCache() {
+        providerCacheGeneration.incrementAndGet();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of lookups that were answered from the provider cache.
+     * <p>
+     * Lookups that find a deserializer registered directly are not counted.
+     * 
+     * @return the number of cache hits
+     */
+    public long getProviderCacheHitCount() {
+        return providerCacheHits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that had to query the providers.
+     * <p>
+     * Lookups that find a deserializer registered directly are not counted.
+     * 
+     * @return the number of cache misses
+     */
+    public long getProviderCacheMissCount() {
+        return providerCacheMisses.sum();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Finds the deserializer for the specified type.
      * <p>
      * The {@code DefaultDeserializer} is used if one has not been registered.
+     * The result of querying the providers is cached by type, with the cache
+     * invalidated when a deserializer or provider is registered.
      * 
      * @param type  the type, not null
      * @return the deserializer, not null
@@ -171,8 +225,24 @@ public final class SerDeserializers {
         if (deser != null) {
             return deser;
         }
+        AtomicReference<ProviderCacheEntry> cache = providerCache.get(type);
+        int generation = providerCacheGeneration.get();
+        ProviderCacheEntry cached = cache.get();
+        if (cached != null && cached.generation == generation) {
+            providerCacheHits.increment();
+            return cached.deserializer;
+        }
+        providerCacheMisses.increment();
+        // if a registration occurs while querying, the entry is of an earlier generation and thus ignored
+        deser = findProviderDeserializer(type);
+        cache.set(new ProviderCacheEntry(generation, deser));
+        return deser;
+    }
+
+    // queries the providers
+    private SerDeserializer findProviderDeserializer(Class<?> type) {
         for (SerDeserializerProvider provider : providers) {
-            deser = provider.findDeserializer(type);
+            SerDeserializer deser = provider.findDeserializer(type);
             if (deser != null) {
                 return deser;
             }
@@ -338,4 +408,31 @@ public final class SerDeserializers {
         return getClass().getSimpleName();
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * The cache of the results of querying the providers, held against each type.
+     */
+    private static final class ProviderCache extends ClassValue<AtomicReference<ProviderCacheEntry>> {
+        @Override
+        protected AtomicReference<ProviderCacheEntry> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    }
+
+    /**
+     * The result of querying the providers, valid only for the generation it was found in.
+     */
+    private static final class ProviderCacheEntry {
+        /** The generation of the provider cache. */
+        private final int generation;
+        /** The deserializer. */
+        private final SerDeserializer deserializer;
+
+        // creates an instance
+        private ProviderCacheEntry(int generation, SerDeserializer deserializer) {
+            this.generation = generation;
+            this.deserializer = deserializer;
+        }
+    }
+
 }
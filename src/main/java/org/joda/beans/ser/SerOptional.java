@@ -15,10 +15,16 @@
  */
 package org.joda.beans.ser;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import org.joda.beans.Bean;
 import org.joda.beans.JodaBeanUtils;
@@ -26,70 +32,39 @@ import org.joda.beans.MetaProperty;
 
 /**
  * Assists with serialization and deserialization of optional properties.
+ * <p>
+ * The JDK optional types are handled directly.
+ * Guava {@code Optional} is handled using method handles, as Guava is an optional dependency.
  */
 public class SerOptional {
 
     /**
      * Map of known optional types.
      */
-    private static final Map<Class<?>, Object[]> OPTIONALS;
+    private static final Map<Class<?>, Handler> OPTIONALS;
     static {
-        Map<Class<?>, Object[]> map = new HashMap<>();
+        Map<Class<?>, Handler> map = new HashMap<>();
         try {
             Class<?> cls = Class.forName("com.google.common.base.Optional");
-            Method create = cls.getMethod("of", Object.class);
-            Object nullConstant = cls.getMethod("absent").invoke(null);
-            Method isPresent = cls.getMethod("isPresent");
-            Method get = cls.getMethod("get");
-            map.put(cls, new Object[] {create, nullConstant, isPresent, get});
+            map.put(cls, new GuavaHandler(cls));
         } catch (Exception ex) {
             // ignore
         }
-        try {
-            Class<?> cls = Class.forName("java.util.Optional");
-            Method create = cls.getMethod("of", Object.class);
-            Object nullConstant = cls.getMethod("empty").invoke(null);
-            Method isPresent = cls.getMethod("isPresent");
-            Method get = cls.getMethod("get");
-            map.put(cls, new Object[] {create, nullConstant, isPresent, get});
-        } catch (Exception ex) {
-            // ignore
-        }
-        try {
-            Class<?> cls = Class.forName("java.util.OptionalDouble");
-            Method create = cls.getMethod("of", Double.TYPE);
-            Object nullConstant = cls.getMethod("empty").invoke(null);
-            Method isPresent = cls.getMethod("isPresent");
-            Method get = cls.getMethod("getAsDouble");
-            map.put(cls, new Object[] {create, nullConstant, isPresent, get});
-        } catch (Exception ex) {
-            // ignore
-        }
-        try {
-            Class<?> cls = Class.forName("java.util.OptionalInt");
-            Method create = cls.getMethod("of", Integer.TYPE);
-            Object nullConstant = cls.getMethod("empty").invoke(null);
-            Method isPresent = cls.getMethod("isPresent");
-            Method get = cls.getMethod("getAsInt");
-            map.put(cls, new Object[] {create, nullConstant, isPresent, get});
-        } catch (Exception ex) {
-            // ignore
-        }
-        try {
-            Class<?> cls = Class.forName("java.util.OptionalLong");
-            Method create = cls.getMethod("of", Long.TYPE);
-            Object nullConstant = cls.getMethod("empty").invoke(null);
-            Method isPresent = cls.getMethod("isPresent");
-            Method get = cls.getMethod("getAsLong");
-            map.put(cls, new Object[] {create, nullConstant, isPresent, get});
-        } catch (Exception ex) {
-            // ignore
-        }
-        if (map.isEmpty()) {
-            OPTIONALS = Collections.emptyMap();
-        } else {
-            OPTIONALS = map;
-        }
+        map.put(Optional.class, new JdkHandler());
+        map.put(OptionalDouble.class, new JdkDoubleHandler());
+        map.put(OptionalInt.class, new JdkIntHandler());
+        map.put(OptionalLong.class, new JdkLongHandler());
+        OPTIONALS = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Finds the handler for the property, if it is an optional that is unwrapped.
+     * 
+     * @param metaProp  the property to query, not null
+     * @return the handler, null if not an optional
+     */
+    static Handler handler(MetaProperty<?> metaProp) {
+        return OPTIONALS.get(metaProp.propertyType());
     }
 
     /**
@@ -102,18 +77,9 @@ public class SerOptional {
     public static Object extractValue(MetaProperty<?> metaProp, Bean bean) {
         Object value = metaProp.get(bean);
         if (value != null) {
-            Object[] helpers = OPTIONALS.get(metaProp.propertyType());
-            if (helpers != null) {
-                try {
-                    boolean present = (Boolean) ((Method) helpers[2]).invoke(value);
-                    if (present) {
-                        value = ((Method) helpers[3]).invoke(value);
-                    } else {
-                        value = null;
-                    }
-                } catch (Exception ex) {
-                    throw new RuntimeException(ex);
-                }
+            Handler handler = OPTIONALS.get(metaProp.propertyType());
+            if (handler != null) {
+                value = handler.unwrap(value);
             }
         }
         return value;
@@ -128,8 +94,7 @@ public class SerOptional {
      */
     public static Class<?> extractType(MetaProperty<?> metaProp, Class<?> beanType) {
         Class<?> type = metaProp.propertyType();
-        Object[] helpers = OPTIONALS.get(type);
-        if (helpers != null) {
+        if (OPTIONALS.containsKey(type)) {
             try {
                 Class<?> genericType = JodaBeanUtils.extractTypeClass(metaProp, beanType, 1, 0);
                 type = (genericType != null ? genericType : type);
@@ -149,19 +114,135 @@ public class SerOptional {
      * @return the value of the property, with any optional wrapper added
      */
     public static Object wrapValue(MetaProperty<?> metaProp, Class<?> beanType, Object value) {
-        Object[] helpers = OPTIONALS.get(metaProp.propertyType());
-        if (helpers != null) {
+        Handler handler = OPTIONALS.get(metaProp.propertyType());
+        if (handler != null) {
+            return handler.wrap(value);
+        }
+        return value;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Handles one type of optional.
+     */
+    abstract static class Handler {
+
+        /**
+         * Unwraps the optional.
+         * 
+         * @param optional  the optional, not null
+         * @return the value, null if empty
+         */
+        abstract Object unwrap(Object optional);
+
+        /**
+         * Wraps the value in an optional.
+         * 
+         * @param value  the value, null returns the empty optional
+         * @return the optional, not null
+         */
+        abstract Object wrap(Object value);
+    }
+
+    /**
+     * Handles {@code java.util.Optional}.
+     */
+    static final class JdkHandler extends Handler {
+        @Override
+        Object unwrap(Object optional) {
+            return ((Optional<?>) optional).orElse(null);
+        }
+
+        @Override
+        Object wrap(Object value) {
+            return Optional.ofNullable(value);
+        }
+    }
+
+    /**
+     * Handles {@code java.util.OptionalDouble}.
+     */
+    static final class JdkDoubleHandler extends Handler {
+        @Override
+        Object unwrap(Object optional) {
+            OptionalDouble opt = (OptionalDouble) optional;
+            return opt.isPresent() ? opt.getAsDouble() : null;
+        }
+
+        @Override
+        Object wrap(Object value) {
+            return value != null ? OptionalDouble.of((Double) value) : OptionalDouble.empty();
+        }
+    }
+
+    /**
+     * Handles {@code java.util.OptionalInt}.
+     */
+    static final class JdkIntHandler extends Handler {
+        @Override
+        Object unwrap(Object optional) {
+            OptionalInt opt = (OptionalInt) optional;
+            return opt.isPresent() ? opt.getAsInt() : null;
+        }
+
+        @Override
+        Object wrap(Object value) {
+            return value != null ? OptionalInt.of((Integer) value) : OptionalInt.empty();
+        }
+    }
+
+    /**
+     * Handles {@code java.util.OptionalLong}.
+     */
+    static final class JdkLongHandler extends Handler {
+        @Override
+        Object unwrap(Object optional) {
+            OptionalLong opt = (OptionalLong) optional;
+            return opt.isPresent() ? opt.getAsLong() : null;
+        }
+
+        @Override
+        Object wrap(Object value) {
+            return value != null ? OptionalLong.of((Long) value) : OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Handles {@code com.google.common.base.Optional} using method handles.
+     */
+    static final class GuavaHandler extends Handler {
+        private final MethodHandle orNull;
+        private final MethodHandle fromNullable;
+
+        GuavaHandler(Class<?> cls) throws NoSuchMethodException, IllegalAccessException {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            this.orNull = lookup.findVirtual(cls, "orNull", MethodType.methodType(Object.class))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            this.fromNullable = lookup.findStatic(cls, "fromNullable", MethodType.methodType(cls, Object.class))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        }
+
+        @Override
+        Object unwrap(Object optional) {
             try {
-                if (value != null) {
-                    value = ((Method) helpers[0]).invoke(null, value);
-                } else {
-                    value = helpers[1];
-                }
-            } catch (Exception ex) {
+                return (Object) orNull.invokeExact(optional);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+
+        @Override
+        Object wrap(Object value) {
+            try {
+                return (Object) fromNullable.invokeExact(value);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
                 throw new RuntimeException(ex);
             }
         }
-        return value;
     }
 
 }
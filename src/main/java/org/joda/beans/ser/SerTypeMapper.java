@@ -16,20 +16,31 @@
 package org.joda.beans.ser;
 
 import java.io.File;
+import java.lang.ref.WeakReference;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.joda.convert.RenameHandler;
 
 /**
  * Type mapper for Joda-Bean serialization, used by serialization implementations.
+ * <p>
+ * The work of resolving types is cached globally, with the per-message known types
+ * only holding the short names that have been used in the message.
+ * Types are loaded using {@link RenameHandler}, with the cached result only used if
+ * the thread context class loader matches that used when the type was loaded.
  */
 public final class SerTypeMapper {
 
@@ -70,6 +81,31 @@ public final class SerTypeMapper {
         BASIC_TYPES = Collections.unmodifiableMap(map);
         BASIC_TYPES_REVERSED = Collections.unmodifiableMap(reversed);
     }
+    /**
+     * The maximum number of decoded types cached per class loader, beyond which entries are evicted.
+     */
+    private static final int MAX_DECODE_CACHE_SIZE = 10_000;
+    /**
+     * Cache of encoding information by class.
+     */
+    private static final ClassValue<EncodedType> ENCODE_CACHE = new ClassValue<EncodedType>() {
+        @Override
+        protected EncodedType computeValue(Class<?> type) {
+            return new EncodedType(type);
+        }
+    };
+    /**
+     * Cache of decoded types by full class name, keyed by the context class loader.
+     * Both the loader and the types are weakly held, so a discarded class loader can be garbage collected.
+     */
+    private static final Map<ClassLoader, ConcurrentMap<String, WeakReference<Class<?>>>> DECODE_CACHE = new WeakHashMap<>();
+    /**
+     * The decode cache last used by each thread, avoiding the lock on {@code DECODE_CACHE}.
+     * The key is the weakly held class loader, null for a null loader.
+     * Only JDK types are held, so a thread does not keep this library's class loader alive.
+     */
+    private static final ThreadLocal<SimpleImmutableEntry<WeakReference<ClassLoader>, ConcurrentMap<String, WeakReference<Class<?>>>>>
+            LAST_DECODE_CACHE = new ThreadLocal<>();
 
     /**
      * Creates an instance.
@@ -96,14 +132,9 @@ public final class SerTypeMapper {
         if (result != null) {
             return result;
         }
-        // handle enum subclasses
-        Class<?> supr1 = cls.getSuperclass();
-        if (supr1 != null) {
-            Class<?> supr2 = supr1.getSuperclass();
-            if (supr2 == Enum.class) {
-                cls = supr1;
-            }
-        }
+        // handles enum subclasses
+        EncodedType encoded = ENCODE_CACHE.get(cls);
+        cls = encoded.type;
         // calculate
         if (settings.isShortTypes()) {
             if (knownTypes != null) {
@@ -112,7 +143,7 @@ public final class SerTypeMapper {
                     return result;
                 }
             }
-            result = cls.getName();
+            result = encoded.name;
             if (basePackage != null &&
                     result.startsWith(basePackage) &&
                     Character.isUpperCase(result.charAt(basePackage.length())) &&
@@ -125,10 +156,8 @@ public final class SerTypeMapper {
             } else {
                 // use long format, short next time if possible
                 if (knownTypes != null) {
-                    String simpleName = cls.getSimpleName();
-                    if (Character.isUpperCase(simpleName.charAt(0)) &&
-                            BASIC_TYPES_REVERSED.containsKey(simpleName) == false &&
-                            knownTypes.containsValue(simpleName) == false) {
+                    String simpleName = encoded.simpleName;
+                    if (simpleName != null && knownTypes.containsValue(simpleName) == false) {
                         knownTypes.put(cls, simpleName);
                     } else {
                         knownTypes.put(cls, result);
@@ -136,7 +165,7 @@ public final class SerTypeMapper {
                 }
             }
         } else {
-            result = cls.getName();
+            result = encoded.name;
         }
         return result;
     }
@@ -217,7 +246,7 @@ public final class SerTypeMapper {
             expanded = true;
         }
         try {
-            result = RenameHandler.INSTANCE.lookupType(fullName);
+            result = lookupType(fullName);
             if (knownTypes != null) {
                 // cache full name
                 knownTypes.put(fullName, result);
@@ -225,17 +254,9 @@ public final class SerTypeMapper {
                     // cache short name
                     knownTypes.put(className, result);
                 } else {
-                    // derive and cache short name
-                    String simpleName = result.getSimpleName();
-                    // handle renames
-                    if (fullName.equals(result.getName()) == false &&
-                            RenameHandler.INSTANCE.getTypeRenames().containsKey(fullName) &&
-                            result.getEnclosingClass() == null) {
-                        simpleName = fullName.substring(fullName.lastIndexOf(".") + 1);
-                    }
-                    if (Character.isUpperCase(simpleName.charAt(0)) &&
-                            BASIC_TYPES_REVERSED.containsKey(simpleName) == false &&
-                            knownTypes.containsKey(simpleName) == false) {
+                    // cache derived short name
+                    String simpleName = decodedSimpleName(fullName, result);
+                    if (simpleName != null && knownTypes.containsKey(simpleName) == false) {
                         knownTypes.put(simpleName, result);
                     }
                 }
@@ -245,7 +266,7 @@ public final class SerTypeMapper {
             // handle pathological case of package name starting with upper case
             if (fullName.equals(className) == false) {
                 try {
-                    result = RenameHandler.INSTANCE.lookupType(className);
+                    result = lookupType(className);
                     if (knownTypes != null) {
                         knownTypes.put(className, result);
                     }
@@ -260,10 +281,98 @@ public final class SerTypeMapper {
         }
     }
 
+    // looks up the type, using the cache of the current context class loader
+    private static Class<?> lookupType(String fullName) throws ClassNotFoundException {
+        ConcurrentMap<String, WeakReference<Class<?>>> cache = decodeCache(Thread.currentThread().getContextClassLoader());
+        WeakReference<Class<?>> cached = cache.get(fullName);
+        Class<?> type = cached != null ? cached.get() : null;
+        if (type != null) {
+            return type;
+        }
+        type = RenameHandler.INSTANCE.lookupType(fullName);
+        if (cache.size() >= MAX_DECODE_CACHE_SIZE) {
+            // evict a single arbitrary entry rather than discarding the whole cache
+            Iterator<String> it = cache.keySet().iterator();
+            if (it.hasNext()) {
+                cache.remove(it.next());
+            }
+        }
+        cache.put(fullName, new WeakReference<>(type));
+        return type;
+    }
+
+    // gets the decode cache of the class loader, only locking when the thread changes loader
+    private static ConcurrentMap<String, WeakReference<Class<?>>> decodeCache(ClassLoader loader) {
+        SimpleImmutableEntry<WeakReference<ClassLoader>, ConcurrentMap<String, WeakReference<Class<?>>>> last =
+                LAST_DECODE_CACHE.get();
+        if (last != null && (last.getKey() == null ? loader == null : loader != null && last.getKey().get() == loader)) {
+            return last.getValue();
+        }
+        ConcurrentMap<String, WeakReference<Class<?>>> cache;
+        synchronized (DECODE_CACHE) {
+            cache = DECODE_CACHE.computeIfAbsent(loader, key -> new ConcurrentHashMap<>());
+        }
+        LAST_DECODE_CACHE.set(new SimpleImmutableEntry<>(loader != null ? new WeakReference<>(loader) : null, cache));
+        return cache;
+    }
+
+    // gets the simple name of a decoded type, null if not suitable to be used as a short name
+    private static String decodedSimpleName(String fullName, Class<?> type) {
+        String simpleName = type.getSimpleName();
+        // handle renames
+        if (fullName.equals(type.getName()) == false &&
+                RenameHandler.INSTANCE.getTypeRenames().containsKey(fullName) &&
+                type.getEnclosingClass() == null) {
+            simpleName = fullName.substring(fullName.lastIndexOf(".") + 1);
+        }
+        return isShortName(simpleName) ? simpleName : null;
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public String toString() {
         return getClass().getSimpleName();
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * The information needed to encode a type.
+     */
+    private static final class EncodedType {
+        /**
+         * The type to encode, which is the declaring enum type for enum subclasses.
+         */
+        private final Class<?> type;
+        /**
+         * The full name.
+         */
+        private final String name;
+        /**
+         * The simple name, null if not suitable to be used as a short name.
+         */
+        private final String simpleName;
+
+        private EncodedType(Class<?> cls) {
+            // handle enum subclasses
+            Class<?> supr1 = cls.getSuperclass();
+            if (supr1 != null) {
+                Class<?> supr2 = supr1.getSuperclass();
+                if (supr2 == Enum.class) {
+                    cls = supr1;
+                }
+            }
+            String simpleName = cls.getSimpleName();
+            this.type = cls;
+            this.name = cls.getName();
+            this.simpleName = isShortName(simpleName) ? simpleName : null;
+        }
+    }
+
+    // checks if the simple name can be used as a short name
+    private static boolean isShortName(String simpleName) {
+        return simpleName.length() > 0 &&
+                Character.isUpperCase(simpleName.charAt(0)) &&
+                BASIC_TYPES_REVERSED.containsKey(simpleName) == false;
+    }
+
 }
@@ -15,7 +15,6 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
@@ -24,7 +23,9 @@ import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
 import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
+import org.joda.beans.ser.DefaultDeserializer;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerBeanCodec;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerDeserializer;
 import org.joda.beans.ser.SerIterable;
@@ -46,7 +47,7 @@ abstract class AbstractBinReader extends MsgPack {
     /**
      * The reader.
      */
-    final DataInputStream input;  // CSIGNORE
+    final MsgPackSource input;  // CSIGNORE
     /**
      * The base package including the trailing dot.
      */
@@ -58,7 +59,7 @@ abstract class AbstractBinReader extends MsgPack {
 
     //-----------------------------------------------------------------------
     // creates an instance
-    AbstractBinReader(JodaBeanSer settings, DataInputStream input) {
+    AbstractBinReader(JodaBeanSer settings, MsgPackSource input) {
         this.settings = settings;
         this.input = input;
     }
@@ -91,12 +92,19 @@ abstract class AbstractBinReader extends MsgPack {
             SerDeserializer deser = settings.getDeserializers().findDeserializer(beanType);
             MetaBean metaBean = deser.findMetaBean(beanType);
             BeanBuilder<?> builder = deser.createBuilder(beanType, metaBean);
+            SerBeanCodec<?> codec = deser == DefaultDeserializer.INSTANCE ? SerBeanCodec.find(beanType) : null;
             for (int i = 0; i < propertyCount; i++) {
                 // property name
                 propName = acceptPropertyName();
+                if (codec != null && parseCodecProperty(codec, builder, propName)) {
+                    propName = "";
+                    continue;
+                }
                 MetaProperty<?> metaProp = deser.findMetaProperty(beanType, metaBean, propName);
                 if (metaProp == null || metaProp.style().isDerived()) {
                     MsgPackInput.skipObject(input);
+                } else if (deser == DefaultDeserializer.INSTANCE && parsePrimitiveProperty(builder, metaProp)) {
+                    // parsed directly into the builder
                 } else {
                     Object value = parseObject(SerOptional.extractType(metaProp, beanType), metaProp, beanType, null, false);
                     deser.setValue(builder, metaProp, SerOptional.wrapValue(metaProp, beanType, value));
@@ -109,6 +117,87 @@ abstract class AbstractBinReader extends MsgPack {
         }
     }
 
+    // parses the value of a property directly into the builder using the codec
+    // returns false if the property must be parsed generically, in which case no data has been consumed
+    private boolean parseCodecProperty(SerBeanCodec<?> codec, BeanBuilder<?> builder, String propName) throws IOException {
+        int index = codec.index(propName);
+        if (index < 0) {
+            return false;
+        }
+        Class<?> type = codec.getPropertyType(index);
+        if (type == null) {
+            return false;
+        }
+        input.mark(9);
+        int typeByte = input.readByte();
+        if (type == String.class) {
+            if (isString(typeByte)) {
+                codec.setString(builder, index, acceptString(typeByte));
+                return true;
+            }
+        } else if (type == int.class) {
+            if (isIntegral(typeByte)) {
+                long value = acceptLong(typeByte);
+                if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                    codec.setInt(builder, index, (int) value);
+                    return true;
+                }
+            }
+        } else if (type == long.class) {
+            if (isIntegral(typeByte)) {
+                codec.setLong(builder, index, acceptLong(typeByte));
+                return true;
+            }
+        } else if (type == double.class) {
+            if (typeByte == FLOAT_64) {
+                codec.setDouble(builder, index, input.readDouble());
+                return true;
+            }
+        } else if (typeByte == TRUE || typeByte == FALSE) {
+            codec.setBoolean(builder, index, typeByte == TRUE);
+            return true;
+        }
+        input.reset();
+        return false;
+    }
+
+    // parses the value of a primitive property directly into the builder without boxing
+    // returns false if the property must be parsed generically, in which case no data has been consumed
+    private boolean parsePrimitiveProperty(BeanBuilder<?> builder, MetaProperty<?> metaProp) throws IOException {
+        Class<?> type = metaProp.propertyType();
+        if (type.isPrimitive() == false) {
+            return false;
+        }
+        input.mark(9);
+        int typeByte = input.readByte();
+        if (type == int.class) {
+            if (isIntegral(typeByte)) {
+                long value = acceptLong(typeByte);
+                if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                    builder.setInt(metaProp, (int) value);
+                    return true;
+                }
+            }
+        } else if (type == long.class) {
+            if (isIntegral(typeByte)) {
+                builder.setLong(metaProp, acceptLong(typeByte));
+                return true;
+            }
+        } else if (type == double.class) {
+            if (typeByte == FLOAT_64) {
+                builder.setDouble(metaProp, input.readDouble());
+                return true;
+            }
+        } else if (type == boolean.class) {
+            if (typeByte == TRUE || typeByte == FALSE) {
+                builder.setBoolean(metaProp, typeByte == TRUE);
+                return true;
+            }
+        }
+        input.reset();
+        return false;
+    }
+
     String acceptPropertyName() throws IOException {
         byte typeByte = input.readByte();
         return acceptString(typeByte);
@@ -401,19 +490,7 @@ abstract class AbstractBinReader extends MsgPack {
     }
 
     String acceptStringBytes(int size) throws IOException {
-        byte[] bytes = new byte[size];
-        input.readFully(bytes);
-        // inline common ASCII case for much better performance
-        char[] chars = new char[size];
-        for (int i = 0; i < size; i++) {
-            byte b = bytes[i];
-            if (b >= 0) {
-                chars[i] = (char) b;
-            } else {
-                return new String(bytes, UTF_8);
-            }
-        }
-        return new String(chars);
+        return input.readString(size);
     }
 
     byte[] acceptBinary(int typeByte) throws IOException {
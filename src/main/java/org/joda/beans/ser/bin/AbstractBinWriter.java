@@ -16,16 +16,17 @@
 package org.joda.beans.ser.bin;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.joda.beans.Bean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerBeanCodec;
+import org.joda.beans.ser.SerBeanPlan;
+import org.joda.beans.ser.SerBeanPlan.PropertyPlan;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
 import org.joda.beans.ser.SerTypeMapper;
 
 /**
@@ -41,7 +42,7 @@ abstract class AbstractBinWriter {
      */
     final JodaBeanSer settings;  // CSIGNORE
     /**
-     * The output stream.
+     * The output.
      */
     final MsgPackOutput output;  // CSIGNORE
     /**
@@ -54,9 +55,9 @@ abstract class AbstractBinWriter {
     private Map<Class<?>, String> knownTypes = new HashMap<>();
 
     // creates an instance
-    AbstractBinWriter(JodaBeanSer settings, OutputStream output) {
+    AbstractBinWriter(JodaBeanSer settings, JodaBeanBinBuffer buffer) {
         this.settings = settings;
-        this.output = new MsgPackOutput(output);
+        this.output = new MsgPackOutput(buffer);
     }
 
     //-----------------------------------------------------------------------
@@ -65,19 +66,47 @@ abstract class AbstractBinWriter {
     }
 
     void writeBean(Bean bean, Class<?> declaredType, RootType rootTypeFlag) throws IOException {
-        int count = bean.metaBean().metaPropertyCount();
-        MetaProperty<?>[] props = new MetaProperty<?>[count];
+        SerBeanPlan plan = settings.beanPlan(bean);
+        SerBeanCodec<Bean> codec = plan.getCodec();
+        if (codec != null) {
+            // the values are collected once, as the count is needed for the map header
+            CodecValues values = new CodecValues(plan);
+            codec.write(bean, values);
+            writeBeanHeader(bean, declaredType, rootTypeFlag, values.size);
+            values.write(codec, bean);
+            return;
+        }
+        int count = plan.size();
+        PropertyPlan[] props = new PropertyPlan[count];
         Object[] values = new Object[count];
         int size = 0;
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (settings.isSerialized(prop)) {
-                Object value = SerOptional.extractValue(prop, bean);
-                if (value != null) {
-                    props[size] = prop;
-                    values[size++] = value;
-                }
+        for (int i = 0; i < count; i++) {
+            PropertyPlan prop = plan.property(i);
+            if (prop.getPrimitiveType() != null) {
+                // primitives are never null, and are read when written to avoid boxing
+                props[size++] = prop;
+                continue;
+            }
+            Object value = prop.extractValue(bean);
+            if (value != null) {
+                props[size] = prop;
+                values[size++] = value;
             }
         }
+        writeBeanHeader(bean, declaredType, rootTypeFlag, size);
+        for (int i = 0; i < size; i++) {
+            PropertyPlan prop = props[i];
+            output.writeString(prop.getNameBytes());
+            if (prop.getPrimitiveType() != null) {
+                writePrimitive(prop, bean);
+            } else {
+                writePropertyValue(prop, bean, values[i]);
+            }
+        }
+    }
+
+    // writes the map header of a bean, including the type if necessary
+    private void writeBeanHeader(Bean bean, Class<?> declaredType, RootType rootTypeFlag, int size) throws IOException {
         if (rootTypeFlag == RootType.ROOT_WITH_TYPE || (rootTypeFlag == RootType.NOT_ROOT && bean.getClass() != declaredType)) {
             String type = SerTypeMapper.encodeType(bean.getClass(), settings, basePackage, knownTypes);
             if (rootTypeFlag == RootType.ROOT_WITH_TYPE) {
@@ -89,28 +118,42 @@ abstract class AbstractBinWriter {
         } else {
             output.writeMapHeader(size);
         }
-        for (int i = 0; i < size; i++) {
-            MetaProperty<?> prop = props[i];
-            Object value = values[i];
-            output.writeString(prop.name());
-            Class<?> propType = SerOptional.extractType(prop, bean.getClass());
-            if (value instanceof Bean) {
-                if (settings.getConverter().isConvertible(value.getClass())) {
-                    writeSimple(propType, value);
-                } else {
-                    writeBean((Bean) value, propType, RootType.NOT_ROOT);
-                }
+    }
+
+    // writes the non-null value of a property that is not a primitive
+    private void writePropertyValue(PropertyPlan prop, Bean bean, Object value) throws IOException {
+        Class<?> propType = prop.getPropertyType();
+        if (value instanceof Bean) {
+            if (settings.getConverter().isConvertible(value.getClass())) {
+                writeSimple(propType, value);
             } else {
-                SerIterator itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass());
-                if (itemIterator != null) {
-                    writeElements(itemIterator);
-                } else {
-                    writeSimple(propType, value);
-                }
+                writeBean((Bean) value, propType, RootType.NOT_ROOT);
+            }
+        } else {
+            SerIterator itemIterator = settings.getIteratorFactory().create(value, prop.getMetaProperty(), bean.getClass());
+            if (itemIterator != null) {
+                writeElements(itemIterator);
+            } else {
+                writeSimple(propType, value);
             }
         }
     }
 
+    // writes a primitive property without boxing, matching the output of writeSimple()
+    void writePrimitive(PropertyPlan prop, Bean bean) throws IOException {
+        MetaProperty<?> metaProperty = prop.getMetaProperty();
+        Class<?> type = prop.getPrimitiveType();
+        if (type == int.class) {
+            output.writeInt(metaProperty.getInt(bean));
+        } else if (type == long.class) {
+            output.writeLong(metaProperty.getLong(bean));
+        } else if (type == double.class) {
+            output.writeDouble(metaProperty.getDouble(bean));
+        } else {
+            output.writeBoolean(metaProperty.getBoolean(bean));
+        }
+    }
+
     //-----------------------------------------------------------------------
     void writeMetaPropertyReference(String metaTypeName) throws IOException {
         output.writeExtensionString(MsgPack.JODA_TYPE_META, metaTypeName);
@@ -301,6 +344,107 @@ abstract class AbstractBinWriter {
         output.writeString(converted);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Collects the properties passed from a codec, then writes them matching the output of the generic approach.
+     * <p>
+     * Primitive values are held without boxing, with {@code double} stored as its raw bits.
+     */
+    private final class CodecValues implements SerBeanCodec.Output {
+        /**
+         * The plan.
+         */
+        private final SerBeanPlan plan;
+        /**
+         * The indices of the properties to write.
+         */
+        private final int[] indices;
+        /**
+         * The primitive values, by position.
+         */
+        private final long[] primitives;
+        /**
+         * The object values, by position.
+         */
+        private final Object[] values;
+        /**
+         * The number of properties to write.
+         */
+        private int size;
+
+        // creates an instance
+        private CodecValues(SerBeanPlan plan) {
+            this.plan = plan;
+            this.indices = new int[plan.size()];
+            this.primitives = new long[plan.size()];
+            this.values = new Object[plan.size()];
+        }
+
+        @Override
+        public void writeString(int index, String value) {
+            if (value != null) {
+                indices[size] = index;
+                values[size++] = value;
+            }
+        }
+
+        @Override
+        public void writeInt(int index, int value) {
+            indices[size] = index;
+            primitives[size++] = value;
+        }
+
+        @Override
+        public void writeLong(int index, long value) {
+            indices[size] = index;
+            primitives[size++] = value;
+        }
+
+        @Override
+        public void writeDouble(int index, double value) {
+            indices[size] = index;
+            primitives[size++] = Double.doubleToRawLongBits(value);
+        }
+
+        @Override
+        public void writeBoolean(int index, boolean value) {
+            indices[size] = index;
+            primitives[size++] = value ? 1 : 0;
+        }
+
+        @Override
+        public void writeObject(int index, Object value) {
+            Object unwrapped = plan.property(index).unwrapValue(value);
+            if (unwrapped != null) {
+                indices[size] = index;
+                values[size++] = unwrapped;
+            }
+        }
+
+        // writes the collected properties
+        private void write(SerBeanCodec<Bean> codec, Bean bean) throws IOException {
+            for (int i = 0; i < size; i++) {
+                int index = indices[i];
+                PropertyPlan prop = plan.property(index);
+                output.writeString(prop.getNameBytes());
+                Class<?> type = codec.getPropertyType(index);
+                if (type == String.class) {
+                    output.writeString((String) values[i]);
+                } else if (type == int.class) {
+                    output.writeInt((int) primitives[i]);
+                } else if (type == long.class) {
+                    output.writeLong(primitives[i]);
+                } else if (type == double.class) {
+                    output.writeDouble(Double.longBitsToDouble(primitives[i]));
+                } else if (type == boolean.class) {
+                    output.writeBoolean(primitives[i] != 0);
+                } else {
+                    writePropertyValue(prop, bean, values[i]);
+                }
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     enum RootType {
         ROOT_WITH_TYPE,
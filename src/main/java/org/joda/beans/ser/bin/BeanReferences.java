@@ -25,16 +25,15 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.StreamSupport;
 
 import org.joda.beans.Bean;
 import org.joda.beans.ImmutableBean;
-import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerBeanPlan;
+import org.joda.beans.ser.SerBeanPlan.PropertyPlan;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
 
 /**
  * Stores information on the references in a bean.
@@ -78,7 +77,7 @@ final class BeanReferences {
     // finds classes and references within the bean
     private void findReferences(ImmutableBean root) {
         // handle root bean
-        classes.put(root.getClass(), classInfoFromMetaBean(root.metaBean()));
+        classes.put(root.getClass(), classInfoFromBean(root));
         classSerializationCount.put(root.getClass(), 1);
 
         // recursively check object graph
@@ -145,21 +144,25 @@ final class BeanReferences {
                 return;
             }
 
-            for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-                if (settings.isSerialized(prop)) {
-                    Object value = prop.get(bean);
-                    Class<?> type = SerOptional.extractType(prop, base.getClass());
-
-                    if (value != null) {
-                        SerIterator itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass());
-                        if (itemIterator != null) {
-                            if (itemIterator.metaTypeRequired()) {
-                                objects.compute(itemIterator.metaTypeName(), BeanReferences::incrementOrOne);
-                            }
-                            findReferencesIterable(itemIterator, objects);
-                        } else {
-                            findReferencesBean(value, type, objects, null);
+            SerBeanPlan plan = settings.beanPlan(bean);
+            for (int i = 0; i < plan.size(); i++) {
+                PropertyPlan prop = plan.property(i);
+                if (prop.getPrimitiveType() != null) {
+                    // primitives never need references
+                    continue;
+                }
+                Object value = prop.getMetaProperty().get(bean);
+                Class<?> type = prop.getPropertyType();
+
+                if (value != null) {
+                    SerIterator itemIterator = settings.getIteratorFactory().create(value, prop.getMetaProperty(), bean.getClass());
+                    if (itemIterator != null) {
+                        if (itemIterator.metaTypeRequired()) {
+                            objects.compute(itemIterator.metaTypeName(), BeanReferences::incrementOrOne);
                         }
+                        findReferencesIterable(itemIterator, objects);
+                    } else {
+                        findReferencesBean(value, type, objects, null);
                     }
                 }
             }
@@ -228,7 +231,7 @@ final class BeanReferences {
             // Don't need metaproperty info if it's a convertible type
             ClassInfo classInfo = isConvertible ?
                     new ClassInfo(value.getClass(), new MetaProperty<?>[0]) :
-                    classInfoFromMetaBean(bean.metaBean());
+                    classInfoFromBean(bean);
 
             addClassInfoAndIncrementCount(bean.getClass(), classInfo);
             
@@ -249,14 +252,12 @@ final class BeanReferences {
         classSerializationCount.compute(type, BeanReferences::incrementOrOne);
     }
 
-    // converts a meta-bean to a ClassInfo
-    private ClassInfo classInfoFromMetaBean(MetaBean metaBean) {
-        MetaProperty<?>[] metaProperties = StreamSupport.stream(metaBean.metaPropertyIterable().spliterator(), false)
-            .filter(metaProp -> settings.isSerialized(metaProp))
-            .toArray(MetaProperty<?>[]::new);
+    // converts a bean to a ClassInfo
+    private ClassInfo classInfoFromBean(Bean bean) {
+        SerBeanPlan plan = settings.beanPlan(bean);
 
         // Positions get recreated when all classes have been recorded
-        return new ClassInfo(metaBean.beanType(), metaProperties);
+        return new ClassInfo(plan.getMetaBean().beanType(), plan.metaProperties());
     }
 
     // Used in Map#compute so we can initialise all the values to one and then increment
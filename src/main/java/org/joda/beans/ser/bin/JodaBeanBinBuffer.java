@@ -0,0 +1,270 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A growable buffer that binary data can be written to, and that can be reused.
+ * <p>
+ * An instance of this class is passed to {@link JodaBeanBinWriter#write(org.joda.beans.Bean, JodaBeanBinBuffer)}.
+ * The encoded bytes are appended to the buffer, which grows as necessary.
+ * Once the data has been used, the buffer can be {@link #reset() reset} and reused,
+ * avoiding the allocation of a new array for each message.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ * Typically, one instance is held per thread.
+ */
+public final class JodaBeanBinBuffer {
+
+    /**
+     * The default initial capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+    /**
+     * The capacity used when streaming.
+     */
+    private static final int STREAM_CAPACITY = 8192;
+    /**
+     * The maximum array size.
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * The bytes.
+     */
+    private byte[] bytes;
+    /**
+     * The number of valid bytes.
+     */
+    private int size;
+    /**
+     * The stream that full buffers are flushed to, null if not streaming.
+     */
+    private final OutputStream stream;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates an instance with the default initial capacity.
+     */
+    public JodaBeanBinBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an instance with the specified initial capacity.
+     *
+     * @param initialCapacity  the initial capacity, zero or greater
+     */
+    public JodaBeanBinBuffer(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must not be negative");
+        }
+        this.bytes = new byte[initialCapacity];
+        this.stream = null;
+    }
+
+    /**
+     * Creates an instance that flushes to a stream when full.
+     * <p>
+     * This is used to write to an {@code OutputStream} without holding the whole message in memory.
+     * A write that would overflow the buffer causes the valid data to be written to the stream first.
+     * Any {@code IOException} is wrapped in {@code UncheckedIOException}.
+     *
+     * @param stream  the stream to flush to, not null
+     */
+    JodaBeanBinBuffer(OutputStream stream) {
+        this.bytes = new byte[STREAM_CAPACITY];
+        this.stream = stream;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of bytes that have been written.
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the current capacity of the buffer.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return bytes.length;
+    }
+
+    /**
+     * Resets the buffer to be empty, retaining the capacity.
+     */
+    public void reset() {
+        size = 0;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the internal array, without copying.
+     * <p>
+     * The valid data is from index zero to {@link #size()}.
+     * The array is only valid until the next write or reset.
+     *
+     * @return the internal array, not null
+     */
+    public byte[] array() {
+        return bytes;
+    }
+
+    /**
+     * Returns a {@code ByteBuffer} view of the valid data, without copying.
+     * <p>
+     * The buffer has a position of zero and a limit of {@link #size()}.
+     * The view is only valid until the next write or reset.
+     *
+     * @return the buffer view, not null
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(bytes, 0, size);
+    }
+
+    /**
+     * Returns a copy of the valid data.
+     *
+     * @return the copied bytes, not null
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    /**
+     * Writes the valid data to a byte buffer.
+     *
+     * @param target  the buffer to write to, not null
+     * @throws java.nio.BufferOverflowException if the target has insufficient space
+     */
+    public void writeTo(ByteBuffer target) {
+        target.put(bytes, 0, size);
+    }
+
+    /**
+     * Writes the valid data to an output stream.
+     *
+     * @param output  the stream to write to, not null
+     * @throws IOException if an error occurs
+     */
+    public void writeTo(OutputStream output) throws IOException {
+        output.write(bytes, 0, size);
+    }
+
+    // writes the valid data to the stream and empties the buffer, used when streaming
+    void flush() {
+        try {
+            stream.write(bytes, 0, size);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        size = 0;
+    }
+
+    // truncates the buffer, used to discard partially written data
+    void truncate(int newSize) {
+        size = newSize;
+    }
+
+    // reserves space for the specified number of bytes to be written directly to the array, returning the index
+    int reserve(int count) {
+        int i = ensure(count);
+        size = i + count;
+        return i;
+    }
+
+    //-----------------------------------------------------------------------
+    // ensures that the specified number of bytes can be written, returning the current size
+    // when streaming, this may flush the buffer, thus the size may decrease
+    int ensure(int count) {
+        int current = size;
+        if (count > bytes.length - current) {
+            if (stream != null) {
+                flush();
+                current = 0;
+                if (count <= bytes.length) {
+                    return current;
+                }
+            }
+            grow(current + count);
+        }
+        return current;
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("Binary data too large");
+        }
+        long doubled = Math.max(bytes.length * 2L, 16L);
+        bytes = Arrays.copyOf(bytes, (int) Math.min(Math.max(doubled, minCapacity), MAX_ARRAY_SIZE));
+    }
+
+    void writeByte(int value) {
+        int i = ensure(1);
+        bytes[i] = (byte) value;
+        size = i + 1;
+    }
+
+    void writeShort(int value) {
+        int i = ensure(2);
+        byte[] array = bytes;
+        array[i] = (byte) (value >>> 8);
+        array[i + 1] = (byte) value;
+        size = i + 2;
+    }
+
+    void writeInt(int value) {
+        int i = ensure(4);
+        byte[] array = bytes;
+        array[i] = (byte) (value >>> 24);
+        array[i + 1] = (byte) (value >>> 16);
+        array[i + 2] = (byte) (value >>> 8);
+        array[i + 3] = (byte) value;
+        size = i + 4;
+    }
+
+    void writeLong(long value) {
+        int i = ensure(8);
+        byte[] array = bytes;
+        array[i] = (byte) (value >>> 56);
+        array[i + 1] = (byte) (value >>> 48);
+        array[i + 2] = (byte) (value >>> 40);
+        array[i + 3] = (byte) (value >>> 32);
+        array[i + 4] = (byte) (value >>> 24);
+        array[i + 5] = (byte) (value >>> 16);
+        array[i + 6] = (byte) (value >>> 8);
+        array[i + 7] = (byte) value;
+        size = i + 8;
+    }
+
+    void write(byte[] data) {
+        int i = ensure(data.length);
+        System.arraycopy(data, 0, bytes, i, data.length);
+        size = i + data.length;
+    }
+
+}
@@ -15,9 +15,8 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import org.joda.beans.Bean;
 import org.joda.beans.ser.JodaBeanSer;
@@ -73,6 +72,8 @@ public class JodaBeanBinReader extends MsgPack {
 
     /**
      * Reads and parses to a bean.
+     * <p>
+     * The bytes are read directly from the array without copying.
      * 
      * @param <T>  the root type
      * @param input  the input bytes, not null
@@ -83,7 +84,66 @@ public class JodaBeanBinReader extends MsgPack {
         if (input == null) {
             throw new NullPointerException("input");
         }
-        return read(new ByteArrayInputStream(input), rootType);
+        return read(input, 0, input.length, rootType);
+    }
+
+    /**
+     * Reads and parses to a bean from part of a byte array.
+     * <p>
+     * The bytes are read directly from the array without copying.
+     * 
+     * @param <T>  the root type
+     * @param input  the input bytes, not null
+     * @param offset  the offset of the first byte to read
+     * @param length  the number of bytes available to read
+     * @param rootType  the root type, not null
+     * @return the bean, not null
+     * @throws IndexOutOfBoundsException if the offset and length are invalid
+     */
+    public <T> T read(byte[] input, int offset, int length, Class<T> rootType) {
+        if (input == null) {
+            throw new NullPointerException("input");
+        }
+        if (rootType == null) {
+            throw new NullPointerException("rootType");
+        }
+        return read(MsgPackSource.of(input, offset, length), rootType);
+    }
+
+    /**
+     * Reads and parses to a bean.
+     * <p>
+     * The bytes from the position to the limit of the buffer are read directly, without copying.
+     * Both heap and direct buffers are supported.
+     * The position, limit and byte order of the buffer are not altered.
+     * 
+     * @param input  the input buffer, not null
+     * @return the bean, not null
+     */
+    public Bean read(ByteBuffer input) {
+        return read(input, Bean.class);
+    }
+
+    /**
+     * Reads and parses to a bean.
+     * <p>
+     * The bytes from the position to the limit of the buffer are read directly, without copying.
+     * Both heap and direct buffers are supported.
+     * The position, limit and byte order of the buffer are not altered.
+     * 
+     * @param <T>  the root type
+     * @param input  the input buffer, not null
+     * @param rootType  the root type, not null
+     * @return the bean, not null
+     */
+    public <T> T read(ByteBuffer input, Class<T> rootType) {
+        if (input == null) {
+            throw new NullPointerException("input");
+        }
+        if (rootType == null) {
+            throw new NullPointerException("rootType");
+        }
+        return read(MsgPackSource.of(input), rootType);
     }
 
     /**
@@ -111,15 +171,14 @@ public class JodaBeanBinReader extends MsgPack {
         if (rootType == null) {
             throw new NullPointerException("rootType");
         }
-        DataInputStream dataInput;
-        if (input instanceof DataInputStream) {
-            dataInput = (DataInputStream) input;
-        } else {
-            dataInput = new DataInputStream(input);
-        }
+        return read(MsgPackSource.of(input), rootType);
+    }
+
+    // reads from the source, closing it
+    private <T> T read(MsgPackSource input, Class<T> rootType) {
         try {
             try {
-                return parseVersion(dataInput, rootType);
+                return parseVersion(input, rootType);
             } finally {
                 input.close();
             }
@@ -132,7 +191,7 @@ public class JodaBeanBinReader extends MsgPack {
 
     //-----------------------------------------------------------------------
     // parses the version
-    private <T> T parseVersion(DataInputStream input, Class<T> declaredType) throws Exception {
+    private <T> T parseVersion(MsgPackSource input, Class<T> declaredType) throws Exception {
         // root array
         int arrayByte = input.readByte();
         int versionByte = input.readByte();
@@ -15,9 +15,9 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 
 import org.joda.beans.Bean;
 import org.joda.beans.ImmutableBean;
@@ -142,13 +142,9 @@ public class JodaBeanBinWriter {
      * @return the binary data, not null
      */
     public byte[] write(Bean bean, boolean rootType) {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream(1024);
-        try {
-            write(bean, rootType, baos);
-        } catch (IOException ex) {
-            throw new IllegalStateException(ex);
-        }
-        return baos.toByteArray();
+        JodaBeanBinBuffer buffer = new JodaBeanBinBuffer();
+        write(bean, rootType, buffer);
+        return buffer.toByteArray();
     }
 
     /**
@@ -179,14 +175,72 @@ public class JodaBeanBinWriter {
         if (output == null) {
             throw new NullPointerException("output");
         }
+        JodaBeanBinBuffer buffer = new JodaBeanBinBuffer(output);
+        try {
+            writeBean(bean, rootType, buffer);
+            buffer.flush();
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Writes the bean to a reusable buffer.
+     * <p>
+     * The type of the bean will be set in the message.
+     * The data is appended to the buffer, which grows as necessary.
+     * The buffer may be reset and reused for the next message, avoiding allocation.
+     * 
+     * @param bean  the bean to output, not null
+     * @param buffer  the buffer to append to, not null
+     * @return the number of bytes written
+     */
+    public int write(Bean bean, JodaBeanBinBuffer buffer) {
+        return write(bean, true, buffer);
+    }
+
+    /**
+     * Writes the bean to a reusable buffer.
+     * <p>
+     * The data is appended to the buffer, which grows as necessary.
+     * The buffer may be reset and reused for the next message, avoiding allocation.
+     * If an exception is thrown, the buffer is restored to its previous size.
+     * 
+     * @param bean  the bean to output, not null
+     * @param rootType  true to output the root type
+     * @param buffer  the buffer to append to, not null
+     * @return the number of bytes written
+     */
+    public int write(Bean bean, boolean rootType, JodaBeanBinBuffer buffer) {
+        if (bean == null) {
+            throw new NullPointerException("bean");
+        }
+        if (buffer == null) {
+            throw new NullPointerException("buffer");
+        }
+        int start = buffer.size();
+        try {
+            writeBean(bean, rootType, buffer);
+        } catch (IOException ex) {
+            buffer.truncate(start);
+            throw new IllegalStateException(ex);
+        } catch (RuntimeException ex) {
+            buffer.truncate(start);
+            throw ex;
+        }
+        return buffer.size() - start;
+    }
+
+    // writes the bean to the buffer
+    private void writeBean(Bean bean, boolean rootType, JodaBeanBinBuffer buffer) throws IOException {
         if (referencing) {
             if (!(bean instanceof ImmutableBean)) {
                 throw new IllegalArgumentException(
                     "Referencing binary format can only write ImmutableBean instances: " + bean.getClass().getName());
             }
-            new JodaBeanReferencingBinWriter(settings, output).write((ImmutableBean) bean);
+            new JodaBeanReferencingBinWriter(settings, buffer).write((ImmutableBean) bean);
         } else {
-            new JodaBeanStandardBinWriter(settings, output).write(bean, rootType);
+            new JodaBeanStandardBinWriter(settings, buffer).write(bean, rootType);
         }
     }
 
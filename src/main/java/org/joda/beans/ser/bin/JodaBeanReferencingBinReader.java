@@ -15,7 +15,6 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -56,7 +55,7 @@ class JodaBeanReferencingBinReader extends AbstractBinReader {
 
     //-----------------------------------------------------------------------
     // creates an instance
-    JodaBeanReferencingBinReader(JodaBeanSer settings, DataInputStream input) {
+    JodaBeanReferencingBinReader(JodaBeanSer settings, MsgPackSource input) {
         super(settings, input);
     }
 
@@ -16,15 +16,15 @@
 package org.joda.beans.ser.bin;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.util.List;
 
 import org.joda.beans.Bean;
 import org.joda.beans.ImmutableBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerBeanPlan;
+import org.joda.beans.ser.SerBeanPlan.PropertyPlan;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
 import org.joda.beans.ser.SerTypeMapper;
 import org.joda.beans.ser.bin.BeanReferences.ClassInfo;
 import org.joda.beans.ser.bin.BeanReferences.Ref;
@@ -37,8 +37,8 @@ class JodaBeanReferencingBinWriter extends AbstractBinWriter {
     private BeanReferences references;
 
     // creates an instance
-    JodaBeanReferencingBinWriter(JodaBeanSer settings, OutputStream output) {
-        super(settings, output);
+    JodaBeanReferencingBinWriter(JodaBeanSer settings, JodaBeanBinBuffer buffer) {
+        super(settings, buffer);
     }
 
     //-----------------------------------------------------------------------
@@ -88,13 +88,14 @@ class JodaBeanReferencingBinWriter extends AbstractBinWriter {
         }
 
         ClassInfo classInfo = references.getClassInfo(bean.getClass());
-        MetaProperty<?>[] props = classInfo.metaProperties;
-        int count = props.length;
+        SerBeanPlan plan = settings.beanPlan(bean);
+        int count = plan.size();
         Object[] values = new Object[count];
         int size = 0;
-        for (MetaProperty<?> prop : props) {
-            Object value = SerOptional.extractValue(prop, bean);
-            values[size++] = value;
+        for (int i = 0; i < count; i++) {
+            PropertyPlan prop = plan.property(i);
+            // primitives are read when written to avoid boxing
+            values[size++] = prop.getPrimitiveType() != null ? null : prop.extractValue(bean);
         }
 
         if (rootTypeFlag == RootType.ROOT_WITH_TYPE || (rootTypeFlag == RootType.NOT_ROOT && bean.getClass() != declaredType)) {
@@ -105,11 +106,15 @@ class JodaBeanReferencingBinWriter extends AbstractBinWriter {
         }
 
         for (int i = 0; i < size; i++) {
-            MetaProperty<?> prop = props[i];
+            PropertyPlan prop = plan.property(i);
             Object value = values[i];
 
-            Class<?> propType = SerOptional.extractType(prop, bean.getClass());
+            Class<?> propType = prop.getPropertyType();
 
+            if (prop.getPrimitiveType() != null) {
+                writePrimitive(prop, bean);
+                continue;
+            }
             if (value == null) {
                 output.writeNil();
                 continue;
@@ -122,7 +127,7 @@ class JodaBeanReferencingBinWriter extends AbstractBinWriter {
                     writeBean((Bean) value, propType, RootType.NOT_ROOT);
                 }
             } else {
-                SerIterator itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass());
+                SerIterator itemIterator = settings.getIteratorFactory().create(value, prop.getMetaProperty(), bean.getClass());
                 if (itemIterator != null) {
                     writeElements(itemIterator);
                 } else {
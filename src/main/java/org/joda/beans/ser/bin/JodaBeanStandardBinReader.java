@@ -15,8 +15,6 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.DataInputStream;
-
 import org.joda.beans.ser.JodaBeanSer;
 
 /**
@@ -25,7 +23,7 @@ import org.joda.beans.ser.JodaBeanSer;
 class JodaBeanStandardBinReader extends AbstractBinReader {
 
     // creates an instance
-    JodaBeanStandardBinReader(JodaBeanSer settings, DataInputStream input) {
+    JodaBeanStandardBinReader(JodaBeanSer settings, MsgPackSource input) {
         super(settings, input);
     }
 
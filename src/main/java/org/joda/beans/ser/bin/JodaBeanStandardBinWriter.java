@@ -16,7 +16,6 @@
 package org.joda.beans.ser.bin;
 
 import java.io.IOException;
-import java.io.OutputStream;
 
 import org.joda.beans.Bean;
 import org.joda.beans.ser.JodaBeanSer;
@@ -31,8 +30,8 @@ class JodaBeanStandardBinWriter extends AbstractBinWriter {
     // a standalone MessagePack parser
 
     // creates an instance
-    JodaBeanStandardBinWriter(JodaBeanSer settings, OutputStream output) {
-        super(settings, output);
+    JodaBeanStandardBinWriter(JodaBeanSer settings, JodaBeanBinBuffer buffer) {
+        super(settings, buffer);
     }
 
     //-----------------------------------------------------------------------
@@ -15,8 +15,6 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -26,9 +24,9 @@ import java.io.InputStream;
 abstract class MsgPackInput extends MsgPack {
 
     /**
-     * The stream to read.
+     * The source to read.
      */
-    private final DataInputStream input;
+    private final MsgPackSource input;
 
     /**
      * Creates an instance.
@@ -36,7 +34,7 @@ abstract class MsgPackInput extends MsgPack {
      * @param bytes  the bytes to read, not null
      */
     MsgPackInput(byte[] bytes) {
-        this(new ByteArrayInputStream(bytes));
+        this(MsgPackSource.of(bytes, 0, bytes.length));
     }
 
     /**
@@ -45,16 +43,16 @@ abstract class MsgPackInput extends MsgPack {
      * @param stream  the stream to read from, not null
      */
     MsgPackInput(InputStream stream) {
-        this(new DataInputStream(stream));
+        this(MsgPackSource.of(stream));
     }
 
     /**
      * Creates an instance.
      * 
-     * @param stream  the stream to read from, not null
+     * @param source  the source to read from, not null
      */
-    MsgPackInput(DataInputStream stream) {
-        this.input = stream;
+    MsgPackInput(MsgPackSource source) {
+        this.input = source;
     }
 
     //-----------------------------------------------------------------------
@@ -241,9 +239,7 @@ abstract class MsgPackInput extends MsgPack {
         if (size < 0) {
             throw new IllegalStateException("String too large");
         }
-        byte[] bytes = new byte[size];
-        input.readFully(bytes);
-        String str = new String(bytes, UTF_8);
+        String str = input.readString(size);
         handleString(str);
     }
 
@@ -340,17 +336,17 @@ abstract class MsgPackInput extends MsgPack {
 
     //-----------------------------------------------------------------------
     /**
-     * Skips over the next object in an input stream.
+     * Skips over the next object in an input source.
      * 
-     * @param input  the input stream, not null
+     * @param input  the input source, not null
      * @throws IOException if an error occurs
      */
-    public static void skipObject(DataInputStream input) throws IOException {
+    public static void skipObject(MsgPackSource input) throws IOException {
         new Skipper(input).skip(input.readByte());
     }
 
     private static class Skipper extends MsgPackInput {
-        Skipper(DataInputStream input) {
+        Skipper(MsgPackSource input) {
             super(input);
         }
         void skip(int typeByte) throws IOException {
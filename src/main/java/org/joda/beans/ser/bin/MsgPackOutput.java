@@ -15,9 +15,7 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 
 /**
  * Outputter for MsgPack data.
@@ -25,26 +23,17 @@ import java.io.OutputStream;
 final class MsgPackOutput extends MsgPack {
 
     /**
-     * The stream to write to.
+     * The buffer to write to.
      */
-    private final DataOutputStream output;
+    private final JodaBeanBinBuffer output;
 
     /**
      * Creates an instance.
      * 
-     * @param stream  the stream to write to, not null
+     * @param buffer  the buffer to write to, not null
      */
-    MsgPackOutput(OutputStream stream) {
-        this.output = new DataOutputStream(stream);
-    }
-
-    /**
-     * Creates an instance.
-     * 
-     * @param stream  the stream to write to, not null
-     */
-    MsgPackOutput(DataOutputStream stream) {
-        this.output = stream;
+    MsgPackOutput(JodaBeanBinBuffer buffer) {
+        this.output = buffer;
     }
 
     //-----------------------------------------------------------------------
@@ -159,7 +148,7 @@ final class MsgPackOutput extends MsgPack {
      */
     void writeFloat(float value) throws IOException {
         output.writeByte(FLOAT_32);
-        output.writeFloat(value);
+        output.writeInt(Float.floatToIntBits(value));
     }
 
     /**
@@ -170,7 +159,7 @@ final class MsgPackOutput extends MsgPack {
      */
     void writeDouble(double value) throws IOException {
         output.writeByte(FLOAT_64);
-        output.writeDouble(value);
+        output.writeLong(Double.doubleToLongBits(value));
     }
 
     /**
@@ -196,13 +185,52 @@ final class MsgPackOutput extends MsgPack {
 
     /**
      * Writes a MessagePack string.
+     * <p>
+     * The string is encoded directly into the output buffer without an intermediate array.
+     * The header depends on the encoded length, thus the common ASCII case is handled by
+     * assuming one byte per char, falling back to an exact length calculation otherwise.
      * 
      * @param value  the value
      * @throws IOException if an error occurs
      */
     void writeString(String value) throws IOException {
-        byte[] bytes = toUTF8(value);
-        int size = bytes.length;
+        int length = value.length();
+        output.ensure(length + 5);  // the header and ASCII data are then written without flushing
+        int start = output.size();
+        writeStringHeader(length);
+        int pos = output.reserve(length);
+        byte[] bytes = output.array();
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch >= 0x80) {
+                output.truncate(start);
+                writeStringNonAscii(value, i);
+                return;
+            }
+            bytes[pos + i] = (byte) ch;
+        }
+    }
+
+    /**
+     * Writes a MessagePack string that has already been encoded in UTF-8.
+     * 
+     * @param utf8  the encoded bytes, not null
+     * @throws IOException if an error occurs
+     */
+    void writeString(byte[] utf8) throws IOException {
+        writeStringHeader(utf8.length);
+        output.write(utf8);
+    }
+
+    // writes a string that is known to contain non-ASCII chars from the specified index
+    private void writeStringNonAscii(String value, int asciiLength) {
+        int size = utf8Length(value, asciiLength);
+        writeStringHeader(size);
+        int pos = output.reserve(size);
+        encodeUtf8(value, output.array(), pos);
+    }
+
+    private void writeStringHeader(int size) {
         if (size < 32) {
             output.writeByte(MIN_FIX_STR + size);
         } else if (size < 256) {
@@ -215,22 +243,75 @@ final class MsgPackOutput extends MsgPack {
             output.writeByte(STR_32);
             output.writeInt(size);
         }
-        output.write(bytes);
     }
 
-    private byte[] toUTF8(String value) {
-        // inline common ASCII case for much better performance
-        int size = value.length();
-        byte[] bytes = new byte[size];
-        for (int i = 0; i < size; i++) {
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the UTF-8 encoded length of a string.
+     * <p>
+     * This matches {@code String.getBytes(UTF_8)}, where an unpaired surrogate is encoded as '?'.
+     * 
+     * @param value  the value
+     * @param asciiLength  the number of chars at the start of the string known to be ASCII
+     * @return the encoded length
+     */
+    static int utf8Length(String value, int asciiLength) {
+        int length = value.length();
+        long size = asciiLength;
+        for (int i = asciiLength; i < length; i++) {
             char ch = value.charAt(i);
-            if (ch < 128) {
-                bytes[i] = (byte) ch;
+            if (ch < 0x80) {
+                size++;
+            } else if (ch < 0x800) {
+                size += 2;
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                size += 4;
+                i++;
+            } else if (Character.isSurrogate(ch)) {
+                size++;
             } else {
-                return value.getBytes(UTF_8);
+                size += 3;
+            }
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("String too long");
+        }
+        return (int) size;
+    }
+
+    /**
+     * Encodes a string as UTF-8 into an array.
+     * <p>
+     * The array must have space for the number of bytes returned by {@link #utf8Length(String, int)}.
+     * 
+     * @param value  the value
+     * @param bytes  the array to encode into
+     * @param pos  the position to start writing at
+     */
+    static void encodeUtf8(String value, byte[] bytes, int pos) {
+        int length = value.length();
+        int p = pos;
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                bytes[p++] = (byte) ch;
+            } else if (ch < 0x800) {
+                bytes[p++] = (byte) (0xC0 | (ch >> 6));
+                bytes[p++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint(ch, value.charAt(++i));
+                bytes[p++] = (byte) (0xF0 | (cp >> 18));
+                bytes[p++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                bytes[p++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                bytes[p++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(ch)) {
+                bytes[p++] = (byte) '?';
+            } else {
+                bytes[p++] = (byte) (0xE0 | (ch >> 12));
+                bytes[p++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                bytes[p++] = (byte) (0x80 | (ch & 0x3F));
             }
         }
-        return bytes;
     }
 
     /**
@@ -277,9 +358,9 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeExtensionByte(int extensionType, int value) throws IOException {
-        output.write(FIX_EXT_1);
-        output.write(extensionType);
-        output.write(value);
+        output.writeByte(FIX_EXT_1);
+        output.writeByte(extensionType);
+        output.writeByte(value);
     }
 
     /**
@@ -290,14 +371,15 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeExtensionString(int extensionType, String str) throws IOException {
-        byte[] bytes = str.getBytes(UTF_8);
-        if (bytes.length > 256) {
+        int size = utf8Length(str, 0);
+        if (size > 256) {
             throw new IllegalArgumentException("String too long");
         }
-        output.write(EXT_8);
-        output.write(bytes.length);
-        output.write(extensionType);
-        output.write(bytes);
+        output.writeByte(EXT_8);
+        output.writeByte(size);
+        output.writeByte(extensionType);
+        int pos = output.reserve(size);
+        encodeUtf8(str, output.array(), pos);
     }
 
     /**
@@ -312,16 +394,16 @@ final class MsgPackOutput extends MsgPack {
             throw new IllegalArgumentException("Can only serialize positive references: " + reference);
         }
         if (reference < 0xFF) {
-            output.write(FIX_EXT_1);
-            output.write(extensionType);
+            output.writeByte(FIX_EXT_1);
+            output.writeByte(extensionType);
             output.writeByte((byte) reference);
         } else if (reference < 0xFFFF) {
             output.writeByte(FIX_EXT_2);
-            output.write(extensionType);
+            output.writeByte(extensionType);
             output.writeShort((short) reference);
         } else {
             output.writeByte(FIX_EXT_4);
-            output.write(extensionType);
+            output.writeByte(extensionType);
             output.writeInt(reference);
         }
     }
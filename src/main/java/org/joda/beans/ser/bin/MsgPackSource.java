@@ -0,0 +1,489 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Source of MsgPack data for the binary readers.
+ * <p>
+ * The method names match those of {@link DataInputStream}, with all multi-byte values big-endian.
+ * Lookahead is provided by {@link #mark(int)} and {@link #reset()}.
+ * The array and buffer implementations read directly from memory using an index,
+ * thus lookahead is a simple rewind of the index.
+ * <p>
+ * Instances contain mutable state and cannot be used from multiple threads.
+ */
+abstract class MsgPackSource {
+
+    /**
+     * Creates a source reading directly from a byte array.
+     *
+     * @param bytes  the bytes, not null
+     * @param offset  the offset of the first byte to read
+     * @param length  the number of bytes that may be read
+     * @return the source, not null
+     */
+    static MsgPackSource of(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid offset/length: " + offset + "/" + length + " for array of length " + bytes.length);
+        }
+        return new ArraySource(bytes, offset, offset + length);
+    }
+
+    /**
+     * Creates a source reading directly from a byte buffer.
+     * <p>
+     * Bytes are read from the position to the limit of the buffer.
+     * The position of the buffer is not altered.
+     * Heap buffers are read via their backing array.
+     *
+     * @param buffer  the buffer, not null
+     * @return the source, not null
+     */
+    static MsgPackSource of(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            int start = buffer.arrayOffset() + buffer.position();
+            return new ArraySource(buffer.array(), start, start + buffer.remaining());
+        }
+        return new BufferSource(buffer.duplicate().order(ByteOrder.BIG_ENDIAN));
+    }
+
+    /**
+     * Creates a source reading from a stream.
+     *
+     * @param stream  the stream, not null
+     * @return the source, not null
+     */
+    static MsgPackSource of(InputStream stream) {
+        if (stream instanceof DataInputStream) {
+            return new StreamSource((DataInputStream) stream);
+        }
+        return new StreamSource(new DataInputStream(stream));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads a single byte, returning -1 at the end of the input.
+     *
+     * @return the unsigned byte, or -1 if at the end
+     * @throws IOException if an error occurs
+     */
+    abstract int read() throws IOException;
+
+    /**
+     * Reads a signed byte.
+     *
+     * @return the byte
+     * @throws IOException if an error occurs, such as at the end of input
+     */
+    abstract byte readByte() throws IOException;
+
+    /**
+     * Reads an unsigned byte.
+     *
+     * @return the unsigned byte
+     * @throws IOException if an error occurs, such as at the end of input
+     */
+    abstract int readUnsignedByte() throws IOException;
+
+    /**
+     * Reads a signed 16 bit value.
+     *
+     * @return the value
+     * @throws IOException if an error occurs, such as at the end of input
+     */
+    abstract short readShort() throws IOException;
+
+    /**
+     * Reads an unsigned 16 bit value.
+     *
+     * @return the value
+     * @throws IOException if an error occurs, such as at the end of input
+     */
+    abstract int readUnsignedShort() throws IOException;
+
+    /**
+     * Reads a signed 32 bit value.
+     *
+     * @return the value
+     * @throws IOException if an error occurs, such as at the end of input
+     */
+    abstract int readInt() throws IOException;
+
+    /**
+     * Reads a signed 64 bit value.
+     *
+     * @return the value
+     * @throws IOException if an error occurs, such as at the end of input
+     */
+    abstract long readLong() throws IOException;
+
+    /**
+     * Reads a 32 bit floating point value.
+     *
+     * @return the value
+     * @throws IOException if an error occurs, such as at the end of input
+     */
+    float readFloat() throws IOException {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    /**
+     * Reads a 64 bit floating point value.
+     *
+     * @return the value
+     * @throws IOException if an error occurs, such as at the end of input
+     */
+    double readDouble() throws IOException {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    /**
+     * Reads bytes, filling the array.
+     *
+     * @param bytes  the array to fill, not null
+     * @throws IOException if an error occurs, such as at the end of input
+     */
+    abstract void readFully(byte[] bytes) throws IOException;
+
+    /**
+     * Reads a UTF-8 string of the specified number of bytes.
+     *
+     * @param size  the number of bytes to read
+     * @return the string, not null
+     * @throws IOException if an error occurs, such as at the end of input
+     */
+    String readString(int size) throws IOException {
+        byte[] bytes = new byte[size];
+        readFully(bytes);
+        return decode(bytes, 0, size);
+    }
+
+    /**
+     * Marks the current position for lookahead.
+     *
+     * @param readLimit  the maximum number of bytes that will be read before reset
+     * @throws IOException if an error occurs
+     */
+    abstract void mark(int readLimit) throws IOException;
+
+    /**
+     * Resets to the last marked position.
+     *
+     * @throws IOException if an error occurs
+     */
+    abstract void reset() throws IOException;
+
+    /**
+     * Closes the source.
+     *
+     * @throws IOException if an error occurs
+     */
+    void close() throws IOException {
+    }
+
+    //-----------------------------------------------------------------------
+    // decodes UTF-8, inlining the common ASCII case for much better performance
+    static String decode(byte[] bytes, int offset, int size) {
+        char[] chars = new char[size];
+        for (int i = 0; i < size; i++) {
+            byte b = bytes[offset + i];
+            if (b >= 0) {
+                chars[i] = (char) b;
+            } else {
+                return new String(bytes, offset, size, MsgPack.UTF_8);
+            }
+        }
+        return new String(chars);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads from a byte array using an index.
+     */
+    static final class ArraySource extends MsgPackSource {
+        private final byte[] bytes;
+        private final int limit;
+        private int pos;
+        private int mark;
+
+        ArraySource(byte[] bytes, int start, int limit) {
+            this.bytes = bytes;
+            this.pos = start;
+            this.mark = start;
+            this.limit = limit;
+        }
+
+        private int require(int count) throws EOFException {
+            int start = pos;
+            if (count > limit - start) {
+                pos = limit;
+                throw new EOFException();
+            }
+            pos = start + count;
+            return start;
+        }
+
+        @Override
+        int read() {
+            return pos < limit ? bytes[pos++] & 0xFF : -1;
+        }
+
+        @Override
+        byte readByte() throws IOException {
+            if (pos >= limit) {
+                throw new EOFException();
+            }
+            return bytes[pos++];
+        }
+
+        @Override
+        int readUnsignedByte() throws IOException {
+            return readByte() & 0xFF;
+        }
+
+        @Override
+        short readShort() throws IOException {
+            int i = require(2);
+            return (short) ((bytes[i] << 8) | (bytes[i + 1] & 0xFF));
+        }
+
+        @Override
+        int readUnsignedShort() throws IOException {
+            int i = require(2);
+            return ((bytes[i] & 0xFF) << 8) | (bytes[i + 1] & 0xFF);
+        }
+
+        @Override
+        int readInt() throws IOException {
+            int i = require(4);
+            return (bytes[i] << 24) |
+                    ((bytes[i + 1] & 0xFF) << 16) |
+                    ((bytes[i + 2] & 0xFF) << 8) |
+                    (bytes[i + 3] & 0xFF);
+        }
+
+        @Override
+        long readLong() throws IOException {
+            int i = require(8);
+            return ((long) bytes[i] << 56) |
+                    ((long) (bytes[i + 1] & 0xFF) << 48) |
+                    ((long) (bytes[i + 2] & 0xFF) << 40) |
+                    ((long) (bytes[i + 3] & 0xFF) << 32) |
+                    ((long) (bytes[i + 4] & 0xFF) << 24) |
+                    ((bytes[i + 5] & 0xFF) << 16) |
+                    ((bytes[i + 6] & 0xFF) << 8) |
+                    (bytes[i + 7] & 0xFF);
+        }
+
+        @Override
+        void readFully(byte[] array) throws IOException {
+            int i = require(array.length);
+            System.arraycopy(bytes, i, array, 0, array.length);
+        }
+
+        @Override
+        String readString(int size) throws IOException {
+            int i = require(size);
+            return decode(bytes, i, size);
+        }
+
+        @Override
+        void mark(int readLimit) {
+            mark = pos;
+        }
+
+        @Override
+        void reset() {
+            pos = mark;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads from a byte buffer, typically a direct buffer, using an index.
+     */
+    static final class BufferSource extends MsgPackSource {
+        private final ByteBuffer buffer;
+        private int mark;
+
+        BufferSource(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.mark = buffer.position();
+        }
+
+        @Override
+        int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        byte readByte() throws IOException {
+            try {
+                return buffer.get();
+            } catch (BufferUnderflowException ex) {
+                throw eof();
+            }
+        }
+
+        @Override
+        int readUnsignedByte() throws IOException {
+            return readByte() & 0xFF;
+        }
+
+        @Override
+        short readShort() throws IOException {
+            try {
+                return buffer.getShort();
+            } catch (BufferUnderflowException ex) {
+                throw eof();
+            }
+        }
+
+        @Override
+        int readUnsignedShort() throws IOException {
+            return readShort() & 0xFFFF;
+        }
+
+        @Override
+        int readInt() throws IOException {
+            try {
+                return buffer.getInt();
+            } catch (BufferUnderflowException ex) {
+                throw eof();
+            }
+        }
+
+        @Override
+        long readLong() throws IOException {
+            try {
+                return buffer.getLong();
+            } catch (BufferUnderflowException ex) {
+                throw eof();
+            }
+        }
+
+        @Override
+        void readFully(byte[] bytes) throws IOException {
+            try {
+                buffer.get(bytes);
+            } catch (BufferUnderflowException ex) {
+                throw eof();
+            }
+        }
+
+        @Override
+        void mark(int readLimit) {
+            mark = buffer.position();
+        }
+
+        @Override
+        void reset() {
+            buffer.position(mark);
+        }
+
+        private EOFException eof() {
+            buffer.position(buffer.limit());
+            return new EOFException();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads from a stream.
+     */
+    static final class StreamSource extends MsgPackSource {
+        private final DataInputStream input;
+
+        StreamSource(DataInputStream input) {
+            this.input = input;
+        }
+
+        @Override
+        int read() throws IOException {
+            return input.read();
+        }
+
+        @Override
+        byte readByte() throws IOException {
+            return input.readByte();
+        }
+
+        @Override
+        int readUnsignedByte() throws IOException {
+            return input.readUnsignedByte();
+        }
+
+        @Override
+        short readShort() throws IOException {
+            return input.readShort();
+        }
+
+        @Override
+        int readUnsignedShort() throws IOException {
+            return input.readUnsignedShort();
+        }
+
+        @Override
+        int readInt() throws IOException {
+            return input.readInt();
+        }
+
+        @Override
+        long readLong() throws IOException {
+            return input.readLong();
+        }
+
+        @Override
+        float readFloat() throws IOException {
+            return input.readFloat();
+        }
+
+        @Override
+        double readDouble() throws IOException {
+            return input.readDouble();
+        }
+
+        @Override
+        void readFully(byte[] bytes) throws IOException {
+            input.readFully(bytes);
+        }
+
+        @Override
+        void mark(int readLimit) {
+            input.mark(readLimit);
+        }
+
+        @Override
+        void reset() throws IOException {
+            input.reset();
+        }
+
+        @Override
+        void close() throws IOException {
+            input.close();
+        }
+    }
+
+}
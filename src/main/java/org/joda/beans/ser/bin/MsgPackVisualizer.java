@@ -15,7 +15,6 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -54,10 +53,10 @@ final class MsgPackVisualizer extends MsgPackInput {
     /**
      * Creates an instance.
      * 
-     * @param stream  the stream to read from, not null
+     * @param source  the source to read from, not null
      */
-    MsgPackVisualizer(DataInputStream stream) {
-        super(stream);
+    MsgPackVisualizer(MsgPackSource source) {
+        super(source);
     }
 
     //-----------------------------------------------------------------------
@@ -27,8 +27,7 @@ import org.joda.beans.ser.JodaBeanSer;
  * <p>
  * The JSON format is defined by {@link JodaBeanJsonWriter}.
  * <p>
- * This class contains mutable state and cannot be used from multiple threads.
- * A new instance must be created for each message.
+ * This class is immutable and may be used from multiple threads.
  */
 public class JodaBeanJsonReader extends AbstractJsonReader {
 
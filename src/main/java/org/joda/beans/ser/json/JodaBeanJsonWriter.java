@@ -23,17 +23,18 @@ import org.joda.beans.Bean;
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerBeanCodec;
+import org.joda.beans.ser.SerBeanPlan;
+import org.joda.beans.ser.SerBeanPlan.PropertyPlan;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
 import org.joda.beans.ser.SerTypeMapper;
 import org.joda.convert.StringConverter;
 
 /**
  * Provides the ability for a Joda-Bean to be written to JSON.
  * <p>
- * This class contains mutable state and cannot be used from multiple threads.
- * A new instance must be created for each message.
+ * This class is immutable and may be used from multiple threads.
  * <p>
  * The JSON format is kept relatively natural, however some meta-data is added.
  * This has the unfortunate effect of adding an additional object structure to
@@ -86,18 +87,6 @@ public class JodaBeanJsonWriter {
      * The settings to use.
      */
     private final JodaBeanSer settings;
-    /**
-     * The outputter.
-     */
-    private JsonOutput output;
-    /**
-     * The base package including the trailing dot.
-     */
-    private String basePackage;
-    /**
-     * The known types.
-     */
-    private Map<Class<?>, String> knownTypes = new HashMap<>();
 
     /**
      * Creates an instance.
@@ -163,283 +152,410 @@ public class JodaBeanJsonWriter {
     public void write(Bean bean, boolean rootType, Appendable output) throws IOException {
         JodaBeanUtils.notNull(bean, "bean");
         JodaBeanUtils.notNull(output, "output");
-        this.output = new JsonOutput(output, settings.getIndent(), settings.getNewLine());
-        writeBean(bean, bean.getClass(), rootType ? RootType.ROOT_WITH_TYPE : RootType.ROOT_WITHOUT_TYPE);
+        MessageWriter writer = new MessageWriter(new JsonOutput(output, settings.getIndent(), settings.getNewLine()));
+        writer.writeBean(bean, bean.getClass(), rootType ? RootType.ROOT_WITH_TYPE : RootType.ROOT_WITHOUT_TYPE);
         output.append(settings.getNewLine());
     }
 
     //-----------------------------------------------------------------------
-    // write a bean as a JSON object
-    private void writeBean(Bean bean, Class<?> declaredType, RootType rootTypeFlag) throws IOException {
-        output.writeObjectStart();
-        // type information
-        if (rootTypeFlag == RootType.ROOT_WITH_TYPE || (rootTypeFlag == RootType.NOT_ROOT && bean.getClass() != declaredType)) {
-            String typeStr = SerTypeMapper.encodeType(bean.getClass(), settings, basePackage, knownTypes);
-            if (rootTypeFlag == RootType.ROOT_WITH_TYPE) {
-                basePackage = bean.getClass().getPackage().getName() + ".";
-            }
-            output.writeObjectKeyValue(BEAN, typeStr);
+    /**
+     * Writes a single message, holding the state of the message.
+     */
+    private final class MessageWriter {
+        /**
+         * The outputter.
+         */
+        private final JsonOutput output;
+        /**
+         * The base package including the trailing dot.
+         */
+        private String basePackage;
+        /**
+         * The known types.
+         */
+        private final Map<Class<?>, String> knownTypes = new HashMap<>();
+
+        // creates an instance
+        private MessageWriter(JsonOutput output) {
+            this.output = output;
         }
-        // property information
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable() || (prop.style().isDerived() && settings.isIncludeDerived())) {
-                Object value = SerOptional.extractValue(prop, bean);
+
+        //-----------------------------------------------------------------------
+        // write a bean as a JSON object
+        private void writeBean(Bean bean, Class<?> declaredType, RootType rootTypeFlag) throws IOException {
+            output.writeObjectStart();
+            // type information
+            if (rootTypeFlag == RootType.ROOT_WITH_TYPE || (rootTypeFlag == RootType.NOT_ROOT && bean.getClass() != declaredType)) {
+                String typeStr = SerTypeMapper.encodeType(bean.getClass(), settings, basePackage, knownTypes);
+                if (rootTypeFlag == RootType.ROOT_WITH_TYPE) {
+                    basePackage = bean.getClass().getPackage().getName() + ".";
+                }
+                output.writeObjectKeyValue(BEAN, typeStr);
+            }
+            // property information
+            SerBeanPlan plan = settings.beanPlan(bean);
+            SerBeanCodec<Bean> codec = plan.getCodec();
+            if (codec != null) {
+                codec.write(bean, new CodecOutput(plan, bean));
+                output.writeObjectEnd();
+                return;
+            }
+            for (int i = 0; i < plan.size(); i++) {
+                PropertyPlan prop = plan.property(i);
+                if (prop.getPrimitiveType() != null) {
+                    output.writeObjectKey(prop.getName());
+                    writePrimitive(prop, bean);
+                    continue;
+                }
+                Object value = prop.extractValue(bean);
                 if (value != null) {
-                    output.writeObjectKey(prop.name());
-                    Class<?> propType = SerOptional.extractType(prop, bean.getClass());
-                    if (value instanceof Bean) {
-                        if (settings.getConverter().isConvertible(value.getClass())) {
-                            writeSimple(propType, value);
-                        } else {
-                            writeBean((Bean) value, propType, RootType.NOT_ROOT);
-                        }
-                    } else {
-                        SerIterator itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass());
-                        if (itemIterator != null) {
-                            writeElements(itemIterator);
-                        } else {
-                            writeSimple(propType, value);
-                        }
-                    }
+                    output.writeObjectKey(prop.getName());
+                    writePropertyValue(prop, bean, value);
                 }
             }
-        }
-        output.writeObjectEnd();
-    }
-
-    //-----------------------------------------------------------------------
-    // write a collection
-    private void writeElements(SerIterator itemIterator) throws IOException {
-        if (itemIterator.metaTypeRequired()) {
-            output.writeObjectStart();
-            output.writeObjectKeyValue(META, itemIterator.metaTypeName());
-            output.writeObjectKey(VALUE);
-        }
-        if (itemIterator.category() == SerCategory.MAP) {
-            writeMap(itemIterator);
-        } else if (itemIterator.category() == SerCategory.COUNTED) {
-            writeCounted(itemIterator);
-        } else if (itemIterator.category() == SerCategory.TABLE) {
-            writeTable(itemIterator);
-        } else if (itemIterator.category() == SerCategory.GRID) {
-            writeGrid(itemIterator);
-        } else {
-            writeArray(itemIterator);
-        }
-        if (itemIterator.metaTypeRequired()) {
             output.writeObjectEnd();
         }
-    }
 
-    // write list/set/array
-    private void writeArray(SerIterator itemIterator) throws IOException {
-        output.writeArrayStart();
-        while (itemIterator.hasNext()) {
-            itemIterator.next();
-            output.writeArrayItemStart();
-            writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
+        // write the non-null value of a property that is not a primitive
+        private void writePropertyValue(PropertyPlan prop, Bean bean, Object value) throws IOException {
+            Class<?> propType = prop.getPropertyType();
+            if (value instanceof Bean) {
+                if (settings.getConverter().isConvertible(value.getClass())) {
+                    writeSimple(propType, value);
+                } else {
+                    writeBean((Bean) value, propType, RootType.NOT_ROOT);
+                }
+            } else {
+                SerIterator itemIterator = settings.getIteratorFactory().create(value, prop.getMetaProperty(), bean.getClass());
+                if (itemIterator != null) {
+                    writeElements(itemIterator);
+                } else {
+                    writeSimple(propType, value);
+                }
+            }
         }
-        output.writeArrayEnd();
-    }
 
-    // write map
-    private void writeMap(SerIterator itemIterator) throws IOException {
-        // if key type is known and convertible use short key format, else use full bean format
-        if (settings.getConverter().isConvertible(itemIterator.keyType())) {
-            writeMapSimple(itemIterator);
-        } else {
-            writeMapComplex(itemIterator);
+        //-----------------------------------------------------------------------
+        // write a collection
+        private void writeElements(SerIterator itemIterator) throws IOException {
+            if (itemIterator.metaTypeRequired()) {
+                output.writeObjectStart();
+                output.writeObjectKeyValue(META, itemIterator.metaTypeName());
+                output.writeObjectKey(VALUE);
+            }
+            if (itemIterator.category() == SerCategory.MAP) {
+                writeMap(itemIterator);
+            } else if (itemIterator.category() == SerCategory.COUNTED) {
+                writeCounted(itemIterator);
+            } else if (itemIterator.category() == SerCategory.TABLE) {
+                writeTable(itemIterator);
+            } else if (itemIterator.category() == SerCategory.GRID) {
+                writeGrid(itemIterator);
+            } else {
+                writeArray(itemIterator);
+            }
+            if (itemIterator.metaTypeRequired()) {
+                output.writeObjectEnd();
+            }
         }
-    }
 
-    // write map with simple keys
-    private void writeMapSimple(SerIterator itemIterator) throws IOException {
-        StringConverter<Object> keyConverter = settings.getConverter().findConverterNoGenerics(itemIterator.keyType());
-        output.writeObjectStart();
-        while (itemIterator.hasNext()) {
-            itemIterator.next();
-            Object key = itemIterator.key();
-            if (key == null) {
-                throw new IllegalArgumentException("Unable to write map key as it cannot be null");
+        // write list/set/array
+        private void writeArray(SerIterator itemIterator) throws IOException {
+            output.writeArrayStart();
+            while (itemIterator.hasNext()) {
+                itemIterator.next();
+                output.writeArrayItemStart();
+                writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
             }
-            String str = keyConverter.convertToString(itemIterator.key());
-            if (str == null) {
-                throw new IllegalArgumentException("Unable to write map key as it cannot be a null string");
+            output.writeArrayEnd();
+        }
+
+        // write map
+        private void writeMap(SerIterator itemIterator) throws IOException {
+            // if key type is known and convertible use short key format, else use full bean format
+            if (settings.getConverter().isConvertible(itemIterator.keyType())) {
+                writeMapSimple(itemIterator);
+            } else {
+                writeMapComplex(itemIterator);
             }
-            output.writeObjectKey(str);
-            writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
         }
-        output.writeObjectEnd();
-    }
 
-    // write map with complex keys
-    private void writeMapComplex(SerIterator itemIterator) throws IOException {
-        output.writeArrayStart();
-        while (itemIterator.hasNext()) {
-            itemIterator.next();
-            Object key = itemIterator.key();
-            if (key == null) {
-                throw new IllegalArgumentException("Unable to write map key as it cannot be null: " + key);
+        // write map with simple keys
+        private void writeMapSimple(SerIterator itemIterator) throws IOException {
+            StringConverter<Object> keyConverter = settings.getConverter().findConverterNoGenerics(itemIterator.keyType());
+            output.writeObjectStart();
+            while (itemIterator.hasNext()) {
+                itemIterator.next();
+                Object key = itemIterator.key();
+                if (key == null) {
+                    throw new IllegalArgumentException("Unable to write map key as it cannot be null");
+                }
+                String str = keyConverter.convertToString(itemIterator.key());
+                if (str == null) {
+                    throw new IllegalArgumentException("Unable to write map key as it cannot be a null string");
+                }
+                output.writeObjectKey(str);
+                writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
             }
-            output.writeArrayItemStart();
+            output.writeObjectEnd();
+        }
+
+        // write map with complex keys
+        private void writeMapComplex(SerIterator itemIterator) throws IOException {
             output.writeArrayStart();
-            output.writeArrayItemStart();
-            writeObject(itemIterator.keyType(), key, null);
-            output.writeArrayItemStart();
-            writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
+            while (itemIterator.hasNext()) {
+                itemIterator.next();
+                Object key = itemIterator.key();
+                if (key == null) {
+                    throw new IllegalArgumentException("Unable to write map key as it cannot be null: " + key);
+                }
+                output.writeArrayItemStart();
+                output.writeArrayStart();
+                output.writeArrayItemStart();
+                writeObject(itemIterator.keyType(), key, null);
+                output.writeArrayItemStart();
+                writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
+                output.writeArrayEnd();
+            }
             output.writeArrayEnd();
         }
-        output.writeArrayEnd();
-    }
 
-    // write table
-    private void writeTable(SerIterator itemIterator) throws IOException {
-        output.writeArrayStart();
-        while (itemIterator.hasNext()) {
-            itemIterator.next();
-            output.writeArrayItemStart();
+        // write table
+        private void writeTable(SerIterator itemIterator) throws IOException {
             output.writeArrayStart();
-            output.writeArrayItemStart();
-            writeObject(itemIterator.keyType(), itemIterator.key(), null);
-            output.writeArrayItemStart();
-            writeObject(itemIterator.columnType(), itemIterator.column(), null);
-            output.writeArrayItemStart();
-            writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
+            while (itemIterator.hasNext()) {
+                itemIterator.next();
+                output.writeArrayItemStart();
+                output.writeArrayStart();
+                output.writeArrayItemStart();
+                writeObject(itemIterator.keyType(), itemIterator.key(), null);
+                output.writeArrayItemStart();
+                writeObject(itemIterator.columnType(), itemIterator.column(), null);
+                output.writeArrayItemStart();
+                writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
+                output.writeArrayEnd();
+            }
             output.writeArrayEnd();
         }
-        output.writeArrayEnd();
-    }
 
-    // write grid using sparse approach
-    private void writeGrid(SerIterator itemIterator) throws IOException {
-        output.writeArrayStart();
-        output.writeArrayItemStart();
-        output.writeInt(itemIterator.dimensionSize(0));
-        output.writeArrayItemStart();
-        output.writeInt(itemIterator.dimensionSize(1));
-        while (itemIterator.hasNext()) {
-            itemIterator.next();
-            output.writeArrayItemStart();
+        // write grid using sparse approach
+        private void writeGrid(SerIterator itemIterator) throws IOException {
             output.writeArrayStart();
             output.writeArrayItemStart();
-            output.writeInt((Integer) itemIterator.key());
+            output.writeInt(itemIterator.dimensionSize(0));
             output.writeArrayItemStart();
-            output.writeInt((Integer) itemIterator.column());
-            output.writeArrayItemStart();
-            writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
+            output.writeInt(itemIterator.dimensionSize(1));
+            while (itemIterator.hasNext()) {
+                itemIterator.next();
+                output.writeArrayItemStart();
+                output.writeArrayStart();
+                output.writeArrayItemStart();
+                output.writeInt((Integer) itemIterator.key());
+                output.writeArrayItemStart();
+                output.writeInt((Integer) itemIterator.column());
+                output.writeArrayItemStart();
+                writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
+                output.writeArrayEnd();
+            }
             output.writeArrayEnd();
         }
-        output.writeArrayEnd();
-    }
 
-    // write counted set
-    private void writeCounted(final SerIterator itemIterator) throws IOException {
-        output.writeArrayStart();
-        while (itemIterator.hasNext()) {
-            itemIterator.next();
-            output.writeArrayItemStart();
+        // write counted set
+        private void writeCounted(final SerIterator itemIterator) throws IOException {
             output.writeArrayStart();
-            output.writeArrayItemStart();
-            writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
-            output.writeArrayItemStart();
-            output.writeInt(itemIterator.count());
+            while (itemIterator.hasNext()) {
+                itemIterator.next();
+                output.writeArrayItemStart();
+                output.writeArrayStart();
+                output.writeArrayItemStart();
+                writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
+                output.writeArrayItemStart();
+                output.writeInt(itemIterator.count());
+                output.writeArrayEnd();
+            }
             output.writeArrayEnd();
         }
-        output.writeArrayEnd();
-    }
 
-    // write collection object
-    private void writeObject(Class<?> declaredType, Object obj, SerIterator parentIterator) throws IOException {
-        if (obj == null) {
-            output.writeNull();
-        } else if (settings.getConverter().isConvertible(obj.getClass())) {
-            writeSimple(declaredType, obj);
-        } else if (obj instanceof Bean) {
-            writeBean((Bean) obj, declaredType, RootType.NOT_ROOT);
-        } else if (parentIterator != null) {
-            SerIterator childIterator = settings.getIteratorFactory().createChild(obj, parentIterator);
-            if (childIterator != null) {
-                writeElements(childIterator);
+        // write collection object
+        private void writeObject(Class<?> declaredType, Object obj, SerIterator parentIterator) throws IOException {
+            if (obj == null) {
+                output.writeNull();
+            } else if (settings.getConverter().isConvertible(obj.getClass())) {
+                writeSimple(declaredType, obj);
+            } else if (obj instanceof Bean) {
+                writeBean((Bean) obj, declaredType, RootType.NOT_ROOT);
+            } else if (parentIterator != null) {
+                SerIterator childIterator = settings.getIteratorFactory().createChild(obj, parentIterator);
+                if (childIterator != null) {
+                    writeElements(childIterator);
+                } else {
+                    writeSimple(declaredType, obj);
+                }
             } else {
                 writeSimple(declaredType, obj);
             }
-        } else {
-            writeSimple(declaredType, obj);
         }
-    }
 
-    //-----------------------------------------------------------------------
-    // write simple type
-    private void writeSimple(Class<?> declaredType, Object value) throws IOException {
-        // simple types have no need to write a type object
-        Class<?> realType = value.getClass();
-        if (realType == Integer.class) {
-            output.writeInt(((Integer) value).intValue());
-            return;
-        } else if (realType == Double.class) {
-            double dbl = ((Double) value).doubleValue();
-            if (Double.isNaN(dbl) == false && Double.isInfinite(dbl) == false) {
-                output.writeDouble(dbl);
-                return;
+        //-----------------------------------------------------------------------
+        // write a primitive property without boxing, matching the output of writeSimple()
+        private void writePrimitive(PropertyPlan prop, Bean bean) throws IOException {
+            MetaProperty<?> metaProperty = prop.getMetaProperty();
+            Class<?> type = prop.getPrimitiveType();
+            if (type == int.class) {
+                output.writeInt(metaProperty.getInt(bean));
+            } else if (type == long.class) {
+                output.writeLong(metaProperty.getLong(bean));
+            } else if (type == double.class) {
+                writeDouble(metaProperty.getDouble(bean));
+            } else {
+                output.writeBoolean(metaProperty.getBoolean(bean));
+            }
+        }
+
+        // write a primitive double, matching the output of writeSimple()
+        private void writeDouble(double value) throws IOException {
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                writeSimple(double.class, value);
+            } else {
+                output.writeDouble(value);
             }
-        } else if (realType == Boolean.class) {
-            output.writeBoolean(((Boolean) value).booleanValue());
-            return;
         }
+
+        // write simple type
+        private void writeSimple(Class<?> declaredType, Object value) throws IOException {
+            // simple types have no need to write a type object
+            Class<?> realType = value.getClass();
+            if (realType == Integer.class) {
+                output.writeInt(((Integer) value).intValue());
+                return;
+            } else if (realType == Double.class) {
+                double dbl = ((Double) value).doubleValue();
+                if (Double.isNaN(dbl) == false && Double.isInfinite(dbl) == false) {
+                    output.writeDouble(dbl);
+                    return;
+                }
+            } else if (realType == Boolean.class) {
+                output.writeBoolean(((Boolean) value).booleanValue());
+                return;
+            }
         
-        // handle no declared type and subclasses
-        Class<?> effectiveType = declaredType;
-        boolean requiresClose = false;
-        if (declaredType == Object.class) {
-            if (realType != String.class) {
+            // handle no declared type and subclasses
+            Class<?> effectiveType = declaredType;
+            boolean requiresClose = false;
+            if (declaredType == Object.class) {
+                if (realType != String.class) {
+                    effectiveType = settings.getConverter().findTypedConverter(realType).getEffectiveType();
+                    String typeStr = SerTypeMapper.encodeType(effectiveType, settings, basePackage, knownTypes);
+                    output.writeObjectStart();
+                    output.writeObjectKeyValue(TYPE, typeStr);
+                    output.writeObjectKey(VALUE);
+                    requiresClose = true;
+                } else {
+                    effectiveType = realType;
+                }
+            } else if (settings.getConverter().isConvertible(declaredType) == false) {
                 effectiveType = settings.getConverter().findTypedConverter(realType).getEffectiveType();
                 String typeStr = SerTypeMapper.encodeType(effectiveType, settings, basePackage, knownTypes);
                 output.writeObjectStart();
                 output.writeObjectKeyValue(TYPE, typeStr);
                 output.writeObjectKey(VALUE);
                 requiresClose = true;
-            } else {
-                effectiveType = realType;
             }
-        } else if (settings.getConverter().isConvertible(declaredType) == false) {
-            effectiveType = settings.getConverter().findTypedConverter(realType).getEffectiveType();
-            String typeStr = SerTypeMapper.encodeType(effectiveType, settings, basePackage, knownTypes);
-            output.writeObjectStart();
-            output.writeObjectKeyValue(TYPE, typeStr);
-            output.writeObjectKey(VALUE);
-            requiresClose = true;
-        }
         
-        // long/short/byte/float only processed now to ensure that exact numeric type can be identified
-        if (realType == Long.class) {
-            output.writeLong(((Long) value).longValue());
+            // long/short/byte/float only processed now to ensure that exact numeric type can be identified
+            if (realType == Long.class) {
+                output.writeLong(((Long) value).longValue());
             
-        } else if (realType == Short.class) {
-            output.writeInt(((Short) value).shortValue());
+            } else if (realType == Short.class) {
+                output.writeInt(((Short) value).shortValue());
             
-        } else if (realType == Byte.class) {
-            output.writeInt(((Byte) value).byteValue());
+            } else if (realType == Byte.class) {
+                output.writeInt(((Byte) value).byteValue());
             
-        } else if (realType == Float.class) {
-            output.writeFloat(((Float) value).floatValue());
+            } else if (realType == Float.class) {
+                output.writeFloat(((Float) value).floatValue());
             
-        } else {
-            // write as a string
-            try {
-                String converted = settings.getConverter().convertToString(effectiveType, value);
-                if (converted == null) {
-                    throw new IllegalArgumentException("Unable to write because converter returned a null string: " + value);
+            } else {
+                // write as a string
+                try {
+                    String converted = settings.getConverter().convertToString(effectiveType, value);
+                    if (converted == null) {
+                        throw new IllegalArgumentException("Unable to write because converter returned a null string: " + value);
+                    }
+                    output.writeString(converted);
+                } catch (RuntimeException ex) {
+                    throw new IllegalArgumentException(
+                            "Unable to convert type " + effectiveType.getName() + " declared as " + declaredType.getName(), ex);
                 }
-                output.writeString(converted);
-            } catch (RuntimeException ex) {
-                throw new IllegalArgumentException(
-                        "Unable to convert type " + effectiveType.getName() + " declared as " + declaredType.getName(), ex);
             }
-        }
         
-        // close open map
-        if (requiresClose) {
-            output.writeObjectEnd();
+            // close open map
+            if (requiresClose) {
+                output.writeObjectEnd();
+            }
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Writes the properties passed from a codec, matching the output of the generic approach.
+         */
+        private final class CodecOutput implements SerBeanCodec.Output {
+            /**
+             * The plan.
+             */
+            private final SerBeanPlan plan;
+            /**
+             * The bean being written.
+             */
+            private final Bean bean;
+
+            // creates an instance
+            private CodecOutput(SerBeanPlan plan, Bean bean) {
+                this.plan = plan;
+                this.bean = bean;
+            }
+
+            @Override
+            public void writeString(int index, String value) throws IOException {
+                if (value != null) {
+                    output.writeObjectKey(plan.property(index).getName());
+                    output.writeString(value);
+                }
+            }
+
+            @Override
+            public void writeInt(int index, int value) throws IOException {
+                output.writeObjectKey(plan.property(index).getName());
+                output.writeInt(value);
+            }
+
+            @Override
+            public void writeLong(int index, long value) throws IOException {
+                output.writeObjectKey(plan.property(index).getName());
+                output.writeLong(value);
+            }
+
+            @Override
+            public void writeDouble(int index, double value) throws IOException {
+                output.writeObjectKey(plan.property(index).getName());
+                MessageWriter.this.writeDouble(value);
+            }
+
+            @Override
+            public void writeBoolean(int index, boolean value) throws IOException {
+                output.writeObjectKey(plan.property(index).getName());
+                output.writeBoolean(value);
+            }
+
+            @Override
+            public void writeObject(int index, Object value) throws IOException {
+                PropertyPlan prop = plan.property(index);
+                Object unwrapped = prop.unwrapValue(value);
+                if (unwrapped != null) {
+                    output.writeObjectKey(prop.getName());
+                    writePropertyValue(prop, bean, unwrapped);
+                }
+            }
         }
     }
 
@@ -21,16 +21,16 @@ import org.joda.beans.Bean;
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerBeanPlan;
+import org.joda.beans.ser.SerBeanPlan.PropertyPlan;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
 import org.joda.convert.StringConverter;
 
 /**
  * Provides the ability for a Joda-Bean to be written to a simple JSON format.
  * <p>
- * This class contains mutable state and cannot be used from multiple threads.
- * A new instance must be created for each message.
+ * This class is immutable and may be used from multiple threads.
  * <p>
  * The JSON format used here is natural, with no meta-data.
  * As such, it may not be possible to write some objects or read the JSON data back in.
@@ -53,10 +53,6 @@ public class JodaBeanSimpleJsonWriter {
      * The settings to use.
      */
     private final JodaBeanSer settings;
-    /**
-     * The outputter.
-     */
-    private JsonOutput output;
 
     /**
      * Creates an instance.
@@ -97,22 +93,43 @@ public class JodaBeanSimpleJsonWriter {
     public void write(Bean bean, Appendable output) throws IOException {
         JodaBeanUtils.notNull(bean, "bean");
         JodaBeanUtils.notNull(output, "output");
-        this.output = new JsonOutput(output, settings.getIndent(), settings.getNewLine());
-        writeBean(bean, bean.getClass());
+        MessageWriter writer = new MessageWriter(new JsonOutput(output, settings.getIndent(), settings.getNewLine()));
+        writer.writeBean(bean, bean.getClass());
         output.append(settings.getNewLine());
     }
 
     //-----------------------------------------------------------------------
-    // write a bean as a JSON object
-    private void writeBean(Bean bean, Class<?> declaredType) throws IOException {
-        output.writeObjectStart();
-        // property information
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable() || (prop.style().isDerived() && settings.isIncludeDerived())) {
-                Object value = SerOptional.extractValue(prop, bean);
+    /**
+     * Writes a single message, holding the state of the message.
+     */
+    private final class MessageWriter {
+        /**
+         * The outputter.
+         */
+        private final JsonOutput output;
+
+        // creates an instance
+        private MessageWriter(JsonOutput output) {
+            this.output = output;
+        }
+
+        //-----------------------------------------------------------------------
+        // write a bean as a JSON object
+        private void writeBean(Bean bean, Class<?> declaredType) throws IOException {
+            output.writeObjectStart();
+            // property information
+            SerBeanPlan plan = settings.beanPlan(bean);
+            for (int i = 0; i < plan.size(); i++) {
+                PropertyPlan prop = plan.property(i);
+                if (prop.getPrimitiveType() != null) {
+                    output.writeObjectKey(prop.getName());
+                    writePrimitive(prop, bean);
+                    continue;
+                }
+                Object value = prop.extractValue(bean);
                 if (value != null) {
-                    output.writeObjectKey(prop.name());
-                    Class<?> propType = SerOptional.extractType(prop, bean.getClass());
+                    output.writeObjectKey(prop.getName());
+                    Class<?> propType = prop.getPropertyType();
                     if (value instanceof Bean) {
                         if (settings.getConverter().isConvertible(value.getClass())) {
                             writeSimple(propType, value);
@@ -120,7 +137,7 @@ public class JodaBeanSimpleJsonWriter {
                             writeBean((Bean) value, propType);
                         }
                     } else {
-                        SerIterator itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass(), true);
+                        SerIterator itemIterator = settings.getIteratorFactory().create(value, prop.getMetaProperty(), bean.getClass(), true);
                         if (itemIterator != null) {
                             writeElements(itemIterator);
                         } else {
@@ -129,209 +146,229 @@ public class JodaBeanSimpleJsonWriter {
                     }
                 }
             }
+            output.writeObjectEnd();
         }
-        output.writeObjectEnd();
-    }
 
-    //-----------------------------------------------------------------------
-    // write a collection
-    private void writeElements(SerIterator itemIterator) throws IOException {
-        if (itemIterator.category() == SerCategory.MAP) {
-            writeMap(itemIterator);
-        } else if (itemIterator.category() == SerCategory.COUNTED) {
-            writeCounted(itemIterator);
-        } else if (itemIterator.category() == SerCategory.TABLE) {
-            writeTable(itemIterator);
-        } else if (itemIterator.category() == SerCategory.GRID) {
-            writeGrid(itemIterator);
-        } else {
-            writeArray(itemIterator);
+        //-----------------------------------------------------------------------
+        // write a collection
+        private void writeElements(SerIterator itemIterator) throws IOException {
+            if (itemIterator.category() == SerCategory.MAP) {
+                writeMap(itemIterator);
+            } else if (itemIterator.category() == SerCategory.COUNTED) {
+                writeCounted(itemIterator);
+            } else if (itemIterator.category() == SerCategory.TABLE) {
+                writeTable(itemIterator);
+            } else if (itemIterator.category() == SerCategory.GRID) {
+                writeGrid(itemIterator);
+            } else {
+                writeArray(itemIterator);
+            }
         }
-    }
 
-    // write list/set/array
-    private void writeArray(SerIterator itemIterator) throws IOException {
-        output.writeArrayStart();
-        while (itemIterator.hasNext()) {
-            itemIterator.next();
-            output.writeArrayItemStart();
-            writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
+        // write list/set/array
+        private void writeArray(SerIterator itemIterator) throws IOException {
+            output.writeArrayStart();
+            while (itemIterator.hasNext()) {
+                itemIterator.next();
+                output.writeArrayItemStart();
+                writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
+            }
+            output.writeArrayEnd();
         }
-        output.writeArrayEnd();
-    }
 
-    // write map
-    private void writeMap(SerIterator itemIterator) throws IOException {
-        // if key type is known and convertible use short key format, else use full bean format
-        if (settings.getConverter().isConvertible(itemIterator.keyType())) {
-            writeMapSimple(itemIterator);
-        } else {
-            writeMapComplex(itemIterator);
+        // write map
+        private void writeMap(SerIterator itemIterator) throws IOException {
+            // if key type is known and convertible use short key format, else use full bean format
+            if (settings.getConverter().isConvertible(itemIterator.keyType())) {
+                writeMapSimple(itemIterator);
+            } else {
+                writeMapComplex(itemIterator);
+            }
         }
-    }
 
-    // write map with simple keys
-    private void writeMapSimple(SerIterator itemIterator) throws IOException {
-        StringConverter<Object> keyConverter = settings.getConverter().findConverterNoGenerics(itemIterator.keyType());
-        output.writeObjectStart();
-        while (itemIterator.hasNext()) {
-            itemIterator.next();
-            Object key = itemIterator.key();
-            if (key == null) {
-                throw new IllegalArgumentException("Unable to write map key as it cannot be null");
-            }
-            String str = keyConverter.convertToString(itemIterator.key());
-            if (str == null) {
-                throw new IllegalArgumentException("Unable to write map key as it cannot be a null string");
+        // write map with simple keys
+        private void writeMapSimple(SerIterator itemIterator) throws IOException {
+            StringConverter<Object> keyConverter = settings.getConverter().findConverterNoGenerics(itemIterator.keyType());
+            output.writeObjectStart();
+            while (itemIterator.hasNext()) {
+                itemIterator.next();
+                Object key = itemIterator.key();
+                if (key == null) {
+                    throw new IllegalArgumentException("Unable to write map key as it cannot be null");
+                }
+                String str = keyConverter.convertToString(itemIterator.key());
+                if (str == null) {
+                    throw new IllegalArgumentException("Unable to write map key as it cannot be a null string");
+                }
+                output.writeObjectKey(str);
+                writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
             }
-            output.writeObjectKey(str);
-            writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
+            output.writeObjectEnd();
         }
-        output.writeObjectEnd();
-    }
 
-    // write map with complex keys
-    private void writeMapComplex(SerIterator itemIterator) throws IOException {
-        output.writeObjectStart();
-        while (itemIterator.hasNext()) {
-            itemIterator.next();
-            Object key = itemIterator.key();
-            if (key == null) {
-                throw new IllegalArgumentException("Unable to write map key as it cannot be null");
-            }
-            String str = settings.getConverter().convertToString(itemIterator.key());
-            if (str == null) {
-                throw new IllegalArgumentException("Unable to write map key as it cannot be a null string");
+        // write map with complex keys
+        private void writeMapComplex(SerIterator itemIterator) throws IOException {
+            output.writeObjectStart();
+            while (itemIterator.hasNext()) {
+                itemIterator.next();
+                Object key = itemIterator.key();
+                if (key == null) {
+                    throw new IllegalArgumentException("Unable to write map key as it cannot be null");
+                }
+                String str = settings.getConverter().convertToString(itemIterator.key());
+                if (str == null) {
+                    throw new IllegalArgumentException("Unable to write map key as it cannot be a null string");
+                }
+                output.writeObjectKey(str);
+                writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
             }
-            output.writeObjectKey(str);
-            writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
+            output.writeObjectEnd();
         }
-        output.writeObjectEnd();
-    }
 
-    // write table
-    private void writeTable(SerIterator itemIterator) throws IOException {
-        output.writeArrayStart();
-        while (itemIterator.hasNext()) {
-            itemIterator.next();
-            output.writeArrayItemStart();
+        // write table
+        private void writeTable(SerIterator itemIterator) throws IOException {
             output.writeArrayStart();
-            output.writeArrayItemStart();
-            writeObject(itemIterator.keyType(), itemIterator.key(), null);
-            output.writeArrayItemStart();
-            writeObject(itemIterator.columnType(), itemIterator.column(), null);
-            output.writeArrayItemStart();
-            writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
+            while (itemIterator.hasNext()) {
+                itemIterator.next();
+                output.writeArrayItemStart();
+                output.writeArrayStart();
+                output.writeArrayItemStart();
+                writeObject(itemIterator.keyType(), itemIterator.key(), null);
+                output.writeArrayItemStart();
+                writeObject(itemIterator.columnType(), itemIterator.column(), null);
+                output.writeArrayItemStart();
+                writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
+                output.writeArrayEnd();
+            }
             output.writeArrayEnd();
         }
-        output.writeArrayEnd();
-    }
 
-    // write grid using sparse approach
-    private void writeGrid(SerIterator itemIterator) throws IOException {
-        output.writeArrayStart();
-        output.writeArrayItemStart();
-        output.writeInt(itemIterator.dimensionSize(0));
-        output.writeArrayItemStart();
-        output.writeInt(itemIterator.dimensionSize(1));
-        while (itemIterator.hasNext()) {
-            itemIterator.next();
-            output.writeArrayItemStart();
+        // write grid using sparse approach
+        private void writeGrid(SerIterator itemIterator) throws IOException {
             output.writeArrayStart();
             output.writeArrayItemStart();
-            output.writeInt((Integer) itemIterator.key());
-            output.writeArrayItemStart();
-            output.writeInt((Integer) itemIterator.column());
+            output.writeInt(itemIterator.dimensionSize(0));
             output.writeArrayItemStart();
-            writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
+            output.writeInt(itemIterator.dimensionSize(1));
+            while (itemIterator.hasNext()) {
+                itemIterator.next();
+                output.writeArrayItemStart();
+                output.writeArrayStart();
+                output.writeArrayItemStart();
+                output.writeInt((Integer) itemIterator.key());
+                output.writeArrayItemStart();
+                output.writeInt((Integer) itemIterator.column());
+                output.writeArrayItemStart();
+                writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
+                output.writeArrayEnd();
+            }
             output.writeArrayEnd();
         }
-        output.writeArrayEnd();
-    }
 
-    // write counted set
-    private void writeCounted(final SerIterator itemIterator) throws IOException {
-        output.writeArrayStart();
-        while (itemIterator.hasNext()) {
-            itemIterator.next();
-            output.writeArrayItemStart();
+        // write counted set
+        private void writeCounted(final SerIterator itemIterator) throws IOException {
             output.writeArrayStart();
-            output.writeArrayItemStart();
-            writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
-            output.writeArrayItemStart();
-            output.writeInt(itemIterator.count());
+            while (itemIterator.hasNext()) {
+                itemIterator.next();
+                output.writeArrayItemStart();
+                output.writeArrayStart();
+                output.writeArrayItemStart();
+                writeObject(itemIterator.valueType(), itemIterator.value(), itemIterator);
+                output.writeArrayItemStart();
+                output.writeInt(itemIterator.count());
+                output.writeArrayEnd();
+            }
             output.writeArrayEnd();
         }
-        output.writeArrayEnd();
-    }
 
-    // write collection object
-    private void writeObject(Class<?> declaredType, Object obj, SerIterator parentIterator) throws IOException {
-        if (obj == null) {
-            output.writeNull();
-        } else if (settings.getConverter().isConvertible(obj.getClass())) {
-            writeSimple(declaredType, obj);
-        } else if (obj instanceof Bean) {
-            writeBean((Bean) obj, declaredType);
-        } else if (parentIterator != null) {
-            SerIterator childIterator = settings.getIteratorFactory().createChild(obj, parentIterator);
-            if (childIterator != null) {
-                writeElements(childIterator);
+        // write collection object
+        private void writeObject(Class<?> declaredType, Object obj, SerIterator parentIterator) throws IOException {
+            if (obj == null) {
+                output.writeNull();
+            } else if (settings.getConverter().isConvertible(obj.getClass())) {
+                writeSimple(declaredType, obj);
+            } else if (obj instanceof Bean) {
+                writeBean((Bean) obj, declaredType);
+            } else if (parentIterator != null) {
+                SerIterator childIterator = settings.getIteratorFactory().createChild(obj, parentIterator);
+                if (childIterator != null) {
+                    writeElements(childIterator);
+                } else {
+                    writeSimple(declaredType, obj);
+                }
             } else {
                 writeSimple(declaredType, obj);
             }
-        } else {
-            writeSimple(declaredType, obj);
         }
-    }
 
-    //-----------------------------------------------------------------------
-    // write simple type
-    private void writeSimple(Class<?> declaredType, Object value) throws IOException {
-        Class<?> realType = value.getClass();
-        if (realType == Integer.class) {
-            output.writeInt(((Integer) value).intValue());
-        } else if (realType == Long.class) {
-            output.writeLong(((Long) value).longValue());
-        } else if (realType == Short.class) {
-            output.writeInt(((Short) value).shortValue());
-        } else if (realType == Byte.class) {
-            output.writeInt(((Byte) value).byteValue());
-        } else if (realType == Float.class) {
-            float flt = ((Float) value).floatValue();
-            if (Float.isNaN(flt)) {
-                // write as string
-                output.writeNull();
-            } else if (Float.isInfinite(flt)) {
-                // write as string
-                output.writeString(Float.toString(flt));
+        //-----------------------------------------------------------------------
+        // write a primitive property without boxing, matching the output of writeSimple()
+        private void writePrimitive(PropertyPlan prop, Bean bean) throws IOException {
+            MetaProperty<?> metaProperty = prop.getMetaProperty();
+            Class<?> type = prop.getPrimitiveType();
+            if (type == int.class) {
+                output.writeInt(metaProperty.getInt(bean));
+            } else if (type == long.class) {
+                output.writeLong(metaProperty.getLong(bean));
+            } else if (type == double.class) {
+                double dbl = metaProperty.getDouble(bean);
+                if (Double.isNaN(dbl) || Double.isInfinite(dbl)) {
+                    writeSimple(type, dbl);
+                } else {
+                    output.writeDouble(dbl);
+                }
             } else {
-                output.writeFloat(flt);
+                output.writeBoolean(metaProperty.getBoolean(bean));
             }
-        } else if (realType == Double.class) {
-            double dbl = ((Double) value).doubleValue();
-            if (Double.isNaN(dbl)) {
-                // write as string
-                output.writeNull();
-            } else if (Double.isInfinite(dbl)) {
-                // write as string
-                output.writeString(Double.toString(dbl));
+        }
+
+        // write simple type
+        private void writeSimple(Class<?> declaredType, Object value) throws IOException {
+            Class<?> realType = value.getClass();
+            if (realType == Integer.class) {
+                output.writeInt(((Integer) value).intValue());
+            } else if (realType == Long.class) {
+                output.writeLong(((Long) value).longValue());
+            } else if (realType == Short.class) {
+                output.writeInt(((Short) value).shortValue());
+            } else if (realType == Byte.class) {
+                output.writeInt(((Byte) value).byteValue());
+            } else if (realType == Float.class) {
+                float flt = ((Float) value).floatValue();
+                if (Float.isNaN(flt)) {
+                    // write as string
+                    output.writeNull();
+                } else if (Float.isInfinite(flt)) {
+                    // write as string
+                    output.writeString(Float.toString(flt));
+                } else {
+                    output.writeFloat(flt);
+                }
+            } else if (realType == Double.class) {
+                double dbl = ((Double) value).doubleValue();
+                if (Double.isNaN(dbl)) {
+                    // write as string
+                    output.writeNull();
+                } else if (Double.isInfinite(dbl)) {
+                    // write as string
+                    output.writeString(Double.toString(dbl));
+                } else {
+                    output.writeDouble(dbl);
+                }
+            } else if (realType == Boolean.class) {
+                output.writeBoolean(((Boolean) value).booleanValue());
             } else {
-                output.writeDouble(dbl);
-            }
-        } else if (realType == Boolean.class) {
-            output.writeBoolean(((Boolean) value).booleanValue());
-        } else {
-            // write as a string
-            try {
-                String converted = settings.getConverter().convertToString(realType, value);
-                if (converted == null) {
-                    throw new IllegalArgumentException("Unable to write because converter returned a null string: " + value);
+                // write as a string
+                try {
+                    String converted = settings.getConverter().convertToString(realType, value);
+                    if (converted == null) {
+                        throw new IllegalArgumentException("Unable to write because converter returned a null string: " + value);
+                    }
+                    output.writeString(converted);
+                } catch (RuntimeException ex) {
+                    throw new IllegalArgumentException(
+                            "Unable to convert type " + declaredType.getName() + " for real type: " + realType.getName(), ex);
                 }
-                output.writeString(converted);
-            } catch (RuntimeException ex) {
-                throw new IllegalArgumentException(
-                        "Unable to convert type " + declaredType.getName() + " for real type: " + realType.getName(), ex);
             }
         }
     }
@@ -37,8 +37,7 @@ import org.joda.beans.ser.SerOptional;
  * <p>
  * The format is defined by {@link JodaBeanSimpleMapWriter}.
  * <p>
- * This class contains mutable state and cannot be used from multiple threads.
- * A new instance must be created for each message.
+ * This class is immutable and may be used from multiple threads.
  */
 public class JodaBeanSimpleMapReader {
 
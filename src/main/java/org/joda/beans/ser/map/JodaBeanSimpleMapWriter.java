@@ -23,18 +23,17 @@ import java.util.Map;
 
 import org.joda.beans.Bean;
 import org.joda.beans.JodaBeanUtils;
-import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerBeanPlan;
+import org.joda.beans.ser.SerBeanPlan.PropertyPlan;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
 import org.joda.convert.StringConverter;
 
 /**
  * Provides the ability for a Joda-Bean to be written to a JSON-like in memory {@code Map}.
  * <p>
- * This class contains mutable state and cannot be used from multiple threads.
- * A new instance must be created for each message.
+ * This class is immutable and may be used from multiple threads.
  * <p>
  * The format used here is natural, with no meta-data.
  * As such, it may not be possible to write some objects or read the JSON data back in.
@@ -83,28 +82,28 @@ public class JodaBeanSimpleMapWriter {
     private Map<String, Object> writeBean(Bean bean, Class<?> declaredType) {
         Map<String, Object> result = new LinkedHashMap<>();
         // property information
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable() || (prop.style().isDerived() && settings.isIncludeDerived())) {
-                Object value = SerOptional.extractValue(prop, bean);
-                if (value != null) {
-                    Object outputValue = null;
-                    Class<?> propType = SerOptional.extractType(prop, bean.getClass());
-                    if (value instanceof Bean) {
-                        if (settings.getConverter().isConvertible(value.getClass())) {
-                            outputValue = writeSimple(propType, value);
-                        } else {
-                            outputValue = writeBean((Bean) value, propType);
-                        }
+        SerBeanPlan plan = settings.beanPlan(bean);
+        for (int i = 0; i < plan.size(); i++) {
+            PropertyPlan prop = plan.property(i);
+            Object value = prop.extractValue(bean);
+            if (value != null) {
+                Object outputValue = null;
+                Class<?> propType = prop.getPropertyType();
+                if (value instanceof Bean) {
+                    if (settings.getConverter().isConvertible(value.getClass())) {
+                        outputValue = writeSimple(propType, value);
                     } else {
-                        SerIterator itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass(), true);
-                        if (itemIterator != null) {
-                            outputValue = writeElements(itemIterator);
-                        } else {
-                            outputValue = writeSimple(propType, value);
-                        }
+                        outputValue = writeBean((Bean) value, propType);
+                    }
+                } else {
+                    SerIterator itemIterator = settings.getIteratorFactory().create(value, prop.getMetaProperty(), bean.getClass(), true);
+                    if (itemIterator != null) {
+                        outputValue = writeElements(itemIterator);
+                    } else {
+                        outputValue = writeSimple(propType, value);
                     }
-                    result.put(prop.name(), outputValue);
                 }
+                result.put(prop.getName(), outputValue);
             }
         }
         return result;
@@ -239,6 +239,24 @@ public class TestAddress {
         assertEquals(test.get(address), "C");
     }
 
+    @Test
+    public void test_metaProperty_primitive() {
+        Address address = new Address();
+        MetaProperty<Integer> test = Address.meta().number();
+        
+        assertEquals(test.getInt(address), 0);
+        address.setNumber(12);
+        assertEquals(test.getInt(address), 12);
+        test.setInt(address, 14);
+        assertEquals(address.getNumber(), 14);
+        assertEquals(test.get(address), Integer.valueOf(14));
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void test_metaProperty_primitive_wrongType() {
+        Address.meta().number().getLong(new Address());
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_metaProperty_types() {
@@ -0,0 +1,143 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.joda.beans.gen.BeanCodeGen;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test code generator.
+ */
+public class TestBeanCodeGen {
+
+    private static final File SAMPLES = new File("src/test/java/org/joda/beans/sample");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void test_index() throws Exception {
+        File dir = folder.newFolder();
+        copy("ImmPerson.java", dir);
+        copy("ImmAddress.java", dir);
+        copy("RiskLevel.java", dir);
+        File index = new File(folder.getRoot(), "out/JodaBeans.index");
+        BeanCodeGen gen = BeanCodeGen.createFromArgs(new String[] {"-verbose=0", "-index=" + index, dir.toString()});
+        assertEquals(0, gen.process());
+        assertEquals(
+                Arrays.asList(
+                        "# Joda-Beans index, generated by BeanCodeGen",
+                        "org.joda.beans.sample.ImmAddress",
+                        "org.joda.beans.sample.ImmPerson"),
+                Files.readAllLines(index.toPath(), StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_index_twice() {
+        BeanCodeGen.createFromArgs(new String[] {"-index=a", "-index=b", "."});
+    }
+
+    @Test
+    public void test_threads() throws Exception {
+        File dir = folder.newFolder();
+        copy("ImmPerson.java", dir);
+        copy("ImmAddress.java", dir);
+        copy("RiskLevel.java", dir);
+        copy("Person.java", dir);
+        copy("Address.java", dir);
+        File index = new File(folder.getRoot(), "JodaBeans.index");
+        BeanCodeGen gen = BeanCodeGen.createFromArgs(
+                new String[] {"-verbose=0", "-threads=3", "-index=" + index, dir.toString()});
+        assertEquals(0, gen.process());
+        assertEquals(
+                Arrays.asList(
+                        "# Joda-Beans index, generated by BeanCodeGen",
+                        "org.joda.beans.sample.Address",
+                        "org.joda.beans.sample.ImmAddress",
+                        "org.joda.beans.sample.ImmPerson",
+                        "org.joda.beans.sample.Person"),
+                Files.readAllLines(index.toPath(), StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_threads_invalid() {
+        BeanCodeGen.createFromArgs(new String[] {"-threads=-1", "."});
+    }
+
+    @Test
+    public void test_cache() throws Exception {
+        File dir = folder.newFolder();
+        copy("ImmPerson.java", dir);
+        copy("RiskLevel.java", dir);
+        File index = new File(folder.getRoot(), "JodaBeans.index");
+        File cache = new File(folder.getRoot(), "cache/codegen.cache");
+        String[] args = {"-verbose=0", "-index=" + index, "-cache=" + cache, dir.toString()};
+        assertEquals(0, BeanCodeGen.createFromArgs(args).process());
+        List<String> lines = Files.readAllLines(cache.toPath(), StandardCharsets.UTF_8);
+        assertEquals(5, lines.size());
+        assertEquals("# Joda-Beans code generation cache", lines.get(0));
+        assertTrue(lines.get(1).startsWith("generator "));
+        assertTrue(lines.get(2).startsWith("config "));
+
+        // unchanged files are skipped, using the bean name from the cache
+        List<String> altered = new ArrayList<>();
+        for (String line : lines) {
+            altered.add(line.replace(" org.joda.beans.sample.ImmPerson ", " org.joda.beans.sample.Cached "));
+        }
+        Files.write(cache.toPath(), altered, StandardCharsets.UTF_8);
+        assertEquals(0, BeanCodeGen.createFromArgs(args).process());
+        assertEquals(
+                Arrays.asList("# Joda-Beans index, generated by BeanCodeGen", "org.joda.beans.sample.Cached"),
+                Files.readAllLines(index.toPath(), StandardCharsets.UTF_8));
+
+        // different configuration ignores the cache
+        String[] args2 = {"-verbose=0", "-generated", "-index=" + index, "-cache=" + cache, dir.toString()};
+        BeanCodeGen.createFromArgs(args2).process();
+        assertEquals(
+                Arrays.asList("# Joda-Beans index, generated by BeanCodeGen", "org.joda.beans.sample.ImmPerson"),
+                Files.readAllLines(index.toPath(), StandardCharsets.UTF_8));
+        assertNotEquals(lines.get(2), Files.readAllLines(cache.toPath(), StandardCharsets.UTF_8).get(2));
+
+        // different generator build ignores the cache
+        altered.set(1, "generator other");
+        Files.write(cache.toPath(), altered, StandardCharsets.UTF_8);
+        BeanCodeGen.createFromArgs(args).process();
+        assertEquals(
+                Arrays.asList("# Joda-Beans index, generated by BeanCodeGen", "org.joda.beans.sample.ImmPerson"),
+                Files.readAllLines(index.toPath(), StandardCharsets.UTF_8));
+        assertEquals(lines.get(1), Files.readAllLines(cache.toPath(), StandardCharsets.UTF_8).get(1));
+    }
+
+    private static void copy(String fileName, File dir) throws IOException {
+        Files.copy(new File(SAMPLES, fileName).toPath(), new File(dir, fileName).toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.sample.Address;
+import org.joda.beans.sample.ImmPerson;
+import org.joda.beans.sample.Person;
+import org.junit.Test;
+
+/**
+ * Test {@link BeanMapper}.
+ */
+public class TestBeanMapper {
+
+    @Test
+    public void test_of_cached() {
+        BeanMapper test = BeanMapper.of(Person.meta(), ImmPerson.meta());
+        assertSame(test, BeanMapper.of(Person.meta(), ImmPerson.meta()));
+        assertSame(test.getSourceMetaBean(), Person.meta());
+        assertSame(test.getDestinationMetaBean(), ImmPerson.meta());
+        assertEquals(test.toString(), "BeanMapper[" + Person.class.getName() + " -> " + ImmPerson.class.getName() + "]");
+    }
+
+    @Test
+    public void test_of_dynamic() {
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("forename", "Stephen");
+        BeanMapper test = BeanMapper.of(flexi.metaBean(), ImmPerson.meta());
+        assertNotSame(test, BeanMapper.of(flexi.metaBean(), ImmPerson.meta()));
+        assertEquals(test.size(), 0);
+    }
+
+    @Test
+    public void test_size() {
+        // forename, surname, numberOfCars, otherAddressMap and addressesList match by name and type
+        assertEquals(BeanMapper.of(Person.meta(), ImmPerson.meta()).size(), 5);
+        assertEquals(BeanMapper.of(Person.meta(), Address.meta()).size(), 0);
+    }
+
+    @Test
+    public void test_copy() {
+        Person p = new Person();
+        p.setForename("Stephen");
+        p.setSurname("Colebourne");
+        ImmPerson copied = (ImmPerson) BeanMapper.of(Person.meta(), ImmPerson.meta()).copy(p).build();
+        assertEquals(copied.getForename(), "Stephen");
+        assertEquals(copied.getSurname(), "Colebourne");
+    }
+
+    @Test
+    public void test_copyInto() {
+        Person p = new Person();
+        p.setForename("Stephen");
+        ImmPerson copied = BeanMapper.of(Person.meta(), ImmPerson.meta())
+                .copyInto(p, ImmPerson.builder().surname("Colebourne"))
+                .build();
+        assertEquals(copied.getForename(), "Stephen");
+        assertEquals(copied.getSurname(), "Colebourne");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_copyInto_wrongSource() {
+        BeanMapper.of(Person.meta(), ImmPerson.meta()).copyInto(new Address(), ImmPerson.builder());
+    }
+
+}
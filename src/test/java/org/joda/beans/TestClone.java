@@ -18,6 +18,7 @@ package org.joda.beans;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
@@ -26,9 +27,13 @@ import java.util.Date;
 import org.joda.beans.sample.Address;
 import org.joda.beans.sample.ClonePerson;
 import org.joda.beans.sample.Company;
+import org.joda.beans.sample.ImmArrays;
+import org.joda.beans.sample.ImmGuava;
 import org.joda.beans.sample.NoClone;
 import org.junit.Test;
 
+import com.google.common.collect.ImmutableList;
+
 /**
  * Test property using ClonePerson.
  */
@@ -61,6 +66,42 @@ public class TestClone {
         assertNotSame(cloned.getAmounts(), base.getAmounts());
     }
 
+    @Test
+    public void test_bean_sharesImmutable() {
+        ClonePerson base = new ClonePerson();
+        base.setSurname(new String("Cable"));
+        base.setDateOfBirth(new Date());
+        base.setAmounts(new int[] {1, 2});
+        base.setMiddleNames(new String[] {"A", "B"});
+
+        ClonePerson cloned = JodaBeanUtils.cloneAlways(base);
+        assertEquals(cloned, base);
+        assertSame(cloned.getSurname(), base.getSurname());
+        assertNotSame(cloned.getAmounts(), base.getAmounts());
+        assertNotSame(cloned.getMiddleNames(), base.getMiddleNames());
+        assertSame(cloned.getMiddleNames()[0], base.getMiddleNames()[0]);
+    }
+
+    @Test
+    public void test_immutableBean_primitiveArrays() {
+        ImmArrays base = ImmArrays.of(new int[] {1, 2}, new long[] {3L}, new double[] {4d, 5d}, new boolean[] {true});
+        ImmArrays cloned = JodaBeanUtils.cloneAlways(base);
+        assertNotSame(cloned, base);
+        assertEquals(cloned, base);
+        assertSame(JodaBeanUtils.clone(base), base);
+    }
+
+    @Test
+    public void test_immutableBean_guava() {
+        ImmGuava<String> base = ImmGuava.<String>builder()
+                .list(ImmutableList.of("A", "B"))
+                .build();
+        ImmGuava<String> cloned = JodaBeanUtils.cloneAlways(base);
+        assertNotSame(cloned, base);
+        assertEquals(cloned, base);
+        assertSame(cloned.getList(), base.getList());
+    }
+
     @Test
     public void test_noclone_on_mutable_bean_option() {
         Class<?> c = NoClone.class;
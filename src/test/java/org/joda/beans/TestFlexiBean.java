@@ -130,4 +130,25 @@ public class TestFlexiBean {
         flexi.put("bad-name", "a");
     }
 
+    @Test
+    public void test_index() {
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("a", "A");
+        flexi.set("b", "B");
+        DynamicMetaBean meta = flexi.metaBean();
+        assertEquals(meta.metaProperty("b").index(), 1);
+        assertEquals(meta.metaProperty(1).name(), "b");
+        assertEquals(meta.get(flexi, 1), "B");
+        meta.builder().set(1, "BB");
+        assertEquals(flexi.get("b"), "BB");
+        
+        flexi.remove("a");
+        assertEquals(meta.metaProperty("b").index(), 0);
+        assertEquals(meta.metaProperty("c").index(), -1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_index_invalid() {
+        new FlexiBean().metaBean().metaProperty(0);
+    }
 }
@@ -16,6 +16,8 @@
 package org.joda.beans;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import java.util.Calendar;
 import java.util.GregorianCalendar;
@@ -23,7 +25,10 @@ import java.util.NoSuchElementException;
 
 import org.joda.beans.sample.ImmAddress;
 import org.joda.beans.sample.ImmAddress.Builder;
+import org.joda.beans.sample.ImmDoubleFloat;
+import org.joda.beans.sample.ImmGeneric;
 import org.joda.beans.sample.ImmGuava;
+import org.joda.beans.sample.ImmPackedFlags;
 import org.joda.beans.sample.ImmPerson;
 import org.joda.beans.sample.ImmPersonNonFinal;
 import org.joda.beans.sample.ImmSubPersonNonFinal;
@@ -85,6 +90,32 @@ public class TestImmutable {
         assertEquals(address.getStreet(), "Park Road");
     }
 
+    @Test
+    public void test_withMethod() {
+        ImmDoubleFloat base = ImmDoubleFloat.builder().a(1.5d).b(2.5d).build();
+        ImmDoubleFloat test = base.withA(3.5d);
+        assertEquals(test.getA(), 3.5d, 0d);
+        assertEquals(test.getB(), 2.5d, 0d);
+        assertEquals(test, base.toBuilder().a(3.5d).build());
+        assertEquals(base.getA(), 1.5d, 0d);
+    }
+
+    @Test
+    public void test_withMethod_sameValue() {
+        ImmDoubleFloat base = ImmDoubleFloat.builder().a(Double.NaN).b(0d).build();
+        assertSame(base.withA(Double.NaN), base);
+        assertSame(base.withB(0d), base);
+        assertNotSame(base.withB(-0d), base);
+        ImmGeneric<String> generic = ImmGeneric.of("A");
+        assertSame(generic.withValue(generic.getValue()), generic);
+        assertEquals(generic.withValue("B"), ImmGeneric.of("B"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_withMethod_validated() {
+        ImmGeneric.of("A").withValue(null);
+    }
+
     //-----------------------------------------------------------------------
     @Test(expected = NoSuchElementException.class)
     public void test_builder_getInvalidPropertyName() {
@@ -185,4 +216,81 @@ public class TestImmutable {
         assertEquals(obj.getList(), listCal);
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_index() {
+        ImmSubSubPersonFinal bean = ImmSubSubPersonFinal.meta().builder()
+                .set(ImmPersonNonFinal.meta().forename().index(), "John")
+                .set(ImmSubPersonNonFinal.meta().middleName().index(), "K")
+                .set("surname", "Doggett")
+                .build();
+        assertEquals(bean.getForename(), "John");
+        assertEquals(bean.getMiddleName(), "K");
+        MetaBean meta = bean.metaBean();
+        int index = 0;
+        for (MetaProperty<?> mp : meta.metaPropertyIterable()) {
+            assertEquals(mp.index(), index);
+            assertSame(meta.metaProperty(index), mp);
+            assertEquals(meta.get(bean, index), mp.get(bean));
+            index++;
+        }
+        // properties of the superclass have the same index
+        assertEquals(ImmPersonNonFinal.meta().surname().index(), 1);
+        assertEquals(ImmSubSubPersonFinal.meta().metaProperty(1), ImmPersonNonFinal.meta().surname());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_primitive() {
+        ImmPerson bean = ImmPerson.meta().builder()
+                .set(ImmPerson.meta().forename(), "John")
+                .setInt(ImmPerson.meta().numberOfCars(), 3)
+                .build();
+        assertEquals(ImmPerson.meta().numberOfCars().getInt(bean), 3);
+        assertEquals(ImmPerson.meta().age().getInt(bean), 12);
+        ImmDoubleFloat dbl = ImmDoubleFloat.builder().a(1.5d).b(2.5d).build();
+        assertEquals(ImmDoubleFloat.meta().a().getDouble(dbl), 1.5d, 0d);
+        assertEquals(ImmDoubleFloat.meta().b().getDouble(dbl), 2.5d, 0d);
+    }
+
+    @Test
+    public void test_primitive_builder() {
+        BeanBuilder<? extends ImmDoubleFloat> builder = ImmDoubleFloat.meta().builder()
+                .setDouble(ImmDoubleFloat.meta().a(), 1.5d)
+                .setDouble(ImmDoubleFloat.meta().b(), 2.5d);
+        assertEquals(builder.get(ImmDoubleFloat.meta().a()), Double.valueOf(1.5d));
+        assertEquals(builder.build(), ImmDoubleFloat.builder().a(1.5d).b(2.5d).build());
+        ImmPackedFlags flags = ImmPackedFlags.meta().builder()
+                .set(ImmPackedFlags.meta().name(), "Test")
+                .setBoolean(ImmPackedFlags.meta().tagged(), true)
+                .build();
+        assertEquals(flags.isTagged(), true);
+        assertEquals(flags.isActive(), false);
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void test_primitive_builder_wrongType() {
+        ImmPerson.meta().builder().setInt(ImmPerson.meta().forename(), 3);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void test_primitive_set() {
+        ImmPerson bean = ImmPerson.builder().forename("John").build();
+        ImmPerson.meta().numberOfCars().setInt(bean, 2);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_index_negative() {
+        ImmAddress.meta().metaProperty(-1);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void test_index_derived() {
+        ImmSubSubPersonFinal.meta().builder().set(ImmPersonNonFinal.meta().age().index(), 3);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_index_tooLarge() {
+        ImmAddress.meta().builder().set(ImmAddress.meta().metaPropertyCount(), "");
+    }
 }
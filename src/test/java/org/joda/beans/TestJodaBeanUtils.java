@@ -19,8 +19,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -31,6 +33,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
+import org.joda.beans.impl.StandaloneMetaProperty;
 import org.joda.beans.impl.flexi.FlexiBean;
 import org.joda.beans.sample.Address;
 import org.joda.beans.sample.ImmAddress;
@@ -157,6 +160,51 @@ public class TestJodaBeanUtils {
         assertEquals(JodaBeanUtils.propertiesHashCode(a), JodaBeanUtils.propertiesHashCode(b));
     }
 
+    @Test
+    public void test_propertiesEqual_sameMetaBean() {
+        Pair a = new Pair();
+        a.setFirst("A");
+        Pair b = new Pair();
+        b.setFirst("A");
+        assertEquals(JodaBeanUtils.propertiesEqual(a, b), true);
+        assertEquals(JodaBeanUtils.propertiesHashCode(a), JodaBeanUtils.propertiesHashCode(b));
+
+        b.setSecond("B");
+        assertEquals(JodaBeanUtils.propertiesEqual(a, b), false);
+        assertEquals(JodaBeanUtils.propertiesEqual(b, a), false);
+    }
+
+    @Test
+    public void test_propertiesEqual_differentNames() {
+        FlexiBean a = new FlexiBean();
+        a.set("first", "A");
+        a.set("second", null);
+        FlexiBean b = new FlexiBean();
+        b.set("first", "A");
+        b.set("third", null);
+        assertEquals(JodaBeanUtils.propertiesEqual(a, b), false);
+        assertEquals(JodaBeanUtils.propertiesEqual(b, a), false);
+
+        Pair pair = new Pair();
+        pair.setFirst("A");
+        assertEquals(JodaBeanUtils.propertiesEqual(pair, b), false);
+        assertEquals(JodaBeanUtils.propertiesEqual(a, pair), true);
+    }
+
+    @Test
+    public void test_propertiesToString() {
+        Pair a = new Pair();
+        a.setFirst("A");
+        assertEquals(JodaBeanUtils.propertiesToString(a, "Pair"), "Pair{first=A, second=null}");
+        assertEquals(JodaBeanUtils.propertiesToString(a, null), "{first=A, second=null}");
+        assertEquals(JodaBeanUtils.propertiesToString(new FlexiBean(), "Flexi"), "Flexi{}");
+
+        FlexiBean b = new FlexiBean();
+        b.set("first", "A");
+        b.set("second", 2);
+        assertEquals(JodaBeanUtils.propertiesToString(b, null), "{first=A, second=2}");
+    }
+
     //-------------------------------------------------------------------------
     @Test
     public void test_equal() {
@@ -602,6 +650,37 @@ public class TestJodaBeanUtils {
         assertEquals(JodaBeanUtils.mapValueTypeTypes(test, Person.class), expected);
     }
 
+    //-------------------------------------------------------------------------
+    @Test
+    public void test_resolvedTypes_cached() {
+        MetaProperty<List<List<Address>>> test = Person.meta().addressesList();
+        
+        List<Class<?>> first = JodaBeanUtils.collectionTypeTypes(test, Person.class);
+        assertSame(JodaBeanUtils.collectionTypeTypes(test, Person.class), first);
+        assertEquals(JodaBeanUtils.extractTypeClass(test, Person.class, 1, 0), List.class);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void test_resolvedTypes_unmodifiable() {
+        MetaProperty<List<List<Address>>> test = Person.meta().addressesList();
+        
+        JodaBeanUtils.collectionTypeTypes(test, Person.class).clear();
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void test_resolvedTypes_equalMetaProperties() {
+        Type type1 = Person.meta().addressList().propertyGenericType();
+        Type type2 = Person.meta().addressesList().propertyGenericType();
+        MetaProperty<List> test1 = StandaloneMetaProperty.of("test", Person.meta(), List.class, type1);
+        MetaProperty<List> test2 = StandaloneMetaProperty.of("test", Person.meta(), List.class, type2);
+        assertEquals(test1, test2);
+        
+        assertEquals(JodaBeanUtils.collectionType(test1, Person.class), Address.class);
+        assertEquals(JodaBeanUtils.collectionType(test2, Person.class), List.class);
+        assertEquals(JodaBeanUtils.collectionType(test1, Person.class), Address.class);
+    }
+
     //-------------------------------------------------------------------------
     @Test
     public void equalIgnoring() {
@@ -19,6 +19,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.junit.Assert.assertSame;
 
 import java.util.ArrayList;
 import java.util.Currency;
@@ -288,4 +289,100 @@ public class TestLight {
         }
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_mutable_accessors() {
+        LightMutable bean = LightMutable.meta().builder()
+                .set("street", "Park Lane")
+                .set("city", "London")
+                .build();
+        MetaProperty<Object> number = bean.metaBean().metaProperty("number");
+        number.set(bean, 7);
+        assertEquals(bean.getNumber(), 7);
+        assertEquals(number.get(bean), 7);
+        MetaProperty<Object> flag = bean.metaBean().metaProperty("flag");
+        flag.set(bean, true);
+        assertEquals(bean.isFlag(), true);
+        assertEquals(flag.get(bean), Boolean.TRUE);
+        MetaProperty<Object> street = bean.metaBean().metaProperty("street");
+        street.set(bean, "High Street");
+        assertEquals(street.get(bean), "High Street");
+        assertEquals(bean.metaBean().metaProperty("address").get(bean), "7 High Street London");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_mutable_accessors_nullPrimitive() {
+        LightMutable bean = LightMutable.meta().builder().set("street", "Park Lane").set("city", "London").build();
+        bean.metaBean().metaProperty("number").set(bean, null);
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void test_mutable_accessors_wrongType() {
+        LightMutable bean = LightMutable.meta().builder().set("street", "Park Lane").set("city", "London").build();
+        bean.metaBean().metaProperty("city").set(bean, 6);
+    }
+
+    @Test
+    public void test_mutable_primitive() {
+        LightMutable bean = LightMutable.meta().builder().set("street", "Park Lane").set("city", "London").build();
+        MetaProperty<Object> number = bean.metaBean().metaProperty("number");
+        number.setInt(bean, 7);
+        assertEquals(bean.getNumber(), 7);
+        assertEquals(number.getInt(bean), 7);
+        MetaProperty<Object> flag = bean.metaBean().metaProperty("flag");
+        flag.setBoolean(bean, true);
+        assertEquals(bean.isFlag(), true);
+        assertEquals(flag.getBoolean(bean), true);
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void test_mutable_primitive_wrongType() {
+        LightMutable bean = LightMutable.meta().builder().set("street", "Park Lane").set("city", "London").build();
+        bean.metaBean().metaProperty("city").getInt(bean);
+    }
+
+    @Test
+    public void test_immutable_primitive() {
+        MetaBean meta = LightImmutable.meta();
+        LightImmutable bean = (LightImmutable) meta.builder()
+                .setInt(meta.metaProperty("number"), 12)
+                .setBoolean(meta.metaProperty("flag"), true)
+                .set("street", "Park Lane")
+                .set("city", "Smallville")
+                .set("owner", ImmPerson.builder().forename("John").surname("Doggett").build())
+                .set("list", new ArrayList<String>())
+                .set("currency", Currency.getInstance("USD"))
+                .build();
+        assertEquals(meta.metaProperty("number").getInt(bean), 12);
+        assertEquals(meta.metaProperty("flag").getBoolean(bean), true);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_index() {
+        ImmPerson person = ImmPerson.builder().forename("John").surname("Doggett").build();
+        MetaBean meta = LightImmutable.meta();
+        LightImmutable bean = (LightImmutable) meta.builder()
+                .set(meta.metaProperty("number").index(), 12)
+                .set(meta.metaProperty("street").index(), "Park Lane")
+                .set(meta.metaProperty("city").index(), "Smallville")
+                .set(meta.metaProperty("owner").index(), person)
+                .set(meta.metaProperty("list").index(), new ArrayList<String>())
+                .set(meta.metaProperty("currency").index(), Currency.getInstance("USD"))
+                .build();
+        assertEquals(bean.getNumber(), 12);
+        assertEquals(bean.getCity(), "Smallville");
+        int index = 0;
+        for (MetaProperty<?> mp : meta.metaPropertyIterable()) {
+            assertEquals(mp.index(), index);
+            assertSame(meta.metaProperty(index), mp);
+            assertEquals(meta.get(bean, index), mp.get(bean));
+            index++;
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_index_invalid() {
+        LightImmutable.meta().metaProperty(LightImmutable.meta().metaPropertyCount());
+    }
 }
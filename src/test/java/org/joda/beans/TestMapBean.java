@@ -103,4 +103,16 @@ public class TestMapBean {
         assertEquals(meta.metaPropertyCount(), 1);  // meta-property object created but data not changed
     }
 
+    @Test
+    public void test_index() {
+        MapBean mapBean = new MapBean();
+        mapBean.put("a", "A");
+        mapBean.put("b", "B");
+        DynamicMetaBean meta = mapBean.metaBean();
+        int index = meta.metaProperty("b").index();
+        assertEquals(meta.metaProperty(index).name(), "b");
+        assertEquals(meta.get(mapBean, index), "B");
+        meta.builder().set(index, "BB");
+        assertEquals(mapBean.get("b"), "BB");
+    }
 }
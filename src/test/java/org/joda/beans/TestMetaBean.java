@@ -17,18 +17,36 @@ package org.joda.beans;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.joda.beans.impl.flexi.FlexiBean;
 import org.joda.beans.impl.map.MapBean;
+import org.joda.beans.sample.ImmAddress;
 import org.joda.beans.sample.ImmPerson;
+import org.joda.beans.sample.ImmTreeNode;
 import org.joda.beans.sample.MetaBeanLoad;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Test MetaBean statics.
  */
 public class TestMetaBean {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     //-----------------------------------------------------------------------
     @Test(expected = IllegalArgumentException.class)
     public void test_registerMetaBean() {
@@ -61,4 +79,58 @@ public class TestMetaBean {
         MetaBean.of(String.class);
     }
 
+    @Test
+    public void test_metaBean_cached() {
+        assertSame(ImmPerson.meta(), MetaBean.of(ImmPerson.class));
+        assertSame(ImmPerson.meta(), MetaBean.of(ImmPerson.class));
+    }
+
+    @Test
+    public void test_metaBean_notFoundTwice() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                MetaBean.of(Integer.class);
+            } catch (IllegalArgumentException ex) {
+                continue;
+            }
+            throw new AssertionError("Expected IllegalArgumentException");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_preload() throws IOException {
+        try (URLClassLoader loader = indexLoader(ImmTreeNode.class.getName(), "# comment", "", ImmAddress.class.getName())) {
+            List<MetaBean> test = MetaBean.preload(loader);
+            assertEquals(Arrays.asList(ImmTreeNode.meta(), ImmAddress.meta()), test);
+        }
+    }
+
+    @Test
+    public void test_preload_noIndex() {
+        assertEquals(Collections.emptyList(), MetaBean.preload(TestMetaBean.class.getClassLoader()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_preload_notBean() throws IOException {
+        try (URLClassLoader loader = indexLoader(String.class.getName())) {
+            MetaBean.preload(loader);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_preload_notFound() throws IOException {
+        try (URLClassLoader loader = indexLoader("org.joda.beans.sample.NotFound")) {
+            MetaBean.preload(loader);
+        }
+    }
+
+    private URLClassLoader indexLoader(String... lines) throws IOException {
+        File root = folder.newFolder();
+        File index = new File(root, "META-INF/org/joda/beans/JodaBeans.index");
+        index.getParentFile().mkdirs();
+        Files.write(index.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+        return new URLClassLoader(new URL[] {root.toURI().toURL()}, TestMetaBean.class.getClassLoader());
+    }
+
 }
@@ -19,6 +19,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.junit.Assert.assertSame;
 
 import java.util.ArrayList;
 import java.util.Currency;
@@ -223,4 +224,32 @@ public class TestMinimal {
         assertEquals(mps.get(7).name(), "address");
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_index() {
+        ImmPerson person = ImmPerson.builder().forename("John").surname("Doggett").build();
+        MetaBean meta = MinimalImmutable.meta();
+        MinimalImmutable bean = (MinimalImmutable) meta.builder()
+                .set(meta.metaProperty("number").index(), 12)
+                .set(meta.metaProperty("street").index(), "Park Lane")
+                .set(meta.metaProperty("city").index(), "Smallville")
+                .set(meta.metaProperty("owner").index(), person)
+                .set(meta.metaProperty("list").index(), new ArrayList<String>())
+                .set(meta.metaProperty("currency").index(), Currency.getInstance("USD"))
+                .build();
+        assertEquals(bean.getNumber(), 12);
+        assertEquals(bean.getCity(), "Smallville");
+        int index = 0;
+        for (MetaProperty<?> mp : meta.metaPropertyIterable()) {
+            assertEquals(mp.index(), index);
+            assertSame(meta.metaProperty(index), mp);
+            assertEquals(meta.get(bean, index), mp.get(bean));
+            index++;
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_index_invalid() {
+        MinimalImmutable.meta().metaProperty(-1);
+    }
 }
@@ -0,0 +1,198 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.joda.beans.sample.ImmPackedFlags;
+import org.joda.beans.ser.JodaBeanSer;
+import org.junit.Test;
+
+/**
+ * Test beans with packed boolean properties.
+ */
+public class TestPackedFlags {
+
+    private static final ImmPackedFlags BEAN = ImmPackedFlags.builder()
+            .name("Reference")
+            .active(true)
+            .shared(true)
+            .tagged(true)
+            .build();
+
+    @Test
+    public void test_bean() {
+        assertEquals("Reference", BEAN.getName());
+        assertTrue(BEAN.isActive());
+        assertFalse(BEAN.isDeleted());
+        assertTrue(BEAN.isShared());
+        assertFalse(BEAN.isSynced());
+        assertTrue(BEAN.isTagged());
+    }
+
+    @Test
+    public void test_builder() {
+        ImmPackedFlags test = BEAN.toBuilder().active(false).deleted(true).build();
+        assertFalse(test.isActive());
+        assertTrue(test.isDeleted());
+        assertTrue(test.isShared());
+        assertEquals(true, BEAN.toBuilder().get("tagged"));
+    }
+
+    @Test
+    public void test_with() {
+        ImmPackedFlags test = BEAN.withDeleted(true);
+        assertTrue(test.isDeleted());
+        assertEquals(BEAN.toBuilder().deleted(true).build(), test);
+        assertSame(BEAN, BEAN.withActive(true));
+    }
+
+    @Test
+    public void test_metaProperty() {
+        List<String> names = Arrays.asList("name", "active", "deleted", "verified", "shared", "archived",
+                "locked", "hidden", "pinned", "starred", "flagged", "synced", "tagged");
+        assertEquals(names, new ArrayList<>(ImmPackedFlags.meta().metaPropertyMap().keySet()));
+        MetaProperty<Boolean> mp = ImmPackedFlags.meta().shared();
+        assertEquals(boolean.class, mp.propertyType());
+        assertEquals(boolean.class, mp.propertyGenericType());
+        assertEquals(PropertyStyle.IMMUTABLE, mp.style());
+        assertEquals(Collections.emptyList(), mp.annotations());
+        assertEquals(Boolean.TRUE, mp.get(BEAN));
+        assertTrue(mp.getBoolean(BEAN));
+        assertFalse(ImmPackedFlags.meta().locked().getBoolean(BEAN));
+    }
+
+    @Test
+    public void test_equalsHashCode() {
+        ImmPackedFlags other = ImmPackedFlags.builder()
+                .name("Reference")
+                .active(true)
+                .shared(true)
+                .tagged(true)
+                .build();
+        assertEquals(BEAN, other);
+        assertEquals(BEAN.hashCode(), other.hashCode());
+        assertFalse(BEAN.equals(BEAN.withPinned(true)));
+        // same hash code as a bean with a field for each property
+        int hash = ImmPackedFlags.class.hashCode();
+        for (MetaProperty<?> mp : ImmPackedFlags.meta().metaPropertyIterable()) {
+            hash = hash * 31 + JodaBeanUtils.hashCode(mp.get(BEAN));
+        }
+        assertEquals(hash, BEAN.hashCode());
+    }
+
+    @Test
+    public void test_toString() {
+        assertEquals("ImmPackedFlags{name=Reference, active=true, deleted=false, verified=false, shared=true, " +
+                "archived=false, locked=false, hidden=false, pinned=false, starred=false, flagged=false, " +
+                "synced=false, tagged=true}", BEAN.toString());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_serialize() throws Exception {
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(BEAN);
+        assertTrue(json.contains("\"shared\":true"));
+        assertEquals(BEAN, JodaBeanSer.COMPACT.jsonReader().read(json, ImmPackedFlags.class));
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(BEAN);
+        assertEquals(BEAN, JodaBeanSer.COMPACT.binReader().read(bytes, ImmPackedFlags.class));
+        String xml = JodaBeanSer.COMPACT.xmlWriter().write(BEAN);
+        assertEquals(BEAN, JodaBeanSer.COMPACT.xmlReader().read(xml, ImmPackedFlags.class));
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(BEAN);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            assertEquals(BEAN, ois.readObject());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_footprint() throws Exception {
+        long packed = shallowSize(ImmPackedFlags.class);
+        long unpacked = shallowSize(Unpacked.class);
+        assertTrue("Packed " + packed + " should be smaller than unpacked " + unpacked, packed < unpacked);
+    }
+
+    // estimates the shallow size of an instance from the field offsets, in the style of JOL
+    private static long shallowSize(Class<?> type) throws Exception {
+        Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+        Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+        unsafeField.setAccessible(true);
+        Object unsafe = unsafeField.get(null);
+        Method offsetMethod = unsafeClass.getMethod("objectFieldOffset", Field.class);
+        int referenceSize = unsafeClass.getField("ARRAY_OBJECT_INDEX_SCALE").getInt(null);
+        long end = 12;
+        for (Class<?> cls = type; cls != null; cls = cls.getSuperclass()) {
+            for (Field field : cls.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) == false) {
+                    long offset = (Long) offsetMethod.invoke(unsafe, field);
+                    end = Math.max(end, offset + fieldSize(field.getType(), referenceSize));
+                }
+            }
+        }
+        return (end + 7) / 8 * 8;
+    }
+
+    private static int fieldSize(Class<?> type, int referenceSize) {
+        if (type == boolean.class || type == byte.class) {
+            return 1;
+        } else if (type == char.class || type == short.class) {
+            return 2;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == long.class || type == double.class) {
+            return 8;
+        }
+        return referenceSize;
+    }
+
+    // the same state as ImmPackedFlags, with a field for each boolean property
+    @SuppressWarnings("unused")
+    private static final class Unpacked {
+        private String name;
+        private boolean active;
+        private boolean deleted;
+        private boolean verified;
+        private boolean shared;
+        private boolean archived;
+        private boolean locked;
+        private boolean hidden;
+        private boolean pinned;
+        private boolean starred;
+        private boolean flagged;
+        private boolean synced;
+        private boolean tagged;
+    }
+
+}
@@ -16,9 +16,12 @@
 package org.joda.beans;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertSame;
 
 import org.joda.beans.impl.StandaloneMetaProperty;
+import org.joda.beans.impl.flexi.FlexiBean;
 import org.joda.beans.sample.ReflectiveMutable;
 import org.joda.beans.ser.JodaBeanSer;
 import org.junit.Test;
@@ -70,4 +73,61 @@ public class TestReflective {
         assertTrue(JodaBeanSer.PRETTY.xmlWriter().write(bean).contains("<street>Park Lane<"));
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_buildable() {
+        assertTrue(ReflectiveMutable.META_BEAN.isBuildable());
+        assertTrue(ReflectiveMutable.META_BEAN.builder().build() instanceof ReflectiveMutable);
+        assertFalse(ReflectiveMutable.META_BEAN.builder().build() == ReflectiveMutable.META_BEAN.builder().build());
+    }
+
+    @Test
+    public void test_primitive() {
+        ReflectiveMutable bean = new ReflectiveMutable();
+        MetaProperty<Object> mp = bean.metaBean().metaProperty("flag");
+        mp.set(bean, true);
+        assertEquals(bean.isFlag(), true);
+        assertEquals(mp.get(bean), Boolean.TRUE);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_set_nullPrimitive() {
+        ReflectiveMutable bean = new ReflectiveMutable();
+        bean.metaBean().metaProperty("number").set(bean, null);
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void test_set_invalidType() {
+        ReflectiveMutable bean = new ReflectiveMutable();
+        bean.metaBean().metaProperty("street").set(bean, 6);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void test_get_invalidBean() {
+        ReflectiveMutable.META_BEAN.metaProperty("street").get(new FlexiBean());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_index() {
+        MetaBean meta = ReflectiveMutable.META_BEAN;
+        ReflectiveMutable bean = (ReflectiveMutable) meta.builder()
+                .set(meta.metaProperty("number").index(), 12)
+                .set(meta.metaProperty("city").index(), "Smallville")
+                .build();
+        assertEquals(bean.getNumber(), 12);
+        assertEquals(bean.getCity(), "Smallville");
+        int index = 0;
+        for (MetaProperty<?> mp : meta.metaPropertyIterable()) {
+            assertEquals(mp.index(), index);
+            assertSame(meta.metaProperty(index), mp);
+            assertEquals(meta.get(bean, index), mp.get(bean));
+            index++;
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_index_invalid() {
+        ReflectiveMutable.META_BEAN.metaProperty(4);
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ConcurrentMap;
+
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.sample.ImmPerson;
+import org.joda.beans.sample.LightImmutable;
+import org.junit.Test;
+
+/**
+ * Test BufferingBeanBuilder.
+ */
+public class TestBufferingBeanBuilder {
+
+    @Test
+    public void test_setGetBuild() {
+        BufferingBeanBuilder<?> test = BufferingBeanBuilder.of(ImmPerson.meta());
+        test.set(ImmPerson.meta().forename(), "John");
+        test.set("surname", "Doggett");
+        test.set(ImmPerson.meta().numberOfCars().index(), 2);
+        test.set(ImmPerson.meta().surname(), null);
+        assertEquals(test.get(ImmPerson.meta().forename()), "John");
+        assertEquals(test.get("surname"), "Doggett");
+        assertEquals(test.get(ImmPerson.meta().numberOfCars()), Integer.valueOf(2));
+        assertNull(test.get(ImmPerson.meta().middleNames()));
+        ImmPerson person = (ImmPerson) test.build();
+        assertEquals(person, ImmPerson.builder().forename("John").surname("Doggett").numberOfCars(2).build());
+    }
+
+    @Test
+    public void test_getBuffer() {
+        BufferingBeanBuilder<?> test = BufferingBeanBuilder.of(ImmPerson.meta());
+        test.set(ImmPerson.meta().forename(), "John");
+        ConcurrentMap<MetaProperty<?>, Object> buffer = test.getBuffer();
+        assertEquals(buffer.size(), 1);
+        assertEquals(buffer.get(ImmPerson.meta().forename()), "John");
+        buffer.put(ImmPerson.meta().surname(), "Doggett");
+        test.set(ImmPerson.meta().numberOfCars(), 2);
+        assertEquals(buffer.size(), 3);
+        assertEquals(test.get(ImmPerson.meta().surname()), "Doggett");
+        ImmPerson person = (ImmPerson) test.build();
+        assertEquals(person, ImmPerson.builder().forename("John").surname("Doggett").numberOfCars(2).build());
+    }
+
+    @Test
+    public void test_aliasedMetaBean() {
+        MetaBean meta = LightImmutable.meta();
+        BufferingBeanBuilder<?> test = BufferingBeanBuilder.of(meta);
+        test.set("place", "London");
+        assertEquals(test.get(meta.metaProperty("city")), "London");
+    }
+
+    @Test
+    public void test_dynamic() {
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("a", "x");
+        BufferingBeanBuilder<?> test = BufferingBeanBuilder.of(flexi.metaBean());
+        test.set(flexi.metaBean().metaProperty("a"), "y");
+        assertEquals(test.get("a"), "y");
+        assertEquals(test.getBuffer().size(), 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_set_invalidIndex() {
+        BufferingBeanBuilder.of(ImmPerson.meta()).set(-1, "John");
+    }
+
+    @Test
+    public void test_toString() {
+        assertTrue(BufferingBeanBuilder.of(ImmPerson.meta()).toString().contains("ImmPerson"));
+    }
+
+}
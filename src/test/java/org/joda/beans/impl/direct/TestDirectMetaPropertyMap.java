@@ -0,0 +1,86 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.impl.direct;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.joda.beans.MetaProperty;
+import org.joda.beans.sample.ImmSubSubPersonFinal;
+import org.joda.beans.sample.SimpleName;
+import org.junit.Test;
+
+/**
+ * Test DirectMetaPropertyMap.
+ */
+public class TestDirectMetaPropertyMap {
+
+    @Test
+    public void test_get_inherited() {
+        DirectMetaPropertyMap test = (DirectMetaPropertyMap) ImmSubSubPersonFinal.meta().metaPropertyMap();
+        for (String name : test.keySet()) {
+            MetaProperty<?> expected = ((DirectMetaBean) ImmSubSubPersonFinal.meta()).metaPropertyGet(name);
+            assertSame(test.get(name), expected);
+            assertSame(test.get(name.toCharArray(), 0, name.length()), expected);
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            assertSame(test.get(bytes, 0, bytes.length), expected);
+            assertTrue(test.containsKey(name));
+            assertTrue(test.containsValue(expected));
+        }
+        assertNull(test.get("unknown"));
+        assertNull(test.get("unknown".toCharArray(), 0, 7));
+        assertFalse(test.containsKey("unknown"));
+        assertFalse(test.containsKey(1));
+    }
+
+    @Test
+    public void test_get_alias() {
+        DirectMetaPropertyMap test = (DirectMetaPropertyMap) SimpleName.meta().metaPropertyMap();
+        assertSame(test.get("firstName"), SimpleName.meta().forename());
+        assertSame(test.get("givenName".toCharArray(), 0, 9), SimpleName.meta().surname());
+        assertSame(SimpleName.meta().metaProperty("firstName"), SimpleName.meta().forename());
+        assertEquals(test.containsKey("firstName"), true);
+        assertEquals(test.keySet().contains("firstName"), false);
+    }
+
+    @Test
+    public void test_get_offset() {
+        DirectMetaPropertyMap test = (DirectMetaPropertyMap) SimpleName.meta().metaPropertyMap();
+        assertSame(test.get("{\"surname\":".toCharArray(), 2, 7), SimpleName.meta().surname());
+        byte[] bytes = "xxforenamexx".getBytes(StandardCharsets.UTF_8);
+        assertSame(test.get(bytes, 2, 8), SimpleName.meta().forename());
+        assertNull(test.get(bytes, 2, 7));
+    }
+
+    @Test
+    public void test_get_nonAscii() {
+        DirectMetaPropertyMap test = (DirectMetaPropertyMap) SimpleName.meta().metaPropertyMap();
+        byte[] bytes = "for\u00e9name".getBytes(StandardCharsets.UTF_8);
+        assertNull(test.get(bytes, 0, bytes.length));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_get_chars_invalid() {
+        DirectMetaPropertyMap test = (DirectMetaPropertyMap) SimpleName.meta().metaPropertyMap();
+        test.get("surname".toCharArray(), 1, 7);
+    }
+
+}
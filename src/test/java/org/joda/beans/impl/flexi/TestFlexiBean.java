@@ -16,13 +16,26 @@
 package org.joda.beans.impl.flexi;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.junit.Test;
 
+import com.google.common.collect.ImmutableMap;
+
 /**
  * Test FlexiBean.
  */
@@ -228,4 +241,125 @@ public class TestFlexiBean {
         assertEquals(test.toString(), "FlexiBean{a=b}");
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_shape_shared() {
+        FlexiBean a = new FlexiBean();
+        a.set("a", "x");
+        a.set("b", 1);
+        FlexiBean b = new FlexiBean();
+        b.set("a", "y");
+        b.set("b", 2);
+        assertNotNull(shape(a));
+        assertSame(shape(a), shape(b));
+        assertSame(shape(a.clone()), shape(a));
+        b.set("a", "z");
+        assertSame(shape(a), shape(b));
+        assertEquals(a.get("a"), "x");
+        assertEquals(b.get("a"), "z");
+    }
+
+    @Test
+    public void test_shape_order() {
+        FlexiBean a = new FlexiBean();
+        a.set("a", "x");
+        a.set("b", "y");
+        FlexiBean b = new FlexiBean();
+        b.set("b", "y");
+        b.set("a", "x");
+        assertNotSame(shape(a), shape(b));
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(a.toString(), "FlexiBean{a=x, b=y}");
+        assertEquals(b.toString(), "FlexiBean{b=y, a=x}");
+    }
+
+    @Test
+    public void test_shape_remove() {
+        FlexiBean a = new FlexiBean();
+        a.set("a", "x");
+        a.set("b", "y");
+        a.set("c", "z");
+        a.remove("b");
+        FlexiBean b = new FlexiBean();
+        b.set("a", "x");
+        b.set("c", "z");
+        assertSame(shape(a), shape(b));
+        assertEquals(a.toMap(), b.toMap());
+        a.propertyDefine("b", String.class);
+        assertEquals(new ArrayList<>(a.propertyNames()), Arrays.asList("a", "c", "b"));
+        assertNull(a.get("b"));
+    }
+
+    @Test
+    public void test_shape_iteratorRemove() {
+        FlexiBean a = new FlexiBean();
+        a.set("a", "x");
+        a.set("b", "y");
+        a.set("c", "z");
+        Iterator<String> it = a.propertyNames().iterator();
+        assertEquals(it.next(), "a");
+        assertEquals(it.next(), "b");
+        it.remove();
+        assertEquals(it.next(), "c");
+        assertEquals(it.hasNext(), false);
+        assertEquals(a.toMap(), ImmutableMap.of("a", "x", "c", "z"));
+    }
+
+    @Test
+    public void test_shape_manyKeys() {
+        FlexiBean a = new FlexiBean();
+        Map<String, Object> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            a.set("key" + i, i);
+            expected.put("key" + i, i);
+        }
+        assertNull(shape(a));
+        assertEquals(a.toMap(), expected);
+        assertEquals(a.get("key70"), 70);
+        a.remove("key70");
+        assertEquals(a.size(), 99);
+    }
+
+    @Test
+    public void test_shape_indexedKeys() {
+        FlexiBean a = new FlexiBean();
+        FlexiBean b = new FlexiBean();
+        for (int i = 0; i < 20; i++) {
+            a.set("key" + i, i);
+            b.set("key" + i, -i);
+        }
+        assertNotNull(shape(a));
+        assertSame(shape(a), shape(b));
+        assertEquals(a.get("key15"), 15);
+        assertEquals(a.get("key20"), null);
+        a.set("key15", 30);
+        assertEquals(a.get("key15"), 30);
+        assertEquals(b.get("key15"), -15);
+        a.remove("key3");
+        assertEquals(a.size(), 19);
+        assertEquals(a.get("key3"), null);
+        assertEquals(a.get("key4"), 4);
+    }
+
+    @Test
+    public void test_serialization() throws Exception {
+        FlexiBean a = new FlexiBean();
+        a.set("a", "x");
+        a.set("b", 1);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(a);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            FlexiBean read = (FlexiBean) ois.readObject();
+            assertEquals(read, a);
+            assertSame(shape(read), shape(a));
+        }
+    }
+
+    private static FlexiShapeMap.Shape shape(FlexiBean bean) {
+        return ((FlexiShapeMap) bean.data).shape();
+    }
+
 }
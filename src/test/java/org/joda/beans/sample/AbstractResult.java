@@ -252,6 +252,17 @@ public abstract class AbstractResult<T extends Address> extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // docs
+                    return ((AbstractResult<?>) bean).getDocs();
+                case 1:  // resultType
+                    return ((AbstractResult<?>) bean).getResultType();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -356,6 +356,21 @@ public class Address extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // number
+                    return ((Address) bean).getNumber();
+                case 1:  // street
+                    return ((Address) bean).getStreet();
+                case 2:  // city
+                    return ((Address) bean).getCity();
+                case 3:  // owner
+                    return ((Address) bean).getOwner();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -375,6 +390,25 @@ public class Address extends DirectBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -1034364087:  // number
+                    return ((Address) bean).getNumber();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, String propertyName, int newValue) {
+            switch (propertyName.hashCode()) {
+                case -1034364087:  // number
+                    ((Address) bean).setNumber(newValue);
+                    return;
+            }
+            super.propertySetInt(bean, propertyName, newValue);
+        }
+
     }
 
     //-------------------------- AUTOGENERATED END --------------------------
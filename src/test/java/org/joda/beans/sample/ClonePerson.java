@@ -548,6 +548,29 @@ public class ClonePerson
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // firstNames
+                    return ((ClonePerson) bean).getFirstNames();
+                case 1:  // middleNames
+                    return ((ClonePerson) bean).getMiddleNames();
+                case 2:  // surname
+                    return ((ClonePerson) bean).getSurname();
+                case 3:  // dateOfBirth
+                    return ((ClonePerson) bean).getDateOfBirth();
+                case 4:  // dateOfDeath
+                    return ((ClonePerson) bean).getDateOfDeath();
+                case 5:  // addresses
+                    return ((ClonePerson) bean).getAddresses();
+                case 6:  // companies
+                    return ((ClonePerson) bean).getCompanies();
+                case 7:  // amounts
+                    return ((ClonePerson) bean).getAmounts();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
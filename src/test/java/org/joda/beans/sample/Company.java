@@ -214,6 +214,15 @@ public class Company
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // companyName
+                    return ((Company) bean).getCompanyName();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -208,6 +208,15 @@ public class CompanyAddress extends Address {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index - (metaPropertyMap$.size() - 1)) {
+                case 0:  // companyName
+                    return ((CompanyAddress) bean).getCompanyName();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -314,6 +314,19 @@ public class Documentation<T> extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // type
+                    return ((Documentation<?>) bean).getType();
+                case 1:  // content
+                    return ((Documentation<?>) bean).getContent();
+                case 2:  // map
+                    return ((Documentation<?>) bean).getMap();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
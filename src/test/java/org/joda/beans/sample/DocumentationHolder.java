@@ -202,6 +202,15 @@ public class DocumentationHolder extends DirectBean{
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // documentation
+                    return ((DocumentationHolder) bean).getDocumentation();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -526,6 +526,27 @@ public class DoubleGenericsComplexExtendsSuperTwoGenerics<T extends Comparable<T
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index - (metaPropertyMap$.size() - 7)) {
+                case 0:  // normalType
+                    return ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getNormalType();
+                case 1:  // typeT
+                    return ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeT();
+                case 2:  // typeU
+                    return ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeU();
+                case 3:  // typeTList
+                    return ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeTList();
+                case 4:  // typeUList
+                    return ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeUList();
+                case 5:  // typeTArray
+                    return ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeTArray();
+                case 6:  // typeUArray
+                    return ((DoubleGenericsComplexExtendsSuperTwoGenerics<?, ?>) bean).getTypeUArray();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
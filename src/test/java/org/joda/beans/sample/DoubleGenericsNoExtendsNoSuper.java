@@ -525,6 +525,27 @@ public class DoubleGenericsNoExtendsNoSuper<T, U>
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // normalType
+                    return ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getNormalType();
+                case 1:  // typeT
+                    return ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeT();
+                case 2:  // typeU
+                    return ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeU();
+                case 3:  // typeTList
+                    return ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeTList();
+                case 4:  // typeUList
+                    return ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeUList();
+                case 5:  // typeTArray
+                    return ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeTArray();
+                case 6:  // typeUArray
+                    return ((DoubleGenericsNoExtendsNoSuper<?, ?>) bean).getTypeUArray();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -324,6 +324,19 @@ public class DoubleGenericsSimpleSuper<T, U>
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // baseType
+                    return ((DoubleGenericsSimpleSuper<?, ?>) bean).getBaseType();
+                case 1:  // baseT
+                    return ((DoubleGenericsSimpleSuper<?, ?>) bean).getBaseT();
+                case 2:  // baseU
+                    return ((DoubleGenericsSimpleSuper<?, ?>) bean).getBaseU();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -526,6 +526,27 @@ public class DoubleGenericsWithExtendsNoSuper<T extends Serializable, U extends
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // normalType
+                    return ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getNormalType();
+                case 1:  // typeT
+                    return ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeT();
+                case 2:  // typeU
+                    return ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeU();
+                case 3:  // typeTList
+                    return ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeTList();
+                case 4:  // typeUList
+                    return ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeUList();
+                case 5:  // typeTArray
+                    return ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeTArray();
+                case 6:  // typeUArray
+                    return ((DoubleGenericsWithExtendsNoSuper<?, ?>) bean).getTypeUArray();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
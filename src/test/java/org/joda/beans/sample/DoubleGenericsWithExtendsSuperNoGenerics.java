@@ -528,6 +528,27 @@ public class DoubleGenericsWithExtendsSuperNoGenerics<T extends Serializable, U
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index - (metaPropertyMap$.size() - 7)) {
+                case 0:  // normalType
+                    return ((DoubleGenericsWithExtendsSuperNoGenerics<?, ?>) bean).getNormalType();
+                case 1:  // typeT
+                    return ((DoubleGenericsWithExtendsSuperNoGenerics<?, ?>) bean).getTypeT();
+                case 2:  // typeU
+                    return ((DoubleGenericsWithExtendsSuperNoGenerics<?, ?>) bean).getTypeU();
+                case 3:  // typeTList
+                    return ((DoubleGenericsWithExtendsSuperNoGenerics<?, ?>) bean).getTypeTList();
+                case 4:  // typeUList
+                    return ((DoubleGenericsWithExtendsSuperNoGenerics<?, ?>) bean).getTypeUList();
+                case 5:  // typeTArray
+                    return ((DoubleGenericsWithExtendsSuperNoGenerics<?, ?>) bean).getTypeTArray();
+                case 6:  // typeUArray
+                    return ((DoubleGenericsWithExtendsSuperNoGenerics<?, ?>) bean).getTypeUArray();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -528,6 +528,27 @@ public class DoubleGenericsWithExtendsSuperOneGeneric<T extends Serializable, U
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index - (metaPropertyMap$.size() - 7)) {
+                case 0:  // normalType
+                    return ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getNormalType();
+                case 1:  // typeT
+                    return ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeT();
+                case 2:  // typeU
+                    return ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeU();
+                case 3:  // typeTList
+                    return ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeTList();
+                case 4:  // typeUList
+                    return ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeUList();
+                case 5:  // typeTArray
+                    return ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeTArray();
+                case 6:  // typeUArray
+                    return ((DoubleGenericsWithExtendsSuperOneGeneric<?, ?>) bean).getTypeUArray();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -528,6 +528,27 @@ public class DoubleGenericsWithExtendsSuperTwoGenerics<T extends Serializable, U
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index - (metaPropertyMap$.size() - 7)) {
+                case 0:  // normalType
+                    return ((DoubleGenericsWithExtendsSuperTwoGenerics<?, ?>) bean).getNormalType();
+                case 1:  // typeT
+                    return ((DoubleGenericsWithExtendsSuperTwoGenerics<?, ?>) bean).getTypeT();
+                case 2:  // typeU
+                    return ((DoubleGenericsWithExtendsSuperTwoGenerics<?, ?>) bean).getTypeU();
+                case 3:  // typeTList
+                    return ((DoubleGenericsWithExtendsSuperTwoGenerics<?, ?>) bean).getTypeTList();
+                case 4:  // typeUList
+                    return ((DoubleGenericsWithExtendsSuperTwoGenerics<?, ?>) bean).getTypeUList();
+                case 5:  // typeTArray
+                    return ((DoubleGenericsWithExtendsSuperTwoGenerics<?, ?>) bean).getTypeTArray();
+                case 6:  // typeUArray
+                    return ((DoubleGenericsWithExtendsSuperTwoGenerics<?, ?>) bean).getTypeUArray();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -413,6 +413,23 @@ public class FinalFieldBean extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // fieldFinal
+                    return ((FinalFieldBean) bean).getFieldFinal();
+                case 1:  // fieldNonFinal
+                    return ((FinalFieldBean) bean).getFieldNonFinal();
+                case 2:  // listFinal
+                    return ((FinalFieldBean) bean).getListFinal();
+                case 3:  // flexiFinal
+                    return ((FinalFieldBean) bean).getFlexiFinal();
+                case 4:  // personFinal
+                    return ((FinalFieldBean) bean).getPersonFinal();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -253,6 +253,17 @@ public class GenericAllFinal<T> implements Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // name
+                    return ((GenericAllFinal<?>) bean).getName();
+                case 1:  // value
+                    return ((GenericAllFinal<?>) bean).getValue();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -217,6 +217,15 @@ public class GenericSubWrapper<T extends Address> extends Wrapper<T> {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index - (metaPropertyMap$.size() - 1)) {
+                case 0:  // name
+                    return ((GenericSubWrapper<?>) bean).getName();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
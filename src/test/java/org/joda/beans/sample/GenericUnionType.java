@@ -267,6 +267,17 @@ public class GenericUnionType<T extends Number & Serializable & Cloneable> imple
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // name
+                    return ((GenericUnionType<?>) bean).getName();
+                case 1:  // value
+                    return ((GenericUnionType<?>) bean).getValue();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -216,6 +216,15 @@ public class GenericWrapperDocumentation<T extends Address> extends Documentatio
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index - (metaPropertyMap$.size() - 1)) {
+                case 0:  // name
+                    return ((GenericWrapperDocumentation<?>) bean).getName();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -15,6 +15,7 @@
  */
 package org.joda.beans.sample;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -25,6 +26,7 @@ import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
 import org.joda.beans.ImmutableBean;
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaBean;
@@ -35,6 +37,7 @@ import org.joda.beans.impl.direct.DirectFieldsBeanBuilder;
 import org.joda.beans.impl.direct.DirectMetaBean;
 import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.ser.SerBeanCodec;
 import org.joda.collect.grid.Grid;
 import org.joda.collect.grid.ImmutableGrid;
 
@@ -47,7 +50,7 @@ import com.google.common.collect.Table;
  * 
  * @author Stephen Colebourne
  */
-@BeanDefinition(constructorScope = "private")
+@BeanDefinition(constructorScope = "private", codec = true)
 public final class ImmAddress implements ImmutableBean, Serializable {
 
     /**
@@ -199,6 +202,7 @@ public final class ImmAddress implements ImmutableBean, Serializable {
 
     static {
         MetaBean.register(ImmAddress.Meta.INSTANCE);
+        SerBeanCodec.register(new Codec());
     }
 
     /**
@@ -1164,6 +1168,65 @@ public final class ImmAddress implements ImmutableBean, Serializable {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // number
+                    return ((ImmAddress) bean).getNumber();
+                case 1:  // street
+                    return ((ImmAddress) bean).getStreet();
+                case 2:  // city
+                    return ((ImmAddress) bean).getCity();
+                case 3:  // abstractNumber
+                    return ((ImmAddress) bean).getAbstractNumber();
+                case 4:  // data
+                    return ((ImmAddress) bean).getData();
+                case 5:  // array2d
+                    return ((ImmAddress) bean).getArray2d();
+                case 6:  // owner
+                    return ((ImmAddress) bean).getOwner();
+                case 7:  // object1
+                    return ((ImmAddress) bean).getObject1();
+                case 8:  // object2
+                    return ((ImmAddress) bean).getObject2();
+                case 9:  // risk
+                    return ((ImmAddress) bean).getRisk();
+                case 10:  // riskLevel
+                    return ((ImmAddress) bean).getRiskLevel();
+                case 11:  // riskLevels
+                    return ((ImmAddress) bean).getRiskLevels();
+                case 12:  // serializable
+                    return ((ImmAddress) bean).getSerializable();
+                case 13:  // objectInMap
+                    return ((ImmAddress) bean).getObjectInMap();
+                case 14:  // listInMap
+                    return ((ImmAddress) bean).getListInMap();
+                case 15:  // listNumericInMap
+                    return ((ImmAddress) bean).getListNumericInMap();
+                case 16:  // listInListInMap
+                    return ((ImmAddress) bean).getListInListInMap();
+                case 17:  // objectListInListInMap
+                    return ((ImmAddress) bean).getObjectListInListInMap();
+                case 18:  // mapInMap
+                    return ((ImmAddress) bean).getMapInMap();
+                case 19:  // simpleTable
+                    return ((ImmAddress) bean).getSimpleTable();
+                case 20:  // compoundTable
+                    return ((ImmAddress) bean).getCompoundTable();
+                case 21:  // sparseGrid
+                    return ((ImmAddress) bean).getSparseGrid();
+                case 22:  // denseGrid
+                    return ((ImmAddress) bean).getDenseGrid();
+                case 23:  // beanBeanMap
+                    return ((ImmAddress) bean).getBeanBeanMap();
+                case 24:  // doubleVector
+                    return ((ImmAddress) bean).getDoubleVector();
+                case 25:  // matrix
+                    return ((ImmAddress) bean).getMatrix();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -1173,6 +1236,15 @@ public final class ImmAddress implements ImmutableBean, Serializable {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -1034364087:  // number
+                    return ((ImmAddress) bean).getNumber();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -1396,12 +1468,112 @@ public final class ImmAddress implements ImmutableBean, Serializable {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // number
+                    this.number = (Integer) newValue;
+                    break;
+                case 1:  // street
+                    this.street = (String) newValue;
+                    break;
+                case 2:  // city
+                    this.city = (String) newValue;
+                    break;
+                case 3:  // abstractNumber
+                    this.abstractNumber = (Number) newValue;
+                    break;
+                case 4:  // data
+                    this.data = (byte[]) newValue;
+                    break;
+                case 5:  // array2d
+                    this.array2d = (String[][]) newValue;
+                    break;
+                case 6:  // owner
+                    this.owner = (ImmPerson) newValue;
+                    break;
+                case 7:  // object1
+                    this.object1 = (Object) newValue;
+                    break;
+                case 8:  // object2
+                    this.object2 = (Object) newValue;
+                    break;
+                case 9:  // risk
+                    this.risk = (Risk) newValue;
+                    break;
+                case 10:  // riskLevel
+                    this.riskLevel = (RiskLevel) newValue;
+                    break;
+                case 11:  // riskLevels
+                    this.riskLevels = (Set<RiskLevel>) newValue;
+                    break;
+                case 12:  // serializable
+                    this.serializable = (Serializable) newValue;
+                    break;
+                case 13:  // objectInMap
+                    this.objectInMap = (Map<String, Object>) newValue;
+                    break;
+                case 14:  // listInMap
+                    this.listInMap = (Map<String, List<String>>) newValue;
+                    break;
+                case 15:  // listNumericInMap
+                    this.listNumericInMap = (Map<String, List<Integer>>) newValue;
+                    break;
+                case 16:  // listInListInMap
+                    this.listInListInMap = (Map<String, List<List<Integer>>>) newValue;
+                    break;
+                case 17:  // objectListInListInMap
+                    this.objectListInListInMap = (Map<String, List<List<Object>>>) newValue;
+                    break;
+                case 18:  // mapInMap
+                    this.mapInMap = (Map<ImmPerson, Map<String, ImmPerson>>) newValue;
+                    break;
+                case 19:  // simpleTable
+                    this.simpleTable = (Table<Integer, Integer, String>) newValue;
+                    break;
+                case 20:  // compoundTable
+                    this.compoundTable = (Table<Integer, Integer, ImmPerson>) newValue;
+                    break;
+                case 21:  // sparseGrid
+                    this.sparseGrid = (Grid<ImmPerson>) newValue;
+                    break;
+                case 22:  // denseGrid
+                    this.denseGrid = (Grid<ImmPerson>) newValue;
+                    break;
+                case 23:  // beanBeanMap
+                    this.beanBeanMap = (Map<ImmPerson, ImmAddress>) newValue;
+                    break;
+                case 24:  // doubleVector
+                    this.doubleVector = (double[]) newValue;
+                    break;
+                case 25:  // matrix
+                    this.matrix = (double[][]) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
             return this;
         }
 
+        @Override
+        public Builder setInt(MetaProperty<?> property, int value) {
+            switch (property.name().hashCode()) {
+                case -1034364087:  // number
+                    this.number = value;
+                    return this;
+            }
+            super.setInt(property, value);
+            return this;
+        }
+
         @Override
         public ImmAddress build() {
             return new ImmAddress(
@@ -1752,5 +1924,162 @@ public final class ImmAddress implements ImmutableBean, Serializable {
 
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * The serialization codec for {@code ImmAddress}.
+     */
+    private static final class Codec extends SerBeanCodec<ImmAddress> {
+
+        /**
+         * Restricted constructor.
+         */
+        private Codec() {
+            super(ImmAddress.Meta.INSTANCE,
+                    "number",
+                    "street",
+                    "city",
+                    "abstractNumber",
+                    "data",
+                    "array2d",
+                    "owner",
+                    "object1",
+                    "object2",
+                    "risk",
+                    "riskLevel",
+                    "riskLevels",
+                    "serializable",
+                    "objectInMap",
+                    "listInMap",
+                    "listNumericInMap",
+                    "listInListInMap",
+                    "objectListInListInMap",
+                    "mapInMap",
+                    "simpleTable",
+                    "compoundTable",
+                    "sparseGrid",
+                    "denseGrid",
+                    "beanBeanMap",
+                    "doubleVector",
+                    "matrix");
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public int index(String propertyName) {
+            switch (propertyName) {
+                case "number":
+                    return 0;
+                case "street":
+                    return 1;
+                case "city":
+                    return 2;
+                case "abstractNumber":
+                    return 3;
+                case "data":
+                    return 4;
+                case "array2d":
+                    return 5;
+                case "owner":
+                    return 6;
+                case "object1":
+                    return 7;
+                case "object2":
+                    return 8;
+                case "risk":
+                    return 9;
+                case "riskLevel":
+                    return 10;
+                case "riskLevels":
+                    return 11;
+                case "serializable":
+                    return 12;
+                case "objectInMap":
+                    return 13;
+                case "listInMap":
+                    return 14;
+                case "listNumericInMap":
+                    return 15;
+                case "listInListInMap":
+                    return 16;
+                case "objectListInListInMap":
+                    return 17;
+                case "mapInMap":
+                    return 18;
+                case "simpleTable":
+                    return 19;
+                case "compoundTable":
+                    return 20;
+                case "sparseGrid":
+                    return 21;
+                case "denseGrid":
+                    return 22;
+                case "beanBeanMap":
+                    return 23;
+                case "doubleVector":
+                    return 24;
+                case "matrix":
+                    return 25;
+                default:
+                    return -1;
+            }
+        }
+
+        @Override
+        public void write(ImmAddress bean, Output output) throws IOException {
+            output.writeInt(0, bean.getNumber());
+            output.writeString(1, bean.getStreet());
+            output.writeString(2, bean.getCity());
+            output.writeObject(3, bean.getAbstractNumber());
+            output.writeObject(4, bean.getData());
+            output.writeObject(5, bean.getArray2d());
+            output.writeObject(6, bean.getOwner());
+            output.writeObject(7, bean.getObject1());
+            output.writeObject(8, bean.getObject2());
+            output.writeObject(9, bean.getRisk());
+            output.writeObject(10, bean.getRiskLevel());
+            output.writeObject(11, bean.getRiskLevels());
+            output.writeObject(12, bean.getSerializable());
+            output.writeObject(13, bean.getObjectInMap());
+            output.writeObject(14, bean.getListInMap());
+            output.writeObject(15, bean.getListNumericInMap());
+            output.writeObject(16, bean.getListInListInMap());
+            output.writeObject(17, bean.getObjectListInListInMap());
+            output.writeObject(18, bean.getMapInMap());
+            output.writeObject(19, bean.getSimpleTable());
+            output.writeObject(20, bean.getCompoundTable());
+            output.writeObject(21, bean.getSparseGrid());
+            output.writeObject(22, bean.getDenseGrid());
+            output.writeObject(23, bean.getBeanBeanMap());
+            output.writeObject(24, bean.getDoubleVector());
+            output.writeObject(25, bean.getMatrix());
+        }
+
+        @Override
+        public void setString(BeanBuilder<?> builder, int index, String value) {
+            switch (index) {
+                case 1:  // street
+                    ((Builder) builder).street = value;
+                    break;
+                case 2:  // city
+                    ((Builder) builder).city = value;
+                    break;
+                default:
+                    super.setString(builder, index, value);
+            }
+        }
+
+        @Override
+        public void setInt(BeanBuilder<?> builder, int index, int value) {
+            switch (index) {
+                case 0:  // number
+                    ((Builder) builder).number = value;
+                    break;
+                default:
+                    super.setInt(builder, index, value);
+            }
+        }
+
+    }
+
     //-------------------------- AUTOGENERATED END --------------------------
 }
@@ -311,6 +311,21 @@ public final class ImmArrays implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // intArray
+                    return ((ImmArrays) bean).getIntArray();
+                case 1:  // longArray
+                    return ((ImmArrays) bean).getLongArray();
+                case 2:  // doubleArray
+                    return ((ImmArrays) bean).getDoubleArray();
+                case 3:  // booleanArray
+                    return ((ImmArrays) bean).getBooleanArray();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -388,6 +403,28 @@ public final class ImmArrays implements ImmutableBean {
             return this;
         }
 
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // intArray
+                    this.intArray = (int[]) newValue;
+                    break;
+                case 1:  // longArray
+                    this.longArray = (long[]) newValue;
+                    break;
+                case 2:  // doubleArray
+                    this.doubleArray = (double[]) newValue;
+                    break;
+                case 3:  // booleanArray
+                    this.booleanArray = (boolean[]) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -441,6 +441,29 @@ public final class ImmClone implements ImmutableBean, Serializable{
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // date
+                    return ((ImmClone) bean).getDate();
+                case 1:  // array1
+                    return ((ImmClone) bean).getArray1();
+                case 2:  // array2
+                    return ((ImmClone) bean).getArray2();
+                case 3:  // array3
+                    return ((ImmClone) bean).getArray3();
+                case 4:  // dateNullable
+                    return ((ImmClone) bean).getDateNullable();
+                case 5:  // array1Nullable
+                    return ((ImmClone) bean).getArray1Nullable();
+                case 6:  // array2Nullable
+                    return ((ImmClone) bean).getArray2Nullable();
+                case 7:  // array3Nullable
+                    return ((ImmClone) bean).getArray3Nullable();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -546,6 +569,40 @@ public final class ImmClone implements ImmutableBean, Serializable{
             return this;
         }
 
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // date
+                    this.date = (Date) newValue;
+                    break;
+                case 1:  // array1
+                    this.array1 = (String[]) newValue;
+                    break;
+                case 2:  // array2
+                    this.array2 = (String[]) newValue;
+                    break;
+                case 3:  // array3
+                    this.array3 = (String[]) newValue;
+                    break;
+                case 4:  // dateNullable
+                    this.dateNullable = (Date) newValue;
+                    break;
+                case 5:  // array1Nullable
+                    this.array1Nullable = (String[]) newValue;
+                    break;
+                case 6:  // array2Nullable
+                    this.array2Nullable = (String[]) newValue;
+                    break;
+                case 7:  // array3Nullable
+                    this.array3Nullable = (String[]) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -221,6 +221,15 @@ public final class ImmComplexAnnotation
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // value
+                    return ((ImmComplexAnnotation) bean).getValue();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -230,6 +239,15 @@ public final class ImmComplexAnnotation
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected double propertyGetDouble(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 111972721:  // value
+                    return ((ImmComplexAnnotation) bean).getValue();
+            }
+            return super.propertyGetDouble(bean, propertyName);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -277,12 +295,36 @@ public final class ImmComplexAnnotation
             return this;
         }
 
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // value
+                    this.value = (Double) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
             return this;
         }
 
+        @Override
+        public Builder setDouble(MetaProperty<?> property, double value) {
+            switch (property.name().hashCode()) {
+                case 111972721:  // value
+                    this.value = value;
+                    return this;
+            }
+            super.setDouble(property, value);
+            return this;
+        }
+
         @Override
         public ImmComplexAnnotation build() {
             return new ImmComplexAnnotation(
@@ -208,6 +208,15 @@ public final class ImmDefault implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // value
+                    return ((ImmDefault) bean).getValue();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -265,6 +274,19 @@ public final class ImmDefault implements ImmutableBean {
             return this;
         }
 
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // value
+                    this.value = (String) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
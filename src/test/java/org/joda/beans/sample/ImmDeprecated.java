@@ -322,6 +322,21 @@ public final class ImmDeprecated implements Cloneable, ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // deprecatedBoth
+                    return ((ImmDeprecated) bean).getDeprecatedBoth();
+                case 1:  // deprecatedJavadoc
+                    return ((ImmDeprecated) bean).getDeprecatedJavadoc();
+                case 2:  // deprecatedAnnotation
+                    return ((ImmDeprecated) bean).getDeprecatedAnnotation();
+                case 3:  // deprecatedOptional
+                    return ((ImmDeprecated) bean).deprecatedOptional;
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -399,6 +414,28 @@ public final class ImmDeprecated implements Cloneable, ImmutableBean {
             return this;
         }
 
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // deprecatedBoth
+                    this.deprecatedBoth = (String) newValue;
+                    break;
+                case 1:  // deprecatedJavadoc
+                    this.deprecatedJavadoc = (String) newValue;
+                    break;
+                case 2:  // deprecatedAnnotation
+                    this.deprecatedAnnotation = (String) newValue;
+                    break;
+                case 3:  // deprecatedOptional
+                    this.deprecatedOptional = (String) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -216,6 +216,15 @@ public final class ImmDocumentationHolder<T>
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // documentation
+                    return ((ImmDocumentationHolder<?>) bean).getDocumentation();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -274,6 +283,20 @@ public final class ImmDocumentationHolder<T>
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder<T> set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // documentation
+                    this.documentation = (Documentation<T>) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -248,6 +248,17 @@ public final class ImmDoubleArray<T> implements Serializable, ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // values
+                    return ((ImmDoubleArray<?>) bean).getValues();
+                case 1:  // values2
+                    return ((ImmDoubleArray<?>) bean).getValues2();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -303,6 +314,22 @@ public final class ImmDoubleArray<T> implements Serializable, ImmutableBean {
             return this;
         }
 
+        @Override
+        public Builder<T> set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // values
+                    this.values = (double[]) newValue;
+                    break;
+                case 1:  // values2
+                    this.values2 = (double[]) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public ImmDoubleArray<T> build() {
             return new ImmDoubleArray<>(
@@ -15,10 +15,12 @@
  */
 package org.joda.beans.sample;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
 import org.joda.beans.ImmutableBean;
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaBean;
@@ -29,11 +31,12 @@ import org.joda.beans.impl.direct.DirectFieldsBeanBuilder;
 import org.joda.beans.impl.direct.DirectMetaBean;
 import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.ser.SerBeanCodec;
 
 /**
  * Mock immutable bean, used for testing deserialization.
  */
-@BeanDefinition
+@BeanDefinition(codec = true, withMethods = true)
 public final class ImmDoubleFloat implements ImmutableBean {
     
     @PropertyDefinition
@@ -52,6 +55,7 @@ public final class ImmDoubleFloat implements ImmutableBean {
 
     static {
         MetaBean.register(ImmDoubleFloat.Meta.INSTANCE);
+        SerBeanCodec.register(new Codec());
     }
 
     /**
@@ -83,6 +87,23 @@ public final class ImmDoubleFloat implements ImmutableBean {
         return a;
     }
 
+    /**
+     * Returns a copy of this bean with a different value for the a.
+     * <p>
+     * The copy is created using the constructor, without a builder.
+     * This bean is returned if the value is the same.
+     * @param a  the new value
+     * @return a bean based on this one with the new value, not null
+     */
+    public ImmDoubleFloat withA(double a) {
+        if (Double.doubleToLongBits(this.a) == Double.doubleToLongBits(a)) {
+            return this;
+        }
+        return new ImmDoubleFloat(
+                a,
+                this.b);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the b.
@@ -92,6 +113,23 @@ public final class ImmDoubleFloat implements ImmutableBean {
         return b;
     }
 
+    /**
+     * Returns a copy of this bean with a different value for the b.
+     * <p>
+     * The copy is created using the constructor, without a builder.
+     * This bean is returned if the value is the same.
+     * @param b  the new value
+     * @return a bean based on this one with the new value, not null
+     */
+    public ImmDoubleFloat withB(double b) {
+        if (Double.doubleToLongBits(this.b) == Double.doubleToLongBits(b)) {
+            return this;
+        }
+        return new ImmDoubleFloat(
+                this.a,
+                b);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a builder that allows this bean to be mutated.
@@ -221,6 +259,17 @@ public final class ImmDoubleFloat implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // a
+                    return ((ImmDoubleFloat) bean).getA();
+                case 1:  // b
+                    return ((ImmDoubleFloat) bean).getB();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -230,6 +279,17 @@ public final class ImmDoubleFloat implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected double propertyGetDouble(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 97:  // a
+                    return ((ImmDoubleFloat) bean).getA();
+                case 98:  // b
+                    return ((ImmDoubleFloat) bean).getB();
+            }
+            return super.propertyGetDouble(bean, propertyName);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -284,12 +344,42 @@ public final class ImmDoubleFloat implements ImmutableBean {
             return this;
         }
 
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // a
+                    this.a = (Double) newValue;
+                    break;
+                case 1:  // b
+                    this.b = (Double) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
             return this;
         }
 
+        @Override
+        public Builder setDouble(MetaProperty<?> property, double value) {
+            switch (property.name().hashCode()) {
+                case 97:  // a
+                    this.a = value;
+                    return this;
+                case 98:  // b
+                    this.b = value;
+                    return this;
+            }
+            super.setDouble(property, value);
+            return this;
+        }
+
         @Override
         public ImmDoubleFloat build() {
             return new ImmDoubleFloat(
@@ -331,5 +421,55 @@ public final class ImmDoubleFloat implements ImmutableBean {
 
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * The serialization codec for {@code ImmDoubleFloat}.
+     */
+    private static final class Codec extends SerBeanCodec<ImmDoubleFloat> {
+
+        /**
+         * Restricted constructor.
+         */
+        private Codec() {
+            super(ImmDoubleFloat.Meta.INSTANCE,
+                    "a",
+                    "b");
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public int index(String propertyName) {
+            switch (propertyName) {
+                case "a":
+                    return 0;
+                case "b":
+                    return 1;
+                default:
+                    return -1;
+            }
+        }
+
+        @Override
+        public void write(ImmDoubleFloat bean, Output output) throws IOException {
+            output.writeDouble(0, bean.getA());
+            output.writeDouble(1, bean.getB());
+        }
+
+        @Override
+        public void setDouble(BeanBuilder<?> builder, int index, double value) {
+            switch (index) {
+                case 0:  // a
+                    ((Builder) builder).a = value;
+                    break;
+                case 1:  // b
+                    ((Builder) builder).b = value;
+                    break;
+                default:
+                    super.setDouble(builder, index, value);
+            }
+        }
+
+    }
+
     //-------------------------- AUTOGENERATED END --------------------------
 }
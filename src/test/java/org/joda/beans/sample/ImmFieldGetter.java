@@ -204,6 +204,15 @@ public final class ImmFieldGetter<T> implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // value
+                    return ((ImmFieldGetter<?>) bean).value;
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -261,6 +270,19 @@ public final class ImmFieldGetter<T> implements ImmutableBean {
             return this;
         }
 
+        @Override
+        public Builder<T> set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // value
+                    this.value = (String) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
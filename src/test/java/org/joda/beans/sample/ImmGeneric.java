@@ -35,7 +35,7 @@ import org.joda.beans.impl.direct.DirectMetaPropertyMap;
  * 
  * @author Stephen Colebourne
  */
-@BeanDefinition(builderScope = "public", factoryName = "of")
+@BeanDefinition(builderScope = "public", factoryName = "of", withMethods = true)
 public final class ImmGeneric<T> implements ImmutableBean {
 
     /** The name. */
@@ -109,6 +109,22 @@ public final class ImmGeneric<T> implements ImmutableBean {
         return value;
     }
 
+    /**
+     * Returns a copy of this bean with a different value for the name.
+     * <p>
+     * The copy is created using the constructor, without a builder.
+     * This bean is returned if the value is the same.
+     * @param value  the new value, not null
+     * @return a bean based on this one with the new value, not null
+     */
+    public ImmGeneric<T> withValue(T value) {
+        if (this.value == value) {
+            return this;
+        }
+        return new ImmGeneric<>(
+                value);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a builder that allows this bean to be mutated.
@@ -221,6 +237,15 @@ public final class ImmGeneric<T> implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // value
+                    return ((ImmGeneric<?>) bean).getValue();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -279,6 +304,20 @@ public final class ImmGeneric<T> implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder<T> set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // value
+                    this.value = (T) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -215,6 +215,15 @@ public final class ImmGenericArray<T>
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // values
+                    return ((ImmGenericArray<?>) bean).getValues();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -265,6 +274,20 @@ public final class ImmGenericArray<T>
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder<T> set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // values
+                    this.values = (T[]) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public ImmGenericArray<T> build() {
             return new ImmGenericArray<>(
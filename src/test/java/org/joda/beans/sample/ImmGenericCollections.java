@@ -219,6 +219,15 @@ public class ImmGenericCollections<T> implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // map
+                    return ((ImmGenericCollections<?>) bean).getMap();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -277,6 +286,20 @@ public class ImmGenericCollections<T> implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder<T> set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // map
+                    this.map = (Map<String, T>) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
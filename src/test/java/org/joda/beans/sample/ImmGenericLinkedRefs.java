@@ -214,6 +214,15 @@ public final class ImmGenericLinkedRefs<A, B extends Comparable<A>> implements I
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // value
+                    return ((ImmGenericLinkedRefs<?, ?>) bean).getValue();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -273,6 +282,20 @@ public final class ImmGenericLinkedRefs<A, B extends Comparable<A>> implements I
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder<A, B> set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // value
+                    this.value = (A) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder<A, B> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
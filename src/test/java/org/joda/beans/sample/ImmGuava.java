@@ -1473,6 +1473,81 @@ public final class ImmGuava<T extends Comparable<T>> implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // collection
+                    return ((ImmGuava<?>) bean).getCollection();
+                case 1:  // list
+                    return ((ImmGuava<?>) bean).getList();
+                case 2:  // set
+                    return ((ImmGuava<?>) bean).getSet();
+                case 3:  // sortedSet
+                    return ((ImmGuava<?>) bean).getSortedSet();
+                case 4:  // map
+                    return ((ImmGuava<?>) bean).getMap();
+                case 5:  // sortedMap
+                    return ((ImmGuava<?>) bean).getSortedMap();
+                case 6:  // biMap
+                    return ((ImmGuava<?>) bean).getBiMap();
+                case 7:  // multimap
+                    return ((ImmGuava<?>) bean).getMultimap();
+                case 8:  // listMultimap
+                    return ((ImmGuava<?>) bean).getListMultimap();
+                case 9:  // setMultimap
+                    return ((ImmGuava<?>) bean).getSetMultimap();
+                case 10:  // multiset
+                    return ((ImmGuava<?>) bean).getMultiset();
+                case 11:  // sortedMultiset
+                    return ((ImmGuava<?>) bean).getSortedMultiset();
+                case 12:  // collectionInterface
+                    return ((ImmGuava<?>) bean).getCollectionInterface();
+                case 13:  // listInterface
+                    return ((ImmGuava<?>) bean).getListInterface();
+                case 14:  // setInterface
+                    return ((ImmGuava<?>) bean).getSetInterface();
+                case 15:  // sortedSetInterface
+                    return ((ImmGuava<?>) bean).getSortedSetInterface();
+                case 16:  // mapInterface
+                    return ((ImmGuava<?>) bean).getMapInterface();
+                case 17:  // sortedMapInterface
+                    return ((ImmGuava<?>) bean).getSortedMapInterface();
+                case 18:  // biMapInterface
+                    return ((ImmGuava<?>) bean).getBiMapInterface();
+                case 19:  // multimapInterface
+                    return ((ImmGuava<?>) bean).getMultimapInterface();
+                case 20:  // listMultimapInterface
+                    return ((ImmGuava<?>) bean).getListMultimapInterface();
+                case 21:  // setMultimapInterface
+                    return ((ImmGuava<?>) bean).getSetMultimapInterface();
+                case 22:  // multisetInterface
+                    return ((ImmGuava<?>) bean).getMultisetInterface();
+                case 23:  // sortedMultisetInterface
+                    return ((ImmGuava<?>) bean).getSortedMultisetInterface();
+                case 24:  // listWildExtendsT
+                    return ((ImmGuava<?>) bean).getListWildExtendsT();
+                case 25:  // listWildExtendsNumber
+                    return ((ImmGuava<?>) bean).getListWildExtendsNumber();
+                case 26:  // listWildExtendsComparable
+                    return ((ImmGuava<?>) bean).getListWildExtendsComparable();
+                case 27:  // setWildExtendsT
+                    return ((ImmGuava<?>) bean).getSetWildExtendsT();
+                case 28:  // setWildExtendsNumber
+                    return ((ImmGuava<?>) bean).getSetWildExtendsNumber();
+                case 29:  // setWildExtendsComparable
+                    return ((ImmGuava<?>) bean).getSetWildExtendsComparable();
+                case 30:  // listWildBuilder1
+                    return ((ImmGuava<?>) bean).getListWildBuilder1();
+                case 31:  // listWildBuilder2
+                    return ((ImmGuava<?>) bean).getListWildBuilder2();
+                case 32:  // mapWildBuilder1
+                    return ((ImmGuava<?>) bean).getMapWildBuilder1();
+                case 33:  // mapWildKey
+                    return ((ImmGuava<?>) bean).getMapWildKey();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -1762,6 +1837,119 @@ public final class ImmGuava<T extends Comparable<T>> implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder<T> set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // collection
+                    this.collection = (Collection<T>) newValue;
+                    break;
+                case 1:  // list
+                    this.list = (List<T>) newValue;
+                    break;
+                case 2:  // set
+                    this.set = (Set<T>) newValue;
+                    break;
+                case 3:  // sortedSet
+                    this.sortedSet = (SortedSet<T>) newValue;
+                    break;
+                case 4:  // map
+                    this.map = (Map<T, String>) newValue;
+                    break;
+                case 5:  // sortedMap
+                    this.sortedMap = (SortedMap<T, String>) newValue;
+                    break;
+                case 6:  // biMap
+                    this.biMap = (BiMap<T, String>) newValue;
+                    break;
+                case 7:  // multimap
+                    this.multimap = (Multimap<T, String>) newValue;
+                    break;
+                case 8:  // listMultimap
+                    this.listMultimap = (ListMultimap<T, String>) newValue;
+                    break;
+                case 9:  // setMultimap
+                    this.setMultimap = (SetMultimap<T, String>) newValue;
+                    break;
+                case 10:  // multiset
+                    this.multiset = (Multiset<T>) newValue;
+                    break;
+                case 11:  // sortedMultiset
+                    this.sortedMultiset = (SortedMultiset<T>) newValue;
+                    break;
+                case 12:  // collectionInterface
+                    this.collectionInterface = (Collection<T>) newValue;
+                    break;
+                case 13:  // listInterface
+                    this.listInterface = (List<T>) newValue;
+                    break;
+                case 14:  // setInterface
+                    this.setInterface = (Set<T>) newValue;
+                    break;
+                case 15:  // sortedSetInterface
+                    this.sortedSetInterface = (SortedSet<T>) newValue;
+                    break;
+                case 16:  // mapInterface
+                    this.mapInterface = (Map<T, String>) newValue;
+                    break;
+                case 17:  // sortedMapInterface
+                    this.sortedMapInterface = (SortedMap<T, String>) newValue;
+                    break;
+                case 18:  // biMapInterface
+                    this.biMapInterface = (BiMap<T, String>) newValue;
+                    break;
+                case 19:  // multimapInterface
+                    this.multimapInterface = (Multimap<T, String>) newValue;
+                    break;
+                case 20:  // listMultimapInterface
+                    this.listMultimapInterface = (ListMultimap<T, String>) newValue;
+                    break;
+                case 21:  // setMultimapInterface
+                    this.setMultimapInterface = (SetMultimap<T, String>) newValue;
+                    break;
+                case 22:  // multisetInterface
+                    this.multisetInterface = (Multiset<T>) newValue;
+                    break;
+                case 23:  // sortedMultisetInterface
+                    this.sortedMultisetInterface = (SortedMultiset<T>) newValue;
+                    break;
+                case 24:  // listWildExtendsT
+                    this.listWildExtendsT = (List<? extends T>) newValue;
+                    break;
+                case 25:  // listWildExtendsNumber
+                    this.listWildExtendsNumber = (List<? extends Number>) newValue;
+                    break;
+                case 26:  // listWildExtendsComparable
+                    this.listWildExtendsComparable = (List<? extends Comparable<?>>) newValue;
+                    break;
+                case 27:  // setWildExtendsT
+                    this.setWildExtendsT = (Set<? extends T>) newValue;
+                    break;
+                case 28:  // setWildExtendsNumber
+                    this.setWildExtendsNumber = (Set<? extends Number>) newValue;
+                    break;
+                case 29:  // setWildExtendsComparable
+                    this.setWildExtendsComparable = (Set<? extends Comparable<?>>) newValue;
+                    break;
+                case 30:  // listWildBuilder1
+                    this.listWildBuilder1 = (List<?>) newValue;
+                    break;
+                case 31:  // listWildBuilder2
+                    this.listWildBuilder2 = (List<? extends Address>) newValue;
+                    break;
+                case 32:  // mapWildBuilder1
+                    this.mapWildBuilder1 = (Map<String, ? extends Address>) newValue;
+                    break;
+                case 33:  // mapWildKey
+                    this.mapWildKey = (Map<? extends Number, String>) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -240,6 +240,17 @@ public final class ImmJodaConvertBean implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // base
+                    return ((ImmJodaConvertBean) bean).getBase();
+                case 1:  // extra
+                    return ((ImmJodaConvertBean) bean).getExtra();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -249,6 +260,15 @@ public final class ImmJodaConvertBean implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 96965648:  // extra
+                    return ((ImmJodaConvertBean) bean).getExtra();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -303,12 +323,39 @@ public final class ImmJodaConvertBean implements ImmutableBean {
             return this;
         }
 
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // base
+                    this.base = (String) newValue;
+                    break;
+                case 1:  // extra
+                    this.extra = (Integer) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
             return this;
         }
 
+        @Override
+        public Builder setInt(MetaProperty<?> property, int value) {
+            switch (property.name().hashCode()) {
+                case 96965648:  // extra
+                    this.extra = value;
+                    return this;
+            }
+            super.setInt(property, value);
+            return this;
+        }
+
         @Override
         public ImmJodaConvertBean build() {
             return new ImmJodaConvertBean(
@@ -241,6 +241,17 @@ public final class ImmJodaConvertWrapper implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // bean
+                    return ((ImmJodaConvertWrapper) bean).getBean();
+                case 1:  // description
+                    return ((ImmJodaConvertWrapper) bean).getDescription();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -304,6 +315,22 @@ public final class ImmJodaConvertWrapper implements ImmutableBean {
             return this;
         }
 
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // bean
+                    this.bean = (ImmJodaConvertBean) newValue;
+                    break;
+                case 1:  // description
+                    this.description = (String) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -206,6 +206,15 @@ public final class ImmMappedKey
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // data
+                    return ((ImmMappedKey) bean).getData();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -263,6 +272,20 @@ public final class ImmMappedKey
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // data
+                    this.data = (Map<? extends IKey, ?>) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -25,6 +25,7 @@ import org.joda.beans.gen.BeanDefinition;
 import org.joda.beans.gen.PropertyDefinition;
 import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 import org.joda.beans.impl.direct.MinimalMetaBean;
+import org.joda.beans.MetaProperty;
 
 /**
  * Mock address JavaBean, used for testing.
@@ -235,6 +236,17 @@ public final class ImmMinimalPrivateBuilder implements ImmutableBean {
             return this;
         }
 
+        @Override
+        public Builder setInt(MetaProperty<?> property, int value) {
+            switch (property.name().hashCode()) {
+                case -1034364087:  // number
+                    this.number = value;
+                    return this;
+            }
+            super.setInt(property, value);
+            return this;
+        }
+
         @Override
         public ImmMinimalPrivateBuilder build() {
             return new ImmMinimalPrivateBuilder(
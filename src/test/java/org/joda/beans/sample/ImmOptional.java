@@ -15,10 +15,12 @@
  */
 package org.joda.beans.sample;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
 import org.joda.beans.ImmutableBean;
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaBean;
@@ -31,13 +33,14 @@ import org.joda.beans.impl.direct.DirectFieldsBeanBuilder;
 import org.joda.beans.impl.direct.DirectMetaBean;
 import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.ser.SerBeanCodec;
 
 import com.google.common.base.Optional;
 
 /**
  * Mock.
  */
-@BeanDefinition(factoryName = "of")
+@BeanDefinition(factoryName = "of", codec = true)
 public final class ImmOptional implements ImmutableBean {
 
     // this works but in serialization they fail for lists/maps
@@ -78,6 +81,7 @@ public final class ImmOptional implements ImmutableBean {
 
     static {
         MetaBean.register(ImmOptional.Meta.INSTANCE);
+        SerBeanCodec.register(new Codec());
     }
 
     /**
@@ -423,6 +427,27 @@ public final class ImmOptional implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // optString
+                    return ((ImmOptional) bean).getOptString();
+                case 1:  // optStringEmpty
+                    return ((ImmOptional) bean).getOptStringEmpty();
+                case 2:  // optStringGetter
+                    return ((ImmOptional) bean).optStringGetter;
+                case 3:  // optLongGetter
+                    return ((ImmOptional) bean).optLongGetter;
+                case 4:  // optIntGetter
+                    return ((ImmOptional) bean).optIntGetter;
+                case 5:  // optDoubleGetter
+                    return ((ImmOptional) bean).optDoubleGetter;
+                case 6:  // twelve
+                    return ((ImmOptional) bean).getTwelve();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -432,6 +457,15 @@ public final class ImmOptional implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -860970343:  // twelve
+                    return ((ImmOptional) bean).getTwelve();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -516,6 +550,35 @@ public final class ImmOptional implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // optString
+                    this.optString = (Optional<String>) newValue;
+                    break;
+                case 1:  // optStringEmpty
+                    this.optStringEmpty = (Optional<String>) newValue;
+                    break;
+                case 2:  // optStringGetter
+                    this.optStringGetter = (String) newValue;
+                    break;
+                case 3:  // optLongGetter
+                    this.optLongGetter = (Long) newValue;
+                    break;
+                case 4:  // optIntGetter
+                    this.optIntGetter = (Integer) newValue;
+                    break;
+                case 5:  // optDoubleGetter
+                    this.optDoubleGetter = (Double) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -613,5 +676,68 @@ public final class ImmOptional implements ImmutableBean {
 
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * The serialization codec for {@code ImmOptional}.
+     */
+    private static final class Codec extends SerBeanCodec<ImmOptional> {
+
+        /**
+         * Restricted constructor.
+         */
+        private Codec() {
+            super(ImmOptional.Meta.INSTANCE,
+                    "optString",
+                    "optStringEmpty",
+                    "optStringGetter",
+                    "optLongGetter",
+                    "optIntGetter",
+                    "optDoubleGetter");
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public int index(String propertyName) {
+            switch (propertyName) {
+                case "optString":
+                    return 0;
+                case "optStringEmpty":
+                    return 1;
+                case "optStringGetter":
+                    return 2;
+                case "optLongGetter":
+                    return 3;
+                case "optIntGetter":
+                    return 4;
+                case "optDoubleGetter":
+                    return 5;
+                default:
+                    return -1;
+            }
+        }
+
+        @Override
+        public void write(ImmOptional bean, Output output) throws IOException {
+            output.writeObject(0, bean.getOptString());
+            output.writeObject(1, bean.getOptStringEmpty());
+            output.writeString(2, bean.optStringGetter);
+            output.writeObject(3, bean.optLongGetter);
+            output.writeObject(4, bean.optIntGetter);
+            output.writeObject(5, bean.optDoubleGetter);
+        }
+
+        @Override
+        public void setString(BeanBuilder<?> builder, int index, String value) {
+            switch (index) {
+                case 2:  // optStringGetter
+                    ((Builder) builder).optStringGetter = value;
+                    break;
+                default:
+                    super.setString(builder, index, value);
+            }
+        }
+
+    }
+
     //-------------------------- AUTOGENERATED END --------------------------
 }
@@ -0,0 +1,1560 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.sample;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectFieldsBeanBuilder;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.ser.SerBeanCodec;
+
+/**
+ * Mock immutable bean with packed boolean properties, used for testing.
+ */
+@BeanDefinition(codec = true, withMethods = true, packedFlags = "active, deleted, verified, shared, archived, locked, hidden, pinned, starred, flagged, synced, tagged")
+public final class ImmPackedFlags implements ImmutableBean, Serializable {
+
+    /**
+     * The name.
+     */
+    @PropertyDefinition(validate = "notNull")
+    private final String name;
+
+    //------------------------- AUTOGENERATED START -------------------------
+    /**
+     * The meta-bean for {@code ImmPackedFlags}.
+     * @return the meta-bean, not null
+     */
+    public static ImmPackedFlags.Meta meta() {
+        return ImmPackedFlags.Meta.INSTANCE;
+    }
+
+    static {
+        MetaBean.register(ImmPackedFlags.Meta.INSTANCE);
+        SerBeanCodec.register(new Codec());
+    }
+
+    /**
+     * The serialization version id.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The packed boolean properties, one bit per property.
+     */
+    private final int packedFlags;
+
+    /**
+     * Returns a builder used to create an instance of the bean.
+     * @return the builder, not null
+     */
+    public static ImmPackedFlags.Builder builder() {
+        return new ImmPackedFlags.Builder();
+    }
+
+    private ImmPackedFlags(
+            String name,
+            boolean active,
+            boolean deleted,
+            boolean verified,
+            boolean shared,
+            boolean archived,
+            boolean locked,
+            boolean hidden,
+            boolean pinned,
+            boolean starred,
+            boolean flagged,
+            boolean synced,
+            boolean tagged) {
+        JodaBeanUtils.notNull(name, "name");
+        this.name = name;
+        this.packedFlags =
+                (active ? 0x1 : 0) |
+                (deleted ? 0x2 : 0) |
+                (verified ? 0x4 : 0) |
+                (shared ? 0x8 : 0) |
+                (archived ? 0x10 : 0) |
+                (locked ? 0x20 : 0) |
+                (hidden ? 0x40 : 0) |
+                (pinned ? 0x80 : 0) |
+                (starred ? 0x100 : 0) |
+                (flagged ? 0x200 : 0) |
+                (synced ? 0x400 : 0) |
+                (tagged ? 0x800 : 0);
+    }
+
+    @Override
+    public ImmPackedFlags.Meta metaBean() {
+        return ImmPackedFlags.Meta.INSTANCE;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the name.
+     * @return the value of the property, not null
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns a copy of this bean with a different value for the name.
+     * <p>
+     * The copy is created using the constructor, without a builder.
+     * This bean is returned if the value is the same.
+     * @param name  the new value, not null
+     * @return a bean based on this one with the new value, not null
+     */
+    public ImmPackedFlags withName(String name) {
+        if (this.name == name) {
+            return this;
+        }
+        return new ImmPackedFlags(
+                name,
+                this.isActive(),
+                this.isDeleted(),
+                this.isVerified(),
+                this.isShared(),
+                this.isArchived(),
+                this.isLocked(),
+                this.isHidden(),
+                this.isPinned(),
+                this.isStarred(),
+                this.isFlagged(),
+                this.isSynced(),
+                this.isTagged());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the active flag.
+     * @return the value of the property
+     */
+    public boolean isActive() {
+        return (packedFlags & 0x1) != 0;
+    }
+
+    /**
+     * Returns a copy of this bean with a different value for the active flag.
+     * <p>
+     * The copy is created using the constructor, without a builder.
+     * This bean is returned if the value is the same.
+     * @param active  the new value
+     * @return a bean based on this one with the new value, not null
+     */
+    public ImmPackedFlags withActive(boolean active) {
+        if (this.isActive() == active) {
+            return this;
+        }
+        return new ImmPackedFlags(
+                this.name,
+                active,
+                this.isDeleted(),
+                this.isVerified(),
+                this.isShared(),
+                this.isArchived(),
+                this.isLocked(),
+                this.isHidden(),
+                this.isPinned(),
+                this.isStarred(),
+                this.isFlagged(),
+                this.isSynced(),
+                this.isTagged());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the deleted flag.
+     * @return the value of the property
+     */
+    public boolean isDeleted() {
+        return (packedFlags & 0x2) != 0;
+    }
+
+    /**
+     * Returns a copy of this bean with a different value for the deleted flag.
+     * <p>
+     * The copy is created using the constructor, without a builder.
+     * This bean is returned if the value is the same.
+     * @param deleted  the new value
+     * @return a bean based on this one with the new value, not null
+     */
+    public ImmPackedFlags withDeleted(boolean deleted) {
+        if (this.isDeleted() == deleted) {
+            return this;
+        }
+        return new ImmPackedFlags(
+                this.name,
+                this.isActive(),
+                deleted,
+                this.isVerified(),
+                this.isShared(),
+                this.isArchived(),
+                this.isLocked(),
+                this.isHidden(),
+                this.isPinned(),
+                this.isStarred(),
+                this.isFlagged(),
+                this.isSynced(),
+                this.isTagged());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the verified flag.
+     * @return the value of the property
+     */
+    public boolean isVerified() {
+        return (packedFlags & 0x4) != 0;
+    }
+
+    /**
+     * Returns a copy of this bean with a different value for the verified flag.
+     * <p>
+     * The copy is created using the constructor, without a builder.
+     * This bean is returned if the value is the same.
+     * @param verified  the new value
+     * @return a bean based on this one with the new value, not null
+     */
+    public ImmPackedFlags withVerified(boolean verified) {
+        if (this.isVerified() == verified) {
+            return this;
+        }
+        return new ImmPackedFlags(
+                this.name,
+                this.isActive(),
+                this.isDeleted(),
+                verified,
+                this.isShared(),
+                this.isArchived(),
+                this.isLocked(),
+                this.isHidden(),
+                this.isPinned(),
+                this.isStarred(),
+                this.isFlagged(),
+                this.isSynced(),
+                this.isTagged());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the shared flag.
+     * @return the value of the property
+     */
+    public boolean isShared() {
+        return (packedFlags & 0x8) != 0;
+    }
+
+    /**
+     * Returns a copy of this bean with a different value for the shared flag.
+     * <p>
+     * The copy is created using the constructor, without a builder.
+     * This bean is returned if the value is the same.
+     * @param shared  the new value
+     * @return a bean based on this one with the new value, not null
+     */
+    public ImmPackedFlags withShared(boolean shared) {
+        if (this.isShared() == shared) {
+            return this;
+        }
+        return new ImmPackedFlags(
+                this.name,
+                this.isActive(),
+                this.isDeleted(),
+                this.isVerified(),
+                shared,
+                this.isArchived(),
+                this.isLocked(),
+                this.isHidden(),
+                this.isPinned(),
+                this.isStarred(),
+                this.isFlagged(),
+                this.isSynced(),
+                this.isTagged());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the archived flag.
+     * @return the value of the property
+     */
+    public boolean isArchived() {
+        return (packedFlags & 0x10) != 0;
+    }
+
+    /**
+     * Returns a copy of this bean with a different value for the archived flag.
+     * <p>
+     * The copy is created using the constructor, without a builder.
+     * This bean is returned if the value is the same.
+     * @param archived  the new value
+     * @return a bean based on this one with the new value, not null
+     */
+    public ImmPackedFlags withArchived(boolean archived) {
+        if (this.isArchived() == archived) {
+            return this;
+        }
+        return new ImmPackedFlags(
+                this.name,
+                this.isActive(),
+                this.isDeleted(),
+                this.isVerified(),
+                this.isShared(),
+                archived,
+                this.isLocked(),
+                this.isHidden(),
+                this.isPinned(),
+                this.isStarred(),
+                this.isFlagged(),
+                this.isSynced(),
+                this.isTagged());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the locked flag.
+     * @return the value of the property
+     */
+    public boolean isLocked() {
+        return (packedFlags & 0x20) != 0;
+    }
+
+    /**
+     * Returns a copy of this bean with a different value for the locked flag.
+     * <p>
+     * The copy is created using the constructor, without a builder.
+     * This bean is returned if the value is the same.
+     * @param locked  the new value
+     * @return a bean based on this one with the new value, not null
+     */
+    public ImmPackedFlags withLocked(boolean locked) {
+        if (this.isLocked() == locked) {
+            return this;
+        }
+        return new ImmPackedFlags(
+                this.name,
+                this.isActive(),
+                this.isDeleted(),
+                this.isVerified(),
+                this.isShared(),
+                this.isArchived(),
+                locked,
+                this.isHidden(),
+                this.isPinned(),
+                this.isStarred(),
+                this.isFlagged(),
+                this.isSynced(),
+                this.isTagged());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the hidden flag.
+     * @return the value of the property
+     */
+    public boolean isHidden() {
+        return (packedFlags & 0x40) != 0;
+    }
+
+    /**
+     * Returns a copy of this bean with a different value for the hidden flag.
+     * <p>
+     * The copy is created using the constructor, without a builder.
+     * This bean is returned if the value is the same.
+     * @param hidden  the new value
+     * @return a bean based on this one with the new value, not null
+     */
+    public ImmPackedFlags withHidden(boolean hidden) {
+        if (this.isHidden() == hidden) {
+            return this;
+        }
+        return new ImmPackedFlags(
+                this.name,
+                this.isActive(),
+                this.isDeleted(),
+                this.isVerified(),
+                this.isShared(),
+                this.isArchived(),
+                this.isLocked(),
+                hidden,
+                this.isPinned(),
+                this.isStarred(),
+                this.isFlagged(),
+                this.isSynced(),
+                this.isTagged());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the pinned flag.
+     * @return the value of the property
+     */
+    public boolean isPinned() {
+        return (packedFlags & 0x80) != 0;
+    }
+
+    /**
+     * Returns a copy of this bean with a different value for the pinned flag.
+     * <p>
+     * The copy is created using the constructor, without a builder.
+     * This bean is returned if the value is the same.
+     * @param pinned  the new value
+     * @return a bean based on this one with the new value, not null
+     */
+    public ImmPackedFlags withPinned(boolean pinned) {
+        if (this.isPinned() == pinned) {
+            return this;
+        }
+        return new ImmPackedFlags(
+                this.name,
+                this.isActive(),
+                this.isDeleted(),
+                this.isVerified(),
+                this.isShared(),
+                this.isArchived(),
+                this.isLocked(),
+                this.isHidden(),
+                pinned,
+                this.isStarred(),
+                this.isFlagged(),
+                this.isSynced(),
+                this.isTagged());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the starred flag.
+     * @return the value of the property
+     */
+    public boolean isStarred() {
+        return (packedFlags & 0x100) != 0;
+    }
+
+    /**
+     * Returns a copy of this bean with a different value for the starred flag.
+     * <p>
+     * The copy is created using the constructor, without a builder.
+     * This bean is returned if the value is the same.
+     * @param starred  the new value
+     * @return a bean based on this one with the new value, not null
+     */
+    public ImmPackedFlags withStarred(boolean starred) {
+        if (this.isStarred() == starred) {
+            return this;
+        }
+        return new ImmPackedFlags(
+                this.name,
+                this.isActive(),
+                this.isDeleted(),
+                this.isVerified(),
+                this.isShared(),
+                this.isArchived(),
+                this.isLocked(),
+                this.isHidden(),
+                this.isPinned(),
+                starred,
+                this.isFlagged(),
+                this.isSynced(),
+                this.isTagged());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the flagged flag.
+     * @return the value of the property
+     */
+    public boolean isFlagged() {
+        return (packedFlags & 0x200) != 0;
+    }
+
+    /**
+     * Returns a copy of this bean with a different value for the flagged flag.
+     * <p>
+     * The copy is created using the constructor, without a builder.
+     * This bean is returned if the value is the same.
+     * @param flagged  the new value
+     * @return a bean based on this one with the new value, not null
+     */
+    public ImmPackedFlags withFlagged(boolean flagged) {
+        if (this.isFlagged() == flagged) {
+            return this;
+        }
+        return new ImmPackedFlags(
+                this.name,
+                this.isActive(),
+                this.isDeleted(),
+                this.isVerified(),
+                this.isShared(),
+                this.isArchived(),
+                this.isLocked(),
+                this.isHidden(),
+                this.isPinned(),
+                this.isStarred(),
+                flagged,
+                this.isSynced(),
+                this.isTagged());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the synced flag.
+     * @return the value of the property
+     */
+    public boolean isSynced() {
+        return (packedFlags & 0x400) != 0;
+    }
+
+    /**
+     * Returns a copy of this bean with a different value for the synced flag.
+     * <p>
+     * The copy is created using the constructor, without a builder.
+     * This bean is returned if the value is the same.
+     * @param synced  the new value
+     * @return a bean based on this one with the new value, not null
+     */
+    public ImmPackedFlags withSynced(boolean synced) {
+        if (this.isSynced() == synced) {
+            return this;
+        }
+        return new ImmPackedFlags(
+                this.name,
+                this.isActive(),
+                this.isDeleted(),
+                this.isVerified(),
+                this.isShared(),
+                this.isArchived(),
+                this.isLocked(),
+                this.isHidden(),
+                this.isPinned(),
+                this.isStarred(),
+                this.isFlagged(),
+                synced,
+                this.isTagged());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the tagged flag.
+     * @return the value of the property
+     */
+    public boolean isTagged() {
+        return (packedFlags & 0x800) != 0;
+    }
+
+    /**
+     * Returns a copy of this bean with a different value for the tagged flag.
+     * <p>
+     * The copy is created using the constructor, without a builder.
+     * This bean is returned if the value is the same.
+     * @param tagged  the new value
+     * @return a bean based on this one with the new value, not null
+     */
+    public ImmPackedFlags withTagged(boolean tagged) {
+        if (this.isTagged() == tagged) {
+            return this;
+        }
+        return new ImmPackedFlags(
+                this.name,
+                this.isActive(),
+                this.isDeleted(),
+                this.isVerified(),
+                this.isShared(),
+                this.isArchived(),
+                this.isLocked(),
+                this.isHidden(),
+                this.isPinned(),
+                this.isStarred(),
+                this.isFlagged(),
+                this.isSynced(),
+                tagged);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a builder that allows this bean to be mutated.
+     * @return the mutable builder, not null
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj != null && obj.getClass() == this.getClass()) {
+            ImmPackedFlags other = (ImmPackedFlags) obj;
+            return JodaBeanUtils.equal(name, other.name) &&
+                    (packedFlags == other.packedFlags);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = getClass().hashCode();
+        hash = hash * 31 + JodaBeanUtils.hashCode(name);
+        hash = hash * 31 + JodaBeanUtils.hashCode(isActive());
+        hash = hash * 31 + JodaBeanUtils.hashCode(isDeleted());
+        hash = hash * 31 + JodaBeanUtils.hashCode(isVerified());
+        hash = hash * 31 + JodaBeanUtils.hashCode(isShared());
+        hash = hash * 31 + JodaBeanUtils.hashCode(isArchived());
+        hash = hash * 31 + JodaBeanUtils.hashCode(isLocked());
+        hash = hash * 31 + JodaBeanUtils.hashCode(isHidden());
+        hash = hash * 31 + JodaBeanUtils.hashCode(isPinned());
+        hash = hash * 31 + JodaBeanUtils.hashCode(isStarred());
+        hash = hash * 31 + JodaBeanUtils.hashCode(isFlagged());
+        hash = hash * 31 + JodaBeanUtils.hashCode(isSynced());
+        hash = hash * 31 + JodaBeanUtils.hashCode(isTagged());
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder(448);
+        buf.append("ImmPackedFlags{");
+        buf.append("name").append('=').append(JodaBeanUtils.toString(name)).append(',').append(' ');
+        buf.append("active").append('=').append(JodaBeanUtils.toString(isActive())).append(',').append(' ');
+        buf.append("deleted").append('=').append(JodaBeanUtils.toString(isDeleted())).append(',').append(' ');
+        buf.append("verified").append('=').append(JodaBeanUtils.toString(isVerified())).append(',').append(' ');
+        buf.append("shared").append('=').append(JodaBeanUtils.toString(isShared())).append(',').append(' ');
+        buf.append("archived").append('=').append(JodaBeanUtils.toString(isArchived())).append(',').append(' ');
+        buf.append("locked").append('=').append(JodaBeanUtils.toString(isLocked())).append(',').append(' ');
+        buf.append("hidden").append('=').append(JodaBeanUtils.toString(isHidden())).append(',').append(' ');
+        buf.append("pinned").append('=').append(JodaBeanUtils.toString(isPinned())).append(',').append(' ');
+        buf.append("starred").append('=').append(JodaBeanUtils.toString(isStarred())).append(',').append(' ');
+        buf.append("flagged").append('=').append(JodaBeanUtils.toString(isFlagged())).append(',').append(' ');
+        buf.append("synced").append('=').append(JodaBeanUtils.toString(isSynced())).append(',').append(' ');
+        buf.append("tagged").append('=').append(JodaBeanUtils.toString(isTagged()));
+        buf.append('}');
+        return buf.toString();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-bean for {@code ImmPackedFlags}.
+     */
+    public static final class Meta extends DirectMetaBean {
+        /**
+         * The singleton instance of the meta-bean.
+         */
+        static final Meta INSTANCE = new Meta();
+
+        /**
+         * The meta-property for the {@code name} property.
+         */
+        private final MetaProperty<String> name = DirectMetaProperty.ofImmutable(
+                this, "name", ImmPackedFlags.class, String.class);
+        /**
+         * The meta-property for the {@code active} property.
+         */
+        private final MetaProperty<Boolean> active = DirectMetaProperty.ofImmutable(
+                this, "active", ImmPackedFlags.class, Boolean.TYPE);
+        /**
+         * The meta-property for the {@code deleted} property.
+         */
+        private final MetaProperty<Boolean> deleted = DirectMetaProperty.ofImmutable(
+                this, "deleted", ImmPackedFlags.class, Boolean.TYPE);
+        /**
+         * The meta-property for the {@code verified} property.
+         */
+        private final MetaProperty<Boolean> verified = DirectMetaProperty.ofImmutable(
+                this, "verified", ImmPackedFlags.class, Boolean.TYPE);
+        /**
+         * The meta-property for the {@code shared} property.
+         */
+        private final MetaProperty<Boolean> shared = DirectMetaProperty.ofImmutable(
+                this, "shared", ImmPackedFlags.class, Boolean.TYPE);
+        /**
+         * The meta-property for the {@code archived} property.
+         */
+        private final MetaProperty<Boolean> archived = DirectMetaProperty.ofImmutable(
+                this, "archived", ImmPackedFlags.class, Boolean.TYPE);
+        /**
+         * The meta-property for the {@code locked} property.
+         */
+        private final MetaProperty<Boolean> locked = DirectMetaProperty.ofImmutable(
+                this, "locked", ImmPackedFlags.class, Boolean.TYPE);
+        /**
+         * The meta-property for the {@code hidden} property.
+         */
+        private final MetaProperty<Boolean> hidden = DirectMetaProperty.ofImmutable(
+                this, "hidden", ImmPackedFlags.class, Boolean.TYPE);
+        /**
+         * The meta-property for the {@code pinned} property.
+         */
+        private final MetaProperty<Boolean> pinned = DirectMetaProperty.ofImmutable(
+                this, "pinned", ImmPackedFlags.class, Boolean.TYPE);
+        /**
+         * The meta-property for the {@code starred} property.
+         */
+        private final MetaProperty<Boolean> starred = DirectMetaProperty.ofImmutable(
+                this, "starred", ImmPackedFlags.class, Boolean.TYPE);
+        /**
+         * The meta-property for the {@code flagged} property.
+         */
+        private final MetaProperty<Boolean> flagged = DirectMetaProperty.ofImmutable(
+                this, "flagged", ImmPackedFlags.class, Boolean.TYPE);
+        /**
+         * The meta-property for the {@code synced} property.
+         */
+        private final MetaProperty<Boolean> synced = DirectMetaProperty.ofImmutable(
+                this, "synced", ImmPackedFlags.class, Boolean.TYPE);
+        /**
+         * The meta-property for the {@code tagged} property.
+         */
+        private final MetaProperty<Boolean> tagged = DirectMetaProperty.ofImmutable(
+                this, "tagged", ImmPackedFlags.class, Boolean.TYPE);
+        /**
+         * The meta-properties.
+         */
+        private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+                this, null,
+                "name",
+                "active",
+                "deleted",
+                "verified",
+                "shared",
+                "archived",
+                "locked",
+                "hidden",
+                "pinned",
+                "starred",
+                "flagged",
+                "synced",
+                "tagged");
+
+        /**
+         * Restricted constructor.
+         */
+        private Meta() {
+        }
+
+        @Override
+        protected MetaProperty<?> metaPropertyGet(String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 3373707:  // name
+                    return name;
+                case -1422950650:  // active
+                    return active;
+                case 1550463001:  // deleted
+                    return deleted;
+                case -1994383672:  // verified
+                    return verified;
+                case -903566235:  // shared
+                    return shared;
+                case -1716307998:  // archived
+                    return archived;
+                case -1097452790:  // locked
+                    return locked;
+                case -1217487446:  // hidden
+                    return hidden;
+                case -988146728:  // pinned
+                    return pinned;
+                case -1897187073:  // starred
+                    return starred;
+                case -779204518:  // flagged
+                    return flagged;
+                case -887493510:  // synced
+                    return synced;
+                case -881233556:  // tagged
+                    return tagged;
+            }
+            return super.metaPropertyGet(propertyName);
+        }
+
+        @Override
+        public ImmPackedFlags.Builder builder() {
+            return new ImmPackedFlags.Builder();
+        }
+
+        @Override
+        public Class<? extends ImmPackedFlags> beanType() {
+            return ImmPackedFlags.class;
+        }
+
+        @Override
+        public Map<String, MetaProperty<?>> metaPropertyMap() {
+            return metaPropertyMap$;
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * The meta-property for the {@code name} property.
+         * @return the meta-property, not null
+         */
+        public MetaProperty<String> name() {
+            return name;
+        }
+
+        /**
+         * The meta-property for the {@code active} property.
+         * @return the meta-property, not null
+         */
+        public MetaProperty<Boolean> active() {
+            return active;
+        }
+
+        /**
+         * The meta-property for the {@code deleted} property.
+         * @return the meta-property, not null
+         */
+        public MetaProperty<Boolean> deleted() {
+            return deleted;
+        }
+
+        /**
+         * The meta-property for the {@code verified} property.
+         * @return the meta-property, not null
+         */
+        public MetaProperty<Boolean> verified() {
+            return verified;
+        }
+
+        /**
+         * The meta-property for the {@code shared} property.
+         * @return the meta-property, not null
+         */
+        public MetaProperty<Boolean> shared() {
+            return shared;
+        }
+
+        /**
+         * The meta-property for the {@code archived} property.
+         * @return the meta-property, not null
+         */
+        public MetaProperty<Boolean> archived() {
+            return archived;
+        }
+
+        /**
+         * The meta-property for the {@code locked} property.
+         * @return the meta-property, not null
+         */
+        public MetaProperty<Boolean> locked() {
+            return locked;
+        }
+
+        /**
+         * The meta-property for the {@code hidden} property.
+         * @return the meta-property, not null
+         */
+        public MetaProperty<Boolean> hidden() {
+            return hidden;
+        }
+
+        /**
+         * The meta-property for the {@code pinned} property.
+         * @return the meta-property, not null
+         */
+        public MetaProperty<Boolean> pinned() {
+            return pinned;
+        }
+
+        /**
+         * The meta-property for the {@code starred} property.
+         * @return the meta-property, not null
+         */
+        public MetaProperty<Boolean> starred() {
+            return starred;
+        }
+
+        /**
+         * The meta-property for the {@code flagged} property.
+         * @return the meta-property, not null
+         */
+        public MetaProperty<Boolean> flagged() {
+            return flagged;
+        }
+
+        /**
+         * The meta-property for the {@code synced} property.
+         * @return the meta-property, not null
+         */
+        public MetaProperty<Boolean> synced() {
+            return synced;
+        }
+
+        /**
+         * The meta-property for the {@code tagged} property.
+         * @return the meta-property, not null
+         */
+        public MetaProperty<Boolean> tagged() {
+            return tagged;
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+            switch (propertyName.hashCode()) {
+                case 3373707:  // name
+                    return ((ImmPackedFlags) bean).getName();
+                case -1422950650:  // active
+                    return ((ImmPackedFlags) bean).isActive();
+                case 1550463001:  // deleted
+                    return ((ImmPackedFlags) bean).isDeleted();
+                case -1994383672:  // verified
+                    return ((ImmPackedFlags) bean).isVerified();
+                case -903566235:  // shared
+                    return ((ImmPackedFlags) bean).isShared();
+                case -1716307998:  // archived
+                    return ((ImmPackedFlags) bean).isArchived();
+                case -1097452790:  // locked
+                    return ((ImmPackedFlags) bean).isLocked();
+                case -1217487446:  // hidden
+                    return ((ImmPackedFlags) bean).isHidden();
+                case -988146728:  // pinned
+                    return ((ImmPackedFlags) bean).isPinned();
+                case -1897187073:  // starred
+                    return ((ImmPackedFlags) bean).isStarred();
+                case -779204518:  // flagged
+                    return ((ImmPackedFlags) bean).isFlagged();
+                case -887493510:  // synced
+                    return ((ImmPackedFlags) bean).isSynced();
+                case -881233556:  // tagged
+                    return ((ImmPackedFlags) bean).isTagged();
+            }
+            return super.propertyGet(bean, propertyName, quiet);
+        }
+
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // name
+                    return ((ImmPackedFlags) bean).getName();
+                case 1:  // active
+                    return ((ImmPackedFlags) bean).isActive();
+                case 2:  // deleted
+                    return ((ImmPackedFlags) bean).isDeleted();
+                case 3:  // verified
+                    return ((ImmPackedFlags) bean).isVerified();
+                case 4:  // shared
+                    return ((ImmPackedFlags) bean).isShared();
+                case 5:  // archived
+                    return ((ImmPackedFlags) bean).isArchived();
+                case 6:  // locked
+                    return ((ImmPackedFlags) bean).isLocked();
+                case 7:  // hidden
+                    return ((ImmPackedFlags) bean).isHidden();
+                case 8:  // pinned
+                    return ((ImmPackedFlags) bean).isPinned();
+                case 9:  // starred
+                    return ((ImmPackedFlags) bean).isStarred();
+                case 10:  // flagged
+                    return ((ImmPackedFlags) bean).isFlagged();
+                case 11:  // synced
+                    return ((ImmPackedFlags) bean).isSynced();
+                case 12:  // tagged
+                    return ((ImmPackedFlags) bean).isTagged();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
+        @Override
+        protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+            metaProperty(propertyName);
+            if (quiet) {
+                return;
+            }
+            throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+        }
+
+        @Override
+        protected boolean propertyGetBoolean(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -1422950650:  // active
+                    return ((ImmPackedFlags) bean).isActive();
+                case 1550463001:  // deleted
+                    return ((ImmPackedFlags) bean).isDeleted();
+                case -1994383672:  // verified
+                    return ((ImmPackedFlags) bean).isVerified();
+                case -903566235:  // shared
+                    return ((ImmPackedFlags) bean).isShared();
+                case -1716307998:  // archived
+                    return ((ImmPackedFlags) bean).isArchived();
+                case -1097452790:  // locked
+                    return ((ImmPackedFlags) bean).isLocked();
+                case -1217487446:  // hidden
+                    return ((ImmPackedFlags) bean).isHidden();
+                case -988146728:  // pinned
+                    return ((ImmPackedFlags) bean).isPinned();
+                case -1897187073:  // starred
+                    return ((ImmPackedFlags) bean).isStarred();
+                case -779204518:  // flagged
+                    return ((ImmPackedFlags) bean).isFlagged();
+                case -887493510:  // synced
+                    return ((ImmPackedFlags) bean).isSynced();
+                case -881233556:  // tagged
+                    return ((ImmPackedFlags) bean).isTagged();
+            }
+            return super.propertyGetBoolean(bean, propertyName);
+        }
+
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The bean-builder for {@code ImmPackedFlags}.
+     */
+    public static final class Builder extends DirectFieldsBeanBuilder<ImmPackedFlags> {
+
+        private String name;
+        private boolean active;
+        private boolean deleted;
+        private boolean verified;
+        private boolean shared;
+        private boolean archived;
+        private boolean locked;
+        private boolean hidden;
+        private boolean pinned;
+        private boolean starred;
+        private boolean flagged;
+        private boolean synced;
+        private boolean tagged;
+
+        /**
+         * Restricted constructor.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Restricted copy constructor.
+         * @param beanToCopy  the bean to copy from, not null
+         */
+        private Builder(ImmPackedFlags beanToCopy) {
+            this.name = beanToCopy.getName();
+            this.active = beanToCopy.isActive();
+            this.deleted = beanToCopy.isDeleted();
+            this.verified = beanToCopy.isVerified();
+            this.shared = beanToCopy.isShared();
+            this.archived = beanToCopy.isArchived();
+            this.locked = beanToCopy.isLocked();
+            this.hidden = beanToCopy.isHidden();
+            this.pinned = beanToCopy.isPinned();
+            this.starred = beanToCopy.isStarred();
+            this.flagged = beanToCopy.isFlagged();
+            this.synced = beanToCopy.isSynced();
+            this.tagged = beanToCopy.isTagged();
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public Object get(String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 3373707:  // name
+                    return name;
+                case -1422950650:  // active
+                    return active;
+                case 1550463001:  // deleted
+                    return deleted;
+                case -1994383672:  // verified
+                    return verified;
+                case -903566235:  // shared
+                    return shared;
+                case -1716307998:  // archived
+                    return archived;
+                case -1097452790:  // locked
+                    return locked;
+                case -1217487446:  // hidden
+                    return hidden;
+                case -988146728:  // pinned
+                    return pinned;
+                case -1897187073:  // starred
+                    return starred;
+                case -779204518:  // flagged
+                    return flagged;
+                case -887493510:  // synced
+                    return synced;
+                case -881233556:  // tagged
+                    return tagged;
+                default:
+                    throw new NoSuchElementException("Unknown property: " + propertyName);
+            }
+        }
+
+        @Override
+        public Builder set(String propertyName, Object newValue) {
+            switch (propertyName.hashCode()) {
+                case 3373707:  // name
+                    this.name = (String) newValue;
+                    break;
+                case -1422950650:  // active
+                    this.active = (Boolean) newValue;
+                    break;
+                case 1550463001:  // deleted
+                    this.deleted = (Boolean) newValue;
+                    break;
+                case -1994383672:  // verified
+                    this.verified = (Boolean) newValue;
+                    break;
+                case -903566235:  // shared
+                    this.shared = (Boolean) newValue;
+                    break;
+                case -1716307998:  // archived
+                    this.archived = (Boolean) newValue;
+                    break;
+                case -1097452790:  // locked
+                    this.locked = (Boolean) newValue;
+                    break;
+                case -1217487446:  // hidden
+                    this.hidden = (Boolean) newValue;
+                    break;
+                case -988146728:  // pinned
+                    this.pinned = (Boolean) newValue;
+                    break;
+                case -1897187073:  // starred
+                    this.starred = (Boolean) newValue;
+                    break;
+                case -779204518:  // flagged
+                    this.flagged = (Boolean) newValue;
+                    break;
+                case -887493510:  // synced
+                    this.synced = (Boolean) newValue;
+                    break;
+                case -881233556:  // tagged
+                    this.tagged = (Boolean) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property: " + propertyName);
+            }
+            return this;
+        }
+
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // name
+                    this.name = (String) newValue;
+                    break;
+                case 1:  // active
+                    this.active = (Boolean) newValue;
+                    break;
+                case 2:  // deleted
+                    this.deleted = (Boolean) newValue;
+                    break;
+                case 3:  // verified
+                    this.verified = (Boolean) newValue;
+                    break;
+                case 4:  // shared
+                    this.shared = (Boolean) newValue;
+                    break;
+                case 5:  // archived
+                    this.archived = (Boolean) newValue;
+                    break;
+                case 6:  // locked
+                    this.locked = (Boolean) newValue;
+                    break;
+                case 7:  // hidden
+                    this.hidden = (Boolean) newValue;
+                    break;
+                case 8:  // pinned
+                    this.pinned = (Boolean) newValue;
+                    break;
+                case 9:  // starred
+                    this.starred = (Boolean) newValue;
+                    break;
+                case 10:  // flagged
+                    this.flagged = (Boolean) newValue;
+                    break;
+                case 11:  // synced
+                    this.synced = (Boolean) newValue;
+                    break;
+                case 12:  // tagged
+                    this.tagged = (Boolean) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
+        @Override
+        public Builder set(MetaProperty<?> property, Object value) {
+            super.set(property, value);
+            return this;
+        }
+
+        @Override
+        public Builder setBoolean(MetaProperty<?> property, boolean value) {
+            switch (property.name().hashCode()) {
+                case -1422950650:  // active
+                    this.active = value;
+                    return this;
+                case 1550463001:  // deleted
+                    this.deleted = value;
+                    return this;
+                case -1994383672:  // verified
+                    this.verified = value;
+                    return this;
+                case -903566235:  // shared
+                    this.shared = value;
+                    return this;
+                case -1716307998:  // archived
+                    this.archived = value;
+                    return this;
+                case -1097452790:  // locked
+                    this.locked = value;
+                    return this;
+                case -1217487446:  // hidden
+                    this.hidden = value;
+                    return this;
+                case -988146728:  // pinned
+                    this.pinned = value;
+                    return this;
+                case -1897187073:  // starred
+                    this.starred = value;
+                    return this;
+                case -779204518:  // flagged
+                    this.flagged = value;
+                    return this;
+                case -887493510:  // synced
+                    this.synced = value;
+                    return this;
+                case -881233556:  // tagged
+                    this.tagged = value;
+                    return this;
+            }
+            super.setBoolean(property, value);
+            return this;
+        }
+
+        @Override
+        public ImmPackedFlags build() {
+            return new ImmPackedFlags(
+                    name,
+                    active,
+                    deleted,
+                    verified,
+                    shared,
+                    archived,
+                    locked,
+                    hidden,
+                    pinned,
+                    starred,
+                    flagged,
+                    synced,
+                    tagged);
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Sets the name.
+         * @param name  the new value, not null
+         * @return this, for chaining, not null
+         */
+        public Builder name(String name) {
+            JodaBeanUtils.notNull(name, "name");
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the active flag.
+         * @param active  the new value
+         * @return this, for chaining, not null
+         */
+        public Builder active(boolean active) {
+            this.active = active;
+            return this;
+        }
+
+        /**
+         * Sets the deleted flag.
+         * @param deleted  the new value
+         * @return this, for chaining, not null
+         */
+        public Builder deleted(boolean deleted) {
+            this.deleted = deleted;
+            return this;
+        }
+
+        /**
+         * Sets the verified flag.
+         * @param verified  the new value
+         * @return this, for chaining, not null
+         */
+        public Builder verified(boolean verified) {
+            this.verified = verified;
+            return this;
+        }
+
+        /**
+         * Sets the shared flag.
+         * @param shared  the new value
+         * @return this, for chaining, not null
+         */
+        public Builder shared(boolean shared) {
+            this.shared = shared;
+            return this;
+        }
+
+        /**
+         * Sets the archived flag.
+         * @param archived  the new value
+         * @return this, for chaining, not null
+         */
+        public Builder archived(boolean archived) {
+            this.archived = archived;
+            return this;
+        }
+
+        /**
+         * Sets the locked flag.
+         * @param locked  the new value
+         * @return this, for chaining, not null
+         */
+        public Builder locked(boolean locked) {
+            this.locked = locked;
+            return this;
+        }
+
+        /**
+         * Sets the hidden flag.
+         * @param hidden  the new value
+         * @return this, for chaining, not null
+         */
+        public Builder hidden(boolean hidden) {
+            this.hidden = hidden;
+            return this;
+        }
+
+        /**
+         * Sets the pinned flag.
+         * @param pinned  the new value
+         * @return this, for chaining, not null
+         */
+        public Builder pinned(boolean pinned) {
+            this.pinned = pinned;
+            return this;
+        }
+
+        /**
+         * Sets the starred flag.
+         * @param starred  the new value
+         * @return this, for chaining, not null
+         */
+        public Builder starred(boolean starred) {
+            this.starred = starred;
+            return this;
+        }
+
+        /**
+         * Sets the flagged flag.
+         * @param flagged  the new value
+         * @return this, for chaining, not null
+         */
+        public Builder flagged(boolean flagged) {
+            this.flagged = flagged;
+            return this;
+        }
+
+        /**
+         * Sets the synced flag.
+         * @param synced  the new value
+         * @return this, for chaining, not null
+         */
+        public Builder synced(boolean synced) {
+            this.synced = synced;
+            return this;
+        }
+
+        /**
+         * Sets the tagged flag.
+         * @param tagged  the new value
+         * @return this, for chaining, not null
+         */
+        public Builder tagged(boolean tagged) {
+            this.tagged = tagged;
+            return this;
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public String toString() {
+            StringBuilder buf = new StringBuilder(448);
+            buf.append("ImmPackedFlags.Builder{");
+            buf.append("name").append('=').append(JodaBeanUtils.toString(name)).append(',').append(' ');
+            buf.append("active").append('=').append(JodaBeanUtils.toString(active)).append(',').append(' ');
+            buf.append("deleted").append('=').append(JodaBeanUtils.toString(deleted)).append(',').append(' ');
+            buf.append("verified").append('=').append(JodaBeanUtils.toString(verified)).append(',').append(' ');
+            buf.append("shared").append('=').append(JodaBeanUtils.toString(shared)).append(',').append(' ');
+            buf.append("archived").append('=').append(JodaBeanUtils.toString(archived)).append(',').append(' ');
+            buf.append("locked").append('=').append(JodaBeanUtils.toString(locked)).append(',').append(' ');
+            buf.append("hidden").append('=').append(JodaBeanUtils.toString(hidden)).append(',').append(' ');
+            buf.append("pinned").append('=').append(JodaBeanUtils.toString(pinned)).append(',').append(' ');
+            buf.append("starred").append('=').append(JodaBeanUtils.toString(starred)).append(',').append(' ');
+            buf.append("flagged").append('=').append(JodaBeanUtils.toString(flagged)).append(',').append(' ');
+            buf.append("synced").append('=').append(JodaBeanUtils.toString(synced)).append(',').append(' ');
+            buf.append("tagged").append('=').append(JodaBeanUtils.toString(tagged));
+            buf.append('}');
+            return buf.toString();
+        }
+
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The serialization codec for {@code ImmPackedFlags}.
+     */
+    private static final class Codec extends SerBeanCodec<ImmPackedFlags> {
+
+        /**
+         * Restricted constructor.
+         */
+        private Codec() {
+            super(ImmPackedFlags.Meta.INSTANCE,
+                    "name",
+                    "active",
+                    "deleted",
+                    "verified",
+                    "shared",
+                    "archived",
+                    "locked",
+                    "hidden",
+                    "pinned",
+                    "starred",
+                    "flagged",
+                    "synced",
+                    "tagged");
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public int index(String propertyName) {
+            switch (propertyName) {
+                case "name":
+                    return 0;
+                case "active":
+                    return 1;
+                case "deleted":
+                    return 2;
+                case "verified":
+                    return 3;
+                case "shared":
+                    return 4;
+                case "archived":
+                    return 5;
+                case "locked":
+                    return 6;
+                case "hidden":
+                    return 7;
+                case "pinned":
+                    return 8;
+                case "starred":
+                    return 9;
+                case "flagged":
+                    return 10;
+                case "synced":
+                    return 11;
+                case "tagged":
+                    return 12;
+                default:
+                    return -1;
+            }
+        }
+
+        @Override
+        public void write(ImmPackedFlags bean, Output output) throws IOException {
+            output.writeString(0, bean.getName());
+            output.writeBoolean(1, bean.isActive());
+            output.writeBoolean(2, bean.isDeleted());
+            output.writeBoolean(3, bean.isVerified());
+            output.writeBoolean(4, bean.isShared());
+            output.writeBoolean(5, bean.isArchived());
+            output.writeBoolean(6, bean.isLocked());
+            output.writeBoolean(7, bean.isHidden());
+            output.writeBoolean(8, bean.isPinned());
+            output.writeBoolean(9, bean.isStarred());
+            output.writeBoolean(10, bean.isFlagged());
+            output.writeBoolean(11, bean.isSynced());
+            output.writeBoolean(12, bean.isTagged());
+        }
+
+        @Override
+        public void setString(BeanBuilder<?> builder, int index, String value) {
+            switch (index) {
+                case 0:  // name
+                    ((Builder) builder).name = value;
+                    break;
+                default:
+                    super.setString(builder, index, value);
+            }
+        }
+
+        @Override
+        public void setBoolean(BeanBuilder<?> builder, int index, boolean value) {
+            switch (index) {
+                case 1:  // active
+                    ((Builder) builder).active = value;
+                    break;
+                case 2:  // deleted
+                    ((Builder) builder).deleted = value;
+                    break;
+                case 3:  // verified
+                    ((Builder) builder).verified = value;
+                    break;
+                case 4:  // shared
+                    ((Builder) builder).shared = value;
+                    break;
+                case 5:  // archived
+                    ((Builder) builder).archived = value;
+                    break;
+                case 6:  // locked
+                    ((Builder) builder).locked = value;
+                    break;
+                case 7:  // hidden
+                    ((Builder) builder).hidden = value;
+                    break;
+                case 8:  // pinned
+                    ((Builder) builder).pinned = value;
+                    break;
+                case 9:  // starred
+                    ((Builder) builder).starred = value;
+                    break;
+                case 10:  // flagged
+                    ((Builder) builder).flagged = value;
+                    break;
+                case 11:  // synced
+                    ((Builder) builder).synced = value;
+                    break;
+                case 12:  // tagged
+                    ((Builder) builder).tagged = value;
+                    break;
+                default:
+                    super.setBoolean(builder, index, value);
+            }
+        }
+
+    }
+
+    //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -15,12 +15,14 @@
  */
 package org.joda.beans.sample;
 
+import java.io.IOException;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
 import org.joda.beans.ImmutableBean;
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaBean;
@@ -35,6 +37,7 @@ import org.joda.beans.impl.direct.DirectFieldsBeanBuilder;
 import org.joda.beans.impl.direct.DirectMetaBean;
 import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.ser.SerBeanCodec;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -46,7 +49,7 @@ import com.google.common.collect.Multiset;
  * 
  * @author Stephen Colebourne
  */
-@BeanDefinition(cacheHashCode = true, cloneStyle = "generate")
+@BeanDefinition(cacheHashCode = true, cloneStyle = "generate", codec = true)
 public final class ImmPerson implements ImmutableBean {
 
     /** The forename. */
@@ -110,6 +113,7 @@ public final class ImmPerson implements ImmutableBean {
 
     static {
         MetaBean.register(ImmPerson.Meta.INSTANCE);
+        SerBeanCodec.register(new Codec());
     }
 
     /**
@@ -572,6 +576,35 @@ public final class ImmPerson implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // forename
+                    return ((ImmPerson) bean).getForename();
+                case 1:  // surname
+                    return ((ImmPerson) bean).getSurname();
+                case 2:  // numberOfCars
+                    return ((ImmPerson) bean).getNumberOfCars();
+                case 3:  // dateOfBirth
+                    return ((ImmPerson) bean).getDateOfBirth();
+                case 4:  // middleNames
+                    return ((ImmPerson) bean).getMiddleNames();
+                case 5:  // addressList
+                    return ((ImmPerson) bean).getAddressList();
+                case 6:  // otherAddressMap
+                    return ((ImmPerson) bean).getOtherAddressMap();
+                case 7:  // addressesList
+                    return ((ImmPerson) bean).getAddressesList();
+                case 8:  // mainAddress
+                    return ((ImmPerson) bean).getMainAddress();
+                case 9:  // codeCounts
+                    return ((ImmPerson) bean).getCodeCounts();
+                case 10:  // age
+                    return ((ImmPerson) bean).getAge();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -581,6 +614,17 @@ public final class ImmPerson implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 926656063:  // numberOfCars
+                    return ((ImmPerson) bean).getNumberOfCars();
+                case 96511:  // age
+                    return ((ImmPerson) bean).getAge();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -693,12 +737,64 @@ public final class ImmPerson implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // forename
+                    this.forename = (String) newValue;
+                    break;
+                case 1:  // surname
+                    this.surname = (String) newValue;
+                    break;
+                case 2:  // numberOfCars
+                    this.numberOfCars = (Integer) newValue;
+                    break;
+                case 3:  // dateOfBirth
+                    this.dateOfBirth = (Date) newValue;
+                    break;
+                case 4:  // middleNames
+                    this.middleNames = (String[]) newValue;
+                    break;
+                case 5:  // addressList
+                    this.addressList = (List<Address>) newValue;
+                    break;
+                case 6:  // otherAddressMap
+                    this.otherAddressMap = (Map<String, Address>) newValue;
+                    break;
+                case 7:  // addressesList
+                    this.addressesList = (List<List<Address>>) newValue;
+                    break;
+                case 8:  // mainAddress
+                    this.mainAddress = (ImmAddress) newValue;
+                    break;
+                case 9:  // codeCounts
+                    this.codeCounts = (Multiset<String>) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
             return this;
         }
 
+        @Override
+        public Builder setInt(MetaProperty<?> property, int value) {
+            switch (property.name().hashCode()) {
+                case 926656063:  // numberOfCars
+                    this.numberOfCars = value;
+                    return this;
+            }
+            super.setInt(property, value);
+            return this;
+        }
+
         @Override
         public ImmPerson build() {
             preBuild(this);
@@ -858,5 +954,98 @@ public final class ImmPerson implements ImmutableBean {
 
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * The serialization codec for {@code ImmPerson}.
+     */
+    private static final class Codec extends SerBeanCodec<ImmPerson> {
+
+        /**
+         * Restricted constructor.
+         */
+        private Codec() {
+            super(ImmPerson.Meta.INSTANCE,
+                    "forename",
+                    "surname",
+                    "numberOfCars",
+                    "dateOfBirth",
+                    "middleNames",
+                    "addressList",
+                    "otherAddressMap",
+                    "addressesList",
+                    "mainAddress",
+                    "codeCounts");
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public int index(String propertyName) {
+            switch (propertyName) {
+                case "forename":
+                    return 0;
+                case "surname":
+                    return 1;
+                case "numberOfCars":
+                    return 2;
+                case "dateOfBirth":
+                    return 3;
+                case "middleNames":
+                    return 4;
+                case "addressList":
+                    return 5;
+                case "otherAddressMap":
+                    return 6;
+                case "addressesList":
+                    return 7;
+                case "mainAddress":
+                    return 8;
+                case "codeCounts":
+                    return 9;
+                default:
+                    return -1;
+            }
+        }
+
+        @Override
+        public void write(ImmPerson bean, Output output) throws IOException {
+            output.writeString(0, bean.getForename());
+            output.writeString(1, bean.getSurname());
+            output.writeInt(2, bean.getNumberOfCars());
+            output.writeObject(3, bean.getDateOfBirth());
+            output.writeObject(4, bean.getMiddleNames());
+            output.writeObject(5, bean.getAddressList());
+            output.writeObject(6, bean.getOtherAddressMap());
+            output.writeObject(7, bean.getAddressesList());
+            output.writeObject(8, bean.getMainAddress());
+            output.writeObject(9, bean.getCodeCounts());
+        }
+
+        @Override
+        public void setString(BeanBuilder<?> builder, int index, String value) {
+            switch (index) {
+                case 0:  // forename
+                    ((Builder) builder).forename = value;
+                    break;
+                case 1:  // surname
+                    ((Builder) builder).surname = value;
+                    break;
+                default:
+                    super.setString(builder, index, value);
+            }
+        }
+
+        @Override
+        public void setInt(BeanBuilder<?> builder, int index, int value) {
+            switch (index) {
+                case 2:  // numberOfCars
+                    ((Builder) builder).numberOfCars = value;
+                    break;
+                default:
+                    super.setInt(builder, index, value);
+            }
+        }
+
+    }
+
     //-------------------------- AUTOGENERATED END --------------------------
 }
@@ -254,6 +254,19 @@ public abstract class ImmPersonAbstract implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // forename
+                    return ((ImmPersonAbstract) bean).getForename();
+                case 1:  // surname
+                    return ((ImmPersonAbstract) bean).getSurname();
+                case 2:  // age
+                    return ((ImmPersonAbstract) bean).getAge();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -263,6 +276,15 @@ public abstract class ImmPersonAbstract implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 96511:  // age
+                    return ((ImmPersonAbstract) bean).getAge();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -317,6 +339,22 @@ public abstract class ImmPersonAbstract implements ImmutableBean {
             return this;
         }
 
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // forename
+                    this.forename = (String) newValue;
+                    break;
+                case 1:  // surname
+                    this.surname = (String) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -273,6 +273,21 @@ public final class ImmPrivateMeta implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // number
+                    return ((ImmPrivateMeta) bean).getNumber();
+                case 1:  // street
+                    return ((ImmPrivateMeta) bean).getStreet();
+                case 2:  // city
+                    return ((ImmPrivateMeta) bean).getCity();
+                case 3:  // owner
+                    return ((ImmPrivateMeta) bean).getOwner();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -282,6 +297,15 @@ public final class ImmPrivateMeta implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -1034364087:  // number
+                    return ((ImmPrivateMeta) bean).getNumber();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -350,12 +374,45 @@ public final class ImmPrivateMeta implements ImmutableBean {
             return this;
         }
 
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // number
+                    this.number = (Integer) newValue;
+                    break;
+                case 1:  // street
+                    this.street = (String) newValue;
+                    break;
+                case 2:  // city
+                    this.city = (String) newValue;
+                    break;
+                case 3:  // owner
+                    this.owner = (ImmPerson) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
             return this;
         }
 
+        @Override
+        public Builder setInt(MetaProperty<?> property, int value) {
+            switch (property.name().hashCode()) {
+                case -1034364087:  // number
+                    this.number = value;
+                    return this;
+            }
+            super.setInt(property, value);
+            return this;
+        }
+
         @Override
         public ImmPrivateMeta build() {
             return new ImmPrivateMeta(
@@ -240,6 +240,17 @@ public class ImmSubPersonNonFinal extends ImmPersonNonFinal {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index - (metaPropertyMap$.size() - 2)) {
+                case 0:  // middleName
+                    return ((ImmSubPersonNonFinal) bean).getMiddleName();
+                case 1:  // addressList
+                    return ((ImmSubPersonNonFinal) bean).getAddressList();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -306,6 +317,23 @@ public class ImmSubPersonNonFinal extends ImmPersonNonFinal {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index - (Meta.INSTANCE.metaPropertyCount() - 2)) {
+                case 0:  // middleName
+                    this.middleName = (String) newValue;
+                    break;
+                case 1:  // addressList
+                    this.addressList = (List<Address>) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
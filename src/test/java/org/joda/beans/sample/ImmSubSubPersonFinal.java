@@ -215,6 +215,15 @@ public final class ImmSubSubPersonFinal extends ImmSubPersonNonFinal {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index - (metaPropertyMap$.size() - 1)) {
+                case 0:  // codeCounts
+                    return ((ImmSubSubPersonFinal) bean).getCodeCounts();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -274,6 +283,20 @@ public final class ImmSubSubPersonFinal extends ImmSubPersonNonFinal {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index - (Meta.INSTANCE.metaPropertyCount() - 1)) {
+                case 0:  // codeCounts
+                    this.codeCounts = (Multiset<String>) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
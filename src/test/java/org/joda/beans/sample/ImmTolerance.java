@@ -246,6 +246,17 @@ public final class ImmTolerance implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // value
+                    return ((ImmTolerance) bean).getValue();
+                case 1:  // array
+                    return ((ImmTolerance) bean).getArray();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -255,6 +266,15 @@ public final class ImmTolerance implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected double propertyGetDouble(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 111972721:  // value
+                    return ((ImmTolerance) bean).getValue();
+            }
+            return super.propertyGetDouble(bean, propertyName);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -309,12 +329,39 @@ public final class ImmTolerance implements ImmutableBean {
             return this;
         }
 
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // value
+                    this.value = (Double) newValue;
+                    break;
+                case 1:  // array
+                    this.array = (double[]) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
             return this;
         }
 
+        @Override
+        public Builder setDouble(MetaProperty<?> property, double value) {
+            switch (property.name().hashCode()) {
+                case 111972721:  // value
+                    this.value = value;
+                    return this;
+            }
+            super.setDouble(property, value);
+            return this;
+        }
+
         @Override
         public ImmTolerance build() {
             return new ImmTolerance(
@@ -371,6 +371,23 @@ public final class ImmTreeNode implements ImmutableBean{
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // name
+                    return ((ImmTreeNode) bean).getName();
+                case 1:  // child1
+                    return ((ImmTreeNode) bean).getChild1();
+                case 2:  // child2
+                    return ((ImmTreeNode) bean).getChild2();
+                case 3:  // child3
+                    return ((ImmTreeNode) bean).getChild3();
+                case 4:  // childList
+                    return ((ImmTreeNode) bean).getChildList();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -456,6 +473,32 @@ public final class ImmTreeNode implements ImmutableBean{
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // name
+                    this.name = (String) newValue;
+                    break;
+                case 1:  // child1
+                    this.child1 = (ImmTreeNode) newValue;
+                    break;
+                case 2:  // child2
+                    this.child2 = (ImmTreeNode) newValue;
+                    break;
+                case 3:  // child3
+                    this.child3 = (ImmTreeNode) newValue;
+                    break;
+                case 4:  // childList
+                    this.childList = (List<ImmTreeNode>) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
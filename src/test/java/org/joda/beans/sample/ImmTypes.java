@@ -420,6 +420,25 @@ public final class ImmTypes<T extends Comparable<T>> implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // listWild
+                    return ((ImmTypes<?>) bean).getListWild();
+                case 1:  // listWildPublic1
+                    return ((ImmTypes<?>) bean).getListWildPublic1();
+                case 2:  // listWildPublic2
+                    return ((ImmTypes<?>) bean).getListWildPublic2();
+                case 3:  // listWildBuilder1
+                    return ((ImmTypes<?>) bean).getListWildBuilder1();
+                case 4:  // listWildBuilder2
+                    return ((ImmTypes<?>) bean).getListWildBuilder2();
+                case 5:  // mapWildBuilder1
+                    return ((ImmTypes<?>) bean).getMapWildBuilder1();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -513,6 +532,35 @@ public final class ImmTypes<T extends Comparable<T>> implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder<T> set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // listWild
+                    this.listWild = (List<?>) newValue;
+                    break;
+                case 1:  // listWildPublic1
+                    this.listWildPublic1 = (List<?>) newValue;
+                    break;
+                case 2:  // listWildPublic2
+                    this.listWildPublic2 = (List<?>) newValue;
+                    break;
+                case 3:  // listWildBuilder1
+                    this.listWildBuilder1 = (List<?>) newValue;
+                    break;
+                case 4:  // listWildBuilder2
+                    this.listWildBuilder2 = (List<? extends Address>) newValue;
+                    break;
+                case 5:  // mapWildBuilder1
+                    this.mapWildBuilder1 = (Map<String, ? extends Address>) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
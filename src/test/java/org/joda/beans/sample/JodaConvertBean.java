@@ -268,6 +268,17 @@ public class JodaConvertBean extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // base
+                    return ((JodaConvertBean) bean).getBase();
+                case 1:  // extra
+                    return ((JodaConvertBean) bean).getExtra();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -281,6 +292,25 @@ public class JodaConvertBean extends DirectBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 96965648:  // extra
+                    return ((JodaConvertBean) bean).getExtra();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, String propertyName, int newValue) {
+            switch (propertyName.hashCode()) {
+                case 96965648:  // extra
+                    ((JodaConvertBean) bean).setExtra(newValue);
+                    return;
+            }
+            super.propertySetInt(bean, propertyName, newValue);
+        }
+
     }
 
     //-------------------------- AUTOGENERATED END --------------------------
@@ -255,6 +255,17 @@ public class JodaConvertWrapper extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // bean
+                    return ((JodaConvertWrapper) bean).getBean();
+                case 1:  // description
+                    return ((JodaConvertWrapper) bean).getDescription();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
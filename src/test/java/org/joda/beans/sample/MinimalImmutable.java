@@ -410,6 +410,28 @@ public final class MinimalImmutable implements ImmutableBean, Serializable {
             return this;
         }
 
+        @Override
+        public Builder setInt(MetaProperty<?> property, int value) {
+            switch (property.name().hashCode()) {
+                case -1034364087:  // number
+                    this.number = value;
+                    return this;
+            }
+            super.setInt(property, value);
+            return this;
+        }
+
+        @Override
+        public Builder setBoolean(MetaProperty<?> property, boolean value) {
+            switch (property.name().hashCode()) {
+                case 3145580:  // flag
+                    this.flag = value;
+                    return this;
+            }
+            super.setBoolean(property, value);
+            return this;
+        }
+
         @Override
         public MinimalImmutable build() {
             return new MinimalImmutable(
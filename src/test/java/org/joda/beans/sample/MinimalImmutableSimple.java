@@ -219,6 +219,17 @@ public final class MinimalImmutableSimple implements ImmutableBean, Serializable
             return this;
         }
 
+        @Override
+        public Builder setInt(MetaProperty<?> property, int value) {
+            switch (property.name().hashCode()) {
+                case -1034364087:  // number
+                    this.number = value;
+                    return this;
+            }
+            super.setInt(property, value);
+            return this;
+        }
+
         @Override
         public MinimalImmutableSimple build() {
             return new MinimalImmutableSimple(
@@ -380,6 +380,21 @@ public final class MutableDeprecated implements Cloneable, Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // deprecatedBoth
+                    return ((MutableDeprecated) bean).getDeprecatedBoth();
+                case 1:  // deprecatedJavadoc
+                    return ((MutableDeprecated) bean).getDeprecatedJavadoc();
+                case 2:  // deprecatedAnnotation
+                    return ((MutableDeprecated) bean).getDeprecatedAnnotation();
+                case 3:  // deprecatedOptional
+                    return ((MutableDeprecated) bean).deprecatedOptional;
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
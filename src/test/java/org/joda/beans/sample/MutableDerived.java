@@ -213,6 +213,15 @@ public class MutableDerived extends MutableEmptyBase {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index - (metaPropertyMap$.size() - 1)) {
+                case 0:  // name
+                    return ((MutableDerived) bean).getName();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -274,6 +283,19 @@ public class MutableDerived extends MutableEmptyBase {
             return this;
         }
 
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index - (Meta.INSTANCE.metaPropertyCount() - 1)) {
+                case 0:  // name
+                    this.name = (String) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
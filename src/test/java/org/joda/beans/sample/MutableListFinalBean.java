@@ -269,6 +269,17 @@ public final class MutableListFinalBean implements Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // strings
+                    return ((MutableListFinalBean) bean).getStrings();
+                case 1:  // numberMap
+                    return ((MutableListFinalBean) bean).getNumberMap();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -338,6 +349,23 @@ public final class MutableListFinalBean implements Bean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // strings
+                    this.strings = (List<String>) newValue;
+                    break;
+                case 1:  // numberMap
+                    this.numberMap = (Map<String, Integer>) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -242,6 +242,17 @@ public final class MutableOptional implements Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // optString
+                    return ((MutableOptional) bean).getOptString();
+                case 1:  // optStringGetter
+                    return ((MutableOptional) bean).optStringGetter;
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -262,6 +262,17 @@ public final class MutableTypes<T extends Comparable<T>> implements Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // listWildNullable
+                    return ((MutableTypes<?>) bean).getListWildNullable();
+                case 1:  // listWildPublic
+                    return ((MutableTypes<?>) bean).getListWildPublic();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
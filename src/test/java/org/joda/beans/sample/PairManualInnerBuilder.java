@@ -217,6 +217,17 @@ public final class PairManualInnerBuilder implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // first
+                    return ((PairManualInnerBuilder) bean).getFirst();
+                case 1:  // second
+                    return ((PairManualInnerBuilder) bean).getSecond();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
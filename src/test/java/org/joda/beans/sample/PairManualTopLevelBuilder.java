@@ -230,6 +230,17 @@ public final class PairManualTopLevelBuilder implements ImmutableBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // first
+                    return ((PairManualTopLevelBuilder) bean).getFirst();
+                case 1:  // second
+                    return ((PairManualTopLevelBuilder) bean).getSecond();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
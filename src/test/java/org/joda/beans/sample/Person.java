@@ -557,6 +557,29 @@ public final class Person extends DirectBean implements IPerson,
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // forename
+                    return ((Person) bean).getForename();
+                case 1:  // surname
+                    return ((Person) bean).getSurname();
+                case 2:  // numberOfCars
+                    return ((Person) bean).getNumberOfCars();
+                case 3:  // addressList
+                    return ((Person) bean).getAddressList();
+                case 4:  // otherAddressMap
+                    return ((Person) bean).getOtherAddressMap();
+                case 5:  // addressesList
+                    return ((Person) bean).getAddressesList();
+                case 6:  // mainAddress
+                    return ((Person) bean).getMainAddress();
+                case 7:  // extensions
+                    return ((Person) bean).getExtensions();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -589,6 +612,25 @@ public final class Person extends DirectBean implements IPerson,
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 926656063:  // numberOfCars
+                    return ((Person) bean).getNumberOfCars();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, String propertyName, int newValue) {
+            switch (propertyName.hashCode()) {
+                case 926656063:  // numberOfCars
+                    ((Person) bean).setNumberOfCars(newValue);
+                    return;
+            }
+            super.propertySetInt(bean, propertyName, newValue);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((Person) bean).addressList, "addressList");
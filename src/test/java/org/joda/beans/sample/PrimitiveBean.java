@@ -534,6 +534,29 @@ public class PrimitiveBean extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // valueLong
+                    return ((PrimitiveBean) bean).getValueLong();
+                case 1:  // valueInt
+                    return ((PrimitiveBean) bean).getValueInt();
+                case 2:  // valueShort
+                    return ((PrimitiveBean) bean).getValueShort();
+                case 3:  // valueByte
+                    return ((PrimitiveBean) bean).getValueByte();
+                case 4:  // valueDouble
+                    return ((PrimitiveBean) bean).getValueDouble();
+                case 5:  // valueFloat
+                    return ((PrimitiveBean) bean).getValueFloat();
+                case 6:  // valueChar
+                    return ((PrimitiveBean) bean).getValueChar();
+                case 7:  // valueBoolean
+                    return ((PrimitiveBean) bean).isValueBoolean();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -565,6 +588,82 @@ public class PrimitiveBean extends DirectBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -1410184002:  // valueInt
+                    return ((PrimitiveBean) bean).getValueInt();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected long propertyGetLong(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -765940851:  // valueLong
+                    return ((PrimitiveBean) bean).getValueLong();
+            }
+            return super.propertyGetLong(bean, propertyName);
+        }
+
+        @Override
+        protected double propertyGetDouble(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -1858576222:  // valueDouble
+                    return ((PrimitiveBean) bean).getValueDouble();
+            }
+            return super.propertyGetDouble(bean, propertyName);
+        }
+
+        @Override
+        protected boolean propertyGetBoolean(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 733421943:  // valueBoolean
+                    return ((PrimitiveBean) bean).isValueBoolean();
+            }
+            return super.propertyGetBoolean(bean, propertyName);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, String propertyName, int newValue) {
+            switch (propertyName.hashCode()) {
+                case -1410184002:  // valueInt
+                    ((PrimitiveBean) bean).setValueInt(newValue);
+                    return;
+            }
+            super.propertySetInt(bean, propertyName, newValue);
+        }
+
+        @Override
+        protected void propertySetLong(Bean bean, String propertyName, long newValue) {
+            switch (propertyName.hashCode()) {
+                case -765940851:  // valueLong
+                    ((PrimitiveBean) bean).setValueLong(newValue);
+                    return;
+            }
+            super.propertySetLong(bean, propertyName, newValue);
+        }
+
+        @Override
+        protected void propertySetDouble(Bean bean, String propertyName, double newValue) {
+            switch (propertyName.hashCode()) {
+                case -1858576222:  // valueDouble
+                    ((PrimitiveBean) bean).setValueDouble(newValue);
+                    return;
+            }
+            super.propertySetDouble(bean, propertyName, newValue);
+        }
+
+        @Override
+        protected void propertySetBoolean(Bean bean, String propertyName, boolean newValue) {
+            switch (propertyName.hashCode()) {
+                case 733421943:  // valueBoolean
+                    ((PrimitiveBean) bean).setValueBoolean(newValue);
+                    return;
+            }
+            super.propertySetBoolean(bean, propertyName, newValue);
+        }
+
     }
 
     //-------------------------- AUTOGENERATED END --------------------------
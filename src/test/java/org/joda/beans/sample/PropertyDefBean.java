@@ -593,6 +593,31 @@ public final class PropertyDefBean implements Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // stringAsCharSequence
+                    return ((PropertyDefBean) bean).getStringAsCharSequence();
+                case 1:  // intAsInteger
+                    return ((PropertyDefBean) bean).getIntAsInteger();
+                case 2:  // listCopyOfCollection
+                    return ((PropertyDefBean) bean).getListCopyOfCollection();
+                case 3:  // arrayListSmart
+                    return ((PropertyDefBean) bean).getArrayListSmart();
+                case 4:  // arrayListExposed
+                    return ((PropertyDefBean) bean).getArrayListExposed();
+                case 5:  // arrayListAsCollection
+                    return ((PropertyDefBean) bean).getArrayListAsCollection();
+                case 6:  // arrayList
+                    return ((PropertyDefBean) bean).getArrayList();
+                case 7:  // listAsIterable
+                    return ((PropertyDefBean) bean).getListAsIterable();
+                case 8:  // listAsIterableNoField
+                    return ((PropertyDefBean) bean).getListAsIterableNoField();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -553,6 +553,34 @@ public class RWOnlyBean extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // ro
+                    return ((RWOnlyBean) bean).getRo();
+                case 1:  // wo
+                    if (quiet) {
+                        return null;
+                    }
+                    throw new UnsupportedOperationException("Property cannot be read: wo");
+                case 2:  // fin
+                    return ((RWOnlyBean) bean).getFin();
+                case 3:  // priv
+                    return ((RWOnlyBean) bean).getPriv();
+                case 4:  // pkg
+                    return ((RWOnlyBean) bean).getPkg();
+                case 5:  // prot
+                    return ((RWOnlyBean) bean).getProt();
+                case 6:  // field
+                    return ((RWOnlyBean) bean).field;
+                case 7:  // manualGet
+                    return ((RWOnlyBean) bean).getManualGet();
+                case 8:  // derived
+                    return ((RWOnlyBean) bean).getDerived();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
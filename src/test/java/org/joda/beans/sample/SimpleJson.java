@@ -1061,6 +1061,65 @@ public final class SimpleJson implements ImmutableBean, Serializable {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // primitiveChar
+                    return ((SimpleJson) bean).getPrimitiveChar();
+                case 1:  // primitiveByte
+                    return ((SimpleJson) bean).getPrimitiveByte();
+                case 2:  // primitiveShort
+                    return ((SimpleJson) bean).getPrimitiveShort();
+                case 3:  // primitiveInt
+                    return ((SimpleJson) bean).getPrimitiveInt();
+                case 4:  // primitiveLong
+                    return ((SimpleJson) bean).getPrimitiveLong();
+                case 5:  // primitiveFloat
+                    return ((SimpleJson) bean).getPrimitiveFloat();
+                case 6:  // primitiveDouble
+                    return ((SimpleJson) bean).getPrimitiveDouble();
+                case 7:  // primitiveDoubleNaN
+                    return ((SimpleJson) bean).getPrimitiveDoubleNaN();
+                case 8:  // primitiveDoubleInf
+                    return ((SimpleJson) bean).getPrimitiveDoubleInf();
+                case 9:  // abstractNumber
+                    return ((SimpleJson) bean).getAbstractNumber();
+                case 10:  // arrayByte
+                    return ((SimpleJson) bean).getArrayByte();
+                case 11:  // array2d
+                    return ((SimpleJson) bean).getArray2d();
+                case 12:  // string
+                    return ((SimpleJson) bean).getString();
+                case 13:  // bean
+                    return ((SimpleJson) bean).getBean();
+                case 14:  // object1
+                    return ((SimpleJson) bean).getObject1();
+                case 15:  // object2
+                    return ((SimpleJson) bean).getObject2();
+                case 16:  // risk
+                    return ((SimpleJson) bean).getRisk();
+                case 17:  // riskLevel
+                    return ((SimpleJson) bean).getRiskLevel();
+                case 18:  // riskLevels
+                    return ((SimpleJson) bean).getRiskLevels();
+                case 19:  // stringList
+                    return ((SimpleJson) bean).getStringList();
+                case 20:  // beanList
+                    return ((SimpleJson) bean).getBeanList();
+                case 21:  // stringMap
+                    return ((SimpleJson) bean).getStringMap();
+                case 22:  // intKeyMap
+                    return ((SimpleJson) bean).getIntKeyMap();
+                case 23:  // beanMap
+                    return ((SimpleJson) bean).getBeanMap();
+                case 24:  // listInMap
+                    return ((SimpleJson) bean).getListInMap();
+                case 25:  // listNumericInMap
+                    return ((SimpleJson) bean).getListNumericInMap();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -1070,6 +1129,37 @@ public final class SimpleJson implements ImmutableBean, Serializable {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 1281070472:  // primitiveInt
+                    return ((SimpleJson) bean).getPrimitiveInt();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected long propertyGetLong(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 1058569219:  // primitiveLong
+                    return ((SimpleJson) bean).getPrimitiveLong();
+            }
+            return super.propertyGetLong(bean, propertyName);
+        }
+
+        @Override
+        protected double propertyGetDouble(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -851055720:  // primitiveDouble
+                    return ((SimpleJson) bean).getPrimitiveDouble();
+                case -608928189:  // primitiveDoubleNaN
+                    return ((SimpleJson) bean).getPrimitiveDoubleNaN();
+                case -608932567:  // primitiveDoubleInf
+                    return ((SimpleJson) bean).getPrimitiveDoubleInf();
+            }
+            return super.propertyGetDouble(bean, propertyName);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -1293,12 +1383,140 @@ public final class SimpleJson implements ImmutableBean, Serializable {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // primitiveChar
+                    this.primitiveChar = (Character) newValue;
+                    break;
+                case 1:  // primitiveByte
+                    this.primitiveByte = (Byte) newValue;
+                    break;
+                case 2:  // primitiveShort
+                    this.primitiveShort = (Short) newValue;
+                    break;
+                case 3:  // primitiveInt
+                    this.primitiveInt = (Integer) newValue;
+                    break;
+                case 4:  // primitiveLong
+                    this.primitiveLong = (Long) newValue;
+                    break;
+                case 5:  // primitiveFloat
+                    this.primitiveFloat = (Float) newValue;
+                    break;
+                case 6:  // primitiveDouble
+                    this.primitiveDouble = (Double) newValue;
+                    break;
+                case 7:  // primitiveDoubleNaN
+                    this.primitiveDoubleNaN = (Double) newValue;
+                    break;
+                case 8:  // primitiveDoubleInf
+                    this.primitiveDoubleInf = (Double) newValue;
+                    break;
+                case 9:  // abstractNumber
+                    this.abstractNumber = (Number) newValue;
+                    break;
+                case 10:  // arrayByte
+                    this.arrayByte = (byte[]) newValue;
+                    break;
+                case 11:  // array2d
+                    this.array2d = (String[][]) newValue;
+                    break;
+                case 12:  // string
+                    this.string = (String) newValue;
+                    break;
+                case 13:  // bean
+                    this.bean = (ImmKey) newValue;
+                    break;
+                case 14:  // object1
+                    this.object1 = (Object) newValue;
+                    break;
+                case 15:  // object2
+                    this.object2 = (Object) newValue;
+                    break;
+                case 16:  // risk
+                    this.risk = (Risk) newValue;
+                    break;
+                case 17:  // riskLevel
+                    this.riskLevel = (RiskLevel) newValue;
+                    break;
+                case 18:  // riskLevels
+                    this.riskLevels = (Set<RiskLevel>) newValue;
+                    break;
+                case 19:  // stringList
+                    this.stringList = (List<String>) newValue;
+                    break;
+                case 20:  // beanList
+                    this.beanList = (List<ImmKey>) newValue;
+                    break;
+                case 21:  // stringMap
+                    this.stringMap = (Map<String, String>) newValue;
+                    break;
+                case 22:  // intKeyMap
+                    this.intKeyMap = (Map<Integer, String>) newValue;
+                    break;
+                case 23:  // beanMap
+                    this.beanMap = (Map<String, ImmKey>) newValue;
+                    break;
+                case 24:  // listInMap
+                    this.listInMap = (Map<String, List<String>>) newValue;
+                    break;
+                case 25:  // listNumericInMap
+                    this.listNumericInMap = (Map<String, List<Integer>>) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
             return this;
         }
 
+        @Override
+        public Builder setInt(MetaProperty<?> property, int value) {
+            switch (property.name().hashCode()) {
+                case 1281070472:  // primitiveInt
+                    this.primitiveInt = value;
+                    return this;
+            }
+            super.setInt(property, value);
+            return this;
+        }
+
+        @Override
+        public Builder setLong(MetaProperty<?> property, long value) {
+            switch (property.name().hashCode()) {
+                case 1058569219:  // primitiveLong
+                    this.primitiveLong = value;
+                    return this;
+            }
+            super.setLong(property, value);
+            return this;
+        }
+
+        @Override
+        public Builder setDouble(MetaProperty<?> property, double value) {
+            switch (property.name().hashCode()) {
+                case -851055720:  // primitiveDouble
+                    this.primitiveDouble = value;
+                    return this;
+                case -608928189:  // primitiveDoubleNaN
+                    this.primitiveDoubleNaN = value;
+                    return this;
+                case -608932567:  // primitiveDoubleInf
+                    this.primitiveDoubleInf = value;
+                    return this;
+            }
+            super.setDouble(property, value);
+            return this;
+        }
+
         @Override
         public SimpleJson build() {
             return new SimpleJson(
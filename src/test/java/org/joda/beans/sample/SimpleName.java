@@ -307,6 +307,19 @@ public class SimpleName
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // forename
+                    return ((SimpleName) bean).getForename();
+                case 1:  // middleNames
+                    return ((SimpleName) bean).getMiddleNames();
+                case 2:  // surname
+                    return ((SimpleName) bean).getSurname();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
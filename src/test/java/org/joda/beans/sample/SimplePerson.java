@@ -598,6 +598,31 @@ public final class SimplePerson implements Cloneable, Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // forename
+                    return ((SimplePerson) bean).getForename();
+                case 1:  // surname
+                    return ((SimplePerson) bean).getSurname();
+                case 2:  // numberOfCars
+                    return ((SimplePerson) bean).getNumberOfCars();
+                case 3:  // addressList
+                    return ((SimplePerson) bean).getAddressList();
+                case 4:  // otherAddressMap
+                    return ((SimplePerson) bean).getOtherAddressMap();
+                case 5:  // addressesList
+                    return ((SimplePerson) bean).getAddressesList();
+                case 6:  // mainAddress
+                    return ((SimplePerson) bean).getMainAddress();
+                case 7:  // propDefAnnotationSecondDeprecated
+                    return ((SimplePerson) bean).getPropDefAnnotationSecondDeprecated();
+                case 8:  // propDefAnnotationSecondManual
+                    return ((SimplePerson) bean).getPropDefAnnotationSecondManual();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -633,6 +658,25 @@ public final class SimplePerson implements Cloneable, Bean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 926656063:  // numberOfCars
+                    return ((SimplePerson) bean).getNumberOfCars();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, String propertyName, int newValue) {
+            switch (propertyName.hashCode()) {
+                case 926656063:  // numberOfCars
+                    ((SimplePerson) bean).setNumberOfCars(newValue);
+                    return;
+            }
+            super.propertySetInt(bean, propertyName, newValue);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((SimplePerson) bean).addressList, "addressList");
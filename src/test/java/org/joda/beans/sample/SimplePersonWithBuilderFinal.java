@@ -570,6 +570,29 @@ public final class SimplePersonWithBuilderFinal implements Cloneable, Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // forename
+                    return ((SimplePersonWithBuilderFinal) bean).getForename();
+                case 1:  // surname
+                    return ((SimplePersonWithBuilderFinal) bean).getSurname();
+                case 2:  // numberOfCars
+                    return ((SimplePersonWithBuilderFinal) bean).getNumberOfCars();
+                case 3:  // addressList
+                    return ((SimplePersonWithBuilderFinal) bean).getAddressList();
+                case 4:  // otherAddressMap
+                    return ((SimplePersonWithBuilderFinal) bean).getOtherAddressMap();
+                case 5:  // addressesList
+                    return ((SimplePersonWithBuilderFinal) bean).getAddressesList();
+                case 6:  // mainAddress
+                    return ((SimplePersonWithBuilderFinal) bean).getMainAddress();
+                case 7:  // tags
+                    return ((SimplePersonWithBuilderFinal) bean).getTags();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -604,6 +627,25 @@ public final class SimplePersonWithBuilderFinal implements Cloneable, Bean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 926656063:  // numberOfCars
+                    return ((SimplePersonWithBuilderFinal) bean).getNumberOfCars();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, String propertyName, int newValue) {
+            switch (propertyName.hashCode()) {
+                case 926656063:  // numberOfCars
+                    ((SimplePersonWithBuilderFinal) bean).setNumberOfCars(newValue);
+                    return;
+            }
+            super.propertySetInt(bean, propertyName, newValue);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((SimplePersonWithBuilderFinal) bean).surname, "surname");
@@ -709,12 +751,58 @@ public final class SimplePersonWithBuilderFinal implements Cloneable, Bean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // forename
+                    this.forename = (String) newValue;
+                    break;
+                case 1:  // surname
+                    this.surname = (String) newValue;
+                    break;
+                case 2:  // numberOfCars
+                    this.numberOfCars = (Integer) newValue;
+                    break;
+                case 3:  // addressList
+                    this.addressList = (List<Address>) newValue;
+                    break;
+                case 4:  // otherAddressMap
+                    this.otherAddressMap = (Map<String, Address>) newValue;
+                    break;
+                case 5:  // addressesList
+                    this.addressesList = (List<List<Address>>) newValue;
+                    break;
+                case 6:  // mainAddress
+                    this.mainAddress = (Address) newValue;
+                    break;
+                case 7:  // tags
+                    this.tags = (String[]) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
             return this;
         }
 
+        @Override
+        public Builder setInt(MetaProperty<?> property, int value) {
+            switch (property.name().hashCode()) {
+                case 926656063:  // numberOfCars
+                    this.numberOfCars = value;
+                    return this;
+            }
+            super.setInt(property, value);
+            return this;
+        }
+
         @Override
         public SimplePersonWithBuilderFinal build() {
             return new SimplePersonWithBuilderFinal(this);
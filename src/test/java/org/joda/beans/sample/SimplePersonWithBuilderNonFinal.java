@@ -529,6 +529,27 @@ public class SimplePersonWithBuilderNonFinal implements Cloneable, Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // forename
+                    return ((SimplePersonWithBuilderNonFinal) bean).getForename();
+                case 1:  // surname
+                    return ((SimplePersonWithBuilderNonFinal) bean).getSurname();
+                case 2:  // numberOfCars
+                    return ((SimplePersonWithBuilderNonFinal) bean).getNumberOfCars();
+                case 3:  // addressList
+                    return ((SimplePersonWithBuilderNonFinal) bean).getAddressList();
+                case 4:  // otherAddressMap
+                    return ((SimplePersonWithBuilderNonFinal) bean).getOtherAddressMap();
+                case 5:  // addressesList
+                    return ((SimplePersonWithBuilderNonFinal) bean).getAddressesList();
+                case 6:  // mainAddress
+                    return ((SimplePersonWithBuilderNonFinal) bean).getMainAddress();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -560,6 +581,25 @@ public class SimplePersonWithBuilderNonFinal implements Cloneable, Bean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 926656063:  // numberOfCars
+                    return ((SimplePersonWithBuilderNonFinal) bean).getNumberOfCars();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, String propertyName, int newValue) {
+            switch (propertyName.hashCode()) {
+                case 926656063:  // numberOfCars
+                    ((SimplePersonWithBuilderNonFinal) bean).setNumberOfCars(newValue);
+                    return;
+            }
+            super.propertySetInt(bean, propertyName, newValue);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((SimplePersonWithBuilderNonFinal) bean).surname, "surname");
@@ -658,12 +698,55 @@ public class SimplePersonWithBuilderNonFinal implements Cloneable, Bean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // forename
+                    this.forename = (String) newValue;
+                    break;
+                case 1:  // surname
+                    this.surname = (String) newValue;
+                    break;
+                case 2:  // numberOfCars
+                    this.numberOfCars = (Integer) newValue;
+                    break;
+                case 3:  // addressList
+                    this.addressList = (List<Address>) newValue;
+                    break;
+                case 4:  // otherAddressMap
+                    this.otherAddressMap = (Map<String, Address>) newValue;
+                    break;
+                case 5:  // addressesList
+                    this.addressesList = (List<List<Address>>) newValue;
+                    break;
+                case 6:  // mainAddress
+                    this.mainAddress = (Address) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
             return this;
         }
 
+        @Override
+        public Builder setInt(MetaProperty<?> property, int value) {
+            switch (property.name().hashCode()) {
+                case 926656063:  // numberOfCars
+                    this.numberOfCars = value;
+                    return this;
+            }
+            super.setInt(property, value);
+            return this;
+        }
+
         @Override
         public SimplePersonWithBuilderNonFinal build() {
             return new SimplePersonWithBuilderNonFinal(this);
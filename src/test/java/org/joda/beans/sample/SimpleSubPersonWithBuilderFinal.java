@@ -224,6 +224,15 @@ public final class SimpleSubPersonWithBuilderFinal extends SimplePersonWithBuild
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index - (metaPropertyMap$.size() - 1)) {
+                case 0:  // middleName
+                    return ((SimpleSubPersonWithBuilderFinal) bean).getMiddleName();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -283,6 +292,19 @@ public final class SimpleSubPersonWithBuilderFinal extends SimplePersonWithBuild
             return this;
         }
 
+        @Override
+        public Builder set(int index, Object newValue) {
+            switch (index - (Meta.INSTANCE.metaPropertyCount() - 1)) {
+                case 0:  // middleName
+                    this.middleName = (String) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
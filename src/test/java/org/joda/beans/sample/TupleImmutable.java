@@ -294,6 +294,19 @@ public final class TupleImmutable<X, Y, Z extends Address> implements ImmutableB
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // first
+                    return ((TupleImmutable<?, ?, ?>) bean).getFirst();
+                case 1:  // second
+                    return ((TupleImmutable<?, ?, ?>) bean).getSecond();
+                case 2:  // third
+                    return ((TupleImmutable<?, ?, ?>) bean).getThird();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             metaProperty(propertyName);
@@ -368,6 +381,26 @@ public final class TupleImmutable<X, Y, Z extends Address> implements ImmutableB
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder<X, Y, Z> set(int index, Object newValue) {
+            switch (index) {
+                case 0:  // first
+                    this.first = (X) newValue;
+                    break;
+                case 1:  // second
+                    this.second = (Y) newValue;
+                    break;
+                case 2:  // third
+                    this.third = (Z) newValue;
+                    break;
+                default:
+                    super.set(index, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder<X, Y, Z> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
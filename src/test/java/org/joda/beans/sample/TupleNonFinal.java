@@ -328,6 +328,19 @@ public class TupleNonFinal<X, Y, Z> extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // first
+                    return ((TupleNonFinal<?, ?, ?>) bean).getFirst();
+                case 1:  // second
+                    return ((TupleNonFinal<?, ?, ?>) bean).getSecond();
+                case 2:  // third
+                    return ((TupleNonFinal<?, ?, ?>) bean).getThird();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
@@ -347,6 +347,21 @@ public final class UserAccount implements Bean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // userId
+                    return ((UserAccount) bean).getUserId();
+                case 1:  // emailAddress
+                    return ((UserAccount) bean).getEmailAddress();
+                case 2:  // numberLogins
+                    return ((UserAccount) bean).getNumberLogins();
+                case 3:  // lastLogin
+                    return ((UserAccount) bean).getLastLogin();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -366,6 +381,25 @@ public final class UserAccount implements Bean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 850160339:  // numberLogins
+                    return ((UserAccount) bean).getNumberLogins();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, String propertyName, int newValue) {
+            switch (propertyName.hashCode()) {
+                case 850160339:  // numberLogins
+                    ((UserAccount) bean).setNumberLogins(newValue);
+                    return;
+            }
+            super.propertySetInt(bean, propertyName, newValue);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notEmpty(((UserAccount) bean).userId, "userId");
@@ -420,6 +420,23 @@ public class ValidateBean extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // first
+                    return ((ValidateBean) bean).getFirst();
+                case 1:  // second
+                    return ((ValidateBean) bean).getSecond();
+                case 2:  // third
+                    return ((ValidateBean) bean).getThird();
+                case 3:  // fourth
+                    return ((ValidateBean) bean).getFourth();
+                case 4:  // fifth
+                    return ((ValidateBean) bean).getFifth();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
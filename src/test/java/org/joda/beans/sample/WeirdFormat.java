@@ -396,6 +396,23 @@ public class WeirdFormat
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // forename1
+                    return ((WeirdFormat) bean).getForename1();
+                case 1:  // forename2
+                    return ((WeirdFormat) bean).getForename2();
+                case 2:  // forename3
+                    return ((WeirdFormat) bean).getForename3();
+                case 3:  // forename4
+                    return ((WeirdFormat) bean).getForename4();
+                case 4:  // forename5
+                    return ((WeirdFormat) bean).getForename5();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
             switch (propertyName.hashCode()) {
@@ -269,6 +269,17 @@ public abstract class Wrapper<T extends Address> extends DirectBean {
             return super.propertyGet(bean, propertyName, quiet);
         }
 
+        @Override
+        protected Object propertyGet(Bean bean, int index, boolean quiet) {
+            switch (index) {
+                case 0:  // type
+                    return ((Wrapper<?>) bean).getType();
+                case 1:  // content
+                    return ((Wrapper<?>) bean).getContent();
+            }
+            return super.propertyGet(bean, index, quiet);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
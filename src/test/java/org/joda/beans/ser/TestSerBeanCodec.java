@@ -0,0 +1,116 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.joda.beans.sample.ImmDoubleFloat;
+import org.joda.beans.sample.ImmEmpty;
+import org.joda.beans.sample.ImmOptional;
+import org.joda.beans.sample.ImmPerson;
+import org.joda.beans.sample.Person;
+import org.junit.Test;
+
+/**
+ * Test generated codecs.
+ */
+public class TestSerBeanCodec {
+
+    private static final ImmPerson PERSON = ImmPerson.builder()
+            .forename("Stephen")
+            .surname("Colebourne")
+            .numberOfCars(3)
+            .build();
+
+    @Test
+    public void test_find() {
+        SerBeanCodec<?> test = SerBeanCodec.find(ImmPerson.class);
+        assertEquals(ImmPerson.class, test.getBeanType());
+        assertSame(ImmPerson.meta(), test.getMetaBean());
+        assertEquals(10, test.propertyCount());
+        assertEquals("forename", test.getPropertyName(0));
+        assertEquals("numberOfCars", test.getPropertyName(2));
+        assertEquals(String.class, test.getPropertyType(0));
+        assertEquals(int.class, test.getPropertyType(2));
+        assertEquals(null, test.getPropertyType(3));
+        assertEquals("SerBeanCodec[" + ImmPerson.class.getName() + "]", test.toString());
+    }
+
+    @Test
+    public void test_find_none() {
+        ImmEmpty.meta();
+        Person.meta();
+        assertNull(SerBeanCodec.find(ImmEmpty.class));
+        assertNull(SerBeanCodec.find(Person.class));
+    }
+
+    @Test
+    public void test_index() {
+        SerBeanCodec<?> test = SerBeanCodec.find(ImmPerson.class);
+        assertEquals(0, test.index("forename"));
+        assertEquals(9, test.index("codeCounts"));
+        assertEquals(-1, test.index("unknown"));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_roundTrip_bin() {
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(PERSON);
+        assertEquals(PERSON, JodaBeanSer.COMPACT.binReader().read(bytes, ImmPerson.class));
+    }
+
+    @Test
+    public void test_roundTrip_json() {
+        String json = JodaBeanSer.PRETTY.jsonWriter().write(PERSON);
+        assertEquals(PERSON, JodaBeanSer.PRETTY.jsonReader().read(json, ImmPerson.class));
+    }
+
+    @Test
+    public void test_roundTrip_doubles() {
+        ImmDoubleFloat bean = ImmDoubleFloat.builder().a(1.5d).b(Double.NaN).build();
+        String json = JodaBeanSer.PRETTY.jsonWriter().write(bean);
+        assertEquals(bean, JodaBeanSer.PRETTY.jsonReader().read(json, ImmDoubleFloat.class));
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(bean);
+        assertEquals(bean, JodaBeanSer.COMPACT.binReader().read(bytes, ImmDoubleFloat.class));
+    }
+
+    @Test
+    public void test_roundTrip_optional() {
+        ImmOptional bean = SerTestHelper.testImmOptional();
+        String json = JodaBeanSer.PRETTY.jsonWriter().write(bean);
+        assertEquals(bean, JodaBeanSer.PRETTY.jsonReader().read(json, ImmOptional.class));
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(bean);
+        assertEquals(bean, JodaBeanSer.COMPACT.binReader().read(bytes, ImmOptional.class));
+    }
+
+    @Test
+    public void test_read_json_genericFallback() {
+        // values not in the form written are parsed generically
+        String json = "{\"forename\": \"Stephen\", \"surname\": \"Colebourne\", \"numberOfCars\": \"3\"}";
+        assertEquals(PERSON, JodaBeanSer.PRETTY.jsonReader().read(json, ImmPerson.class));
+    }
+
+    @Test
+    public void test_read_json_integralDouble() {
+        String json = "{\"a\": 2, \"b\": 3.5}";
+        ImmDoubleFloat bean = JodaBeanSer.PRETTY.jsonReader().read(json, ImmDoubleFloat.class);
+        assertEquals(2d, bean.getA(), 0d);
+        assertEquals(3.5d, bean.getB(), 0d);
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.nio.charset.StandardCharsets;
+
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.sample.ImmEmpty;
+import org.joda.beans.sample.ImmOptional;
+import org.joda.beans.ser.SerBeanPlan.PropertyPlan;
+import org.junit.Test;
+
+import com.google.common.base.Optional;
+
+/**
+ * Test ser.
+ */
+public class TestSerBeanPlan {
+
+    private static final ImmOptional BEAN = ImmOptional.builder()
+            .optString(Optional.of("A"))
+            .optStringGetter("B")
+            .build();
+
+    @Test
+    public void test_plan() {
+        SerBeanPlan test = JodaBeanSer.COMPACT.beanPlan(BEAN);
+        assertEquals(ImmOptional.class, test.getBeanType());
+        assertEquals(ImmOptional.meta(), test.getMetaBean());
+        assertEquals(6, test.size());
+        assertEquals(false, test.isEmpty());
+        assertEquals(6, test.properties().size());
+        assertEquals(6, test.metaProperties().length);
+
+        PropertyPlan prop = test.property(0);
+        assertEquals(ImmOptional.meta().optString(), prop.getMetaProperty());
+        assertEquals("optString", prop.getName());
+        assertArrayEquals("optString".getBytes(StandardCharsets.UTF_8), prop.getNameBytes());
+        assertEquals(String.class, prop.getPropertyType());
+        assertEquals(true, prop.isOptional());
+        assertEquals("A", prop.extractValue(BEAN));
+
+        PropertyPlan empty = test.property(1);
+        assertEquals(null, empty.extractValue(BEAN));
+
+        PropertyPlan getter = test.property(2);
+        assertEquals(String.class, getter.getPropertyType());
+        assertEquals(false, getter.isOptional());
+        assertEquals("B", getter.extractValue(BEAN));
+        assertEquals("B", getter.unwrapValue("B"));
+        assertEquals("A", prop.unwrapValue(Optional.of("A")));
+        assertEquals(null, prop.unwrapValue(Optional.absent()));
+    }
+
+    @Test
+    public void test_plan_codec() {
+        SerBeanPlan test = JodaBeanSer.COMPACT.beanPlan(BEAN);
+        assertNotNull(test.getCodec());
+        assertEquals(ImmOptional.class, test.getCodec().getBeanType());
+        assertNull(JodaBeanSer.COMPACT.withIncludeDerived(true).beanPlan(BEAN).getCodec());
+        assertNull(JodaBeanSer.COMPACT.beanPlan(ImmEmpty.builder().build()).getCodec());
+    }
+
+    @Test
+    public void test_plan_includeDerived() {
+        SerBeanPlan test = JodaBeanSer.COMPACT.withIncludeDerived(true).beanPlan(BEAN);
+        assertEquals(7, test.size());
+        assertEquals("twelve", test.property(6).getName());
+        assertEquals(Integer.valueOf(12), test.property(6).extractValue(BEAN));
+    }
+
+    @Test
+    public void test_plan_empty() {
+        SerBeanPlan test = JodaBeanSer.COMPACT.beanPlan(ImmEmpty.builder().build());
+        assertEquals(0, test.size());
+        assertEquals(true, test.isEmpty());
+    }
+
+    @Test
+    public void test_plan_cached() {
+        SerBeanPlan test = JodaBeanSer.COMPACT.beanPlan(BEAN);
+        assertSame(test, JodaBeanSer.COMPACT.beanPlan(BEAN));
+        assertSame(test, JodaBeanSer.PRETTY.beanPlan(BEAN));
+        assertSame(test, JodaBeanSer.COMPACT.withShortTypes(false).beanPlan(BEAN));
+        assertSame(test, JodaBeanSer.COMPACT.withIteratorFactory(new SerIteratorFactory()).beanPlan(BEAN));
+        assertNotSame(test, JodaBeanSer.COMPACT.withIncludeDerived(true).beanPlan(BEAN));
+        assertSame(
+                JodaBeanSer.COMPACT.withIncludeDerived(true).beanPlan(BEAN),
+                JodaBeanSer.PRETTY.withIncludeDerived(true).beanPlan(BEAN));
+    }
+
+    @Test
+    public void test_plan_dynamicNotCached() {
+        FlexiBean bean = new FlexiBean();
+        bean.set("a", "A");
+        SerBeanPlan test = JodaBeanSer.COMPACT.beanPlan(bean);
+        assertEquals(1, test.size());
+        bean.set("b", "B");
+        assertEquals(2, JodaBeanSer.COMPACT.beanPlan(bean).size());
+    }
+
+}
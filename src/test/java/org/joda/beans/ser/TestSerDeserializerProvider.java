@@ -20,9 +20,12 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.joda.beans.BeanBuilder;
 import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
+import org.joda.beans.sample.ImmAddress;
 import org.joda.beans.sample.ImmKey;
 import org.joda.beans.sample.Pair;
 import org.joda.beans.sample.Person;
@@ -74,6 +77,40 @@ public class TestSerDeserializerProvider {
         assertSame(deser.findDeserializer(Person.class), DESER);
     }
 
+    @Test
+    public void test_provider_cached() {
+        AtomicInteger calls = new AtomicInteger();
+        SerDeserializers deser = new SerDeserializers(beanType -> {
+            calls.incrementAndGet();
+            return beanType == Person.class ? DESER : null;
+        });
+        assertSame(deser.findDeserializer(Person.class), DESER);
+        assertSame(deser.findDeserializer(Person.class), DESER);
+        assertSame(deser.findDeserializer(ImmAddress.class), DefaultDeserializer.INSTANCE);
+        assertSame(deser.findDeserializer(ImmAddress.class), DefaultDeserializer.INSTANCE);
+        assertEquals(2, calls.get());
+        assertEquals(2, deser.getProviderCacheHitCount());
+        assertEquals(2, deser.getProviderCacheMissCount());
+    }
+
+    @Test
+    public void test_provider_cacheInvalidated() {
+        SerDeserializers deser = new SerDeserializers();
+        assertSame(deser.findDeserializer(Person.class), DefaultDeserializer.INSTANCE);
+        deser.registerProvider(PROVIDER);
+        assertSame(deser.findDeserializer(Person.class), DESER);
+        assertEquals(0, deser.getProviderCacheHitCount());
+        assertEquals(2, deser.getProviderCacheMissCount());
+    }
+
+    @Test
+    public void test_registeredTakesPrecedence() {
+        SerDeserializers deser = new SerDeserializers(PROVIDER);
+        assertSame(deser.findDeserializer(Person.class), DESER);
+        deser.register(Person.class, DefaultDeserializer.INSTANCE);
+        assertSame(deser.findDeserializer(Person.class), DefaultDeserializer.INSTANCE);
+    }
+
     @Test
     public void test_classpathImmKey() {
         assertTrue(SerDeserializers.INSTANCE.getDeserializers().containsKey(ImmKey.class));
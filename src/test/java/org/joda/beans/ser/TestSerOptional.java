@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import org.joda.beans.sample.ImmOptional;
+import org.joda.beans.sample.MutableOptional;
+import org.junit.Test;
+
+import com.google.common.base.Optional;
+
+/**
+ * Test ser.
+ */
+public class TestSerOptional {
+
+    @Test
+    public void test_guava() {
+        ImmOptional bean = ImmOptional.builder()
+                .optString(Optional.of("A"))
+                .build();
+        assertEquals("A", SerOptional.extractValue(ImmOptional.meta().optString(), bean));
+        assertEquals(null, SerOptional.extractValue(ImmOptional.meta().optStringEmpty(), bean));
+        assertEquals(String.class, SerOptional.extractType(ImmOptional.meta().optString(), ImmOptional.class));
+        assertEquals(Optional.of("B"), SerOptional.wrapValue(ImmOptional.meta().optString(), ImmOptional.class, "B"));
+        assertEquals(Optional.absent(), SerOptional.wrapValue(ImmOptional.meta().optString(), ImmOptional.class, null));
+    }
+
+    @Test
+    public void test_guava_mutable() {
+        MutableOptional bean = new MutableOptional();
+        assertEquals(null, SerOptional.extractValue(MutableOptional.meta().optString(), bean));
+        bean.setOptString(Optional.of("A"));
+        assertEquals("A", SerOptional.extractValue(MutableOptional.meta().optString(), bean));
+    }
+
+    @Test
+    public void test_notOptional() {
+        assertEquals("A", SerOptional.wrapValue(ImmOptional.meta().optStringGetter(), ImmOptional.class, "A"));
+        assertEquals(null, SerOptional.handler(ImmOptional.meta().optStringGetter()));
+    }
+
+    @Test
+    public void test_jdk() {
+        SerOptional.Handler test = new SerOptional.JdkHandler();
+        assertEquals("A", test.unwrap(java.util.Optional.of("A")));
+        assertEquals(null, test.unwrap(java.util.Optional.empty()));
+        assertEquals(java.util.Optional.of("A"), test.wrap("A"));
+        assertEquals(java.util.Optional.empty(), test.wrap(null));
+    }
+
+    @Test
+    public void test_jdkDouble() {
+        SerOptional.Handler test = new SerOptional.JdkDoubleHandler();
+        assertEquals(1.5d, test.unwrap(OptionalDouble.of(1.5d)));
+        assertEquals(null, test.unwrap(OptionalDouble.empty()));
+        assertEquals(OptionalDouble.of(1.5d), test.wrap(1.5d));
+        assertEquals(OptionalDouble.empty(), test.wrap(null));
+    }
+
+    @Test
+    public void test_jdkInt() {
+        SerOptional.Handler test = new SerOptional.JdkIntHandler();
+        assertEquals(3, test.unwrap(OptionalInt.of(3)));
+        assertEquals(null, test.unwrap(OptionalInt.empty()));
+        assertEquals(OptionalInt.of(3), test.wrap(3));
+        assertEquals(OptionalInt.empty(), test.wrap(null));
+    }
+
+    @Test
+    public void test_jdkLong() {
+        SerOptional.Handler test = new SerOptional.JdkLongHandler();
+        assertEquals(3L, test.unwrap(OptionalLong.of(3L)));
+        assertEquals(null, test.unwrap(OptionalLong.empty()));
+        assertEquals(OptionalLong.of(3L), test.wrap(3L));
+        assertEquals(OptionalLong.empty(), test.wrap(null));
+    }
+
+}
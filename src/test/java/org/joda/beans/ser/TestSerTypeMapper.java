@@ -18,6 +18,8 @@ package org.joda.beans.ser;
 import static org.junit.Assert.assertEquals;
 
 import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
@@ -166,6 +168,40 @@ public class TestSerTypeMapper {
         assertEquals(SerTypeMapper.decodeType("java.util.concurrent.atomic.AtomicReference", SETTINGS, null, cache), AtomicReference.class);
     }
 
+    @Test
+    public void test_decodeType_repeatedMessages() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            Map<String, Class<?>> cache = new HashMap<>();
+            assertEquals(SerTypeMapper.decodeType("java.util.concurrent.atomic.AtomicReference", SETTINGS, "java.util.", cache), AtomicReference.class);
+            assertEquals(cache.get("java.util.concurrent.atomic.AtomicReference"), AtomicReference.class);
+            assertEquals(cache.get("AtomicReference"), AtomicReference.class);
+            assertEquals(cache.size(), 2);
+        }
+    }
+
+    @Test
+    public void test_decodeType_contextClassLoader() throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[0], original)) {
+            assertEquals(SerTypeMapper.decodeType("BitSet", SETTINGS, "java.util.", null), BitSet.class);
+            thread.setContextClassLoader(loader);
+            assertEquals(SerTypeMapper.decodeType("BitSet", SETTINGS, "java.util.", null), BitSet.class);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    @Test(expected = ClassNotFoundException.class)
+    public void test_decodeType_notFoundTwice() throws Exception {
+        try {
+            SerTypeMapper.decodeType("com.foo.DoesNotExist", SETTINGS, null, null);
+        } catch (ClassNotFoundException ex) {
+            // not cached, thus fails again
+        }
+        SerTypeMapper.decodeType("com.foo.DoesNotExist", SETTINGS, null, null);
+    }
+
     @Test(expected = ClassNotFoundException.class)
     public void test_decodeType_emptyClassName() throws Exception {
         Map<String, Class<?>> cache = new HashMap<>();
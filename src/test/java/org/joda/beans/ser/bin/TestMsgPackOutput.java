@@ -0,0 +1,144 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+import com.tngtech.java.junit.dataprovider.UseDataProvider;
+
+/**
+ * Test.
+ */
+@RunWith(DataProviderRunner.class)
+public class TestMsgPackOutput {
+
+    private JodaBeanBinBuffer buf;
+    private MsgPackOutput output;
+
+    @Before
+    public void setUp() {
+        buf = new JodaBeanBinBuffer(4);
+        output = new MsgPackOutput(buf);
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(format = "%m[%i]")
+    public static Object[][] data_string() {
+        return new Object[][] {
+            {""},
+            {"a"},
+            {repeat('a', 31)},
+            {repeat('a', 32)},
+            {repeat('a', 255)},
+            {repeat('a', 256)},
+            {repeat('a', 65535)},
+            {repeat('a', 65536)},
+            {"caf\u00e9"},
+            {"\u20ac100"},
+            {repeat('a', 30) + "\u00e9"},
+            {repeat('a', 250) + "\u20ac\u20ac"},
+            {repeat('\u00e9', 20)},
+            {repeat('\u20ac', 30000)},
+            {"emoji\ud83d\ude00end"},
+            {"\ud83d\ude00"},
+            {"unpaired\ud83dhigh"},
+            {"unpaired\ude00low"},
+            {"end\ud83d"},
+            {"\u007f\u0080\u07ff\u0800\uffff"},
+        };
+    }
+
+    @Test
+    @UseDataProvider("data_string")
+    public void test_writeString(String input) throws IOException {
+        output.writeString(input);
+        assertArrayEquals(expectedString(input), buf.toByteArray());
+    }
+
+    @Test
+    @UseDataProvider("data_string")
+    public void test_writeString_afterExistingData(String input) throws IOException {
+        output.writeNil();
+        output.writeString(input);
+        output.writeNil();
+        byte[] expected = expectedString(input);
+        byte[] actual = buf.toByteArray();
+        assertEquals(expected.length + 2, actual.length);
+        assertArrayEquals(expected, Arrays.copyOfRange(actual, 1, actual.length - 1));
+    }
+
+    @Test
+    @UseDataProvider("data_string")
+    public void test_utf8Length(String input) {
+        assertEquals(input.getBytes(StandardCharsets.UTF_8).length, MsgPackOutput.utf8Length(input, 0));
+    }
+
+    @Test
+    public void test_writeExtensionString() throws IOException {
+        output.writeExtensionString(MsgPack.JODA_TYPE_BEAN, "caf\u00e9");
+        byte[] str = "caf\u00e9".getBytes(StandardCharsets.UTF_8);
+        byte[] expected = new byte[str.length + 3];
+        expected[0] = (byte) MsgPack.EXT_8;
+        expected[1] = (byte) str.length;
+        expected[2] = (byte) MsgPack.JODA_TYPE_BEAN;
+        System.arraycopy(str, 0, expected, 3, str.length);
+        assertArrayEquals(expected, buf.toByteArray());
+    }
+
+    //-----------------------------------------------------------------------
+    private static byte[] expectedString(String input) throws IOException {
+        // reference implementation based on the previous encoding
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(baos)) {
+            int size = bytes.length;
+            if (size < 32) {
+                out.writeByte(MsgPack.MIN_FIX_STR + size);
+            } else if (size < 256) {
+                out.writeByte(MsgPack.STR_8);
+                out.writeByte(size);
+            } else if (size < 65536) {
+                out.writeByte(MsgPack.STR_16);
+                out.writeShort(size);
+            } else {
+                out.writeByte(MsgPack.STR_32);
+                out.writeInt(size);
+            }
+            out.write(bytes);
+        }
+        return baos.toByteArray();
+    }
+
+    private static String repeat(char ch, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, ch);
+        return new String(chars);
+    }
+
+}
@@ -22,6 +22,7 @@ import static org.junit.Assert.assertTrue;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 import org.joda.beans.Bean;
@@ -110,6 +111,20 @@ public class TestSerializeReferencingBin {
         BeanAssert.assertBeanEquals(bean, optional);
     }
 
+    @Test
+    public void test_read_sources() {
+        ImmTreeNode treeNode = SerTestHelper.testTree();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriterReferencing().write(treeNode);
+
+        byte[] padded = new byte[bytes.length + 5];
+        System.arraycopy(bytes, 0, padded, 5, bytes.length);
+        BeanAssert.assertBeanEquals(treeNode, JodaBeanSer.COMPACT.binReader().read(padded, 5, bytes.length, ImmTreeNode.class));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        BeanAssert.assertBeanEquals(treeNode, JodaBeanSer.COMPACT.binReader().read(direct, ImmTreeNode.class));
+    }
+
     @Test
     public void test_writeTree() {
         ImmTreeNode treeNode = SerTestHelper.testTree();
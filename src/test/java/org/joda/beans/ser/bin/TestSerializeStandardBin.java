@@ -20,8 +20,12 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.joda.beans.Bean;
 import org.joda.beans.impl.flexi.FlexiBean;
@@ -107,6 +111,136 @@ public class TestSerializeStandardBin {
         BeanAssert.assertBeanEquals(bean, array);
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_read_sources() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(address);
+
+        BeanAssert.assertBeanEquals(address, JodaBeanSer.COMPACT.binReader().read(bytes, ImmAddress.class));
+        BeanAssert.assertBeanEquals(address, JodaBeanSer.COMPACT.binReader().read(new ByteArrayInputStream(bytes), ImmAddress.class));
+
+        byte[] padded = new byte[bytes.length + 7];
+        System.arraycopy(bytes, 0, padded, 3, bytes.length);
+        BeanAssert.assertBeanEquals(address, JodaBeanSer.COMPACT.binReader().read(padded, 3, bytes.length, ImmAddress.class));
+
+        ByteBuffer heap = ByteBuffer.wrap(padded, 3, bytes.length).slice();
+        BeanAssert.assertBeanEquals(address, JodaBeanSer.COMPACT.binReader().read(heap, ImmAddress.class));
+        assertEquals(0, heap.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 2);
+        direct.put((byte) 0).put(bytes).flip().position(1);
+        BeanAssert.assertBeanEquals(address, JodaBeanSer.COMPACT.binReader().read(direct, ImmAddress.class));
+        assertEquals(1, direct.position());
+
+        ByteBuffer readOnly = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+        BeanAssert.assertBeanEquals(address, JodaBeanSer.COMPACT.binReader().read(readOnly, ImmAddress.class));
+    }
+
+    @Test
+    public void test_write_reusedBuffer() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        Address mutable = SerTestHelper.testAddress();
+        byte[] expected1 = JodaBeanSer.COMPACT.binWriter().write(address);
+        byte[] expected2 = JodaBeanSer.COMPACT.binWriter().write(mutable, false);
+
+        JodaBeanBinBuffer buffer = new JodaBeanBinBuffer(8);
+        assertEquals(expected1.length, JodaBeanSer.COMPACT.binWriter().write(address, buffer));
+        assertEquals(expected1.length, buffer.size());
+        assertTrue(Arrays.equals(expected1, buffer.toByteArray()));
+        BeanAssert.assertBeanEquals(address, JodaBeanSer.COMPACT.binReader().read(buffer.asByteBuffer(), ImmAddress.class));
+
+        buffer.reset();
+        assertEquals(0, buffer.size());
+        int capacity = buffer.capacity();
+        assertEquals(expected2.length, JodaBeanSer.COMPACT.binWriter().write(mutable, false, buffer));
+        assertEquals(capacity, buffer.capacity());
+        assertTrue(Arrays.equals(expected2, buffer.toByteArray()));
+
+        // appends
+        assertEquals(expected1.length, JodaBeanSer.COMPACT.binWriter().write(address, buffer));
+        assertEquals(expected2.length + expected1.length, buffer.size());
+        BeanAssert.assertBeanEquals(address, JodaBeanSer.COMPACT.binReader().read(
+                buffer.array(), expected2.length, expected1.length, ImmAddress.class));
+
+        ByteBuffer target = ByteBuffer.allocateDirect(buffer.size());
+        buffer.writeTo(target);
+        assertEquals(buffer.size(), target.position());
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        buffer.writeTo(baos);
+        assertTrue(Arrays.equals(buffer.toByteArray(), baos.toByteArray()));
+    }
+
+    @Test
+    public void test_write_streamed() throws IOException {
+        FlexiBean bean = new FlexiBean();
+        for (int i = 0; i < 2000; i++) {
+            bean.set("p" + i, (i % 3 == 0 ? "caf\u00e9 " : "value ") + i);
+        }
+        bean.set("large", String.join("", Collections.nCopies(20000, "x")));
+        byte[] expected = JodaBeanSer.COMPACT.binWriter().write(bean);
+        assertTrue(expected.length > 30000);
+
+        int[] maxWrite = new int[1];
+        ByteArrayOutputStream baos = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                maxWrite[0] = Math.max(maxWrite[0], len);
+                super.write(b, off, len);
+            }
+        };
+        JodaBeanSer.COMPACT.binWriter().write(bean, baos);
+        assertTrue(Arrays.equals(expected, baos.toByteArray()));
+        // streamed in chunks, only the large string exceeds the chunk size
+        assertTrue(maxWrite[0] < expected.length);
+    }
+
+    @Test(expected = IOException.class)
+    public void test_write_streamedException() throws IOException {
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException();
+            }
+        };
+        JodaBeanSer.COMPACT.binWriter().write(SerTestHelper.testImmAddress(), failing);
+    }
+
+    @Test
+    public void test_write_bufferRestoredOnError() {
+        Address address = new Address();
+        Person bean = new Person();
+        bean.getOtherAddressMap().put(null, address);
+        JodaBeanBinBuffer buffer = new JodaBeanBinBuffer();
+        int size = JodaBeanSer.COMPACT.binWriter().write(SerTestHelper.testImmAddress(), buffer);
+        try {
+            JodaBeanSer.COMPACT.binWriter().write(bean, buffer);
+        } catch (IllegalArgumentException ex) {
+            assertEquals(size, buffer.size());
+            return;
+        }
+        throw new AssertionError("Expected exception");
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void test_read_truncatedArray() {
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(SerTestHelper.testImmAddress());
+        JodaBeanSer.COMPACT.binReader().read(bytes, 0, bytes.length - 3, ImmAddress.class);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void test_read_truncatedDirectBuffer() {
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(SerTestHelper.testImmAddress());
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length - 3);
+        direct.put(bytes, 0, bytes.length - 3).flip();
+        JodaBeanSer.COMPACT.binReader().read(direct, ImmAddress.class);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_read_invalidOffset() {
+        JodaBeanSer.COMPACT.binReader().read(new byte[4], 2, 3, ImmAddress.class);
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_readWrite_primitives() throws IOException {
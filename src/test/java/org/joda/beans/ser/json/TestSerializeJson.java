@@ -22,6 +22,11 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.joda.beans.Bean;
 import org.joda.beans.impl.flexi.FlexiBean;
@@ -60,6 +65,34 @@ import com.tngtech.java.junit.dataprovider.UseDataProvider;
 @RunWith(DataProviderRunner.class)
 public class TestSerializeJson {
 
+    @Test
+    public void test_sharedReaderWriter() throws Exception {
+        JodaBeanJsonWriter writer = JodaBeanSer.PRETTY.jsonWriter();
+        JodaBeanJsonReader reader = JodaBeanSer.PRETTY.jsonReader();
+        ImmAddress address = SerTestHelper.testImmAddress();
+        String expected = writer.write(address);
+        assertEquals(expected, writer.write(address));
+        ImmAddress expectedBean = reader.read(expected, ImmAddress.class);
+        BeanAssert.assertBeanEquals(expectedBean, reader.read(expected, ImmAddress.class));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> written = new ArrayList<>();
+            List<Future<ImmAddress>> read = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                written.add(executor.submit(() -> writer.write(address)));
+                read.add(executor.submit(() -> reader.read(expected, ImmAddress.class)));
+            }
+            for (Future<String> result : written) {
+                assertEquals(expected, result.get());
+            }
+            for (Future<ImmAddress> result : read) {
+                BeanAssert.assertBeanEquals(expectedBean, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void test_writeAddress() throws IOException {
         Address address = SerTestHelper.testAddress();
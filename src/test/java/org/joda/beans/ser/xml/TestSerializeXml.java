@@ -19,6 +19,11 @@ import static org.junit.Assert.assertEquals;
 
 import java.io.CharArrayWriter;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.joda.beans.Bean;
 import org.joda.beans.impl.flexi.FlexiBean;
@@ -51,6 +56,34 @@ import com.google.common.collect.ImmutableMap;
  */
 public class TestSerializeXml {
 
+    @Test
+    public void test_sharedReaderWriter() throws Exception {
+        JodaBeanXmlWriter writer = JodaBeanSer.PRETTY.xmlWriter();
+        JodaBeanXmlReader reader = JodaBeanSer.PRETTY.xmlReader();
+        ImmAddress address = SerTestHelper.testImmAddress();
+        String expected = writer.write(address);
+        assertEquals(expected, writer.write(address));
+        ImmAddress expectedBean = reader.read(expected, ImmAddress.class);
+        BeanAssert.assertBeanEquals(expectedBean, reader.read(expected, ImmAddress.class));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> written = new ArrayList<>();
+            List<Future<ImmAddress>> read = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                written.add(executor.submit(() -> writer.write(address)));
+                read.add(executor.submit(() -> reader.read(expected, ImmAddress.class)));
+            }
+            for (Future<String> result : written) {
+                assertEquals(expected, result.get());
+            }
+            for (Future<ImmAddress> result : read) {
+                BeanAssert.assertBeanEquals(expectedBean, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void test_writeAddress() {
         Address address = SerTestHelper.testAddress();